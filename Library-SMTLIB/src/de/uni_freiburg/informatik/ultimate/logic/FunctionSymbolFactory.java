@@ -88,6 +88,20 @@ public abstract class FunctionSymbolFactory {
 		final int hash = Arrays.hashCode(indices)
 			^ Arrays.hashCode(paramSorts)
 			^ (resultSort == null ? 0 : resultSort.hashCode());
+		if (!theory.isConcurrent()) {
+			return getInstance(theory, indices, paramSorts, resultSort, flags, hash);
+		}
+		synchronized (mInstances) {
+			return getInstance(theory, indices, paramSorts, resultSort, flags, hash);
+		}
+	}
+
+	/**
+	 * Find or create the instance of this function symbol for the given sorts. If the theory is concurrent, the
+	 * caller must hold the lock of the instances.
+	 */
+	private FunctionSymbol getInstance(Theory theory, String[] indices, Sort[] paramSorts, Sort resultSort,
+			int flags, int hash) {
 		for (final FunctionSymbol func : mInstances.iterateHashCode(hash)) {
 			if (Arrays.equals(func.mIndices, indices)
 				&& Arrays.equals(func.mParamSort, paramSorts)
@@ -86,6 +86,21 @@ public class IRAWrapperFactory {
 
 		/* Check if we already created a wrapper and return it. */
 		final int hash = fsym.hashCode() ^ Arrays.hashCode(paramSorts);
+		if (!theory.isConcurrent()) {
+			return getWrapper(theory, fsym, paramSorts, hash);
+		}
+		synchronized (mInstances) {
+			return getWrapper(theory, fsym, paramSorts, hash);
+		}
+	}
+
+	/**
+	 * Find or create the wrapper for the function symbol and parameter sorts. If the theory is concurrent, the caller
+	 * must hold the lock of the instances.
+	 */
+	private FunctionSymbol getWrapper(final Theory theory, final FunctionSymbol fsym, final Sort[] paramSorts,
+			final int hash) {
+		final Sort intSort = theory.getNumericSort();
 		for (final FunctionSymbol func : mInstances.iterateHashCode(hash)) {
 			if (((ApplicationTerm) func.getDefinition()).getFunction() == fsym
 					&& Arrays.equals(func.mParamSort, paramSorts)) {
@@ -104,8 +119,8 @@ public class IRAWrapperFactory {
 		assert definition != null;
 
 		/* Create the function symbol */
-		FunctionSymbol wrapper = new FunctionSymbol(fsym.getName(), fsym.getIndices(), paramSorts, fsym.getReturnSort(),
-				defVars, definition, (fsym.mFlags & ~FunctionSymbol.ASSOCMASK));
+		FunctionSymbol wrapper = new FunctionSymbol(fsym.getName(), fsym.getIndices(), paramSorts,
+				fsym.getReturnSort(), defVars, definition, (fsym.mFlags & ~FunctionSymbol.ASSOCMASK));
 		mInstances.put(hash, wrapper);
 		return wrapper;
 	}
@@ -30,11 +30,16 @@ import de.uni_freiburg.informatik.ultimate.logic.Rational.BigRational;
  * calculations. This should reduce the number of garbage collections such that
  * the program should run faster.
  *
+ * Small values are stored in a long numerator and denominator.  All operations
+ * on them are overflow checked and switch to the BigInteger representation if
+ * the result does not fit.  The numerator of the long representation is never
+ * {@code Long.MIN_VALUE}, so that it can always be negated.
+ *
  * @author Juergen Christ
  */
 public class MutableRational implements Comparable<MutableRational> {
-	int mNum;
-	int mDenom;
+	long mNum;
+	long mDenom;
 	BigInteger mBignum;
 	BigInteger mBigdenom;
 
@@ -68,6 +73,7 @@ public class MutableRational implements Comparable<MutableRational> {
 		if (r instanceof Rational.BigRational) {
 			mBignum = r.numerator();
 			mBigdenom = r.denominator();
+			normalize();
 		}
 	}
 
@@ -92,6 +98,7 @@ public class MutableRational implements Comparable<MutableRational> {
 		if (value instanceof Rational.BigRational) {
 			mBignum = value.numerator();
 			mBigdenom = value.denominator();
+			normalize();
 		} else {
 			mBignum = mBigdenom = null;
 		}
@@ -103,24 +110,36 @@ public class MutableRational implements Comparable<MutableRational> {
 	 * @param newdenom the new denominator.
 	 */
 	public void setValue(long newnum, long newdenom) {
-		long gcd2 = Rational.gcd(Math.abs(newnum), Math.abs(newdenom));
-		if (newdenom < 0) {
-			gcd2 = -gcd2;
-		}
-		if (gcd2 != 0) {
-			newnum /= gcd2;
-			newdenom /= gcd2;
-		}
-
-		if (Integer.MIN_VALUE <= newnum && newnum <= Integer.MAX_VALUE
-			&& newdenom <= Integer.MAX_VALUE) {
-			mNum = (int) newnum;
-			mDenom = (int) newdenom;
-			mBignum = mBigdenom = null;
-		} else {
+		if (newnum == Long.MIN_VALUE || newdenom == Long.MIN_VALUE) {
 			mBignum = BigInteger.valueOf(newnum);
 			mBigdenom = BigInteger.valueOf(newdenom);
+			normalize();
+			return;
 		}
+		if (newdenom != 1) {
+			long gcd2 = Rational.gcd(newnum, newdenom);
+			if (newdenom < 0) {
+				gcd2 = -gcd2;
+			}
+			if (gcd2 != 0) {
+				newnum /= gcd2;
+				newdenom /= gcd2;
+			}
+		}
+		mNum = newnum;
+		mDenom = newdenom;
+		mBignum = mBigdenom = null;
+	}
+
+	/**
+	 * Set the value of this rational to the value of another mutable rational.
+	 * @param value the value to set to.
+	 */
+	public void setValue(MutableRational value) {
+		mNum = value.mNum;
+		mDenom = value.mDenom;
+		mBignum = value.mBignum;
+		mBigdenom = value.mBigdenom;
 	}
 
 	/**
@@ -129,7 +148,7 @@ public class MutableRational implements Comparable<MutableRational> {
 	 */
 	private void normalize() {
 		if (mBignum == null) {
-			final int norm = Rational.gcd(mNum, mDenom);
+			final long norm = Rational.gcd(mNum, mDenom);
 			if (norm != 0 && norm != 1) {
 				mNum /= norm;
 				mDenom /= norm;
@@ -150,9 +169,10 @@ public class MutableRational implements Comparable<MutableRational> {
 					mBigdenom = mBigdenom.divide(norm);
 				}
 			}
-			if (mBigdenom.bitLength() < 32 && mBignum.bitLength() < 32) { // NOCHECKSTYLE
-				mNum = mBignum.intValue();
-				mDenom = mBigdenom.intValue();
+			if (mBigdenom.bitLength() < 64 && mBignum.bitLength() < 64 // NOCHECKSTYLE
+					&& mBignum.longValue() != Long.MIN_VALUE) {
+				mNum = mBignum.longValue();
+				mDenom = mBigdenom.longValue();
 				mBignum = mBigdenom = null;
 			}
 		}
@@ -169,52 +189,81 @@ public class MutableRational implements Comparable<MutableRational> {
 			return this;
 		}
 		if (mBignum == null && !(other instanceof Rational.BigRational)) {
-			if (mDenom == other.mDenom) {
-				/* handle gcd = 0 correctly
-				 * two INFINITYs with same sign give INFINITY,
-				 * otherwise it gives NAN.
-				 */
-				if (mDenom == 0) {
-					if (mNum != other.mNum) {
-						mNum = 0;
-					}
-				} else {
-					/* a common, very simple case, e.g. for integers */
-					setValue((long) mNum + other.mNum, mDenom);
-				}
-			} else {
-				final int gcd = Rational.gcd(mDenom, other.mDenom);
-				final long denomgcd = mDenom / gcd;
-				final long otherdenomgcd = other.mDenom / gcd;
-				final long newdenom = denomgcd * other.mDenom;
-				final long newnum = otherdenomgcd * mNum + denomgcd * other.mNum;
-				setValue(newnum, newdenom);
-			}
+			addLong(other.mNum, other.mDenom);
 			return this;
 		}
 
 		if (mBignum == null && mNum == 0 && mDenom == 1) {
 			/* This is zero; set result to other */
-			mBignum = other.numerator();
-			mBigdenom = other.denominator();
+			setValue(other);
 			return this;
 		}
+		addBig(other.numerator(), other.denominator());
+		return this;
+	}
 
+	/**
+	 * Add onum/odenom to this rational, where this is stored in the long representation.  The other value must be
+	 * normalized.  This falls back to big integers if the result overflows.
+	 * @param onum the numerator of the value to add.
+	 * @param odenom the denominator of the value to add.
+	 */
+	private void addLong(final long onum, final long odenom) {
+		assert mBignum == null;
+		if (mDenom == odenom) {
+			/* handle gcd = 0 correctly
+			 * two INFINITYs with same sign give INFINITY,
+			 * otherwise it gives NAN.
+			 */
+			if (mDenom == 0) {
+				if (mNum != onum) {
+					mNum = 0;
+				}
+				return;
+			}
+			/* a common, very simple case, e.g. for integers */
+			final long newnum = mNum + onum;
+			// overflow iff both operands have the same sign that differs from the result's sign
+			if (((mNum ^ newnum) & (onum ^ newnum)) >= 0) {
+				setValue(newnum, mDenom);
+				return;
+			}
+		} else {
+			final long gcd = Rational.gcd(mDenom, odenom);
+			final long denomgcd = mDenom / gcd;
+			final long otherdenomgcd = odenom / gcd;
+			try {
+				final long newdenom = Math.multiplyExact(denomgcd, odenom);
+				final long newnum = Math.addExact(Math.multiplyExact(otherdenomgcd, mNum),
+						Math.multiplyExact(denomgcd, onum));
+				setValue(newnum, newdenom);
+				return;
+			} catch (final ArithmeticException overflow) {
+				// fall through to big integer arithmetic
+			}
+		}
+		addBig(BigInteger.valueOf(onum), BigInteger.valueOf(odenom));
+	}
+
+	/**
+	 * Add onum/odenom to this rational using big integer arithmetic.
+	 * @param onum the numerator of the value to add.
+	 * @param odenom the denominator of the value to add.
+	 */
+	private void addBig(final BigInteger onum, final BigInteger odenom) {
 		final BigInteger tdenom = denominator();
-		final BigInteger odenom = other.denominator();
 		if (tdenom.equals(odenom)) {
-			mBignum = numerator().add(other.numerator());
+			mBignum = numerator().add(onum);
 			mBigdenom = tdenom;
 		} else {
 			final BigInteger gcd = Rational.gcd(tdenom, odenom);
 			final BigInteger tdenomgcd = tdenom.divide(gcd);
 			final BigInteger odenomgcd = odenom.divide(gcd);
 			mBignum = numerator().multiply(odenomgcd)
-				.add(other.numerator().multiply(tdenomgcd));
+				.add(onum.multiply(tdenomgcd));
 			mBigdenom = tdenom.multiply(odenomgcd);
 		}
 		normalize();
-		return this;
 	}
 
 	/**
@@ -223,11 +272,7 @@ public class MutableRational implements Comparable<MutableRational> {
 	 */
 	public MutableRational negate() {
 		if (mBignum == null) {
-			if (mNum == Integer.MIN_VALUE) {
-				setValue(-(long)Integer.MIN_VALUE, mDenom);
-			} else {
-				mNum = -mNum;
-			}
+			mNum = -mNum;
 		} else {
 			mBignum = mBignum.negate();
 		}
@@ -240,6 +285,10 @@ public class MutableRational implements Comparable<MutableRational> {
 	 * @return this mutable rational.
 	 */
 	public MutableRational sub(Rational other) {
+		if (mBignum == null && !(other instanceof Rational.BigRational)) {
+			addLong(-(long) other.mNum, other.mDenom);
+			return this;
+		}
 		return add(other.negate());
 	}
 
@@ -257,10 +306,14 @@ public class MutableRational implements Comparable<MutableRational> {
 			return negate();
 		}
 		if (mBignum == null && !(other instanceof Rational.BigRational)) {
-			final long newnum = (long)mNum * other.mNum;
-			final long newdenom = (long)mDenom * other.mDenom;
-			setValue(newnum, newdenom);
-			return this;
+			try {
+				final long newnum = Math.multiplyExact(mNum, other.mNum);
+				final long newdenom = Math.multiplyExact(mDenom, other.mDenom);
+				setValue(newnum, newdenom);
+				return this;
+			} catch (final ArithmeticException overflow) {
+				// fall through to big integer arithmetic
+			}
 		}
 
 		mBignum = numerator().multiply(other.numerator());
@@ -289,14 +342,18 @@ public class MutableRational implements Comparable<MutableRational> {
 			return negate();
 		}
 		if (mBignum == null && !(other instanceof Rational.BigRational)) {
-			long newnum = (long)mNum * other.mDenom;
-			final long newdenom = (long)mDenom * other.mNum;
-			// +-inf : -c = -+inf
-			if (newdenom == 0 && other.mNum < 0) {
-				newnum = -newnum;
+			try {
+				long newnum = Math.multiplyExact(mNum, other.mDenom);
+				final long newdenom = Math.multiplyExact(mDenom, other.mNum);
+				// +-inf : -c = -+inf
+				if (newdenom == 0 && other.mNum < 0) {
+					newnum = -newnum;
+				}
+				setValue(newnum, newdenom);
+				return this;
+			} catch (final ArithmeticException overflow) {
+				// fall through to big integer arithmetic
 			}
-			setValue(newnum, newdenom);
-			return this;
 		}
 		mBignum = numerator().multiply(other.denominator());
 		mBigdenom = denominator().multiply(other.numerator());
@@ -345,6 +402,22 @@ public class MutableRational implements Comparable<MutableRational> {
 	 * @return this mutable rational.
 	 */
 	public MutableRational addmul(Rational fac1,Rational fac2) {
+		/* fast path: the product of two int fractions always fits into a long fraction */
+		if (mBignum == null && !(fac1 instanceof Rational.BigRational) && !(fac2 instanceof Rational.BigRational)
+				&& fac1.mDenom != 0 && fac2.mDenom != 0) {
+			long newnum = (long) fac1.mNum * fac2.mNum;
+			long newdenom = (long) fac1.mDenom * fac2.mDenom;
+			if (newnum == 0) {
+				return this;
+			}
+			if (newdenom != 1) {
+				final long gcd = Rational.gcd(newnum, newdenom);
+				newnum /= gcd;
+				newdenom /= gcd;
+			}
+			addLong(newnum, newdenom);
+			return this;
+		}
 		return add(fac1.mul(fac2));
 	}
 
@@ -379,11 +452,15 @@ public class MutableRational implements Comparable<MutableRational> {
 		if (mBignum == null && o.mBignum == null) {
 			/* handle infinities and nan */
 			if (o.mDenom == mDenom) {
-				return mNum < o.mNum ? -1 : mNum == o.mNum ? 0 : 1;
+				return Long.compare(mNum, o.mNum);
+			}
+			try {
+				final long valt = Math.multiplyExact(mNum, o.mDenom);
+				final long valo = Math.multiplyExact(o.mNum, mDenom);
+				return Long.compare(valt, valo);
+			} catch (final ArithmeticException overflow) {
+				// fall through to big integer arithmetic
 			}
-			final long valt = (long)mNum * o.mDenom;
-			final long valo = (long)o.mNum * mDenom;
-			return valt < valo ? -1 : valt == valo ? 0 : 1;
 		}
 		final BigInteger valthis = numerator().multiply(o.denominator());
 		final BigInteger valo = o.numerator().multiply(denominator());
@@ -400,11 +477,15 @@ public class MutableRational implements Comparable<MutableRational> {
 		if (mBignum == null && !(o instanceof BigRational)) {
 			/* handle infinities and nan */
 			if (o.mDenom == mDenom) {
-				return mNum < o.mNum ? -1 : mNum == o.mNum ? 0 : 1;
+				return Long.compare(mNum, o.mNum);
+			}
+			try {
+				final long valt = Math.multiplyExact(mNum, o.mDenom);
+				final long valo = Math.multiplyExact(o.mNum, mDenom);
+				return Long.compare(valt, valo);
+			} catch (final ArithmeticException overflow) {
+				// fall through to big integer arithmetic
 			}
-			final long valt = (long)mNum * o.mDenom;
-			final long valo = (long)o.mNum * mDenom;
-			return valt < valo ? -1 : valt == valo ? 0 : 1;
 		}
 		final BigInteger valthis = numerator().multiply(o.denominator());
 		final BigInteger valo = o.numerator().multiply(denominator());
@@ -422,11 +503,10 @@ public class MutableRational implements Comparable<MutableRational> {
 		if (o instanceof Rational) {
 			final Rational r = (Rational) o;
 			// Works thanks to normalization!!!
-			return mBignum == null
-				? !(r instanceof Rational.BigRational)
-					&& mNum == r.mNum && mDenom == r.mDenom
-				: mBignum.equals(r.numerator())
-					&& mBigdenom.equals(r.denominator());
+			return mBignum == null && !(r instanceof Rational.BigRational)
+				? mNum == r.mNum && mDenom == r.mDenom
+				: numerator().equals(r.numerator())
+					&& denominator().equals(r.denominator());
 		}
 		if (o instanceof MutableRational) {
 			final MutableRational r = (MutableRational) o;
@@ -464,7 +544,10 @@ public class MutableRational implements Comparable<MutableRational> {
 	@Override
 	public int hashCode() {
 		if (mBignum == null) {
-			return mNum * 257 + mDenom;
+			if (mNum == (int) mNum && mDenom == (int) mDenom) {
+				return (int) mNum * 257 + (int) mDenom;
+			}
+			return BigInteger.valueOf(mNum).hashCode() * 257 + BigInteger.valueOf(mDenom).hashCode();
 		} else {
 			return mBignum.hashCode() * 257 + mBigdenom.hashCode();
 		}
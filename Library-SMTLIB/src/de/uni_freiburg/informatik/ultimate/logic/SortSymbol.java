@@ -183,6 +183,19 @@ public class SortSymbol {
 		}
 		final UnifyHash<Sort> sortCache = (UnifyHash<Sort>) mSorts;
 		final int hash = Arrays.hashCode(indices) ^ Arrays.hashCode(args);
+		if (!mTheory.isConcurrent()) {
+			return getCachedSort(sortCache, hash, indices, args);
+		}
+		synchronized (sortCache) {
+			return getCachedSort(sortCache, hash, indices, args);
+		}
+	}
+
+	/**
+	 * Find or create the sort in the sort cache. If the theory is concurrent, the caller must hold the lock of the
+	 * sort cache.
+	 */
+	private Sort getCachedSort(UnifyHash<Sort> sortCache, int hash, String[] indices, Sort[] args) {
 		for (final Sort sort : sortCache.iterateHashCode(hash)) {
 			if (Arrays.equals(sort.getArguments(), args)
 				&& Arrays.equals(sort.getIndices(), indices)) {
@@ -26,9 +26,12 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import de.uni_freiburg.informatik.ultimate.util.HashUtils;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.ScopedHashMap;
+import de.uni_freiburg.informatik.ultimate.util.datastructures.StripedUnifyHash;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.UnifyHash;
 
 /**
@@ -42,6 +45,13 @@ import de.uni_freiburg.informatik.ultimate.util.datastructures.UnifyHash;
  * The theory also defines all predefined function symbols required by the logic that was set with setLogic(). It allows
  * creating new function and sort symbols.
  *
+ * Terms can be created concurrently by several threads that share a theory, after {@link #setConcurrent()} was
+ * called. The unique terms are kept in striped unify hashes, where each stripe has its own lock. Thus two threads
+ * only wait for each other if they create terms whose hash codes fall into the same stripe, and the identity of equal
+ * terms is still guaranteed. The declared sort and function symbols are protected by a read-write lock, so looking up
+ * a symbol only blocks while a symbol is declared or a scope is pushed or popped. A theory that is only used by a
+ * single thread takes none of these locks.
+ *
  * @author Jochen Hoenicke
  */
 public class Theory {
@@ -95,16 +105,25 @@ public class Theory {
 	private SortSymbol mBitVecSort, mFloatingPointSort;
 	private Sort mRoundingModeSort;
 	private final HashMap<String, FunctionSymbolFactory> mFunFactory = new HashMap<>();
-	private final UnifyHash<FunctionSymbol> mModelValueCache = new UnifyHash<>();
+	private final StripedUnifyHash<FunctionSymbol> mModelValueCache = new StripedUnifyHash<>(1);
 
 	private final ScopedHashMap<String, SortSymbol> mDeclaredSorts = new ScopedHashMap<>();
 	private final ScopedHashMap<String, FunctionSymbol> mDeclaredFuns = new ScopedHashMap<>();
 
-	private final UnifyHash<QuantifiedFormula> mQfCache = new UnifyHash<>();
-	private final UnifyHash<LetTerm> mLetCache = new UnifyHash<>();
-	private final UnifyHash<MatchTerm> mMtCache = new UnifyHash<>();
-	private final UnifyHash<Term> mTermCache = new UnifyHash<>();
-	private final UnifyHash<TermVariable> mTvUnify = new UnifyHash<>();
+	/**
+	 * True if the theory is shared between threads.
+	 */
+	private boolean mConcurrent;
+	/**
+	 * The lock for the declared sort and function symbols, or null if the theory is not concurrent.
+	 */
+	private ReadWriteLock mSymbolLock;
+
+	private final StripedUnifyHash<QuantifiedFormula> mQfCache = new StripedUnifyHash<>();
+	private final StripedUnifyHash<LetTerm> mLetCache = new StripedUnifyHash<>();
+	private final StripedUnifyHash<MatchTerm> mMtCache = new StripedUnifyHash<>();
+	private final StripedUnifyHash<Term> mTermCache = new StripedUnifyHash<>();
+	private final StripedUnifyHash<TermVariable> mTvUnify = new StripedUnifyHash<>();
 	/**
 	 * Factory for to_real wrapper function symbol, if IRA logic is used.
 	 */
@@ -112,7 +131,7 @@ public class Theory {
 	/**
 	 * Cache for bitvector constant function symbols (_ bv123 456).
 	 */
-	private UnifyHash<FunctionSymbol> mBitVecConstCache;
+	private final StripedUnifyHash<FunctionSymbol> mBitVecConstCache = new StripedUnifyHash<>(1);
 
 	public final ApplicationTerm mTrue, mFalse;
 	public final FunctionSymbol mAnd, mOr, mNot, mImplies, mXor;
@@ -322,14 +341,20 @@ public class Theory {
 			return f;
 		}
 		final int hash = QuantifiedFormula.hashQuantifier(quant, vars, f);
-		for (final QuantifiedFormula qf : mQfCache.iterateHashCode(hash)) {
-			if (qf.getQuantifier() == quant && qf.getSubformula() == f && Arrays.equals(vars, qf.getVariables())) {
-				return qf;
+		final UnifyHash<QuantifiedFormula> cache = mQfCache.lockStripe(hash);
+		try {
+			for (final QuantifiedFormula qf : cache.iterateHashCode(hash)) {
+				if (qf.getQuantifier() == quant && qf.getSubformula() == f
+						&& Arrays.equals(vars, qf.getVariables())) {
+					return qf;
+				}
 			}
+			final QuantifiedFormula qf = new QuantifiedFormula(quant, vars, f, hash);
+			cache.put(hash, qf);
+			return qf;
+		} finally {
+			mQfCache.unlockStripe(hash);
 		}
-		final QuantifiedFormula qf = new QuantifiedFormula(quant, vars, f, hash);
-		mQfCache.put(hash, qf);
-		return qf;
 	}
 
 	public Term exists(final TermVariable[] vars, final Term f) {
@@ -346,7 +371,12 @@ public class Theory {
 		final int hash = MatchTerm.hashMatch(dataArg, vars, cases);
 		final MatchTerm mt = new MatchTerm(hash, dataArg, vars, cases, constructors);
 		// add to hashmap
-		mMtCache.put(hash, mt);
+		final UnifyHash<MatchTerm> cache = mMtCache.lockStripe(hash);
+		try {
+			cache.put(hash, mt);
+		} finally {
+			mMtCache.unlockStripe(hash);
+		}
 		return mt;
 	}
 
@@ -356,15 +386,20 @@ public class Theory {
 			return subform;
 		}
 		final int hash = LetTerm.hashLet(vars, values, subform);
-		for (final LetTerm lt : mLetCache.iterateHashCode(hash)) {
-			if (lt.getSubTerm() == subform && Arrays.equals(lt.getVariables(), vars)
-					&& Arrays.equals(lt.getValues(), values)) {
-				return lt;
+		final UnifyHash<LetTerm> cache = mLetCache.lockStripe(hash);
+		try {
+			for (final LetTerm lt : cache.iterateHashCode(hash)) {
+				if (lt.getSubTerm() == subform && Arrays.equals(lt.getVariables(), vars)
+						&& Arrays.equals(lt.getValues(), values)) {
+					return lt;
+				}
 			}
+			final LetTerm lf = new LetTerm(vars, values, subform, hash);
+			cache.put(hash, lf);
+			return lf;
+		} finally {
+			mLetCache.unlockStripe(hash);
 		}
-		final LetTerm lf = new LetTerm(vars, values, subform, hash);
-		mLetCache.put(hash, lf);
-		return lf;
 	}
 
 	public Term let(final TermVariable var, final Term value, final Term subform) {
@@ -451,17 +486,22 @@ public class Theory {
 			}
 		}
 		final int hash = ConstantTerm.hashConstant(value, sort);
-		for (final Term t : mTermCache.iterateHashCode(hash)) {
-			if (t instanceof ConstantTerm) {
-				final ConstantTerm nt = (ConstantTerm) t;
-				if (nt.getSort() == sort && value.equals(nt.getValue())) {
-					return nt;
+		final UnifyHash<Term> cache = mTermCache.lockStripe(hash);
+		try {
+			for (final Term t : cache.iterateHashCode(hash)) {
+				if (t instanceof ConstantTerm) {
+					final ConstantTerm nt = (ConstantTerm) t;
+					if (nt.getSort() == sort && value.equals(nt.getValue())) {
+						return nt;
+					}
 				}
 			}
+			final ConstantTerm nt = new ConstantTerm(value, sort, hash);
+			cache.put(hash, nt);
+			return nt;
+		} finally {
+			mTermCache.unlockStripe(hash);
 		}
-		final ConstantTerm nt = new ConstantTerm(value, sort, hash);
-		mTermCache.put(hash, nt);
-		return nt;
 	}
 
 	public Term numeral(final BigInteger num) {
@@ -571,6 +611,46 @@ public class Theory {
 		return mLogic;
 	}
 
+	/**
+	 * Allow several threads to create terms and look up symbols in this theory. This must be called before the theory
+	 * is shared with the other threads. Afterwards the unique tables and the declared symbols are protected by locks.
+	 */
+	public void setConcurrent() {
+		if (mConcurrent) {
+			return;
+		}
+		mSymbolLock = new ReentrantReadWriteLock();
+		mQfCache.setConcurrent();
+		mLetCache.setConcurrent();
+		mMtCache.setConcurrent();
+		mTermCache.setConcurrent();
+		mTvUnify.setConcurrent();
+		mModelValueCache.setConcurrent();
+		mBitVecConstCache.setConcurrent();
+		mConcurrent = true;
+	}
+
+	/**
+	 * Check if this theory may be shared between threads.
+	 *
+	 * @return true if {@link #setConcurrent()} was called.
+	 */
+	public boolean isConcurrent() {
+		return mConcurrent;
+	}
+
+	private void lockSymbols(final boolean write) {
+		if (mSymbolLock != null) {
+			(write ? mSymbolLock.writeLock() : mSymbolLock.readLock()).lock();
+		}
+	}
+
+	private void unlockSymbols(final boolean write) {
+		if (mSymbolLock != null) {
+			(write ? mSymbolLock.writeLock() : mSymbolLock.readLock()).unlock();
+		}
+	}
+
 	public FunctionSymbol declareInternalFunction(final String name, final Sort[] paramTypes, final Sort resultType,
 			final int flags) {
 		return defineFunction(name, paramTypes, resultType, null, null, flags | FunctionSymbol.INTERNAL);
@@ -1213,13 +1293,18 @@ public class Theory {
 		if ((flags & FunctionSymbol.INTERNAL) == 0 && definition == null && !mLogic.isUF() && !mLogic.isArray()) {
 			throw new IllegalArgumentException("Free sorts are not allowed in this logic");
 		}
-		SortSymbol sortsym = mDeclaredSorts.get(name);
-		if (sortsym != null) {
-			throw new IllegalArgumentException("Sort " + name + " already exists.");
+		lockSymbols(true);
+		try {
+			SortSymbol sortsym = mDeclaredSorts.get(name);
+			if (sortsym != null) {
+				throw new IllegalArgumentException("Sort " + name + " already exists.");
+			}
+			sortsym = new SortSymbol(this, name, paramCount, definition, flags);
+			mDeclaredSorts.put(name, sortsym);
+			return sortsym;
+		} finally {
+			unlockSymbols(true);
 		}
-		sortsym = new SortSymbol(this, name, paramCount, definition, flags);
-		mDeclaredSorts.put(name, sortsym);
-		return sortsym;
 	}
 
 	public SortSymbol declareSort(final String name, final int paramCount) {
@@ -1266,7 +1351,12 @@ public class Theory {
 	 */
 	public Sort getSort(final String id, final String[] indices, final Sort... args) {
 		SortSymbol symbol;
-		symbol = mDeclaredSorts.get(id);
+		lockSymbols(false);
+		try {
+			symbol = mDeclaredSorts.get(id);
+		} finally {
+			unlockSymbols(false);
+		}
 		if (symbol == null) {
 			return null;
 		}
@@ -1315,8 +1405,13 @@ public class Theory {
 	/******************** FUNCTIONS SYMBOLS AND FUNCTION TERMS ************/
 
 	private void defineFunction(final FunctionSymbolFactory factory) {
-		if (mFunFactory.put(factory.mFuncName, factory) != null) {
-			throw new AssertionError();
+		lockSymbols(true);
+		try {
+			if (mFunFactory.put(factory.mFuncName, factory) != null) {
+				throw new AssertionError();
+			}
+		} finally {
+			unlockSymbols(true);
 		}
 	}
 
@@ -1333,19 +1428,24 @@ public class Theory {
 		if (name.charAt(0) == '@' && name.matches(MODEL_VALUE_PATTERN)) {
 			throw new IllegalArgumentException("Function " + name + " is reserved for internal purposes.");
 		}
-		if (mFunFactory.get(name) != null || mDeclaredFuns.get(name) != null) {
-			throw new IllegalArgumentException("Function " + name + " is already defined.");
-		}
 		if (paramTypes.length == 0) {
 			paramTypes = EMPTY_SORT_ARRAY;
 		}
 		if (definitionVars != null && definitionVars.length == 0) {
 			definitionVars = EMPTY_TERM_VARIABLE_ARRAY;
 		}
-		final FunctionSymbol f =
-				new FunctionSymbol(name, null, paramTypes, resultType, definitionVars, definition, flags);
-		mDeclaredFuns.put(name, f);
-		return f;
+		lockSymbols(true);
+		try {
+			if (mFunFactory.get(name) != null || mDeclaredFuns.get(name) != null) {
+				throw new IllegalArgumentException("Function " + name + " is already defined.");
+			}
+			final FunctionSymbol f =
+					new FunctionSymbol(name, null, paramTypes, resultType, definitionVars, definition, flags);
+			mDeclaredFuns.put(name, f);
+			return f;
+		} finally {
+			unlockSymbols(true);
+		}
 	}
 
 	/**
@@ -1398,15 +1498,20 @@ public class Theory {
 
 	private FunctionSymbol getModelValueSymbol(final String name, final Sort sort) {
 		final int hash = HashUtils.hashJenkins(name.hashCode(), sort);
-		for (final FunctionSymbol symb : mModelValueCache.iterateHashCode(hash)) {
-			if (symb.getName().equals(name) && symb.getReturnSort() == sort) {
-				return symb;
+		final UnifyHash<FunctionSymbol> cache = mModelValueCache.lockStripe(hash);
+		try {
+			for (final FunctionSymbol symb : cache.iterateHashCode(hash)) {
+				if (symb.getName().equals(name) && symb.getReturnSort() == sort) {
+					return symb;
+				}
 			}
+			final FunctionSymbol symb = new FunctionSymbol(name, null, EMPTY_SORT_ARRAY, sort, null, null,
+					FunctionSymbol.RETURNOVERLOAD | FunctionSymbol.INTERNAL | FunctionSymbol.MODELVALUE);
+			cache.put(hash, symb);
+			return symb;
+		} finally {
+			mModelValueCache.unlockStripe(hash);
 		}
-		final FunctionSymbol symb = new FunctionSymbol(name, null, EMPTY_SORT_ARRAY, sort, null, null,
-				FunctionSymbol.RETURNOVERLOAD | FunctionSymbol.INTERNAL | FunctionSymbol.MODELVALUE);
-		mModelValueCache.put(hash, symb);
-		return symb;
 	}
 
 	public FunctionSymbol getFunctionWithResult(final String name, final String[] indices, final Sort resultType,
@@ -1414,16 +1519,23 @@ public class Theory {
 		if (resultType != null && indices == null && paramTypes.length == 0 && name.matches(MODEL_VALUE_PATTERN)) {
 			return getModelValueSymbol(name, resultType);
 		}
-		final FunctionSymbolFactory factory = mFunFactory.get(name);
+		final FunctionSymbolFactory factory;
+		final FunctionSymbol declared;
+		lockSymbols(false);
+		try {
+			factory = mFunFactory.get(name);
+			declared = factory == null ? mDeclaredFuns.get(name) : null;
+		} finally {
+			unlockSymbols(false);
+		}
 		if (factory != null) {
 			final FunctionSymbol fsym = factory.getFunctionWithResult(this, indices, paramTypes, resultType);
 			if (fsym != null) {
 				return fsym;
 			}
 		} else {
-			final FunctionSymbol fsym = mDeclaredFuns.get(name);
-			if (fsym != null && indices == null && resultType == null && fsym.typecheck(paramTypes)) {
-				return fsym;
+			if (declared != null && indices == null && resultType == null && declared.typecheck(paramTypes)) {
+				return declared;
 			}
 		}
 		if (mIRAWrappers != null) {
@@ -1441,20 +1553,22 @@ public class Theory {
 	}
 
 	private FunctionSymbol getBitVecConstant(final String name, final String[] indices) {
-		if (mBitVecConstCache == null) {
-			mBitVecConstCache = new UnifyHash<>();
-		}
 		final int hash = HashUtils.hashJenkins(name.hashCode(), (Object[]) indices);
-		for (final FunctionSymbol symb : mBitVecConstCache.iterateHashCode(hash)) {
-			if (symb.getName().equals(name) && symb.getIndices()[0].equals(indices[0])) {
-				return symb;
+		final UnifyHash<FunctionSymbol> cache = mBitVecConstCache.lockStripe(hash);
+		try {
+			for (final FunctionSymbol symb : cache.iterateHashCode(hash)) {
+				if (symb.getName().equals(name) && symb.getIndices()[0].equals(indices[0])) {
+					return symb;
+				}
 			}
+			final Sort sort = mBitVecSort.getSort(indices);
+			final FunctionSymbol symb =
+					new FunctionSymbol(name, indices, EMPTY_SORT_ARRAY, sort, null, null, FunctionSymbol.INTERNAL);
+			cache.put(hash, symb);
+			return symb;
+		} finally {
+			mBitVecConstCache.unlockStripe(hash);
 		}
-		final Sort sort = mBitVecSort.getSort(indices);
-		final FunctionSymbol symb =
-				new FunctionSymbol(name, indices, EMPTY_SORT_ARRAY, sort, null, null, FunctionSymbol.INTERNAL);
-		mBitVecConstCache.put(hash, symb);
-		return symb;
 	}
 
 	public ApplicationTerm term(final FunctionSymbolFactory factory, final Term... parameters) {
@@ -1486,17 +1600,22 @@ public class Theory {
 			parameters = EMPTY_TERM_ARRAY;
 		}
 		final int hash = ApplicationTerm.hashApplication(func, parameters);
-		for (final Term t : mTermCache.iterateHashCode(hash)) {
-			if (t instanceof ApplicationTerm) {
-				final ApplicationTerm app = (ApplicationTerm) t;
-				if (func == app.getFunction() && Arrays.equals(app.getParameters(), parameters)) {
-					return app;
+		final UnifyHash<Term> cache = mTermCache.lockStripe(hash);
+		try {
+			for (final Term t : cache.iterateHashCode(hash)) {
+				if (t instanceof ApplicationTerm) {
+					final ApplicationTerm app = (ApplicationTerm) t;
+					if (func == app.getFunction() && Arrays.equals(app.getParameters(), parameters)) {
+						return app;
+					}
 				}
 			}
+			final ApplicationTerm app = new ApplicationTerm(func, parameters, hash);
+			cache.put(hash, app);
+			return app;
+		} finally {
+			mTermCache.unlockStripe(hash);
 		}
-		final ApplicationTerm app = new ApplicationTerm(func, parameters, hash);
-		mTermCache.put(hash, app);
-		return app;
 	}
 
 	/******************** TERM VARIABLES AND VARIABLE TERMS *****************/
@@ -1511,10 +1630,14 @@ public class Theory {
 	 * @return a fresh term variable.
 	 */
 	public TermVariable createFreshTermVariable(final String prefix, final Sort sort) {
-		final String name = "." + prefix + "." + mTvarCtr++;
+		final String name = "." + prefix + "." + (mConcurrent ? nextSharedTvarCtr() : mTvarCtr++);
 		return new TermVariable(name, sort, TermVariable.hashVariable(name, sort));
 	}
 
+	private synchronized int nextSharedTvarCtr() {
+		return mTvarCtr++;
+	}
+
 	/**
 	 * Create a term variable with the given name and sort.
 	 *
@@ -1526,14 +1649,19 @@ public class Theory {
 	 */
 	public TermVariable createTermVariable(final String name, final Sort sort) {
 		final int hash = TermVariable.hashVariable(name, sort);
-		for (final TermVariable tv : mTvUnify.iterateHashCode(hash)) {
-			if (tv.getSort().equals(sort) && tv.getName().equals(name)) {
-				return tv;
+		final UnifyHash<TermVariable> cache = mTvUnify.lockStripe(hash);
+		try {
+			for (final TermVariable tv : cache.iterateHashCode(hash)) {
+				if (tv.getSort().equals(sort) && tv.getName().equals(name)) {
+					return tv;
+				}
 			}
+			final TermVariable tv = new TermVariable(name, sort, hash);
+			cache.put(hash, tv);
+			return tv;
+		} finally {
+			mTvUnify.unlockStripe(hash);
 		}
-		final TermVariable tv = new TermVariable(name, sort, hash);
-		mTvUnify.put(hash, tv);
-		return tv;
 	}
 	
 	
@@ -1554,12 +1682,17 @@ public class Theory {
 	 * @return a data type.
 	 */
 	public DataType createDatatypes(final String name, final int numParams) {
-		if (mDeclaredSorts.containsKey(name)) {
-			throw new IllegalArgumentException("Datatype " + name + " already exists.");
+		lockSymbols(true);
+		try {
+			if (mDeclaredSorts.containsKey(name)) {
+				throw new IllegalArgumentException("Datatype " + name + " already exists.");
+			}
+			DataType datatype = new DataType(this, name, numParams);
+			mDeclaredSorts.put(name, datatype);
+			return datatype;
+		} finally {
+			unlockSymbols(true);
 		}
-		DataType datatype = new DataType(this, name, numParams);
-		mDeclaredSorts.put(name, datatype);
-		return datatype;
 	}
 
 	public Term term(final TermVariable var) {
@@ -1570,32 +1703,47 @@ public class Theory {
 
 	public Term annotatedTerm(final Annotation[] annots, final Term sub) {
 		final int hash = AnnotatedTerm.hashAnnotations(annots, sub);
-		for (final Term t : mTermCache.iterateHashCode(hash)) {
-			if (t instanceof AnnotatedTerm) {
-				final AnnotatedTerm annot = (AnnotatedTerm) t;
-				if (sub == annot.getSubterm() && Arrays.equals(annot.getAnnotations(), annots)) {
-					return annot;
+		final UnifyHash<Term> cache = mTermCache.lockStripe(hash);
+		try {
+			for (final Term t : cache.iterateHashCode(hash)) {
+				if (t instanceof AnnotatedTerm) {
+					final AnnotatedTerm annot = (AnnotatedTerm) t;
+					if (sub == annot.getSubterm() && Arrays.equals(annot.getAnnotations(), annots)) {
+						return annot;
+					}
 				}
 			}
+			final AnnotatedTerm annot = new AnnotatedTerm(annots, sub, hash);
+			cache.put(hash, annot);
+			return annot;
+		} finally {
+			mTermCache.unlockStripe(hash);
 		}
-		final AnnotatedTerm annot = new AnnotatedTerm(annots, sub, hash);
-		mTermCache.put(hash, annot);
-		return annot;
 	}
 
 	/******************** ASSERTION STACK *********************************/
 
 	public void push() {
 		if (!mGlobalDecls) {
-			mDeclaredFuns.beginScope();
-			mDeclaredSorts.beginScope();
+			lockSymbols(true);
+			try {
+				mDeclaredFuns.beginScope();
+				mDeclaredSorts.beginScope();
+			} finally {
+				unlockSymbols(true);
+			}
 		}
 	}
 
 	public void pop() {
 		if (!mGlobalDecls) {
-			mDeclaredFuns.endScope();
-			mDeclaredSorts.endScope();
+			lockSymbols(true);
+			try {
+				mDeclaredFuns.endScope();
+				mDeclaredSorts.endScope();
+			} finally {
+				unlockSymbols(true);
+			}
 		}
 	}
 
@@ -1608,33 +1756,44 @@ public class Theory {
 			args[i] = freeVars[i];
 			freeVarSorts[i] = freeVars[i].getSort();
 		}
-		FunctionSymbol fsym = new FunctionSymbol("@" + tv.getName() + "_skolem_" + mSkolemCounter++, null, freeVarSorts,
-				tv.getSort(), null, null, 0);
+		final int skolemCtr = mConcurrent ? nextSharedSkolemCounter() : mSkolemCounter++;
+		FunctionSymbol fsym = new FunctionSymbol("@" + tv.getName() + "_skolem_" + skolemCtr,
+				null, freeVarSorts, tv.getSort(), null, null, 0);
 		return term(fsym, args);
 	}
 
+	private synchronized int nextSharedSkolemCounter() {
+		return mSkolemCounter++;
+	}
+
 	public void resetAssertions() {
 		if (mGlobalDecls) {
 			return;
 		}
-		while (mDeclaredFuns.getActiveScopeNum() > 1) {
-			mDeclaredFuns.endScope();
-		}
-		for (final Iterator<Map.Entry<String, FunctionSymbol>> it = mDeclaredFuns.entrySet().iterator(); it
-				.hasNext();) {
-			final Map.Entry<String, FunctionSymbol> next = it.next();
-			if (!next.getValue().isIntern()) {
-				it.remove();
+		lockSymbols(true);
+		try {
+			while (mDeclaredFuns.getActiveScopeNum() > 1) {
+				mDeclaredFuns.endScope();
 			}
-		}
-		while (mDeclaredSorts.getActiveScopeNum() > 1) {
-			mDeclaredSorts.endScope();
-		}
-		for (final Iterator<Map.Entry<String, SortSymbol>> it = mDeclaredSorts.entrySet().iterator(); it.hasNext();) {
-			final Map.Entry<String, SortSymbol> next = it.next();
-			if (!next.getValue().isIntern()) {
-				it.remove();
+			for (final Iterator<Map.Entry<String, FunctionSymbol>> it = mDeclaredFuns.entrySet().iterator(); it
+					.hasNext();) {
+				final Map.Entry<String, FunctionSymbol> next = it.next();
+				if (!next.getValue().isIntern()) {
+					it.remove();
+				}
+			}
+			while (mDeclaredSorts.getActiveScopeNum() > 1) {
+				mDeclaredSorts.endScope();
+			}
+			for (final Iterator<Map.Entry<String, SortSymbol>> it = mDeclaredSorts.entrySet().iterator(); it
+					.hasNext();) {
+				final Map.Entry<String, SortSymbol> next = it.next();
+				if (!next.getValue().isIntern()) {
+					it.remove();
+				}
 			}
+		} finally {
+			unlockSymbols(true);
 		}
 	}
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.util.datastructures;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A unify hash that can be shared between threads. The objects are distributed by their hash code over several
+ * independent {@link UnifyHash} stripes. Each stripe has its own lock and its own reference queue, so threads that
+ * create objects with different hash codes rarely wait for each other, and the weak references of dead objects are
+ * cleaned up concurrently in every stripe.
+ *
+ * The locks are only used after {@link #setConcurrent()} was called. Before that, the hash must only be used by a
+ * single thread and locking a stripe costs nothing.
+ *
+ * To keep the fly-weight guarantee, the lookup and the insertion of an object must happen while its stripe is locked:
+ *
+ * <pre>
+ *     final UnifyHash&lt;MyObject&gt; stripe = unifyHash.lockStripe(hashcode);
+ *     try {
+ *        for (MyObject o : stripe.iterateHashCode(hashcode)) {
+ *            if (o.a == a &amp;&amp; o.child == child) {
+ *                return o;
+ *            }
+ *        }
+ *        MyObject o = new MyObject(a, child);
+ *        stripe.put(hashcode, o);
+ *        return o;
+ *     } finally {
+ *        unifyHash.unlockStripe(hashcode);
+ *     }
+ * </pre>
+ *
+ * The creation of the new object must not lock another stripe of the same hash, as this could dead-lock.
+ */
+public class StripedUnifyHash<E> {
+	/**
+	 * The default number of stripes.
+	 */
+	private static final int DEFAULT_STRIPES = 64;
+
+	private final UnifyHash<E>[] mStripes;
+	/**
+	 * The locks of the stripes, or null if the hash is not shared between threads.
+	 */
+	private ReentrantLock[] mLocks;
+
+	/**
+	 * Creates a new striped unify hash.
+	 *
+	 * @param numStripes
+	 *            the minimal number of stripes. It is rounded up to the next power of two.
+	 */
+	public StripedUnifyHash(final int numStripes) {
+		final int size = numStripes <= 1 ? 1 : Integer.highestOneBit(numStripes - 1) << 1;
+		@SuppressWarnings("unchecked")
+		final UnifyHash<E>[] stripes = (UnifyHash<E>[]) new UnifyHash<?>[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new UnifyHash<>();
+		}
+		mStripes = stripes;
+	}
+
+	/**
+	 * Creates a new striped unify hash with the default number of stripes.
+	 */
+	public StripedUnifyHash() {
+		this(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * Use locks for the stripes from now on, since the hash is shared between threads. This must be called before the
+	 * other threads access the hash.
+	 */
+	public void setConcurrent() {
+		if (mLocks == null) {
+			final ReentrantLock[] locks = new ReentrantLock[mStripes.length];
+			for (int i = 0; i < locks.length; i++) {
+				locks[i] = new ReentrantLock();
+			}
+			mLocks = locks;
+		}
+	}
+
+	public boolean isConcurrent() {
+		return mLocks != null;
+	}
+
+	private int getStripeIndex(final int hash) {
+		// Mix the hash code and take the stripe from bit 16 upwards, so that hash codes that differ only in a few bits
+		// are spread over all stripes. The bucket in the stripe is chosen by the remainder of the unmixed hash code
+		// modulo the odd number of buckets, so it does not depend on the stripe index.
+		final int mixed = hash * 0x9e3779b9;
+		return (mixed >>> 16) & (mStripes.length - 1);
+	}
+
+	/**
+	 * Lock and get the stripe that stores the objects with the given hash code. The caller must unlock the stripe
+	 * with {@link #unlockStripe(int)} afterwards.
+	 *
+	 * @param hash
+	 *            the hash code of the object.
+	 * @return the stripe.
+	 */
+	public UnifyHash<E> lockStripe(final int hash) {
+		final int index = getStripeIndex(hash);
+		if (mLocks != null) {
+			mLocks[index].lock();
+		}
+		return mStripes[index];
+	}
+
+	/**
+	 * Unlock the stripe that stores the objects with the given hash code.
+	 *
+	 * @param hash
+	 *            the hash code of the object.
+	 */
+	public void unlockStripe(final int hash) {
+		if (mLocks != null) {
+			mLocks[getStripeIndex(hash)].unlock();
+		}
+	}
+
+	/**
+	 * The number of objects that are stored in all stripes.
+	 */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < mStripes.length; i++) {
+			if (mLocks != null) {
+				mLocks[i].lock();
+			}
+			try {
+				size += mStripes[i].size();
+			} finally {
+				if (mLocks != null) {
+					mLocks[i].unlock();
+				}
+			}
+		}
+		return size;
+	}
+}
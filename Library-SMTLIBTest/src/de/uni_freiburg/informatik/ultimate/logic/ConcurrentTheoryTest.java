@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.logic;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test that several threads sharing a theory get the same unique terms.
+ */
+@RunWith(JUnit4.class)
+public class ConcurrentTheoryTest {
+
+	private static final int THREADS = 8;
+	private static final int SIZE = 300;
+
+	private static Term[] buildTerms(final Theory theory, final int offset) {
+		final Sort intSort = theory.getSort("Int");
+		final Term x = theory.term("x");
+		final Term[] result = new Term[SIZE];
+		for (int j = 0; j < SIZE; j++) {
+			// every thread starts at a different position to create the terms in a different order.
+			final int i = (j + offset) % SIZE;
+			final Term num = theory.numeral(BigInteger.valueOf(i));
+			final TermVariable tv = theory.createTermVariable("v" + i, intSort);
+			final Term sum = theory.term("+", x, num, tv);
+			final Term leq = theory.term("<=", sum, theory.numeral(BigInteger.valueOf(2 * i)));
+			result[i] = theory.annotatedTerm(new Annotation[] { new Annotation(":named", "n" + i) },
+					theory.exists(new TermVariable[] { tv }, leq));
+		}
+		return result;
+	}
+
+	@Test
+	public void testUniqueTerms() throws InterruptedException, ExecutionException {
+		final Theory theory = new Theory(Logics.QF_LIA);
+		theory.setConcurrent();
+		theory.declareFunction("x", new Sort[0], theory.getSort("Int"));
+		final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			final List<Future<Term[]>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				final int offset = t * SIZE / THREADS;
+				futures.add(pool.submit(() -> buildTerms(theory, offset)));
+			}
+			final Term[] expected = buildTerms(theory, 0);
+			for (final Future<Term[]> future : futures) {
+				final Term[] terms = future.get();
+				for (int i = 0; i < SIZE; i++) {
+					Assert.assertSame(expected[i], terms[i]);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -56,6 +56,61 @@ public final class MutableRationalTest {
 		}
 	}
 
+	@Test
+	public void testAddmul() {
+		for (int i = 0; i < mRationals.length; i++) {
+			for (int j = 0; j < mRationals.length; j++) {
+				for (int k = 0; k < mRationals.length; k++) {
+					final MutableRational r1 = new MutableRational(mRationals[i]);
+					Assert.assertSame(r1, r1.addmul(mRationals[j], mRationals[k]));
+					Assert.assertEquals(mRationals[i] + " + " + mRationals[j] + " * " + mRationals[k],
+							mRationals[i].add(mRationals[j].mul(mRationals[k])), r1.toRational());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLongOverflow() {
+		final Rational big = Rational.valueOf(Long.MAX_VALUE, 3); // NOCHECKSTYLE
+		final Rational factor = Rational.valueOf(Integer.MAX_VALUE, 7); // NOCHECKSTYLE
+		Rational expected = Rational.ZERO;
+		final MutableRational r1 = new MutableRational(0, 1);
+		for (int i = 0; i < 10; i++) { // NOCHECKSTYLE
+			r1.addmul(factor, factor);
+			r1.sub(Rational.valueOf(i, 5)); // NOCHECKSTYLE
+			expected = expected.add(factor.mul(factor)).sub(Rational.valueOf(i, 5)); // NOCHECKSTYLE
+			Assert.assertEquals(expected, r1.toRational());
+		}
+		r1.mul(big);
+		expected = expected.mul(big);
+		Assert.assertEquals(expected, r1.toRational());
+		r1.div(big);
+		expected = expected.div(big);
+		Assert.assertEquals(expected, r1.toRational());
+		Assert.assertEquals(0, r1.compareTo(expected));
+		Assert.assertTrue(r1.equals(expected));
+		Assert.assertEquals(r1, new MutableRational(expected));
+		Assert.assertEquals(r1.hashCode(), new MutableRational(expected).hashCode());
+	}
+
+	@Test
+	public void testHashCode() {
+		final long[] values = { 0, 1, -1, 5, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, // NOCHECKSTYLE
+			(long) Integer.MAX_VALUE + 1, (long) Integer.MIN_VALUE - 1, 1L << 40, -(3L << 50), // NOCHECKSTYLE
+			Long.MAX_VALUE, Long.MIN_VALUE + 1 };
+		for (final long num : values) {
+			for (final long denom : new long[] { 1, 3, (1L << 35) + 1 }) { // NOCHECKSTYLE
+				final Rational expected = Rational.valueOf(num, denom);
+				final MutableRational r1 = new MutableRational(0, 1);
+				r1.setValue(num, denom);
+				Assert.assertEquals(expected, r1.toRational());
+				Assert.assertEquals(expected.hashCode(), r1.hashCode());
+				Assert.assertEquals(expected.hashCode(), new MutableRational(expected).hashCode());
+			}
+		}
+	}
+
 	@Test
 	public void testDiverse() {
 		for (int i = 0; i < mRationals.length; i++) {
@@ -57,6 +57,50 @@ public interface Config {
 	public final static boolean DEEP_BACKTRACK = true;
 	/// When to restart
 	public final static int RESTART_FACTOR = 500;
+	/// Number of conflicts before the first geometric restart
+	public final static int GEOMETRIC_RESTART_FIRST = 100;
+	/// Growth of the number of conflicts between two geometric restarts
+	public final static double GEOMETRIC_RESTART_FACTOR = 1.5;
+	/// Weight of a new LBD in the fast moving average of glucose restarts
+	public final static double GLUCOSE_FAST_ALPHA = 1.0 / 32;
+	/// Weight of a new LBD in the slow moving average of glucose restarts
+	public final static double GLUCOSE_SLOW_ALPHA = 1.0 / 4096;
+	/// Restart if the fast LBD average times this margin exceeds the slow one
+	public final static double GLUCOSE_RESTART_MARGIN = 0.8;
+	/// Minimal number of conflicts between two glucose restarts
+	public final static int GLUCOSE_RESTART_MIN_CONFLICTS = 50;
+	/// Learned clauses with at most this LBD are kept forever
+	public final static int LBD_CORE = 2;
+	/// Learned clauses with at most this LBD are kept while they are used
+	public final static int LBD_TIER2 = 6;
+	/// Number of conflicts before the first reduction of the clause database
+	public final static int REDUCE_INTERVAL = 2000;
+	/// Increment of the number of conflicts between two reductions
+	public final static int REDUCE_INCREMENT = 300;
+	/// Number of conflicts between two inprocessing rounds
+	public final static int INPROCESS_INTERVAL = 5000;
+	/// Only subsume with clauses whose rarest literal occurs at most this often
+	public final static int SUBSUME_MAX_OCCURRENCES = 1000;
+	/// Maximal number of learned clauses vivified in one inprocessing round
+	public final static int VIVIFY_CLAUSES = 200;
+	/// Only eliminate atoms that occur at most this often in the input clauses
+	public final static int PREPROCESS_MAX_OCCURRENCES = 16;
+	/// Maximal size of a resolvent added by variable elimination
+	public final static int PREPROCESS_MAX_RESOLVENT_SIZE = 20;
+	/// Maximal number of atoms probed for failed literals before the first check
+	public final static int PREPROCESS_PROBES = 1000;
+	/// Maximal number of atoms probed by the lookahead that chooses the cubes for cube and conquer
+	public final static int LOOKAHEAD_CANDIDATES = 200;
+	/// Only share learned clauses with at most this many literals with parallel engines
+	public final static int SHARE_MAX_SIZE = 8;
+	/// Only share learned clauses with at most this LBD with parallel engines
+	public final static int SHARE_MAX_LBD = 3;
+	/// Initial step size of the moving average of the CHB heuristic
+	public final static double CHB_ALPHA_START = 0.4;
+	/// Minimal step size of the moving average of the CHB heuristic
+	public final static double CHB_ALPHA_MIN = 0.06;
+	/// Decrease of the step size of the CHB heuristic per conflict
+	public final static double CHB_ALPHA_DECAY = 1e-6;
 	/// The default random seed
 	// Currently delays random splits until the 10000th split...
 	public final static long RANDOM_SEED = 11350294L;
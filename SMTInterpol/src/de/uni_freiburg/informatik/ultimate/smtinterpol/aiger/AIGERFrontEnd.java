@@ -404,6 +404,11 @@ public class AIGERFrontEnd implements IParser {
 		}
 		mFilename = filename;
 		mSolver.setOption(":produce-models", Boolean.TRUE);
+		try {
+			mSolver.setOption(":preprocessing", Boolean.TRUE);
+		} catch (final UnsupportedOperationException ignored) {
+			// The solver does not support preprocessing.
+		}
 		mSolver.setLogic(Logics.CORE);
 		parse();
 		final LBool isSat = mSolver.checkSat();
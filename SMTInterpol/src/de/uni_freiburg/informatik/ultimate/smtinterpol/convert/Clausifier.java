@@ -73,6 +73,7 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.atoms.EprAtom;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.atoms.EprGroundPredicateAtom;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.atoms.EprQuantifiedEqualityAtom;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.atoms.EprQuantifiedPredicateAtom;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.DifferenceLogicSolver;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.MutableAffineTerm;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.quant.QuantLiteral;
@@ -1282,11 +1283,14 @@ public class Clausifier {
 	private final DPLLEngine mEngine;
 	private CClosure mCClosure;
 	private LinArSolve mLASolver;
+	private DifferenceLogicSolver mDLSolver;
 	private ArrayTheory mArrayTheory;
 	private EprTheory mEprTheory;
 	private QuantifierTheory mQuantTheory;
 
 	private boolean mIsEprEnabled;
+	private boolean mSimplexLUFactorization;
+	private boolean mDifferenceLogicSolver;
 
 	/**
 	 * Mapping from Boolean terms to information about clauses produced for these terms.
@@ -1860,11 +1864,19 @@ public class Clausifier {
 
 	private void setupLinArithmetic() {
 		if (mLASolver == null) {
-			mLASolver = new LinArSolve(mEngine);
+			mLASolver = new LinArSolve(mEngine, mSimplexLUFactorization);
 			mEngine.addTheory(mLASolver);
 		}
 	}
 
+	private void setupDifferenceLogic() {
+		if (mDLSolver == null) {
+			mDLSolver = new DifferenceLogicSolver(mEngine);
+			mEngine.addTheory(mDLSolver);
+			mLASolver.setDeferSimplex(true);
+		}
+	}
+
 	private void setupArrayTheory() {
 		if (mArrayTheory == null) {
 			mArrayTheory = new ArrayTheory(this, mCClosure);
@@ -1894,6 +1906,14 @@ public class Clausifier {
 		mIsEprEnabled = isEprEnabled;
 	}
 
+	public void setSimplexLUFactorization(final boolean luFactorization) {
+		mSimplexLUFactorization = luFactorization;
+	}
+
+	public void setDifferenceLogicSolver(final boolean differenceLogicSolver) {
+		mDifferenceLogicSolver = differenceLogicSolver;
+	}
+
 	public void setLogic(final Logics logic) {
 		if (logic.isUF() || logic.isArray() || logic.isArithmetic()) {
 			// also need UF for div/mod
@@ -1902,6 +1922,9 @@ public class Clausifier {
 		if (logic.isArithmetic()) {
 			setupLinArithmetic();
 		}
+		if (mDifferenceLogicSolver && logic.isDifferenceLogic() && !logic.isUF() && !logic.isQuantified()) {
+			setupDifferenceLogic();
+		}
 		if (logic.isArray()) {
 			setupArrayTheory();
 		}
@@ -2153,6 +2176,9 @@ public class Clausifier {
 		final MutableAffineTerm msum = createMutableAffinTerm(sum, source);
 		lit = mLASolver.generateConstraint(msum, false);
 		assert lit instanceof Literal;
+		if (mDLSolver != null) {
+			mDLSolver.addAtom((Literal) lit);
+		}
 		mLiteralData.put(leq0term, lit);
 		mUndoTrail = new RemoveAtom(mUndoTrail, leq0term);
 		return (Literal) lit;
@@ -2201,6 +2227,17 @@ public class Clausifier {
 		return lit;
 	}
 
+	/**
+	 * Get the literal for a Boolean base term that was already converted.
+	 *
+	 * @param term
+	 *            the base term.
+	 * @return the literal or null if the term was not converted.
+	 */
+	public ILiteral getBaseLiteral(final Term term) {
+		return mLiteralData.get(term);
+	}
+
 	public IProofTracker getTracker() {
 		return mTracker;
 	}
@@ -18,12 +18,15 @@
  */
 package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
 
-import java.util.AbstractQueue;
 import java.util.Iterator;
 
 import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
 
-public class AtomQueue extends AbstractQueue<DPLLAtom> {
+/**
+ * The queue of undecided atoms for the VSIDS heuristic.  The atoms are kept in
+ * a binary heap ordered by their activity.
+ */
+public class AtomQueue extends DecisionQueue {
 	DPLLAtom[] mAtoms;
 	int mSize;
 
@@ -32,6 +35,37 @@ public class AtomQueue extends AbstractQueue<DPLLAtom> {
 		mSize = 0;
 	}
 
+	@Override
+	public Heuristic getHeuristic() {
+		return Heuristic.VSIDS;
+	}
+
+	@Override
+	void bumpActivity(DPLLAtom atom, double increment) {
+		mNumBumps++;
+		if (atom.mAtomQueueIndex == -1) {
+			atom.mActivity += increment;
+		} else {
+			remove(atom);
+			atom.mActivity += increment;
+			offer(atom);
+		}
+	}
+
+	@Override
+	boolean prefers(DPLLAtom first, DPLLAtom second) {
+		return first.mActivity > second.mActivity;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < mSize; i++) {
+			mAtoms[i].mAtomQueueIndex = -1;
+			mAtoms[i] = null;
+		}
+		mSize = 0;
+	}
+
 	@Override
 	public Iterator<DPLLAtom> iterator() {
 		return new Iterator<DPLLAtom>() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * The queue of undecided atoms for the conflict history based branching
+ * heuristic.  The activity of an atom is an exponential moving average of the
+ * rewards it received.  An atom receives a reward when it is unassigned; the
+ * reward is higher the more recently the atom was involved in a conflict.
+ * The atom's queue stamp stores the number of the last conflict it was
+ * involved in.
+ *
+ * Since the activity of an atom only changes while it is not in the queue,
+ * the atoms can be kept in the same binary heap as for VSIDS.
+ */
+public class CHBQueue extends AtomQueue {
+	/**
+	 * The number of conflicts seen so far.
+	 */
+	private long mNumConflicts;
+	/**
+	 * The step size of the moving average.
+	 */
+	private double mAlpha = Config.CHB_ALPHA_START;
+	private long mNumRewards;
+
+	@Override
+	public Heuristic getHeuristic() {
+		return Heuristic.CHB;
+	}
+
+	@Override
+	void conflict() {
+		mNumConflicts++;
+		if (mAlpha > Config.CHB_ALPHA_MIN) {
+			mAlpha -= Config.CHB_ALPHA_DECAY;
+		}
+	}
+
+	@Override
+	void bumpActivity(DPLLAtom atom, double increment) {
+		mNumBumps++;
+		atom.mQueueStamp = mNumConflicts;
+	}
+
+	@Override
+	public boolean offer(DPLLAtom atom) {
+		if (atom.mAtomQueueIndex != -1) {
+			return false;
+		}
+		final double reward = 1.0 / (mNumConflicts - atom.mQueueStamp + 1);
+		atom.mActivity += mAlpha * (reward - atom.mActivity);
+		mNumRewards++;
+		return super.offer(atom);
+	}
+
+	@Override
+	public Object getStatistics() {
+		return new Object[][] { { "Heuristic", getHeuristic().name() }, { "Bumps", mNumBumps },
+				{ "Rewards", mNumRewards }, { "Alpha", mAlpha } };
+	}
+}
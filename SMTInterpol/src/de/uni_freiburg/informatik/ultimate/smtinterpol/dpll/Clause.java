@@ -161,6 +161,35 @@ public class Clause extends SimpleListable<Clause> {
 		}
 	}
 
+	/**
+	 * An array backed list of watchers used by the blocker watch list mode.
+	 * Each entry consists of a blocker literal and the clause that is watched.
+	 * Both are stored next to each other in a single array so that a
+	 * watcher whose blocker is already true can be skipped without loading
+	 * the clause.  The blocker is some other literal of the clause; the
+	 * watched literal itself is the one owning this list.
+	 */
+	final static class WatchArray {
+		Object[] mEntries = new Object[4];
+		int mSize;
+
+		public boolean isEmpty() {
+			return mSize == 0;
+		}
+
+		public int size() {
+			return mSize >> 1;
+		}
+
+		public void add(Clause c, Literal blocker) {
+			if (mSize == mEntries.length) {
+				mEntries = Arrays.copyOf(mEntries, 2 * mSize);
+			}
+			mEntries[mSize++] = blocker;
+			mEntries[mSize++] = c;
+		}
+	}
+
 	/**
 	 * The activity of a clause. Infinity for clauses that are not inferred. If
 	 * the activity drops below some point the clause is removed.
@@ -171,6 +200,36 @@ public class Clause extends SimpleListable<Clause> {
 	 */
 	final int mStacklevel;
 
+	/**
+	 * Tier of learned clauses that are kept forever.
+	 */
+	static final int TIER_CORE = 0;
+	/**
+	 * Tier of learned clauses that are kept as long as they are used.
+	 */
+	static final int TIER_TWO = 1;
+	/**
+	 * Tier of learned clauses that are reduced periodically.
+	 */
+	static final int TIER_LOCAL = 2;
+
+	/**
+	 * The literal block distance (glue) of a learned clause, i.e., the number
+	 * of different decision levels of its literals.  It is computed when the
+	 * clause is learned and updated when the clause is used in a conflict.
+	 * This is 0 for input clauses.
+	 */
+	int mLBD;
+	/**
+	 * The tier of a learned clause in the clause database.
+	 */
+	int mTier;
+	/**
+	 * True, if the learned clause was used in a conflict since the last
+	 * reduction of the clause database.
+	 */
+	boolean mUsed;
+
 	/**
 	 * Proof annotation
 	 */
@@ -186,6 +245,14 @@ public class Clause extends SimpleListable<Clause> {
 		return mLiterals[i];
 	}
 
+	/**
+	 * Get the literal block distance of a learned clause.
+	 * @return the literal block distance or 0 for input clauses.
+	 */
+	public int getLBD() {
+		return mLBD;
+	}
+
 	public Clause(Literal[] literals) {
 		mLiterals = literals;
 		mStacklevel = computeStackLevel();
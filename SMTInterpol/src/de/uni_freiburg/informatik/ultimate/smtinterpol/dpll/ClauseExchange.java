@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+
+/**
+ * An exchange of learned clauses between DPLL engines that run in different threads on the same assertions and share
+ * a theory.
+ *
+ * Only clauses over Boolean variables are shared, since their atoms are identified by the same term in every engine.
+ * The clauses are kept in a lock-free singly linked list. Every engine connects a port that remembers the last clause
+ * it has read. New clauses are appended by a compare and set on the next pointer of the last entry. Entries that were
+ * read by all ports are garbage collected.
+ *
+ * The clauses are only valid as long as all connected engines have the same assertions. The engines must leave the
+ * exchange when assertions are removed.
+ */
+public class ClauseExchange {
+
+	/**
+	 * A shared clause. The literals are given by their atom term and their polarity.
+	 */
+	private static final class Entry {
+		final Port mSource;
+		final Term[] mAtoms;
+		final boolean[] mNegated;
+		final int mLBD;
+		final AtomicReference<Entry> mNext = new AtomicReference<>();
+
+		Entry(final Port source, final Term[] atoms, final boolean[] negated, final int lbd) {
+			mSource = source;
+			mAtoms = atoms;
+			mNegated = negated;
+			mLBD = lbd;
+		}
+	}
+
+	/**
+	 * A hint to the last entry in the list. It may lag behind the real last entry.
+	 */
+	private final AtomicReference<Entry> mTail = new AtomicReference<>(new Entry(null, null, null, 0));
+
+	/**
+	 * Connect an engine to this exchange. The port only reads the clauses exported after it was created.
+	 *
+	 * @param atoms
+	 *            maps the term of a Boolean variable to the literal of the connecting engine, or to null if the
+	 *            engine does not know the variable.
+	 * @return the port to export and import clauses.
+	 */
+	public Port connect(final Function<Term, ILiteral> atoms) {
+		return new Port(atoms);
+	}
+
+	private void append(final Entry entry) {
+		while (true) {
+			final Entry tail = mTail.get();
+			final Entry next = tail.mNext.get();
+			if (next != null) {
+				// another thread appended an entry but did not yet move the tail.
+				mTail.compareAndSet(tail, next);
+			} else if (tail.mNext.compareAndSet(null, entry)) {
+				mTail.compareAndSet(tail, entry);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * The connection of a single engine to the exchange. A port must only be used by the thread running its engine.
+	 */
+	public final class Port {
+		private final Function<Term, ILiteral> mAtoms;
+		private Entry mLast;
+		int mNumExported, mNumImported;
+
+		Port(final Function<Term, ILiteral> atoms) {
+			mAtoms = atoms;
+			mLast = mTail.get();
+		}
+
+		/**
+		 * Export a learned clause to the other engines.
+		 *
+		 * @param lits
+		 *            the literals of the clause.
+		 * @param lbd
+		 *            the literal block distance of the clause.
+		 * @return false if the clause contains an atom that is not a Boolean variable and was not exported.
+		 */
+		boolean export(final Literal[] lits, final int lbd) {
+			final Term[] atoms = new Term[lits.length];
+			final boolean[] negated = new boolean[lits.length];
+			for (int i = 0; i < lits.length; i++) {
+				final DPLLAtom atom = lits[i].getAtom();
+				if (!(atom instanceof BooleanVarAtom)) {
+					return false;
+				}
+				atoms[i] = ((BooleanVarAtom) atom).mVariable;
+				negated[i] = lits[i] != atom;
+			}
+			append(new Entry(this, atoms, negated, lbd));
+			mNumExported++;
+			return true;
+		}
+
+		/**
+		 * Check if other engines exported clauses that this port did not read yet.
+		 */
+		boolean hasNewClauses() {
+			for (Entry entry = mLast.mNext.get(); entry != null; entry = entry.mNext.get()) {
+				if (entry.mSource != this) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Read the clauses exported by the other engines since the last call. Clauses containing a variable unknown
+		 * to this engine are skipped.
+		 *
+		 * @param lbds
+		 *            the list where the literal block distances of the imported clauses are stored.
+		 * @return the imported clauses in terms of the literals of this engine.
+		 */
+		List<Literal[]> importClauses(final List<Integer> lbds) {
+			final ArrayList<Literal[]> clauses = new ArrayList<>();
+			Entry entry = mLast.mNext.get();
+			entryloop: while (entry != null) {
+				mLast = entry;
+				entry = entry.mNext.get();
+				if (mLast.mSource == this) {
+					continue;
+				}
+				final Literal[] lits = new Literal[mLast.mAtoms.length];
+				for (int i = 0; i < lits.length; i++) {
+					final ILiteral ilit = mAtoms.apply(mLast.mAtoms[i]);
+					if (!(ilit instanceof BooleanVarAtom)) {
+						continue entryloop;
+					}
+					final BooleanVarAtom atom = (BooleanVarAtom) ilit;
+					lits[i] = mLast.mNegated[i] ? atom.negate() : atom;
+				}
+				clauses.add(lits);
+				lbds.add(mLast.mLBD);
+				mNumImported++;
+			}
+			return clauses;
+		}
+	}
+}
@@ -18,6 +18,8 @@
  */
 package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
 
+import java.util.ArrayList;
+
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Theory;
 
@@ -63,10 +65,42 @@ public abstract class DPLLAtom extends Literal {
 	int mStackPosition = -1;
 	Literal mDecideStatus;
 	Literal mLastStatus;
+	/**
+	 * The status of this atom in the longest conflict-free trail since the
+	 * last restart, or null if the atom was not part of it.
+	 */
+	Literal mTargetStatus;
+	/**
+	 * The status of this atom in the longest conflict-free trail since the
+	 * last rephasing, or null if the atom was not part of it.
+	 */
+	Literal mBestStatus;
 	double  mActivity;
 	public Object  mExplanation;
 	Clause.WatchList mBacktrackWatchers = new Clause.WatchList();
 	int mAtomQueueIndex = -1;
+	/**
+	 * The links of the list used by the VMTF decision queue.
+	 */
+	DPLLAtom mQueuePrev, mQueueNext;
+	/**
+	 * The stamp of the decision queue.  This is the move-to-front stamp for
+	 * VMTF and the number of the last conflict the atom was involved in for
+	 * CHB.
+	 */
+	long mQueueStamp;
+	/**
+	 * The mark of this atom in the conflict analysis.  The lower bits hold
+	 * the mark and the upper bits the stamp of the conflict analysis that set
+	 * it.  It also marks the literals of the subsuming clause during
+	 * inprocessing.
+	 */
+	int mAnalysisMark;
+	/**
+	 * The learned clauses containing this atom during the subsumption of
+	 * learned clauses, or null outside of it.
+	 */
+	ArrayList<Clause> mOccurrences;
 	final int mAssertionstacklevel;
 
 	public DPLLAtom(int hash, int assertionstacklevel) {
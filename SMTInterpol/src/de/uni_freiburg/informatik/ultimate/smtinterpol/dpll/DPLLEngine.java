@@ -21,6 +21,7 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
 import java.io.PrintWriter;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -29,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import de.uni_freiburg.informatik.ultimate.logic.Assignments;
 import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
@@ -43,7 +45,6 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ProofNode;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ResolutionNode;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ResolutionNode.Antecedent;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.TerminationRequest;
-import de.uni_freiburg.informatik.ultimate.smtinterpol.util.CuckooHashSet;
 import de.uni_freiburg.informatik.ultimate.util.datastructures.ScopedHashMap;
 
 /**
@@ -95,7 +96,7 @@ public class DPLLEngine {
 	private Set<Literal> mAssumptionLiterals = new LinkedHashSet<>();
 
 	/* Statistics */
-	private int mConflicts, mDecides, mTProps, mProps;
+	private int mConflicts, mDecides, mTProps, mProps, mBinaryProps;
 	private int mNumSolvedAtoms, mNumClauses, mNumAxiomClauses;
 	SimpleList<Clause> mLearnedClauses = new SimpleList<Clause>();
 	private long mPropTime, mPropClauseTime, mExplainTime;
@@ -114,13 +115,151 @@ public class DPLLEngine {
 	WatchList mWatcherSetList = new WatchList();
 	WatchList mWatcherBackList = new WatchList();
 
+	/**
+	 * True, if clauses are watched by the array backed watch lists with blocker literals instead of the linked watch
+	 * lists.
+	 */
+	private boolean mBlockerWatchLists = false;
+	/**
+	 * The literals that were set to true, but whose negations' watch arrays were not yet visited. Only used in the
+	 * blocker watch list mode.
+	 */
+	private final ArrayDeque<Literal> mPendingWatchLits = new ArrayDeque<Literal>();
+	/**
+	 * True, if binary clauses are kept in the binary implication store of the literals instead of the watch lists.
+	 */
+	private boolean mBinaryImplications = false;
+	/**
+	 * The literals that were set to true, but whose negations' binary implications were not yet propagated.
+	 */
+	private final ArrayDeque<Literal> mPendingBinaryLits = new ArrayDeque<Literal>();
+
+	/**
+	 * True, if learned clauses are managed by the tiered clause database, which is periodically reduced based on the
+	 * LBD and activity of the clauses. Otherwise learned clauses are only removed based on their activity.
+	 */
+	private boolean mTieredClauses = false;
+	/**
+	 * The number of conflicts after which the clause database is reduced the next time.
+	 */
+	private int mNextReduce = Config.REDUCE_INTERVAL;
+	private int mNumReductions, mNumReducedClauses;
+	/**
+	 * True, if the learned clauses are simplified at restarts.
+	 */
+	private boolean mInprocessing = false;
+	/**
+	 * The number of conflicts after which the next inprocessing round is done.
+	 */
+	private long mNextInprocess = Config.INPROCESS_INTERVAL;
+	private int mNumInprocessings, mNumSubsumed, mNumStrengthened, mNumVivified, mNumVivifiedLits;
+	/**
+	 * True, if the input clauses are simplified before the first check.
+	 */
+	private boolean mPreprocessing = false;
+	/**
+	 * The preprocessor that simplified the input clauses, or null if the input was not yet preprocessed.
+	 */
+	private Preprocessor mPreprocessor;
+	private int mNumProbes, mNumFailedLiterals;
+	/**
+	 * The policy that decides when to restart.
+	 */
+	private RestartPolicy mRestartPolicy = RestartPolicy.Strategy.LUBY.create();
+
+	/**
+	 * The phase that is used to decide an atom.
+	 */
+	public static enum PhaseMode {
+		/**
+		 * Use the last status of the atom (phase saving).
+		 */
+		SAVED,
+		/**
+		 * Use the status of the atom in the longest conflict-free trail since the last restart, if it was part of
+		 * this trail, and the saved phase otherwise.
+		 */
+		TARGET,
+		/**
+		 * Use the status of the atom in the longest conflict-free trail since the last rephasing, if it was part of
+		 * this trail, and the saved phase otherwise.
+		 */
+		BEST
+	}
+
+	private PhaseMode mPhaseMode = PhaseMode.SAVED;
+	/**
+	 * The number of conflicts between two rephasings. The interval grows linearly with the number of rephasings.
+	 * Rephasing is disabled if this is 0.
+	 */
+	private int mRephaseInterval = 0;
+	private long mNextRephase;
+	private int mNumRephases;
+	/**
+	 * The length of the longest conflict-free trail since the last restart, resp. the last rephasing.
+	 */
+	private int mTargetTrailSize, mBestTrailSize;
+	/**
+	 * Backtrack chronologically if the backjump after a conflict would skip more than this many decide levels. 0
+	 * disables chronological backtracking.
+	 */
+	private int mChronoBacktrackThreshold = 0;
+	private int mNumChronoBacktracks;
+	/**
+	 * The connection to the engines running in parallel on the same assertions, or null if clauses are not shared.
+	 */
+	private ClauseExchange.Port mClauseExchange;
+	/**
+	 * Stamps for the decision levels used to compute the LBD without allocation.
+	 */
+	private int[] mLevelStamps = new int[16];
+	private int mLevelStamp = 0;
+
+	/// Mark of an atom whose literal is in the learned clause.
+	private static final int MARK_CONFLICT = 1;
+	/// Mark of an atom whose literal is in the learned clause but implied by the other literals.
+	private static final int MARK_REMOVABLE = 2;
+	/// Mark of an atom whose literal is implied by the learned clause.
+	private static final int MARK_REDUNDANT = 3;
+	/// Mark of an atom whose literal is not implied by the learned clause.
+	private static final int MARK_FAILED = 4;
+	/// Mark of an atom whose literal is resolved away with its level 0 explanation.
+	private static final int MARK_LEVEL0 = 5;
+	/// Mark of an atom that occurs positively in the subsuming clause.
+	private static final int MARK_POSITIVE = 6;
+	/// Mark of an atom that occurs negated in the subsuming clause.
+	private static final int MARK_NEGATIVE = 7;
+	/// The bits of {@link DPLLAtom#mAnalysisMark} that hold the mark; the other bits hold the stamp.
+	private static final int MARK_MASK = 7;
+	/**
+	 * The stamp of the current conflict analysis. Marks of atoms with a different stamp are outdated.
+	 */
+	private int mAnalysisStamp = 0;
+	/**
+	 * The negated literals of the learned clause in the current conflict analysis. This may also contain literals
+	 * that were removed afterwards; only those whose atom is marked as conflict or removable are in the clause.
+	 */
+	private final ArrayList<Literal> mAnalysisLiterals = new ArrayList<Literal>();
+	/**
+	 * The literals that are resolved with their level 0 explanation in the current conflict analysis.
+	 */
+	private final ArrayList<Literal> mAnalysisLevel0 = new ArrayList<Literal>();
+	/**
+	 * The search stack for the minimization of the learned clause.
+	 */
+	private final ArrayList<Literal> mAnalysisStack = new ArrayList<Literal>();
+	/**
+	 * The antecedents of the learned clause if proofs are enabled.
+	 */
+	private final ArrayList<Antecedent> mAnalysisAntecedents = new ArrayList<Antecedent>();
+
 	ArrayList<Literal> mDecideStack = new ArrayList<Literal>();
 
 	/**
 	 * The list of all theories.
 	 */
 	private ITheory[] mTheories = new ITheory[0];
-	private final AtomQueue mAtoms = new AtomQueue();
+	private DecisionQueue mAtoms = new AtomQueue();
 
 	private int mCurrentDecideLevel = 0;
 	private int mBaseLevel = 0;
@@ -174,6 +313,12 @@ public class DPLLEngine {
 		atom.mDecideStatus = lit;
 		atom.mLastStatus = atom.mDecideStatus;
 		atom.mExplanation = t;
+		if (mBlockerWatchLists) {
+			mPendingWatchLits.add(lit);
+		}
+		if (mBinaryImplications) {
+			mPendingBinaryLits.add(lit);
+		}
 		if (decideLevel <= mBaseLevel) {
 			/* This atom is now decided once and for all. */
 			mNumSolvedAtoms++;
@@ -212,6 +357,12 @@ public class DPLLEngine {
 		atom.mDecideStatus = lit;
 		atom.mLastStatus = atom.mDecideStatus;
 		atom.mExplanation = t;
+		if (mBlockerWatchLists) {
+			mPendingWatchLits.add(lit);
+		}
+		if (mBinaryImplications) {
+			mPendingBinaryLits.add(lit);
+		}
 		if (level <= mBaseLevel) {
 			/* This atom is now decided once and for all. */
 			mNumSolvedAtoms++;
@@ -303,6 +454,16 @@ public class DPLLEngine {
 	}
 
 	private Clause propagateClauses() {
+		final int level = mDecideStack.size();
+		if (mBinaryImplications) {
+			final Clause conflict = propagateBinaryClauses();
+			if (conflict != null || mDecideStack.size() > level) {
+				return conflict;
+			}
+		}
+		if (mBlockerWatchLists) {
+			return propagateBlockerClauses();
+		}
 		long time = 0;
 		if (Config.PROFILE_TIME) {
 			time = System.nanoTime() - mSetTime;
@@ -316,6 +477,16 @@ public class DPLLEngine {
 				continue;
 			}
 			final Literal[] lits = clause.mLiterals;
+			if (mBinaryImplications && lits.length == 2) {
+				clause = addBinaryClause(clause);
+				if (clause != null || mDecideStack.size() > level) {
+					if (Config.PROFILE_TIME) {
+						mPropClauseTime += System.nanoTime() - time - mSetTime;
+					}
+					return clause;
+				}
+				continue;
+			}
 			final Literal myLit = lits[index];
 			final Literal status = myLit.getAtom().mDecideStatus;
 			/* Special case unit clause: propagate or return as conflict clause */
@@ -366,8 +537,8 @@ public class DPLLEngine {
 				final Literal status = atom.mDecideStatus;
 				if (status != lit.negate()) {
 					/* check if clause is too old to keep */
-					if (clause.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY && status == null
-							&& clause.doCleanup(this)) {
+					if (!mTieredClauses && clause.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY
+							&& status == null && clause.doCleanup(this)) {
 						clause.removeFromList();
 					} else {
 						/* watch this literal */
@@ -408,6 +579,350 @@ public class DPLLEngine {
 		return null;
 	}
 
+	/**
+	 * Propagate unit clauses in the blocker watch list mode. Newly watched clauses are taken from the back list, then
+	 * the pending watchers on the set list are visited, and finally the watch arrays of the literals that became false
+	 * are traversed. This returns early, if some literal was propagated, to give the theories a chance to propagate.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause propagateBlockerClauses() {
+		long time = 0;
+		if (Config.PROFILE_TIME) {
+			time = System.nanoTime() - mSetTime;
+		}
+		Clause conflict = null;
+		final int level = mDecideStack.size();
+		while (conflict == null && !mWatcherBackList.isEmpty()) {
+			final int index = mWatcherBackList.mHeadIndex;
+			final Clause clause = mWatcherBackList.removeFirst();
+			/* check if clause was already removed */
+			if (clause.mNext == null) {
+				continue;
+			}
+			final Literal[] lits = clause.mLiterals;
+			if (mBinaryImplications && lits.length == 2) {
+				conflict = addBinaryClause(clause);
+				continue;
+			}
+			final Literal myLit = lits[index];
+			final Literal status = myLit.getAtom().mDecideStatus;
+			if (lits.length == 1) {
+				/* Special case unit clause: propagate or return as conflict clause */
+				myLit.getAtom().mBacktrackWatchers.append(clause, index);
+				if (status == null) {
+					myLit.getAtom().mExplanation = clause;
+					mProps++;
+					conflict = setLiteral(myLit);
+				} else if (status != myLit) {
+					conflict = clause;
+				}
+			} else if (status == myLit.negate()) {
+				mWatcherSetList.append(clause, index);
+			} else {
+				addWatcher(myLit, clause, lits[1 - index]);
+			}
+		}
+		while (conflict == null && !mWatcherSetList.isEmpty()) {
+			final int index = mWatcherSetList.getIndex();
+			final Clause clause = mWatcherSetList.removeFirst();
+			/* check if clause was already removed */
+			if (clause.mNext == null) {
+				continue;
+			}
+			conflict = visitWatcher(clause, index);
+		}
+		while (conflict == null && mDecideStack.size() == level && !mPendingWatchLits.isEmpty()) {
+			final Literal lit = mPendingWatchLits.poll();
+			/* skip literals that were backtracked in the meantime */
+			if (lit.getAtom().mDecideStatus == lit) {
+				conflict = propagateWatchArray(lit.negate());
+				if (conflict != null) {
+					/* the remaining watchers need to be visited if the literal survives the backtracking */
+					mPendingWatchLits.addFirst(lit);
+				}
+			}
+		}
+		if (Config.PROFILE_TIME) {
+			mPropClauseTime += System.nanoTime() - time - mSetTime;
+		}
+		return conflict;
+	}
+
+	/**
+	 * Propagate the binary implications of all literals that were set since the last call until a fixpoint is
+	 * reached.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause propagateBinaryClauses() {
+		long time = 0;
+		if (Config.PROFILE_TIME) {
+			time = System.nanoTime() - mSetTime;
+		}
+		Clause conflict = null;
+		while (conflict == null && !mPendingBinaryLits.isEmpty()) {
+			final Literal lit = mPendingBinaryLits.poll();
+			/* skip literals that were backtracked in the meantime */
+			if (lit.getAtom().mDecideStatus != lit) {
+				continue;
+			}
+			final Clause.WatchArray implications = lit.negate().mBinaryImplications;
+			if (implications == null) {
+				continue;
+			}
+			final Object[] entries = implications.mEntries;
+			for (int i = 0; i < implications.mSize; i += 2) {
+				final Literal implied = (Literal) entries[i];
+				final Literal status = implied.mAtom.mDecideStatus;
+				if (status == implied) {
+					continue;
+				}
+				final Clause clause = (Clause) entries[i + 1];
+				assert clause.mNext != null : "Removed binary clause not purged";
+				if (status == null) {
+					implied.mAtom.mExplanation = clause;
+					mProps++;
+					mBinaryProps++;
+					conflict = setLiteral(implied);
+				} else {
+					conflict = clause;
+				}
+				if (conflict != null) {
+					/* the remaining implications are needed if the literal survives the backtracking */
+					mPendingBinaryLits.addFirst(lit);
+					break;
+				}
+			}
+		}
+		if (Config.PROFILE_TIME) {
+			mPropClauseTime += System.nanoTime() - time - mSetTime;
+		}
+		return conflict;
+	}
+
+	/**
+	 * Add a binary clause from the back list to the binary implication store of its literals. If one of the literals
+	 * is already false, the other literal is propagated.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause addBinaryClause(final Clause clause) {
+		assert clause.getSize() == 2;
+		final Literal lit0 = clause.mLiterals[0];
+		final Literal lit1 = clause.mLiterals[1];
+		addBinaryImplication(lit0, lit1, clause);
+		addBinaryImplication(lit1, lit0, clause);
+		final Literal status0 = lit0.getAtom().mDecideStatus;
+		final Literal status1 = lit1.getAtom().mDecideStatus;
+		if (status0 == lit0 || status1 == lit1 || (status0 == null && status1 == null)) {
+			return null;
+		}
+		if (status0 != null && status1 != null) {
+			return clause;
+		}
+		/* Propagate the unit clause. */
+		final Literal unit = status0 == null ? lit0 : lit1;
+		unit.getAtom().mExplanation = clause;
+		mProps++;
+		mBinaryProps++;
+		return setLiteral(unit);
+	}
+
+	private static void addBinaryImplication(final Literal lit, final Literal implied, final Clause clause) {
+		if (lit.mBinaryImplications == null) {
+			lit.mBinaryImplications = new Clause.WatchArray();
+		}
+		lit.mBinaryImplications.add(clause, implied);
+	}
+
+	private static void addWatcher(final Literal lit, final Clause clause, final Literal blocker) {
+		if (lit.mWatchArray == null) {
+			lit.mWatchArray = new Clause.WatchArray();
+		}
+		lit.mWatchArray.add(clause, blocker);
+	}
+
+	/**
+	 * Visit a watcher of a clause whose watched literal is false and that is not on the watch array of this literal.
+	 * The watcher is put on the watch array of some literal, or on the backtrack watchers of the true literal afterwards.
+	 *
+	 * @param clause
+	 *            the watched clause.
+	 * @param index
+	 *            the index of the watcher (0 or 1).
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause visitWatcher(final Clause clause, final int index) {
+		final Literal[] lits = clause.mLiterals;
+		assert lits[index].getAtom().mDecideStatus == lits[index].negate();
+		final Literal otherLit = lits[1 - index];
+		final DPLLAtom otherAtom = otherLit.getAtom();
+		if (otherAtom.mDecideStatus != otherLit) {
+			for (int i = 2; i < lits.length; i++) {
+				final Literal lit = lits[i];
+				final Literal status = lit.getAtom().mDecideStatus;
+				if (status != lit.negate()) {
+					for (int j = i; j > 2; j--) {
+						lits[j] = lits[j - 1];
+					}
+					lits[2] = lits[index];
+					lits[index] = lit;
+					addWatcher(lit, clause, otherLit);
+					return null;
+				}
+			}
+		}
+		Clause conflict = null;
+		if (otherAtom.mDecideStatus == null) {
+			/* Propagate the unit clause. */
+			otherAtom.mExplanation = clause;
+			mProps++;
+			conflict = setLiteral(otherLit);
+		} else if (otherAtom.mDecideStatus != otherLit) {
+			conflict = clause;
+		}
+		if (otherAtom.mDecideStatus == otherLit
+				&& otherAtom.mDecideLevel > lits[index].getAtom().mDecideLevel) {
+			/* The other watcher may be backtracked alone; watch the clause again when this happens. */
+			otherAtom.mBacktrackWatchers.append(clause, index);
+		} else {
+			addWatcher(lits[index], clause, otherLit);
+		}
+		return conflict;
+	}
+
+	/**
+	 * Visit the watch array of a literal that was set to false. Watchers whose blocker is true are skipped without
+	 * looking at the clause. For the other watchers we search a new literal to watch, or propagate the other watched
+	 * literal. Watchers stay on this array if no new literal was found.
+	 *
+	 * @param falseLit
+	 *            the literal that became false.
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause propagateWatchArray(final Literal falseLit) {
+		final Clause.WatchArray watchers = falseLit.mWatchArray;
+		if (watchers == null) {
+			return null;
+		}
+		final Object[] entries = watchers.mEntries;
+		final int size = watchers.mSize;
+		final int falseLevel = falseLit.mAtom.mDecideLevel;
+		Clause conflict = null;
+		int dest = 0;
+		int src = 0;
+		nextWatcher: while (src < size) {
+			final Literal blocker = (Literal) entries[src];
+			final Clause clause = (Clause) entries[src + 1];
+			src += 2;
+			if (blocker.mAtom.mDecideStatus == blocker && blocker.mAtom.mDecideLevel <= falseLevel) {
+				/* Clause is satisfied; keep the watcher without touching the clause. */
+				entries[dest++] = blocker;
+				entries[dest++] = clause;
+				continue;
+			}
+			/* check if clause was already removed */
+			if (clause.mNext == null) {
+				continue;
+			}
+			final Literal[] lits = clause.mLiterals;
+			final int index = lits[0] == falseLit ? 0 : 1;
+			assert lits[index] == falseLit;
+			final Literal otherLit = lits[1 - index];
+			final DPLLAtom otherAtom = otherLit.mAtom;
+			if (otherAtom.mDecideStatus != otherLit) {
+				for (int i = 2; i < lits.length; i++) {
+					final Literal lit = lits[i];
+					final Literal status = lit.mAtom.mDecideStatus;
+					if (status != lit.negate()) {
+						/* check if clause is too old to keep */
+						if (!mTieredClauses && clause.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY
+								&& status == null && clause.doCleanup(this)) {
+							clause.removeFromList();
+						} else {
+							/* watch this literal */
+							for (int j = i; j > 2; j--) {
+								lits[j] = lits[j - 1];
+							}
+							lits[2] = falseLit;
+							lits[index] = lit;
+							addWatcher(lit, clause, otherLit);
+						}
+						continue nextWatcher;
+					}
+				}
+			}
+			/* Clause is satisfied, unit, or a conflict. */
+			if (otherAtom.mDecideStatus == null) {
+				/* Propagate the unit clause. */
+				otherAtom.mExplanation = clause;
+				mProps++;
+				conflict = setLiteral(otherLit);
+			} else if (otherAtom.mDecideStatus != otherLit) {
+				conflict = clause;
+			}
+			if (otherAtom.mDecideStatus == otherLit && otherAtom.mDecideLevel > falseLevel) {
+				/*
+				 * The other watcher is true on a higher level and may be backtracked without the false literal.
+				 * Put ourself on its backtrack watcher list to watch the clause again.
+				 */
+				otherAtom.mBacktrackWatchers.append(clause, index);
+			} else {
+				/* keep watching the false literal. */
+				entries[dest++] = otherLit;
+				entries[dest++] = clause;
+			}
+			if (conflict != null) {
+				break;
+			}
+		}
+		if (src < size) {
+			System.arraycopy(entries, src, entries, dest, size - src);
+			dest += size - src;
+		}
+		Arrays.fill(entries, dest, size, null);
+		watchers.mSize = dest;
+		return conflict;
+	}
+
+	/**
+	 * Remove the watchers of deleted clauses from all watch arrays and binary implication stores. Watchers of deleted
+	 * clauses are usually removed lazily during propagation, but this is not done if the blocker is true for a long
+	 * time. Binary implications are never removed lazily.
+	 */
+	private void purgeWatchArrays() {
+		for (final DPLLAtom atom : mAtoms) {
+			purgeWatchArrays(atom);
+			purgeWatchArrays(atom.negate());
+		}
+		for (final Literal lit : mDecideStack) {
+			purgeWatchArrays(lit);
+			purgeWatchArrays(lit.negate());
+		}
+	}
+
+	private static void purgeWatchArrays(final Literal lit) {
+		purgeWatchArray(lit.mWatchArray);
+		purgeWatchArray(lit.mBinaryImplications);
+	}
+
+	private static void purgeWatchArray(final Clause.WatchArray watchers) {
+		if (watchers == null) {
+			return;
+		}
+		final Object[] entries = watchers.mEntries;
+		int dest = 0;
+		for (int src = 0; src < watchers.mSize; src += 2) {
+			if (((Clause) entries[src + 1]).mNext != null) {
+				entries[dest++] = entries[src];
+				entries[dest++] = entries[src + 1];
+			}
+		}
+		Arrays.fill(entries, dest, watchers.mSize, null);
+		watchers.mSize = dest;
+	}
+
 	private boolean checkConflict(final Clause conflict) {
 		for (final Literal lit : conflict.mLiterals) {
 			final DPLLAtom a = lit.getAtom();
@@ -439,7 +954,14 @@ public class DPLLEngine {
 		atom.mLastStatus = atom.mDecideStatus;
 		mAtoms.remove(atom);
 		assert !Config.EXPENSIVE_ASSERTS || checkDecideLevel();
-		mWatcherSetList.moveAll(literal.negate().mWatchers);
+		if (mBlockerWatchLists) {
+			mPendingWatchLits.add(literal);
+		} else {
+			mWatcherSetList.moveAll(literal.negate().mWatchers);
+		}
+		if (mBinaryImplications) {
+			mPendingBinaryLits.add(literal);
+		}
 		long time;
 		if (Config.PROFILE_TIME) {
 			time = System.nanoTime();
@@ -464,6 +986,11 @@ public class DPLLEngine {
 	}
 
 	public void watchClause(final Clause clause) {
+		if (mBinaryImplications && clause.getSize() == 2) {
+			/* binary clauses are moved to the implication store when the back list is processed */
+			mWatcherBackList.append(clause, 0);
+			return;
+		}
 		if (clause.getSize() <= 1) {
 			if (clause.getSize() == 0) {
 				if (mUnsatClause == null) {
@@ -502,9 +1029,21 @@ public class DPLLEngine {
 						return;
 					} else {
 						assert dest == 1;
-						// We found a unit clause
-						/* propagate unit clause: only register watcher zero. */
+						// We found a clause that is unit under the assumptions. Watch the assumption literal on
+						// the highest decide level as second literal. Since it is false, the clause is visited on
+						// the set list, which propagates the first literal.
+						int best = 1;
+						for (int i = 2; i < clause.getSize(); ++i) {
+							if (clause.getLiteral(i).getAtom().mDecideLevel > clause.getLiteral(best).getAtom()
+									.mDecideLevel) {
+								best = i;
+							}
+						}
+						final Literal tmp = clause.mLiterals[best];
+						clause.mLiterals[best] = clause.mLiterals[1];
+						clause.mLiterals[1] = tmp;
 						mWatcherBackList.append(clause, 0);
+						mWatcherBackList.append(clause, 1);
 						return;
 					}
 				} else {
@@ -520,6 +1059,9 @@ public class DPLLEngine {
 	}
 
 	public void addClause(final Clause clause) {
+		if (mPreprocessor != null) {
+			mPreprocessor.checkLiterals(clause.mLiterals);
+		}
 		mAtomScale += 1.0 - 1.0 / Config.ATOM_ACTIVITY_FACTOR;
 		clause.mActivity = Double.POSITIVE_INFINITY;
 		mNumAxiomClauses++;
@@ -532,6 +1074,35 @@ public class DPLLEngine {
 		c.removeFromList();
 	}
 
+	/**
+	 * Add an input clause that was removed by the preprocessor. The clause may live on a lower stack level than the
+	 * current one, so it is appended to the input clauses.
+	 */
+	void restoreClause(final Clause clause) {
+		clause.mActivity = Double.POSITIVE_INFINITY;
+		mClauses.append(clause);
+		watchClause(clause);
+	}
+
+	/**
+	 * Remove an atom eliminated by the preprocessor from the decision queue.
+	 */
+	void eliminateAtom(final DPLLAtom atom) {
+		assert atom.mDecideStatus == null;
+		mAtoms.remove(atom);
+	}
+
+	/**
+	 * Add an atom eliminated by the preprocessor to the decision queue again.
+	 */
+	void restoreAtom(final DPLLAtom atom) {
+		// the mark may be older than the last wrap around of the analysis stamp.
+		atom.mAnalysisMark = 0;
+		if (atom.mDecideStatus == null) {
+			mAtoms.add(atom);
+		}
+	}
+
 	public void addFormulaClause(final Literal[] literals, final ProofNode proof) {
 		addFormulaClause(literals, proof, null);
 	}
@@ -554,10 +1125,602 @@ public class DPLLEngine {
 		if (clause.getSize() <= 2) {
 			clause.mActivity = Double.POSITIVE_INFINITY;
 		}
+		clause.mLBD = computeLBD(clause.mLiterals);
+		clause.mTier = clause.mLBD <= Config.LBD_CORE ? Clause.TIER_CORE
+				: clause.mLBD <= Config.LBD_TIER2 ? Clause.TIER_TWO : Clause.TIER_LOCAL;
 		mLearnedClauses.append(clause);
 		watchClause(clause);
 	}
 
+	/**
+	 * Compute the literal block distance of a clause, i.e., the number of different decision levels of its literals.
+	 * All undecided literals count as one additional level.
+	 *
+	 * @param lits
+	 *            the literals of the clause.
+	 * @return the literal block distance.
+	 */
+	private int computeLBD(final Literal[] lits) {
+		if (++mLevelStamp == Integer.MAX_VALUE) {
+			Arrays.fill(mLevelStamps, 0);
+			mLevelStamp = 1;
+		}
+		int lbd = 0;
+		boolean undecided = false;
+		for (final Literal lit : lits) {
+			final int level = lit.getAtom().mDecideLevel;
+			if (level < 0) {
+				undecided = true;
+				continue;
+			}
+			if (level >= mLevelStamps.length) {
+				mLevelStamps = Arrays.copyOf(mLevelStamps, Math.max(level + 1, 2 * mLevelStamps.length));
+			}
+			if (mLevelStamps[level] != mLevelStamp) {
+				mLevelStamps[level] = mLevelStamp;
+				lbd++;
+			}
+		}
+		return undecided ? lbd + 1 : lbd;
+	}
+
+	/**
+	 * Mark a learned clause used in a conflict and update its LBD. If the LBD decreased, the clause may move to a
+	 * higher tier.
+	 *
+	 * @param clause
+	 *            the clause used to explain a conflict.
+	 */
+	private void updateLBD(final Clause clause) {
+		clause.mUsed = true;
+		if (clause.mLBD > Config.LBD_CORE) {
+			final int lbd = computeLBD(clause.mLiterals);
+			if (lbd < clause.mLBD) {
+				clause.mLBD = lbd;
+				if (lbd <= Config.LBD_CORE) {
+					clause.mTier = Clause.TIER_CORE;
+				} else if (lbd <= Config.LBD_TIER2 && clause.mTier == Clause.TIER_LOCAL) {
+					clause.mTier = Clause.TIER_TWO;
+				}
+			}
+		}
+	}
+
+	private static boolean isReason(final Clause clause) {
+		for (final Literal lit : clause.mLiterals) {
+			if (lit.getAtom().mExplanation == clause) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reduce the tiered clause database. Core clauses are kept. Tier two clauses that were not used since the last
+	 * reduction are moved to the local tier. Half of the local clauses that were not used since the last reduction
+	 * are removed, preferring clauses with high LBD and, for equal LBD, low activity.
+	 */
+	void reduceClauseDatabase() {
+		mNumReductions++;
+		final ArrayList<Clause> candidates = new ArrayList<Clause>();
+		for (final Clause c : mLearnedClauses) {
+			if (c.mTier == Clause.TIER_CORE || c.getSize() <= 2) {
+				continue;
+			}
+			if (c.mTier == Clause.TIER_TWO) {
+				if (!c.mUsed) {
+					c.mTier = Clause.TIER_LOCAL;
+				}
+			} else if (!c.mUsed && !isReason(c)) {
+				candidates.add(c);
+			}
+			c.mUsed = false;
+		}
+		candidates.sort((c1, c2) -> c1.mLBD != c2.mLBD ? c2.mLBD - c1.mLBD
+				: Double.compare(c1.mActivity, c2.mActivity));
+		boolean removed = false;
+		for (int i = 0; i < candidates.size() / 2; i++) {
+			final Clause c = candidates.get(i);
+			if (c.doCleanup(this)) {
+				c.removeFromList();
+				mNumClauses--;
+				mNumReducedClauses++;
+				removed = true;
+			}
+		}
+		if (removed && mBlockerWatchLists) {
+			purgeWatchArrays();
+		}
+		mNextReduce = mConflicts + Config.REDUCE_INTERVAL + mNumReductions * Config.REDUCE_INCREMENT;
+		if (mLogger.isDebugEnabled()) {
+			mLogger.debug("Reduced clause database: removed %d of %d local clauses", candidates.size() / 2,
+					candidates.size());
+		}
+	}
+
+	/**
+	 * Simplify the learned clauses. This backtracks to the base level, removes learned clauses that are subsumed by
+	 * other learned clauses, strengthens learned clauses by self-subsuming resolution and vivifies the learned
+	 * clauses with the lowest LBD.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause inprocess() {
+		mNumInprocessings++;
+		mNextInprocess = mConflicts + Config.INPROCESS_INTERVAL;
+		backtrackToBaseLevel();
+		Clause conflict = finalizeBacktrack();
+		if (conflict != null) {
+			return conflict;
+		}
+		if (subsumeLearnedClauses() && (mBlockerWatchLists || mBinaryImplications)) {
+			purgeWatchArrays();
+		}
+		/*
+		 * Vivification does not produce proofs for the shortened clauses. It also needs that the base level only
+		 * contains literals derived from the input, but not assumptions.
+		 */
+		if (!isProofGenerationEnabled() && mBaseLevel == 0) {
+			final int vivified = mNumVivified;
+			conflict = vivifyLearnedClauses();
+			if (mNumVivified > vivified && (mBlockerWatchLists || mBinaryImplications)) {
+				purgeWatchArrays();
+			}
+		}
+		if (mLogger.isDebugEnabled()) {
+			mLogger.debug("Inprocessing: %d subsumed, %d strengthened, %d vivified", mNumSubsumed,
+					mNumStrengthened, mNumVivified);
+		}
+		return conflict;
+	}
+
+	/**
+	 * Learn the clauses exported by the engines running in parallel. This backtracks to the base level. The clauses
+	 * follow from the assertions of this engine but have no proof, so this must not be called if proofs are produced.
+	 * They live on the current stack level, since they may depend on all assertions.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause importSharedClauses() {
+		assert !isProofGenerationEnabled();
+		backtrackToBaseLevel();
+		final Clause conflict = finalizeBacktrack();
+		if (conflict != null) {
+			return conflict;
+		}
+		final ArrayList<Integer> lbds = new ArrayList<Integer>();
+		final List<Literal[]> clauses = mClauseExchange.importClauses(lbds);
+		for (int i = 0; i < clauses.size(); i++) {
+			final Literal[] lits = clauses.get(i);
+			if (mPreprocessor != null) {
+				mPreprocessor.checkLiterals(lits);
+			}
+			final Clause clause = new Clause(lits, mStacklevel);
+			learnClause(clause);
+			clause.mLBD = lbds.get(i);
+			clause.mTier = clause.mLBD <= Config.LBD_CORE ? Clause.TIER_CORE : Clause.TIER_TWO;
+		}
+		return null;
+	}
+
+	/**
+	 * Backtrack all literals above the base level.
+	 */
+	private void backtrackToBaseLevel() {
+		while (!mDecideStack.isEmpty()) {
+			final Literal top = mDecideStack.get(mDecideStack.size() - 1);
+			if (top.getAtom().mDecideLevel <= mBaseLevel) {
+				break;
+			}
+			mDecideStack.remove(mDecideStack.size() - 1);
+			backtrackLiteral(top);
+		}
+		while (mCurrentDecideLevel > mBaseLevel) {
+			decreaseDecideLevel();
+		}
+	}
+
+	/**
+	 * Replace a learned clause by a shorter clause that implies it. The new clause inherits the activity, LBD and
+	 * tier of the old clause.
+	 *
+	 * @param old
+	 *            the learned clause to replace.
+	 * @param lits
+	 *            the literals of the new clause.
+	 * @param proof
+	 *            the proof of the new clause or null if proofs are disabled.
+	 * @param stacklevel
+	 *            the stack level of the new clause.
+	 */
+	private void replaceLearnedClause(final Clause old, final Literal[] lits, final ProofNode proof,
+			final int stacklevel) {
+		final Clause clause = new Clause(lits, stacklevel);
+		if (proof != null) {
+			clause.setProof(proof);
+		}
+		clause.mActivity = lits.length <= 2 ? Double.POSITIVE_INFINITY : old.mActivity;
+		clause.mLBD = Math.min(old.mLBD, lits.length);
+		clause.mTier = clause.mLBD <= Config.LBD_CORE ? Clause.TIER_CORE : old.mTier;
+		clause.mUsed = old.mUsed;
+		old.removeFromList();
+		mLearnedClauses.append(clause);
+		watchClause(clause);
+	}
+
+	/**
+	 * Check if a learned clause can be removed or replaced. Clauses that are the reason of a literal and clauses whose
+	 * deletion hook vetoes the removal must be kept.
+	 */
+	private boolean isRemovable(final Clause clause) {
+		return clause.mNext != null && !isReason(clause) && clause.doCleanup(this);
+	}
+
+	/**
+	 * Remove learned clauses that are subsumed by other learned clauses and strengthen learned clauses by
+	 * self-subsuming resolution. A clause is only used to subsume or strengthen a clause that lives at least as long,
+	 * i.e., that has the same or a higher stack level.
+	 *
+	 * @return true if a clause was removed.
+	 */
+	private boolean subsumeLearnedClauses() {
+		final ArrayList<Clause> clauses = new ArrayList<Clause>();
+		final ArrayList<DPLLAtom> atoms = new ArrayList<DPLLAtom>();
+		for (final Clause c : mLearnedClauses) {
+			clauses.add(c);
+			for (final Literal lit : c.mLiterals) {
+				final DPLLAtom atom = lit.getAtom();
+				if (atom.mOccurrences == null) {
+					atom.mOccurrences = new ArrayList<Clause>();
+					atoms.add(atom);
+				}
+				atom.mOccurrences.add(c);
+			}
+		}
+		clauses.sort((c1, c2) -> c1.getSize() - c2.getSize());
+		boolean removed = false;
+		for (final Clause c : clauses) {
+			if (c.mNext == null) {
+				continue;
+			}
+			/* search the atom of c with the fewest occurrences */
+			DPLLAtom best = null;
+			for (final Literal lit : c.mLiterals) {
+				final DPLLAtom atom = lit.getAtom();
+				if (best == null || atom.mOccurrences.size() < best.mOccurrences.size()) {
+					best = atom;
+				}
+			}
+			if (best == null || best.mOccurrences.size() > Config.SUBSUME_MAX_OCCURRENCES) {
+				continue;
+			}
+			newAnalysisStamp();
+			for (final Literal lit : c.mLiterals) {
+				setMark(lit.getAtom(), lit.getSign() > 0 ? MARK_POSITIVE : MARK_NEGATIVE);
+			}
+			removed |= subsumeOccurrences(c, best.mOccurrences);
+		}
+		for (final DPLLAtom atom : atoms) {
+			atom.mOccurrences = null;
+		}
+		return removed;
+	}
+
+	/**
+	 * Check if a literal is marked as literal of the subsuming clause.
+	 */
+	private boolean isMarkedLiteral(final Literal lit) {
+		return getMark(lit.getAtom()) == (lit.getSign() > 0 ? MARK_POSITIVE : MARK_NEGATIVE);
+	}
+
+	/**
+	 * Subsume or strengthen the clauses in an occurrence list by a given clause.
+	 *
+	 * @param c
+	 *            the subsuming clause. Its literals are marked.
+	 * @param occ
+	 *            the clauses containing an atom of c.
+	 * @return true if a clause was removed.
+	 */
+	private boolean subsumeOccurrences(final Clause c, final ArrayList<Clause> occ) {
+		boolean removed = false;
+		for (final Clause d : occ) {
+			if (d == c || d.mNext == null || d.getSize() < c.getSize() || d.mStacklevel < c.mStacklevel) {
+				continue;
+			}
+			int found = 0;
+			Literal negated = null;
+			for (final Literal lit : d.mLiterals) {
+				if (isMarkedLiteral(lit)) {
+					found++;
+				} else if (isMarkedLiteral(lit.negate())) {
+					if (negated != null) {
+						negated = null;
+						found = -1;
+						break;
+					}
+					negated = lit;
+				}
+			}
+			if (negated == null && found == c.getSize()) {
+				/* c subsumes d */
+				if (isRemovable(d)) {
+					if (d.mTier < c.mTier) {
+						c.mTier = d.mTier;
+					}
+					d.removeFromList();
+					mNumClauses--;
+					mNumSubsumed++;
+					removed = true;
+				}
+			} else if (negated != null && found == c.getSize() - 1) {
+				/* resolving c and d on the negated literal gives d without the negated literal */
+				if (isRemovable(d)) {
+					final Literal[] lits = new Literal[d.getSize() - 1];
+					int i = 0;
+					for (final Literal lit : d.mLiterals) {
+						if (lit != negated) {
+							lits[i++] = lit;
+						}
+					}
+					ProofNode proof = null;
+					if (isProofGenerationEnabled()) {
+						proof = new ResolutionNode(d, new Antecedent[] { new Antecedent(negated.negate(), c) });
+					}
+					replaceLearnedClause(d, lits, proof, d.mStacklevel);
+					mNumStrengthened++;
+					removed = true;
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Vivify the learned clauses with the lowest LBD. For each clause the negations of its literals are decided one
+	 * after the other and propagated. If this leads to a conflict or makes another literal of the clause true, the
+	 * clause can be shortened to the literals decided so far. Literals that become false are removed. This must only
+	 * be called on the base level and without assumptions, since the shortened clauses are derived from all clauses
+	 * and theories.
+	 *
+	 * @return a conflict clause if a conflict was detected on the base level.
+	 */
+	private Clause vivifyLearnedClauses() {
+		final ArrayList<Clause> candidates = new ArrayList<Clause>();
+		for (final Clause c : mLearnedClauses) {
+			/* the shortened clause may depend on all clauses, so it must live on the current stack level */
+			if (c.mTier != Clause.TIER_LOCAL && c.getSize() > 2 && c.mStacklevel == mStacklevel) {
+				candidates.add(c);
+			}
+		}
+		candidates.sort((c1, c2) -> c1.mLBD - c2.mLBD);
+		final ArrayList<Literal> kept = new ArrayList<Literal>();
+		for (int n = 0; n < candidates.size() && n < Config.VIVIFY_CLAUSES; n++) {
+			final Clause c = candidates.get(n);
+			if (c.mNext == null || isReason(c)) {
+				continue;
+			}
+			kept.clear();
+			boolean shorten = false;
+			/* the propagation reorders the literals of c to move its watchers, so iterate over a copy */
+			for (final Literal lit : c.mLiterals.clone()) {
+				final Literal status = lit.getAtom().mDecideStatus;
+				if (status == lit) {
+					/*
+					 * The literal is implied by the negation of the kept literals. If it was propagated by c, the
+					 * remaining literals of c are false, so again they can be removed.
+					 */
+					kept.add(lit);
+					shorten = true;
+					break;
+				} else if (status == lit.negate()) {
+					shorten = true;
+					continue;
+				}
+				kept.add(lit);
+				increaseDecideLevel();
+				Clause conflict = setLiteral(lit.negate());
+				if (conflict == null) {
+					conflict = propagateBooleanClauses();
+				}
+				if (conflict != null) {
+					shorten = true;
+					break;
+				}
+			}
+			final boolean changed = shorten && kept.size() < c.getSize() && !kept.isEmpty();
+			backtrackToBaseLevel();
+			final Clause conflict = finalizeBacktrack();
+			if (changed && isRemovable(c)) {
+				mNumVivifiedLits += c.getSize() - kept.size();
+				mNumVivified++;
+				replaceLearnedClause(c, kept.toArray(new Literal[kept.size()]), null, c.mStacklevel);
+			}
+			if (conflict != null) {
+				return conflict;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Propagate the clauses until no more literals are propagated. Theories are not asked for propagations.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause propagateBooleanClauses() {
+		Clause conflict = null;
+		int size = -1;
+		while (conflict == null && size != mDecideStack.size()) {
+			size = mDecideStack.size();
+			conflict = propagateClauses();
+		}
+		return conflict;
+	}
+
+	/**
+	 * Simplify the input clauses before the first check. This probes atoms for failed literals and then runs the
+	 * preprocessor that substitutes equivalent literals, eliminates atoms and removes blocked clauses. Learned
+	 * clauses that contain eliminated atoms are removed. This must only be called on the bottom of the assertion
+	 * stack without assumptions.
+	 *
+	 * @return true if the formula is unsatisfiable.
+	 */
+	private boolean preprocess() {
+		final HashSet<DPLLAtom> frozen = new HashSet<DPLLAtom>();
+		if (mAssignments != null) {
+			for (final Literal lit : mAssignments.values()) {
+				frozen.add(lit.getAtom());
+			}
+		}
+		final Preprocessor preprocessor = new Preprocessor(this, frozen);
+		if (probeFailedLiterals(preprocessor)) {
+			return true;
+		}
+		preprocessor.simplify();
+		final Iterator<Clause> it = mLearnedClauses.iterator();
+		while (it.hasNext()) {
+			final Clause c = it.next();
+			for (final Literal lit : c.mLiterals) {
+				if (preprocessor.isEliminated(lit.getAtom())) {
+					it.remove();
+					mNumClauses--;
+					break;
+				}
+			}
+		}
+		if (mBlockerWatchLists || mBinaryImplications) {
+			purgeWatchArrays();
+			for (final DPLLAtom atom : preprocessor.getEliminatedAtoms()) {
+				purgeWatchArrays(atom);
+				purgeWatchArrays(atom.negate());
+			}
+		}
+		mPreprocessor = preprocessor;
+		if (mLogger.isDebugEnabled()) {
+			mLogger.debug("Preprocessing: %d failed literals, %s", mNumFailedLiterals,
+					Arrays.deepToString(preprocessor.getStatistics()));
+		}
+		return mUnsatClause != null;
+	}
+
+	/**
+	 * Probe atoms for failed literals. Each literal of an atom is decided and propagated. If this leads to a
+	 * conflict, the conflict is explained and the learned clause asserts the negated literal on the base level.
+	 *
+	 * @return true if the formula is unsatisfiable.
+	 */
+	private boolean probeFailedLiterals(final Preprocessor preprocessor) {
+		if (explain(propagateBooleanClauses())) {
+			return true;
+		}
+		final ArrayList<DPLLAtom> candidates = new ArrayList<DPLLAtom>();
+		for (final DPLLAtom atom : mAtoms) {
+			if (preprocessor.isEliminable(atom)) {
+				candidates.add(atom);
+			}
+		}
+		for (int n = 0; n < candidates.size() && n < Config.PREPROCESS_PROBES; n++) {
+			if (isTerminationRequested()) {
+				return false;
+			}
+			final DPLLAtom atom = candidates.get(n);
+			for (final Literal lit : new Literal[] { atom, atom.negate() }) {
+				if (atom.mDecideStatus != null) {
+					break;
+				}
+				mNumProbes++;
+				increaseDecideLevel();
+				Clause conflict = setLiteral(lit);
+				if (conflict == null) {
+					conflict = propagateBooleanClauses();
+				}
+				if (conflict != null) {
+					mNumFailedLiterals++;
+				} else {
+					backtrackToBaseLevel();
+					conflict = finalizeBacktrack();
+				}
+				if (explain(conflict) || explain(propagateBooleanClauses())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Choose atoms to split the search space for cube and conquer. Both literals of every candidate atom are decided
+	 * and the Boolean clauses are propagated. The atoms are ranked by the product of the number of literals propagated
+	 * by both literals, so balanced atoms with many propagations are preferred. If a literal fails, the learned clause
+	 * asserts its negation and the atom is not used for splitting. This backtracks to the base level.
+	 *
+	 * @param num
+	 *            the maximal number of atoms to choose.
+	 * @param usable
+	 *            decides which atoms can be used to split the search space.
+	 * @return the chosen atoms, best first, or null if the formula is unsatisfiable.
+	 */
+	public DPLLAtom[] lookahead(final int num, final Predicate<DPLLAtom> usable) {
+		if (mUnsatClause != null) {
+			return null;
+		}
+		backtrackToBaseLevel();
+		if (explain(finalizeBacktrack()) || explain(propagateBooleanClauses())) {
+			return null;
+		}
+		final ArrayList<DPLLAtom> candidates = new ArrayList<DPLLAtom>();
+		for (final DPLLAtom atom : mAtoms) {
+			if (usable.test(atom) && (mPreprocessor == null || !mPreprocessor.isEliminated(atom))) {
+				candidates.add(atom);
+			}
+		}
+		candidates.sort((a1, a2) -> Double.compare(a2.mActivity, a1.mActivity));
+		if (candidates.size() > Config.LOOKAHEAD_CANDIDATES) {
+			candidates.subList(Config.LOOKAHEAD_CANDIDATES, candidates.size()).clear();
+		}
+		final HashMap<DPLLAtom, Long> scores = new HashMap<DPLLAtom, Long>();
+		for (final DPLLAtom atom : candidates) {
+			if (isTerminationRequested()) {
+				break;
+			}
+			long score = 1;
+			for (final Literal lit : new Literal[] { atom, atom.negate() }) {
+				if (atom.mDecideStatus != null) {
+					score = -1;
+					break;
+				}
+				mNumProbes++;
+				final int size = mDecideStack.size();
+				increaseDecideLevel();
+				Clause conflict = setLiteral(lit);
+				if (conflict == null) {
+					conflict = propagateBooleanClauses();
+				}
+				if (conflict != null) {
+					mNumFailedLiterals++;
+					score = -1;
+				} else {
+					score *= mDecideStack.size() - size;
+					backtrackToBaseLevel();
+					conflict = finalizeBacktrack();
+				}
+				if (explain(conflict) || explain(propagateBooleanClauses())) {
+					return null;
+				}
+			}
+			if (score > 0 && atom.mDecideStatus == null) {
+				scores.put(atom, score);
+			}
+		}
+		final ArrayList<DPLLAtom> splits = new ArrayList<DPLLAtom>(scores.keySet());
+		splits.sort((a1, a2) -> Long.compare(scores.get(a2), scores.get(a1)));
+		if (splits.size() > num) {
+			splits.subList(num, splits.size()).clear();
+		}
+		return splits.toArray(new DPLLAtom[splits.size()]);
+	}
+
 	// public void addInstantiationClause(Literal[] lits) {
 	// ++num_insts;
 	// Clause clause = new Clause(lits);
@@ -583,13 +1746,71 @@ public class DPLLEngine {
 		return decision == mCurrentDecideLevel;
 	}
 
-	private int countLitsOnDecideLevel(final Set<Literal> conflict) {
+	/**
+	 * Start a new conflict analysis. This invalidates the marks of all atoms.
+	 */
+	private void newAnalysisStamp() {
+		mAnalysisStamp += MARK_MASK + 1;
+		if (mAnalysisStamp == 0) {
+			// the stamp wrapped around; clear the old marks.
+			for (final DPLLAtom atom : mAtoms) {
+				atom.mAnalysisMark = 0;
+			}
+			for (final Literal lit : mDecideStack) {
+				lit.getAtom().mAnalysisMark = 0;
+			}
+			mAnalysisStamp = MARK_MASK + 1;
+		}
+		mAnalysisLiterals.clear();
+		mAnalysisLevel0.clear();
+		mAnalysisAntecedents.clear();
+	}
+
+	private int getMark(final DPLLAtom atom) {
+		final int mark = atom.mAnalysisMark;
+		return (mark & ~MARK_MASK) == mAnalysisStamp ? mark & MARK_MASK : 0;
+	}
+
+	private void setMark(final DPLLAtom atom, final int mark) {
+		atom.mAnalysisMark = mAnalysisStamp | mark;
+	}
+
+	/**
+	 * Check if a literal is in the learned clause of the current conflict analysis.
+	 *
+	 * @param lit
+	 *            the negated literal, which is currently set to true.
+	 */
+	private boolean isConflictLiteral(final Literal lit) {
+		final int mark = getMark(lit.getAtom());
+		return mark == MARK_CONFLICT || mark == MARK_REMOVABLE;
+	}
+
+	/**
+	 * Add a literal to the learned clause of the current conflict analysis.
+	 *
+	 * @param lit
+	 *            the negated literal, which is currently set to true.
+	 * @return true if the literal was not already in the learned clause.
+	 */
+	private boolean addConflictLiteral(final Literal lit) {
+		final DPLLAtom atom = lit.getAtom();
+		final int mark = getMark(atom);
+		if (mark == MARK_CONFLICT || mark == MARK_REMOVABLE) {
+			return false;
+		}
+		// a redundant literal will be resolved away again by the minimization.
+		setMark(atom, mark == MARK_REDUNDANT ? MARK_REMOVABLE : MARK_CONFLICT);
+		mAnalysisLiterals.add(lit);
+		return true;
+	}
+
+	private int countLitsOnDecideLevel() {
 		int numLits = 0;
 		int stackPtr = mDecideStack.size();
 		while (true) {
 			final Literal lit = mDecideStack.get(--stackPtr);
-			assert !conflict.contains(lit.negate());
-			if (conflict.contains(lit)) {
+			if (isConflictLiteral(lit)) {
 				numLits++;
 			}
 			if (lit.getAtom().mExplanation == null) {
@@ -611,17 +1832,14 @@ public class DPLLEngine {
 		if (mLogger.isDebugEnabled()) {
 			mLogger.debug("explain conflict " + clause);
 		}
-		final HashSet<Literal> level0Ants = new HashSet<Literal>();
-		List<Antecedent> antecedents = null;
-		if (isProofGenerationEnabled()) {
-			antecedents = new ArrayList<Antecedent>();
-		}
+		newAnalysisStamp();
+		final List<Antecedent> antecedents = isProofGenerationEnabled() ? mAnalysisAntecedents : null;
 		int expstacklevel = clause.mStacklevel;
 		mConflicts++;
+		mAtoms.conflict();
 		assert checkDecideLevel();
 		mAtomScale *= Config.ATOM_ACTIVITY_FACTOR;
 		mClsScale *= Config.CLS_ACTIVITY_FACTOR;
-		final Set<Literal> conflict = new CuckooHashSet<Literal>();
 		int maxDecideLevel = mBaseLevel + 1;
 		int numLitsOnMaxDecideLevel = 0;
 		int numAssumptions = 0;
@@ -637,52 +1855,25 @@ public class DPLLEngine {
 						numLitsOnMaxDecideLevel++;
 					}
 				}
-				conflict.add(lit.negate());
+				addConflictLiteral(lit.negate());
 			} else {
 				if (mAssumptionLiterals.contains(lit.negate())) {
-					conflict.add(lit.negate());
+					addConflictLiteral(lit.negate());
 					++numAssumptions;
 				} else {
-					expstacklevel = level0resolve(lit, level0Ants, expstacklevel);
+					expstacklevel = level0resolve(lit, expstacklevel);
 				}
 			}
-			atom.mActivity += mAtomScale;
+			mAtoms.bumpActivity(atom, mAtomScale);
 		}
 		if (mLogger.isDebugEnabled()) {
-			mLogger.debug("removing level0: " + conflict);
+			mLogger.debug("removing level0: " + mAnalysisLiterals);
 		}
-		if (conflict.size() == numAssumptions) {
+		if (mAnalysisLiterals.size() == numAssumptions) {
 			/*
 			 * Unsatisfiable
 			 */
-			/* add assumptions from level0 antecedents */
-			for (final Literal lit0 : level0Ants) {
-				final Clause c = getLevel0(lit0);
-				for (final Literal assumptionLit : c.mLiterals) {
-					if (assumptionLit != lit0) {
-						conflict.add(assumptionLit.negate());
-					}
-				}
-			}
-			final Literal[] newlits = new Literal[conflict.size()];
-			int i = 0;
-			for (final Literal l : conflict) {
-				newlits[i++] = l.negate();
-			}
-			assert i == newlits.length;
-			final Clause resolution = new Clause(newlits, expstacklevel);
-			if (isProofGenerationEnabled()) {
-				for (final Literal l0 : level0Ants) {
-					antecedents.add(new Antecedent(l0, getLevel0(l0)));
-				}
-				if (antecedents.isEmpty()) {
-					// TODO: only one clause object needed here.
-					resolution.setProof(clause.getProof());
-				} else {
-					final Antecedent[] ants = antecedents.toArray(new Antecedent[antecedents.size()]);
-					resolution.setProof(new ResolutionNode(clause, ants));
-				}
-			}
+			final Clause resolution = createLearnedClause(clause, antecedents, expstacklevel);
 			// Remember unsat clause (which might not be empty, by conflicting
 			// against assumptions)
 			mUnsatClause = resolution;
@@ -691,8 +1882,7 @@ public class DPLLEngine {
 		assert numLitsOnMaxDecideLevel >= 1;
 		while (mCurrentDecideLevel > maxDecideLevel) {
 			final Literal lit = mDecideStack.remove(mDecideStack.size() - 1);
-			assert !conflict.contains(lit.negate());
-			assert !conflict.contains(lit);
+			assert getMark(lit.getAtom()) == 0;
 			if (lit.getAtom().mExplanation == null) {
 				decreaseDecideLevel();
 			}
@@ -703,11 +1893,9 @@ public class DPLLEngine {
 		while (numLitsOnMaxDecideLevel > 1) {
 			assert checkDecideLevel();
 			assert mCurrentDecideLevel == maxDecideLevel;
-			assert countLitsOnDecideLevel(conflict) == numLitsOnMaxDecideLevel;
-			assert checkDecideLevel();
+			assert countLitsOnDecideLevel() == numLitsOnMaxDecideLevel;
 			final Literal lit = mDecideStack.get(mDecideStack.size() - 1);
-			assert !conflict.contains(lit.negate());
-			if (!conflict.contains(lit)) {
+			if (!isConflictLiteral(lit)) {
 				assert lit.getAtom().mExplanation != null;
 				assert checkDecideLevel();
 				mDecideStack.remove(mDecideStack.size() - 1);
@@ -719,17 +1907,20 @@ public class DPLLEngine {
 			/* Do a resolution step with explanation */
 			final Clause expl = getExplanation(lit);
 			expl.mActivity += mClsScale;
+			if (expl.mLBD > 0) {
+				updateLBD(expl);
+			}
 			// expl.usedTimes++;
 			expstacklevel = Math.max(expstacklevel, expl.mStacklevel);
-			if (isProofGenerationEnabled()) {
+			if (antecedents != null) {
 				antecedents.add(new Antecedent(lit, expl));
 			}
 			mDecideStack.remove(mDecideStack.size() - 1);
 			backtrackLiteral(lit);
 			assert checkDecideLevel();
-			conflict.remove(lit);
-			numLitsOnMaxDecideLevel--;
 			final DPLLAtom atom = lit.getAtom();
+			atom.mAnalysisMark = 0;
+			numLitsOnMaxDecideLevel--;
 			if (mLogger.isDebugEnabled()) {
 				mLogger.debug("Resolving with " + expl + " pivot = " + atom);
 			}
@@ -738,31 +1929,27 @@ public class DPLLEngine {
 					assert l.getAtom().mDecideStatus == l.negate();
 					final int level = l.getAtom().mDecideLevel;
 					if (mAssumptionLiterals.contains(l.negate())) {
-						if (conflict.add(l.negate())) {
+						if (addConflictLiteral(l.negate())) {
 							++numAssumptions;
 						}
 					} else if (level > mBaseLevel) {
-						if (conflict.add(l.negate()) && level == maxDecideLevel) {
+						if (addConflictLiteral(l.negate()) && level == maxDecideLevel) {
 							numLitsOnMaxDecideLevel++;
 						}
 					} else {
 						// Here, we do level0 resolution as well
-						expstacklevel = level0resolve(l, level0Ants, expstacklevel);
+						expstacklevel = level0resolve(l, expstacklevel);
 					}
-					l.getAtom().mActivity += mAtomScale;
+					mAtoms.bumpActivity(l.getAtom(), mAtomScale);
 				}
 			}
-			assert countLitsOnDecideLevel(conflict) == numLitsOnMaxDecideLevel;
-			if (mLogger.isDebugEnabled()) {
-				mLogger.debug("new conflict: " + conflict);
-			}
+			assert countLitsOnDecideLevel() == numLitsOnMaxDecideLevel;
 		}
 		assert mCurrentDecideLevel == maxDecideLevel;
-		assert countLitsOnDecideLevel(conflict) == numLitsOnMaxDecideLevel;
+		assert countLitsOnDecideLevel() == numLitsOnMaxDecideLevel;
 		assert numLitsOnMaxDecideLevel == 1;
 		while (mCurrentDecideLevel >= maxDecideLevel) {
 			final Literal lit = mDecideStack.remove(mDecideStack.size() - 1);
-			assert !conflict.contains(lit.negate());
 			if (lit.getAtom().mExplanation == null) {
 				decreaseDecideLevel();
 			}
@@ -773,87 +1960,111 @@ public class DPLLEngine {
 		/*
 		 * We removed at least one decision point. Try to backtrack further.
 		 */
-		if (Config.DEEP_BACKTRACK) {
-			findBacktrackingPoint(conflict);
+		if (Config.DEEP_BACKTRACK && !isChronologicalBacktrack()) {
+			findBacktrackingPoint();
 		}
 
 		if (mLogger.isDebugEnabled()) {
 			mLogger.debug("Backtrack to " + mDecideStack.size());
 		}
 
-		final HashMap<Literal, Integer> redundancy = computeRedundancy(conflict);
-		final Integer REDUNDANT = 1;
+		computeRedundancy();
 
 		int stackPtr = mDecideStack.size();
 		while (stackPtr > mNumSolvedAtoms) {
 			final Literal lit = mDecideStack.get(--stackPtr);
-			if (redundancy.get(lit) == REDUNDANT && conflict.contains(lit)) {
+			if (getMark(lit.getAtom()) == MARK_REMOVABLE) {
 				/* Do a resolution step with explanation */
 				final Clause expl = getExplanation(lit);
 				expl.mActivity += mClsScale;
 				// expl.usedTimes++;
 				expstacklevel = Math.max(expstacklevel, expl.mStacklevel);
-				if (isProofGenerationEnabled()) {
+				if (antecedents != null) {
 					antecedents.add(new Antecedent(lit, expl));
 				}
-				conflict.remove(lit);
+				setMark(lit.getAtom(), MARK_REDUNDANT);
 				for (final Literal l : expl.mLiterals) {
 					if (l != lit) {
 						assert l.getAtom().mDecideStatus == l.negate();
 						final int level = l.getAtom().mDecideLevel;
 						if (mAssumptionLiterals.contains(l.negate())) {
-							if (conflict.add(l.negate())) {
+							if (addConflictLiteral(l.negate())) {
 								++numAssumptions;
 							}
 						} else if (level > mBaseLevel) {
-							conflict.add(l.negate());
+							addConflictLiteral(l.negate());
 						} else {
 							// Here, we do level0 resolution as well
-							expstacklevel = level0resolve(l, level0Ants, expstacklevel);
+							expstacklevel = level0resolve(l, expstacklevel);
 						}
-						l.getAtom().mActivity += mAtomScale;
+						mAtoms.bumpActivity(l.getAtom(), mAtomScale);
 					}
 				}
 			}
 		}
+		if (mBinaryImplications) {
+			expstacklevel = binaryMinimize(antecedents, expstacklevel);
+		}
+		final Clause resolution = createLearnedClause(clause, antecedents, expstacklevel);
 		if (mLogger.isDebugEnabled()) {
-			mLogger.debug("removing redundancy yields " + conflict);
+			mLogger.debug("Resolved to " + resolution);
+		}
+		// If resolution size is number of literals we are unsat
+		if (resolution.getSize() == numAssumptions) {
+			mUnsatClause = resolution;
 		}
+		return resolution;
+	}
+
+	/**
+	 * Create the learned clause of the current conflict analysis. This adds the assumptions from the level 0
+	 * antecedents and creates the proof of the learned clause.
+	 *
+	 * @param conflict
+	 *            the conflict clause that was explained.
+	 * @param antecedents
+	 *            the antecedents for the proof or null, if proofs are disabled.
+	 * @param expstacklevel
+	 *            the stack level of the learned clause.
+	 * @return the learned clause.
+	 */
+	private Clause createLearnedClause(final Clause conflict, final List<Antecedent> antecedents,
+			final int expstacklevel) {
 		/* add assumptions from level0 antecedents */
-		for (final Literal lit0 : level0Ants) {
+		for (final Literal lit0 : mAnalysisLevel0) {
 			final Clause c = getLevel0(lit0);
 			for (final Literal assumptionLit : c.mLiterals) {
 				if (assumptionLit != lit0) {
-					conflict.add(assumptionLit.negate());
+					addConflictLiteral(assumptionLit.negate());
 				}
 			}
 		}
-		final Literal[] newlits = new Literal[conflict.size()];
-		int i = 0;
-		for (final Literal l : conflict) {
-			newlits[i++] = l.negate();
+		int size = 0;
+		for (final Literal lit : mAnalysisLiterals) {
+			if (isConflictLiteral(lit)) {
+				mAnalysisLiterals.set(size++, lit);
+			}
 		}
-		assert newlits[newlits.length - 1] != null;
+		final Literal[] newlits = new Literal[size];
+		for (int i = 0; i < size; i++) {
+			newlits[i] = mAnalysisLiterals.get(i).negate();
+		}
+		mAnalysisLiterals.clear();
 		final Clause resolution = new Clause(newlits, expstacklevel);
-		if (isProofGenerationEnabled()) {
-			for (final Literal l0 : level0Ants) {
+		if (antecedents != null) {
+			for (final Literal l0 : mAnalysisLevel0) {
 				antecedents.add(new Antecedent(l0, getLevel0(l0)));
 			}
 			if (antecedents.isEmpty()) {
 				// TODO: only one clause object needed here.
-				resolution.setProof(clause.getProof());
+				resolution.setProof(conflict.getProof());
 			} else {
 				final Antecedent[] ants = antecedents.toArray(new Antecedent[antecedents.size()]);
-				resolution.setProof(new ResolutionNode(clause, ants));
+				resolution.setProof(new ResolutionNode(conflict, ants));
 			}
+			antecedents.clear();
 		}
-		if (mLogger.isDebugEnabled()) {
-			mLogger.debug("Resolved to " + resolution);
-		}
-		// If resolution size is number of literals we are unsat
-		if (newlits.length == numAssumptions) {
-			mUnsatClause = resolution;
-		}
+		mAnalysisLevel0.clear();
 		return resolution;
 	}
 
@@ -866,9 +2077,17 @@ public class DPLLEngine {
 	 * @return Is the solver inconsistent?
 	 */
 	private boolean explain(Clause conflict) {
+		if (conflict != null) {
+			updateTargetPhases();
+		}
 		while (conflict != null) {
 			conflict = explainConflict(conflict);
 			learnClause(conflict);
+			if (mClauseExchange != null && conflict.getSize() <= Config.SHARE_MAX_SIZE
+					&& conflict.mLBD <= Config.SHARE_MAX_LBD) {
+				mClauseExchange.export(conflict.mLiterals, conflict.mLBD);
+			}
+			mRestartPolicy.conflict(conflict.mLBD);
 			if (mUnsatClause != null) {
 				return true;
 			}
@@ -877,9 +2096,13 @@ public class DPLLEngine {
 		return false;
 	}
 
-	private final int level0resolve(final Literal l, final Set<Literal> level0Ants, final int sl) {
-		final Clause l0 = getLevel0(l.negate());
-		level0Ants.add(l.negate());
+	private final int level0resolve(final Literal l, final int sl) {
+		final Literal lit = l.negate();
+		final Clause l0 = getLevel0(lit);
+		if (getMark(lit.getAtom()) != MARK_LEVEL0) {
+			setMark(lit.getAtom(), MARK_LEVEL0);
+			mAnalysisLevel0.add(lit);
+		}
 		return l0.mStacklevel > sl ? l0.mStacklevel : sl;
 	}
 
@@ -897,59 +2120,130 @@ public class DPLLEngine {
 		}
 	}
 
-	private HashMap<Literal, Integer> computeRedundancy(final Set<Literal> conflict) {
-		final Integer REDUNDANT = 1;
-		final Integer FAILED = 2;
-		final Integer KEEP = 3;// NOCHECKSTYLE
-		final HashMap<Literal, Integer> status = new HashMap<Literal, Integer>();
-		for (final Literal l : conflict) {
-			if (l.getAtom().getDecideStatus() != null) {
-				assert l.getAtom().getDecideStatus() == l;
-				status.put(l, REDUNDANT);
+	/**
+	 * The abstraction of the decide level of an atom used to quickly rule out literals during the minimization of
+	 * the learned clause.
+	 */
+	private static int abstractLevel(final DPLLAtom atom) {
+		return 1 << (atom.mDecideLevel & 31); // NOCHECKSTYLE
+	}
+
+	/**
+	 * Find the literals of the learned clause that are implied by the other literals and mark them as removable. A
+	 * literal is implied if every literal of its explanation is in the learned clause, on a base level, or implied
+	 * itself. The results for literals not in the learned clause are cached in their marks. A literal on a decide
+	 * level where the learned clause has no literal is assumed to be not implied.
+	 */
+	private void computeRedundancy() {
+		int levels = 0;
+		for (final Literal lit : mAnalysisLiterals) {
+			if (lit.getAtom().mDecideStatus != null && isConflictLiteral(lit)) {
+				levels |= abstractLevel(lit.getAtom());
 			}
 		}
-		final ArrayDeque<Literal> todo = new ArrayDeque<Literal>();
-		final Iterator<Literal> it = conflict.iterator();
-		litloop: while (it.hasNext()) {
-			final Literal lit = it.next();
-			if (lit.getAtom().getDecideStatus() == null) {
-				continue;
+		for (final Literal lit : mAnalysisLiterals) {
+			if (lit.getAtom().mDecideStatus != null && getMark(lit.getAtom()) == MARK_CONFLICT
+					&& isRedundant(lit, levels)) {
+				setMark(lit.getAtom(), MARK_REMOVABLE);
 			}
-			todo.addFirst(lit);
-			todoloop: while (!todo.isEmpty()) {
-				final Literal next = todo.getFirst();
-				assert next.getAtom().getDecideStatus() == next;
-				final Clause expl = getExplanation(next);
-				// logger.info("check "+next+" expl "+expl);
-				if (expl == null) {
-					while (todo.size() > 1) {
-						status.put(todo.removeFirst(), FAILED);
-					}
-					status.put(todo.removeFirst(), KEEP);
-					continue litloop;
-				}
-				for (final Literal l : expl.mLiterals) {
-					assert l.getAtom().getDecideStatus() != null;
-					if (l != next && l.getAtom().getDecideLevel() > mBaseLevel) {
-						final Literal lneg = l.negate();
-						assert lneg.getAtom().getDecideStatus() == lneg;
-						final Integer st = status.get(lneg);
-						if (st == FAILED) {
-							while (todo.size() > 1) {
-								status.put(todo.removeFirst(), FAILED);
-							}
-							status.put(todo.removeFirst(), KEEP);
-							continue litloop;
-						} else if (st == null) {
-							todo.addFirst(lneg);
-							continue todoloop;
+		}
+	}
+
+	/**
+	 * Check if a literal of the learned clause is implied by the other literals. This does a depth first search over
+	 * the explanations using {@link #mAnalysisStack} and marks the visited literals as redundant or failed.
+	 *
+	 * @param lit
+	 *            the negated literal of the learned clause.
+	 * @param levels
+	 *            the abstraction of the decide levels of the learned clause.
+	 * @return true if the literal is implied.
+	 */
+	private boolean isRedundant(final Literal lit, final int levels) {
+		final ArrayList<Literal> todo = mAnalysisStack;
+		todo.add(lit);
+		todoloop: while (!todo.isEmpty()) {
+			final Literal next = todo.get(todo.size() - 1);
+			assert next.getAtom().getDecideStatus() == next;
+			final Clause expl = getExplanation(next);
+			if (expl == null) {
+				return failRedundancy();
+			}
+			for (final Literal l : expl.mLiterals) {
+				final DPLLAtom atom = l.getAtom();
+				assert l == next || atom.getDecideStatus() == l.negate();
+				if (l != next && atom.getDecideLevel() > mBaseLevel) {
+					final int mark = getMark(atom);
+					if (mark == MARK_FAILED) {
+						return failRedundancy();
+					} else if (mark == 0) {
+						if ((abstractLevel(atom) & levels) == 0) {
+							setMark(atom, MARK_FAILED);
+							return failRedundancy();
 						}
+						todo.add(l.negate());
+						continue todoloop;
 					}
 				}
-				status.put(todo.removeFirst(), REDUNDANT);
+			}
+			todo.remove(todo.size() - 1);
+			if (!todo.isEmpty()) {
+				setMark(next.getAtom(), MARK_REDUNDANT);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Mark all literals on the search stack except the literal of the learned clause as failed and clear the stack.
+	 *
+	 * @return false.
+	 */
+	private boolean failRedundancy() {
+		for (int i = mAnalysisStack.size() - 1; i > 0; i--) {
+			setMark(mAnalysisStack.get(i).getAtom(), MARK_FAILED);
+		}
+		mAnalysisStack.clear();
+		return false;
+	}
+
+	/**
+	 * Remove literals from the learned clause using the binary implication store. If the asserting literal of the
+	 * learned clause together with the negation of another literal of the learned clause forms a binary clause, we can
+	 * resolve with this binary clause to remove the other literal.
+	 *
+	 * @param antecedents
+	 *            the antecedents for the proof or null, if proofs are disabled.
+	 * @param expstacklevel
+	 *            the current stack level of the learned clause.
+	 * @return the new stack level of the learned clause.
+	 */
+	private int binaryMinimize(final List<Antecedent> antecedents, int expstacklevel) {
+		Literal uip = null;
+		for (final Literal lit : mAnalysisLiterals) {
+			if (lit.getAtom().mDecideStatus == null && isConflictLiteral(lit)) {
+				uip = lit;
+				break;
+			}
+		}
+		if (uip == null || uip.negate().mBinaryImplications == null) {
+			return expstacklevel;
+		}
+		final Clause.WatchArray implications = uip.negate().mBinaryImplications;
+		final Object[] entries = implications.mEntries;
+		for (int i = 0; i < implications.mSize; i += 2) {
+			final Literal lit = (Literal) entries[i];
+			final DPLLAtom atom = lit.getAtom();
+			if (atom.mDecideLevel > mBaseLevel && atom.mDecideStatus == lit && isConflictLiteral(lit)) {
+				setMark(atom, MARK_REDUNDANT);
+				final Clause bin = (Clause) entries[i + 1];
+				expstacklevel = Math.max(expstacklevel, bin.mStacklevel);
+				if (antecedents != null) {
+					antecedents.add(new Antecedent(lit, bin));
+				}
 			}
 		}
-		return status;
+		return expstacklevel;
 	}
 
 	private boolean checkUnitClause(final Clause unit, final Literal lit) {
@@ -979,11 +2273,39 @@ public class DPLLEngine {
 		return null;
 	}
 
-	private void findBacktrackingPoint(final Set<Literal> conflict) {
+	/**
+	 * Check if we should stay on the current decide level instead of backjumping to the decide level where the
+	 * learned clause becomes unit. This avoids replaying long stretches of the decide stack, which is expensive if the
+	 * theories propagate a lot. The asserting literal is then propagated on the current decide level. Thus, the decide
+	 * levels on the stack stay ordered and the theories still backtrack their literals in reverse order. The price is
+	 * that the asserting literal may be unset by a later backtracking although the learned clause is still unit.
+	 *
+	 * @return true if the backjump distance exceeds the threshold for chronological backtracking.
+	 */
+	private boolean isChronologicalBacktrack() {
+		if (mChronoBacktrackThreshold <= 0) {
+			return false;
+		}
+		int assertionLevel = mBaseLevel;
+		for (final Literal lit : mAnalysisLiterals) {
+			final DPLLAtom atom = lit.getAtom();
+			if (atom.mDecideStatus != null && atom.mDecideLevel > assertionLevel && isConflictLiteral(lit)) {
+				assertionLevel = atom.mDecideLevel;
+			}
+		}
+		if (mCurrentDecideLevel - assertionLevel > mChronoBacktrackThreshold) {
+			mNumChronoBacktracks++;
+			return true;
+		}
+		return false;
+	}
+
+	private void findBacktrackingPoint() {
 		int i = mDecideStack.size();
 		while (i > 0) {
 			final Literal lit = mDecideStack.get(--i);
-			if (conflict.contains(lit)) {
+			// never backtrack the assumptions on the base levels
+			if (isConflictLiteral(lit) || lit.getAtom().mDecideLevel <= mBaseLevel) {
 				break;
 			}
 			if (lit.getAtom().mExplanation == null) {
@@ -1054,22 +2376,79 @@ public class DPLLEngine {
 		// logger.debug("Choose literal: "+atom+" Weight "
 		// + (atom.activity/factor) +" - last: " + atom.lastStatus);
 		// return atom.lastStatus == null ? atom.negate() : atom.lastStatus;
+		if (mPhaseMode == PhaseMode.TARGET && atom.mTargetStatus != null) {
+			return atom.mTargetStatus;
+		}
+		if (mPhaseMode == PhaseMode.BEST && atom.mBestStatus != null) {
+			return atom.mBestStatus;
+		}
 		return atom.getPreferredStatus();
 	}
 
-	private static final int luby_super(final int i) {
-		int power;
+	/**
+	 * Remember the current assignment as target resp. best phase, if the conflict-free part of the trail is longer
+	 * than the previous target resp. best trail. This is called when a conflict was found and before backtracking.
+	 * The conflict-free part of the trail consists of all literals below the current decision level.
+	 */
+	private void updateTargetPhases() {
+		if (mPhaseMode == PhaseMode.SAVED && mRephaseInterval == 0) {
+			return;
+		}
+		int size = mDecideStack.size();
+		while (size > 0 && mDecideStack.get(size - 1).getAtom().mDecideLevel >= mCurrentDecideLevel) {
+			size--;
+		}
+		if (size > mTargetTrailSize) {
+			mTargetTrailSize = size;
+			for (int i = 0; i < size; i++) {
+				final Literal lit = mDecideStack.get(i);
+				lit.getAtom().mTargetStatus = lit;
+			}
+		}
+		if (size > mBestTrailSize) {
+			mBestTrailSize = size;
+			for (int i = 0; i < size; i++) {
+				final Literal lit = mDecideStack.get(i);
+				lit.getAtom().mBestStatus = lit;
+			}
+		}
+	}
 
-		assert i > 0;
-		/* let 2^k be the least power of 2 >= (i+1) */
-		power = 2;
-		while (power < i + 1) {
-			power *= 2;
+	/**
+	 * Reset the saved phases of all atoms. The rephasing cycles through the best phase, the inverted saved phase,
+	 * the best phase again, and the original (negative) phase. Afterwards the target phases are reset to the new
+	 * saved phases.
+	 */
+	void rephase() {
+		final int kind = mNumRephases++ % 4;
+		for (final DPLLAtom atom : mAtoms) {
+			rephaseAtom(atom, kind);
+		}
+		for (final Literal lit : mDecideStack) {
+			rephaseAtom(lit.getAtom(), kind);
 		}
-		if (power == i + 1) {
-			return power / 2;
+		mTargetTrailSize = 0;
+		mBestTrailSize = 0;
+		mNextRephase = mConflicts + (long) mRephaseInterval * (mNumRephases + 1);
+	}
+
+	private static void rephaseAtom(final DPLLAtom atom, final int kind) {
+		switch (kind) {
+		case 0:
+		case 2:
+			if (atom.mBestStatus != null) {
+				atom.mLastStatus = atom.mBestStatus;
+			}
+			break;
+		case 1:
+			atom.mLastStatus = atom.mLastStatus.negate();
+			break;
+		default:
+			atom.mLastStatus = atom.negate();
+			break;
 		}
-		return luby_super(i - power / 2 + 1);
+		atom.mTargetStatus = atom.mLastStatus;
+		atom.mBestStatus = null;
 	}
 
 	private void printStatistics() {
@@ -1151,8 +2530,13 @@ public class DPLLEngine {
 					return false;
 				}
 			}
+			if (mPreprocessing && mPreprocessor == null && mStacklevel == 0 && mBaseLevel == 0 && preprocess()) {
+				printStatistics();
+				mLogger.info("Formula is unsat");
+				return false;
+			}
 			int iteration = 1;
-			int nextRestart = Config.RESTART_FACTOR;
+			mRestartPolicy.init();
 			long time;
 			while (!isTerminationRequested()) {
 				Clause conflict;
@@ -1195,6 +2579,9 @@ public class DPLLEngine {
 										}
 									}
 								}
+								if (mPreprocessor != null) {
+									mPreprocessor.extendModel();
+								}
 								mHasModel = true;
 								return true;
 							}
@@ -1229,12 +2616,17 @@ public class DPLLEngine {
 					mExplainTime += time - lastTime - mSetTime - mBacktrackTime;
 					lastTime = time - mSetTime - mBacktrackTime;
 				}
+				if (mTieredClauses && mConflicts >= mNextReduce) {
+					reduceClauseDatabase();
+				}
 				if (mAtomScale > Config.LIMIT) {
-					for (final DPLLAtom a : mAtoms) {
-						a.mActivity *= Double.MIN_NORMAL;
-					}
-					for (final Literal l : mDecideStack) {
-						l.getAtom().mActivity *= Double.MIN_NORMAL;
+					if (mAtoms.getHeuristic() == DecisionQueue.Heuristic.VSIDS) {
+						for (final DPLLAtom a : mAtoms) {
+							a.mActivity *= Double.MIN_NORMAL;
+						}
+						for (final Literal l : mDecideStack) {
+							l.getAtom().mActivity *= Double.MIN_NORMAL;
+						}
 					}
 					mAtomScale *= Double.MIN_NORMAL;
 				}
@@ -1246,12 +2638,12 @@ public class DPLLEngine {
 					}
 					mClsScale *= Double.MIN_NORMAL;
 				}
-				if (--nextRestart == 0) {
+				if (mRestartPolicy.shouldRestart()) {
 					final DPLLAtom next = mAtoms.peek();
 					int restartpos = -1;
 					for (int i = mNumSolvedAtoms + mBaseLevel; i < mDecideStack.size(); ++i) {
 						final DPLLAtom var = mDecideStack.get(i).getAtom();
-						if (var.mExplanation == null && var.mActivity < next.mActivity) {
+						if (var.mExplanation == null && mAtoms.prefers(next, var)) {
 							// This has been a decision
 							restartpos = i;
 							break;
@@ -1281,7 +2673,28 @@ public class DPLLEngine {
 					for (final ITheory t : mTheories) {
 						t.restart(iteration);
 					}
-					nextRestart = Config.RESTART_FACTOR * luby_super(iteration);
+					mRestartPolicy.restarted();
+					mTargetTrailSize = 0;
+					if (mRephaseInterval > 0 && mConflicts >= mNextRephase) {
+						rephase();
+					}
+					if (mInprocessing && mConflicts >= mNextInprocess) {
+						conflict = inprocess();
+						if (explain(conflict)) {
+							printStatistics();
+							mLogger.info("Formula is unsat");
+							return false;
+						}
+					}
+					if (mClauseExchange != null && !isProofGenerationEnabled()
+							&& mClauseExchange.hasNewClauses()) {
+						conflict = importSharedClauses();
+						if (explain(conflict)) {
+							printStatistics();
+							mLogger.info("Formula is unsat");
+							return false;
+						}
+					}
 					if (Config.PRINT_STATISTICS) {
 						mLogger.info("Restart");
 						printStatistics();
@@ -1305,15 +2718,20 @@ public class DPLLEngine {
 	}
 
 	private final void unlearnClauses(final int targetstacklevel) {
+		boolean removed = false;
 		final Iterator<Clause> it = mLearnedClauses.iterator();
 		while (it.hasNext()) {
 			final Clause c = it.next();
-			if (c.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY
+			if (!mTieredClauses && c.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY
 					|| c.mStacklevel > targetstacklevel && c.doCleanup(this)) {
 				mNumClauses--;
 				it.remove();
+				removed = true;
 			}
 		}
+		if (removed && (mBlockerWatchLists || mBinaryImplications)) {
+			purgeWatchArrays();
+		}
 	}
 
 	private Literal suggestions() {
@@ -1455,6 +2873,9 @@ public class DPLLEngine {
 				break;
 			}
 		}
+		if (mBlockerWatchLists || mBinaryImplications) {
+			purgeWatchArrays();
+		}
 		for (int i = 0; i < numpops; ++i) {
 			mPpStack = mPpStack.restore(this, mStacklevel - i - 1);
 		}
@@ -1493,6 +2914,205 @@ public class DPLLEngine {
 		return mPGenabled;
 	}
 
+	/**
+	 * Switch between the linked watch lists and the array backed watch lists with blocker literals. This must be
+	 * called before the first clause is added.
+	 *
+	 * @param enable
+	 *            true, if array backed watch lists with blocker literals should be used.
+	 */
+	public void setBlockerWatchLists(final boolean enable) {
+		assert mClauses.isEmpty() && mLearnedClauses.isEmpty();
+		mBlockerWatchLists = enable;
+	}
+
+	public boolean isBlockerWatchLists() {
+		return mBlockerWatchLists;
+	}
+
+	/**
+	 * Keep binary clauses in a separate implication store instead of the watch lists. The binary implications are
+	 * propagated before the other clauses. This must be called before the first clause is added.
+	 *
+	 * @param enable
+	 *            true, if binary clauses should be kept in the implication store.
+	 */
+	public void setBinaryImplications(final boolean enable) {
+		assert mClauses.isEmpty() && mLearnedClauses.isEmpty();
+		mBinaryImplications = enable;
+	}
+
+	public boolean isBinaryImplications() {
+		return mBinaryImplications;
+	}
+
+	/**
+	 * Manage the learned clauses in a tiered clause database that is periodically reduced based on the LBD and the
+	 * activity of the clauses. If disabled, learned clauses are removed when their activity drops below some
+	 * threshold.
+	 *
+	 * @param enable
+	 *            true, if the tiered clause database should be used.
+	 */
+	public void setTieredClauses(final boolean enable) {
+		mTieredClauses = enable;
+	}
+
+	public boolean isTieredClauses() {
+		return mTieredClauses;
+	}
+
+	/**
+	 * Set the strategy that decides when to restart. If the strategy changes, the state of the old restart policy,
+	 * e.g., the number of restarts, is discarded.
+	 *
+	 * @param strategy
+	 *            the restart strategy.
+	 */
+	public void setRestartStrategy(final RestartPolicy.Strategy strategy) {
+		if (mRestartPolicy.getStrategy() != strategy) {
+			mRestartPolicy = strategy.create();
+		}
+	}
+
+	public RestartPolicy.Strategy getRestartStrategy() {
+		return mRestartPolicy.getStrategy();
+	}
+
+	/**
+	 * Simplify the learned clauses at restarts by subsumption, self-subsuming resolution and vivification.
+	 *
+	 * @param enable
+	 *            true, if inprocessing should be done.
+	 */
+	public void setInprocessing(final boolean enable) {
+		mInprocessing = enable;
+	}
+
+	public boolean isInprocessing() {
+		return mInprocessing;
+	}
+
+	/**
+	 * Simplify the input clauses before the first check by failed literal probing, equivalent literal substitution,
+	 * bounded variable elimination and blocked clause elimination. Only Boolean variables and proxy literals that are
+	 * not named are simplified.
+	 *
+	 * @param enable
+	 *            true, if preprocessing should be done.
+	 */
+	public void setPreprocessing(final boolean enable) {
+		mPreprocessing = enable;
+	}
+
+	public boolean isPreprocessing() {
+		return mPreprocessing;
+	}
+
+	/**
+	 * Get the status of an atom in the current model. This is the decide status, or the preferred status if the atom
+	 * is undecided. If the input was preprocessed, the model is extended to the eliminated atoms and the removed
+	 * clauses.
+	 *
+	 * @param atom
+	 *            the atom.
+	 * @return the literal that is true in the model.
+	 */
+	public Literal getModelStatus(final DPLLAtom atom) {
+		if (mPreprocessor != null) {
+			return mPreprocessor.getModelStatus(atom);
+		}
+		return atom.mDecideStatus == null ? atom.mLastStatus : atom.mDecideStatus;
+	}
+
+	/**
+	 * Set the heuristic that decides which atom is decided next. The undecided atoms are moved to a new queue for
+	 * the heuristic. When switching to CHB the activities of all atoms are reset.
+	 *
+	 * @param heuristic
+	 *            the decision heuristic.
+	 */
+	public void setDecisionHeuristic(final DecisionQueue.Heuristic heuristic) {
+		if (mAtoms.getHeuristic() == heuristic) {
+			return;
+		}
+		final ArrayList<DPLLAtom> atoms = new ArrayList<DPLLAtom>(mAtoms);
+		mAtoms.clear();
+		mAtoms = heuristic.create();
+		if (heuristic == DecisionQueue.Heuristic.CHB) {
+			for (final DPLLAtom atom : atoms) {
+				atom.mActivity = 0;
+			}
+			for (final Literal lit : mDecideStack) {
+				lit.getAtom().mActivity = 0;
+			}
+		}
+		mAtoms.addAll(atoms);
+	}
+
+	public DecisionQueue.Heuristic getDecisionHeuristic() {
+		return mAtoms.getHeuristic();
+	}
+
+	/**
+	 * Set the phase that is used when deciding an atom.
+	 *
+	 * @param mode
+	 *            the phase mode.
+	 */
+	public void setPhaseMode(final PhaseMode mode) {
+		mPhaseMode = mode;
+	}
+
+	public PhaseMode getPhaseMode() {
+		return mPhaseMode;
+	}
+
+	/**
+	 * Set the number of conflicts between two rephasings of the saved phases. The interval grows linearly with the
+	 * number of rephasings. Rephasing happens on restarts.
+	 *
+	 * @param interval
+	 *            the rephase interval in conflicts, or 0 to disable rephasing.
+	 */
+	public void setRephaseInterval(final int interval) {
+		if (interval != mRephaseInterval) {
+			mRephaseInterval = interval;
+			mNextRephase = mConflicts + interval;
+		}
+	}
+
+	public int getRephaseInterval() {
+		return mRephaseInterval;
+	}
+
+	/**
+	 * Set the threshold for chronological backtracking. If the backjump after a conflict would skip more than this
+	 * number of decide levels, the solver only backtracks the conflicting decide level.
+	 *
+	 * @param threshold
+	 *            the maximal backjump distance in decide levels, or 0 to always backjump.
+	 */
+	public void setChronoBacktrackThreshold(final int threshold) {
+		mChronoBacktrackThreshold = threshold;
+	}
+
+	public int getChronoBacktrackThreshold() {
+		return mChronoBacktrackThreshold;
+	}
+
+	/**
+	 * Share learned clauses with other engines running in parallel on the same assertions. Short learned clauses with
+	 * a low LBD over Boolean variables are exported and the clauses of the other engines are imported at restarts.
+	 * If proofs are produced, clauses are only exported, since the imported clauses would have no proof.
+	 *
+	 * @param port
+	 *            the connection to the clause exchange, or null to stop sharing clauses.
+	 */
+	public void setClauseExchange(final ClauseExchange.Port port) {
+		mClauseExchange = port;
+	}
+
 	public Literal[] getUnsatAssumptions() {
 		return mUnsatClause.mLiterals;
 	}
@@ -1637,9 +3257,22 @@ public class DPLLEngine {
 		// Don't crash the solver one stupid scripts...
 		final Object[] res = mTheories == null ? new Object[1] : new Object[mTheories.length + 1];
 		final Object[] mystats = new Object[][] { { "Conflicts", mConflicts }, { "Propagations", mProps },
-				{ "Theory_propagations", mTProps }, { "Decides", mDecides }, { "Random_splits", mNumRandomSplits },
+				{ "Binary_propagations", mBinaryProps }, { "Theory_propagations", mTProps },
+				{ "Decides", mDecides }, { "Random_splits", mNumRandomSplits },
 				{ "Num_Atoms", mAtoms.size() + mDecideStack.size() }, { "Solved_Atoms", mNumSolvedAtoms },
-				{ "Clauses", mNumClauses }, { "Axioms", mNumAxiomClauses },
+				{ "Clauses", mNumClauses }, { "Axioms", mNumAxiomClauses }, { "Clause_tiers", getTierStatistics() },
+				{ "Reductions", mNumReductions }, { "Reduced_clauses", mNumReducedClauses },
+				{ "Chrono_backtracks", mNumChronoBacktracks },
+				{ "Shared_clauses", new Object[][] {
+						{ "Exported", mClauseExchange == null ? 0 : mClauseExchange.mNumExported },
+						{ "Imported", mClauseExchange == null ? 0 : mClauseExchange.mNumImported } } },
+				{ "Restarts", mRestartPolicy.getStatistics() }, { "Decision_queue", mAtoms.getStatistics() },
+				{ "Inprocessing", new Object[][] { { "Rounds", mNumInprocessings }, { "Subsumed", mNumSubsumed },
+						{ "Strengthened", mNumStrengthened }, { "Vivified", mNumVivified },
+						{ "Vivified_literals", mNumVivifiedLits } } },
+				{ "Preprocessing", getPreprocessingStatistics() },
+				{ "Phases", new Object[][] { { "Mode", mPhaseMode.name() }, { "Rephases", mNumRephases },
+						{ "Target_trail", mTargetTrailSize }, { "Best_trail", mBestTrailSize } } },
 				{ "Times", new Object[][] { { "Explain", mExplainTime }, { "Propagation", mPropTime },
 						{ "Set", mSetTime }, { "Check", mCheckTime }, { "Backtrack", mBacktrackTime } } } };
 		res[0] = new Object[] { ":Core", mystats };
@@ -1649,6 +3282,33 @@ public class DPLLEngine {
 		return res;
 	}
 
+	private Object[][] getPreprocessingStatistics() {
+		final Object[][] probing = new Object[][] { { "Probes", mNumProbes }, { "Failed_literals", mNumFailedLiterals } };
+		if (mPreprocessor == null) {
+			return probing;
+		}
+		final Object[][] simplify = mPreprocessor.getStatistics();
+		final Object[][] res = Arrays.copyOf(probing, probing.length + simplify.length);
+		System.arraycopy(simplify, 0, res, probing.length, simplify.length);
+		return res;
+	}
+
+	private Object[][] getTierStatistics() {
+		int core = 0;
+		int tier2 = 0;
+		int local = 0;
+		for (final Clause c : mLearnedClauses) {
+			if (c.mTier == Clause.TIER_CORE) {
+				core++;
+			} else if (c.mTier == Clause.TIER_TWO) {
+				tier2++;
+			} else {
+				local++;
+			}
+		}
+		return new Object[][] { { "Core", core }, { "Tier2", tier2 }, { "Local", local } };
+	}
+
 	public void setProduceAssignments(final boolean value) {
 		final boolean old = mProduceAssignments;
 		mProduceAssignments = value;
@@ -1736,6 +3396,8 @@ public class DPLLEngine {
 			backtrackLiteral(lit);
 			// Flip the decision
 			lit.getAtom().mLastStatus = lit.negate();
+			lit.getAtom().mTargetStatus = null;
+			lit.getAtom().mBestStatus = null;
 		}
 		final Clause conflict = finalizeBacktrack();
 		assert conflict == null;
@@ -1756,6 +3418,8 @@ public class DPLLEngine {
 		}
 		final DPLLAtom atom = lit.getAtom();
 		atom.mLastStatus = atom.mLastStatus == null ? atom : atom.mLastStatus.negate();
+		atom.mTargetStatus = null;
+		atom.mBestStatus = null;
 	}
 
 	/**
@@ -1875,6 +3539,9 @@ public class DPLLEngine {
 	 */
 	public boolean assume(final Literal[] lits) {
 		assert mCurrentDecideLevel == mBaseLevel;
+		if (mPreprocessor != null) {
+			mPreprocessor.checkLiterals(lits);
+		}
 		for (final Literal lit : lits) {
 			mLogger.debug("Assuming Literal %s", lit);
 			mAssumptionLiterals.add(lit);
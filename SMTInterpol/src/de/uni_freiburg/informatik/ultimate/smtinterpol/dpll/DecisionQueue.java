@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.AbstractQueue;
+
+/**
+ * The queue of undecided atoms.  The head of the queue is the atom the DPLL
+ * engine decides next.  The order of the queue is given by the decision
+ * heuristic that is implemented by the subclasses.  Atoms are removed from
+ * the queue when they are decided or propagated and are added again when
+ * they are backtracked.
+ */
+public abstract class DecisionQueue extends AbstractQueue<DPLLAtom> {
+
+	/**
+	 * The available decision heuristics.
+	 */
+	public static enum Heuristic {
+		/**
+		 * Variable state independent decaying sum.  The atoms are kept in a
+		 * binary heap ordered by their activity.
+		 */
+		VSIDS {
+			@Override
+			DecisionQueue create() {
+				return new AtomQueue();
+			}
+		},
+		/**
+		 * Variable move to front.  The atoms are kept in a doubly linked list
+		 * and atoms involved in a conflict are moved to the front.
+		 */
+		VMTF {
+			@Override
+			DecisionQueue create() {
+				return new VMTFQueue();
+			}
+		},
+		/**
+		 * Conflict history based branching.  The atoms are kept in a binary
+		 * heap ordered by a reward that depends on how recently they were
+		 * involved in a conflict.
+		 */
+		CHB {
+			@Override
+			DecisionQueue create() {
+				return new CHBQueue();
+			}
+		};
+
+		abstract DecisionQueue create();
+	}
+
+	/**
+	 * The number of times an atom was bumped.
+	 */
+	long mNumBumps;
+
+	/**
+	 * Get the decision heuristic implemented by this queue.
+	 */
+	public abstract Heuristic getHeuristic();
+
+	/**
+	 * Called when the engine starts to analyze a new conflict.
+	 */
+	void conflict() {
+		// nothing to do by default
+	}
+
+	/**
+	 * Called for every atom that is involved in the analysis of a conflict.
+	 * The atom is usually decided and therefore not in the queue.
+	 * @param atom the atom.
+	 * @param increment the current activity increment used by VSIDS.
+	 */
+	abstract void bumpActivity(DPLLAtom atom, double increment);
+
+	/**
+	 * Check if the heuristic prefers the first atom over the second, i.e.,
+	 * if the first atom would be decided before the second.
+	 */
+	abstract boolean prefers(DPLLAtom first, DPLLAtom second);
+
+	public Object getStatistics() {
+		return new Object[][] { { "Heuristic", getHeuristic().name() }, { "Bumps", mNumBumps } };
+	}
+}
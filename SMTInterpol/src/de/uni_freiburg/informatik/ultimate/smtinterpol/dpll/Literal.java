@@ -26,6 +26,18 @@ public abstract class Literal implements ILiteral {
 	DPLLAtom mAtom;
 	protected Literal  mNegated;
 	Clause.WatchList mWatchers = new Clause.WatchList();
+	/**
+	 * The watchers with blocker literals.  Only used (and allocated) if the
+	 * engine runs in blocker watch list mode.
+	 */
+	Clause.WatchArray mWatchArray;
+	/**
+	 * The binary clauses containing this literal.  Each entry consists of the
+	 * other literal of the clause, which is implied when this literal becomes
+	 * false, and the clause, which explains the implication.  Only used (and
+	 * allocated) if the engine keeps binary clauses in a separate store.
+	 */
+	Clause.WatchArray mBinaryImplications;
 
 	private final int mHash;
 	@Override
@@ -0,0 +1,642 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ResolutionNode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ResolutionNode.Antecedent;
+
+/**
+ * Simplifies the input clauses before the first check.  The preprocessor
+ * substitutes equivalent literals, eliminates atoms by bounded variable
+ * elimination, and removes blocked clauses.  It only touches Boolean
+ * variables and Tseitin proxies on the bottom of the assertion stack that are
+ * not named for get-assignment.  Theory atoms are never touched.
+ *
+ * Every removed clause is put on a reconstruction stack together with a
+ * witness literal.  A model of the simplified clauses is extended to a model
+ * of the original clauses by walking the stack backwards and setting the
+ * witness of every clause that is not satisfied.  If a new clause or an
+ * assumption uses an eliminated atom or a witness, all removed clauses are
+ * restored.
+ *
+ * The clauses added by the preprocessor are resolvents of input clauses and
+ * carry a resolution proof.  Removing a clause needs no proof.
+ */
+public class Preprocessor {
+	/**
+	 * A frame of the depth first search for the strongly connected
+	 * components of the binary implication graph.
+	 */
+	private static class Frame {
+		final Literal mLit;
+		final List<Clause> mEdges;
+		int mNext;
+		int mLowLink;
+
+		Frame(final Literal lit, final List<Clause> edges, final int index) {
+			mLit = lit;
+			mEdges = edges;
+			mLowLink = index;
+		}
+	}
+
+	private final DPLLEngine mEngine;
+	/**
+	 * The atoms that must keep their clauses, because they are named or
+	 * occur in a clause with a deletion hook.
+	 */
+	private final Set<DPLLAtom> mFrozen;
+	/**
+	 * The input clauses containing a literal.  Removed clauses are removed
+	 * lazily.
+	 */
+	private final HashMap<Literal, ArrayList<Clause>> mOccurrences = new HashMap<Literal, ArrayList<Clause>>();
+	/**
+	 * The atoms that were eliminated or are the witness of a removed clause.
+	 */
+	private final HashSet<DPLLAtom> mTouched = new HashSet<DPLLAtom>();
+	/**
+	 * The atoms that were eliminated and removed from the decision queue.
+	 */
+	private final ArrayList<DPLLAtom> mEliminated = new ArrayList<DPLLAtom>();
+	/**
+	 * The input clauses that were removed.
+	 */
+	private final ArrayList<Clause> mRemovedClauses = new ArrayList<Clause>();
+	/**
+	 * The reconstruction stack.  The literals of the removed clauses and
+	 * their witnesses.
+	 */
+	private final ArrayList<Literal[]> mReconstructClauses = new ArrayList<Literal[]>();
+	private final ArrayList<Literal> mReconstructWitnesses = new ArrayList<Literal>();
+	/**
+	 * The status of the atoms whose value was changed by the model
+	 * reconstruction.
+	 */
+	private final HashMap<DPLLAtom, Literal> mModel = new HashMap<DPLLAtom, Literal>();
+	private final HashSet<Literal> mMarks = new HashSet<Literal>();
+
+	private int mNumSubstituted, mNumEliminated, mNumResolvents, mNumBlocked, mNumRestores;
+	private long mTime;
+
+	public Preprocessor(final DPLLEngine engine, final Set<DPLLAtom> frozen) {
+		mEngine = engine;
+		mFrozen = frozen;
+	}
+
+	/**
+	 * Check if the preprocessor may remove clauses containing the atom.
+	 */
+	private boolean isFree(final DPLLAtom atom) {
+		return (atom instanceof BooleanVarAtom || atom instanceof NamedAtom) && atom.mAssertionstacklevel == 0
+				&& atom.mDecideStatus == null && !mFrozen.contains(atom);
+	}
+
+	/**
+	 * Check if the preprocessor may eliminate the atom.
+	 */
+	boolean isEliminable(final DPLLAtom atom) {
+		return isFree(atom) && !mTouched.contains(atom);
+	}
+
+	boolean isEliminated(final DPLLAtom atom) {
+		return mTouched.contains(atom) && atom.mAtomQueueIndex == -1 && atom.mDecideStatus == null;
+	}
+
+	List<DPLLAtom> getEliminatedAtoms() {
+		return mEliminated;
+	}
+
+	/**
+	 * Simplify the input clauses.  This must be called on the bottom of the
+	 * assertion stack without assumptions.
+	 */
+	void simplify() {
+		final long start = System.nanoTime();
+		for (final Clause c : mEngine.getClauses()) {
+			if (c.mCleanupHook == null) {
+				addOccurrences(c);
+			} else {
+				for (final Literal lit : c.mLiterals) {
+					mFrozen.add(lit.getAtom());
+				}
+			}
+		}
+		substituteEquivalences();
+		eliminateVariables();
+		eliminateBlockedClauses();
+		mOccurrences.clear();
+		mTime += System.nanoTime() - start;
+	}
+
+	private void addOccurrences(final Clause c) {
+		for (final Literal lit : c.mLiterals) {
+			ArrayList<Clause> occ = mOccurrences.get(lit);
+			if (occ == null) {
+				occ = new ArrayList<Clause>();
+				mOccurrences.put(lit, occ);
+			}
+			occ.add(c);
+		}
+	}
+
+	/**
+	 * Get the input clauses containing a literal that were not removed.
+	 */
+	private List<Clause> getOccurrences(final Literal lit) {
+		final ArrayList<Clause> occ = mOccurrences.get(lit);
+		if (occ == null) {
+			return Collections.emptyList();
+		}
+		int dest = 0;
+		for (int src = 0; src < occ.size(); src++) {
+			final Clause c = occ.get(src);
+			if (c.mNext != null) {
+				occ.set(dest++, c);
+			}
+		}
+		occ.subList(dest, occ.size()).clear();
+		return occ;
+	}
+
+	private void removeClause(final Clause c) {
+		c.removeFromList();
+		mRemovedClauses.add(c);
+	}
+
+	private Clause addClause(final Literal[] lits, final Clause primary, final Antecedent[] antecedents) {
+		final Clause clause = new Clause(lits, 0);
+		mEngine.addClause(clause);
+		if (mEngine.isProofGenerationEnabled()) {
+			clause.setProof(new ResolutionNode(primary, antecedents));
+		}
+		addOccurrences(clause);
+		return clause;
+	}
+
+	private void pushReconstruction(final Literal[] lits, final Literal witness) {
+		mReconstructClauses.add(lits);
+		mReconstructWitnesses.add(witness);
+		mTouched.add(witness.getAtom());
+	}
+
+	private void eliminate(final DPLLAtom atom) {
+		mTouched.add(atom);
+		mEliminated.add(atom);
+		mEngine.eliminateAtom(atom);
+	}
+
+	/**
+	 * Get the implication edges of a literal in the binary implication graph,
+	 * i.e., the binary input clauses that contain the negated literal.  Only
+	 * edges between atoms that can be eliminated are considered.
+	 */
+	private List<Clause> getImplications(final Literal lit) {
+		final ArrayList<Clause> edges = new ArrayList<Clause>();
+		for (final Clause c : getOccurrences(lit.negate())) {
+			if (c.getSize() == 2 && isEliminable(getOther(c, lit.negate()).getAtom())) {
+				edges.add(c);
+			}
+		}
+		return edges;
+	}
+
+	private static Literal getOther(final Clause binary, final Literal lit) {
+		return binary.mLiterals[0] == lit ? binary.mLiterals[1] : binary.mLiterals[0];
+	}
+
+	/**
+	 * Substitute equivalent literals.  The equivalences are the strongly
+	 * connected components of the binary implication graph.  Every literal in
+	 * a component is replaced by a representative of the component.  The
+	 * substituted clause is derived by resolving with the binary clauses on an
+	 * implication path from the literal to its representative.
+	 */
+	private void substituteEquivalences() {
+		final HashMap<Literal, Integer> index = new HashMap<Literal, Integer>();
+		final HashMap<Literal, Integer> component = new HashMap<Literal, Integer>();
+		final HashMap<Literal, Literal> representative = new HashMap<Literal, Literal>();
+		final ArrayList<Literal> sccStack = new ArrayList<Literal>();
+		final ArrayDeque<Frame> frames = new ArrayDeque<Frame>();
+		final ArrayList<DPLLAtom> atoms = new ArrayList<DPLLAtom>();
+		for (final Literal lit : mOccurrences.keySet()) {
+			if (lit == lit.getAtom() || !mOccurrences.containsKey(lit.getAtom())) {
+				atoms.add(lit.getAtom());
+			}
+		}
+		/* Tarjan's algorithm without recursion, since the implication chains can be long */
+		for (final DPLLAtom atom : atoms) {
+			for (final Literal root : new Literal[] { atom, atom.negate() }) {
+				if (!isEliminable(atom) || index.containsKey(root)) {
+					continue;
+				}
+				index.put(root, index.size());
+				sccStack.add(root);
+				frames.push(new Frame(root, getImplications(root), index.get(root)));
+				while (!frames.isEmpty()) {
+					final Frame frame = frames.peek();
+					if (frame.mNext < frame.mEdges.size()) {
+						final Literal succ = getOther(frame.mEdges.get(frame.mNext++), frame.mLit.negate());
+						final Integer succIndex = index.get(succ);
+						if (succIndex == null) {
+							index.put(succ, index.size());
+							sccStack.add(succ);
+							frames.push(new Frame(succ, getImplications(succ), index.get(succ)));
+						} else if (!component.containsKey(succ)) {
+							frame.mLowLink = Math.min(frame.mLowLink, succIndex);
+						}
+						continue;
+					}
+					frames.pop();
+					if (!frames.isEmpty()) {
+						frames.peek().mLowLink = Math.min(frames.peek().mLowLink, frame.mLowLink);
+					}
+					if (frame.mLowLink == index.get(frame.mLit)) {
+						final int start = sccStack.lastIndexOf(frame.mLit);
+						final List<Literal> members = sccStack.subList(start, sccStack.size());
+						for (final Literal member : members) {
+							component.put(member, frame.mLowLink);
+						}
+						chooseRepresentative(members, component, representative);
+						members.clear();
+					}
+				}
+			}
+		}
+		if (representative.isEmpty()) {
+			return;
+		}
+		/* compute the implication paths before the binary clauses are substituted */
+		final HashMap<Literal, Antecedent[]> paths = new HashMap<Literal, Antecedent[]>();
+		final ArrayList<DPLLAtom> substituted = new ArrayList<DPLLAtom>();
+		final LinkedHashSet<Clause> clauses = new LinkedHashSet<Clause>();
+		for (final DPLLAtom atom : atoms) {
+			final Literal rep = representative.get(atom);
+			if (rep != null && rep != atom) {
+				paths.put(atom, findPath(atom, rep, component));
+				paths.put(atom.negate(), findPath(atom.negate(), rep.negate(), component));
+				clauses.addAll(getOccurrences(atom));
+				clauses.addAll(getOccurrences(atom.negate()));
+				substituted.add(atom);
+			}
+		}
+		for (final DPLLAtom atom : substituted) {
+			final Literal rep = representative.get(atom);
+			pushReconstruction(new Literal[] { atom, rep.negate() }, atom);
+			pushReconstruction(new Literal[] { atom.negate(), rep }, atom.negate());
+			eliminate(atom);
+			mNumSubstituted++;
+		}
+		for (final Clause c : clauses) {
+			if (c.mNext != null) {
+				substituteClause(c, paths, representative);
+			}
+		}
+	}
+
+	/**
+	 * Replace a clause by the clause where every literal is replaced by its
+	 * representative.  The new clause is derived by resolving along the
+	 * implication paths.  A literal that was already removed by an earlier
+	 * path is skipped; its representative was added by that path.
+	 */
+	private void substituteClause(final Clause c, final HashMap<Literal, Antecedent[]> paths,
+			final HashMap<Literal, Literal> representative) {
+		mMarks.clear();
+		for (final Literal lit : c.mLiterals) {
+			final Literal rep = paths.containsKey(lit) ? representative.get(lit) : lit;
+			if (mMarks.contains(rep.negate())) {
+				/* the clause is a tautology modulo the equivalences */
+				removeClause(c);
+				return;
+			}
+			mMarks.add(rep);
+		}
+		final LinkedHashSet<Literal> lits = new LinkedHashSet<Literal>();
+		Collections.addAll(lits, c.mLiterals);
+		final ArrayList<Antecedent> antecedents = new ArrayList<Antecedent>();
+		for (final Literal lit : c.mLiterals) {
+			final Antecedent[] path = paths.get(lit);
+			if (path == null || !lits.contains(lit)) {
+				continue;
+			}
+			for (final Antecedent ante : path) {
+				lits.remove(ante.mPivot.negate());
+				lits.add(getOther(ante.mAntecedent, ante.mPivot));
+				antecedents.add(ante);
+			}
+		}
+		removeClause(c);
+		addClause(lits.toArray(new Literal[lits.size()]), c, antecedents.toArray(new Antecedent[antecedents.size()]));
+	}
+
+	/**
+	 * Choose the representative of a strongly connected component.  The
+	 * representative must be the negation of the representative of the
+	 * negated component.  Components that contain a literal and its negation
+	 * are left to the solver.
+	 */
+	private static void chooseRepresentative(final List<Literal> members, final HashMap<Literal, Integer> component,
+			final HashMap<Literal, Literal> representative) {
+		if (members.size() == 1) {
+			return;
+		}
+		final Integer id = component.get(members.get(0));
+		for (final Literal member : members) {
+			if (id.equals(component.get(member.negate()))) {
+				return;
+			}
+		}
+		final Literal negRep = representative.get(members.get(0).negate());
+		final Literal rep = negRep == null ? members.get(0) : negRep.negate();
+		for (final Literal member : members) {
+			representative.put(member, rep);
+		}
+	}
+
+	/**
+	 * Find a shortest implication path between two literals in the same
+	 * component by breadth first search.
+	 *
+	 * @return the antecedents that resolve the first literal to the second.
+	 */
+	private Antecedent[] findPath(final Literal from, final Literal to, final HashMap<Literal, Integer> component) {
+		final Integer id = component.get(from);
+		final HashMap<Literal, Clause> parent = new HashMap<Literal, Clause>();
+		final ArrayDeque<Literal> todo = new ArrayDeque<Literal>();
+		todo.add(from);
+		parent.put(from, null);
+		while (!parent.containsKey(to)) {
+			final Literal lit = todo.remove();
+			for (final Clause c : getImplications(lit)) {
+				final Literal succ = getOther(c, lit.negate());
+				if (id.equals(component.get(succ)) && !parent.containsKey(succ)) {
+					parent.put(succ, c);
+					todo.add(succ);
+				}
+			}
+		}
+		final ArrayList<Antecedent> path = new ArrayList<Antecedent>();
+		Literal lit = to;
+		while (lit != from) {
+			final Clause c = parent.get(lit);
+			final Literal pred = getOther(c, lit).negate();
+			path.add(new Antecedent(pred.negate(), c));
+			lit = pred;
+		}
+		Collections.reverse(path);
+		return path.toArray(new Antecedent[path.size()]);
+	}
+
+	/**
+	 * Eliminate atoms by clause distribution.  An atom is eliminated if the
+	 * non-tautological resolvents of its clauses are not more than the
+	 * clauses and none of them is too long.  Atoms with few occurrences are
+	 * tried first.
+	 */
+	private void eliminateVariables() {
+		final ArrayList<DPLLAtom> candidates = new ArrayList<DPLLAtom>();
+		for (final Literal lit : mOccurrences.keySet()) {
+			if ((lit == lit.getAtom() || !mOccurrences.containsKey(lit.getAtom())) && isEliminable(lit.getAtom())) {
+				candidates.add(lit.getAtom());
+			}
+		}
+		final HashMap<DPLLAtom, Integer> counts = new HashMap<DPLLAtom, Integer>();
+		for (final DPLLAtom atom : candidates) {
+			counts.put(atom, getOccurrences(atom).size() + getOccurrences(atom.negate()).size());
+		}
+		candidates.sort((a1, a2) -> counts.get(a1) - counts.get(a2));
+		for (final DPLLAtom atom : candidates) {
+			if (mEngine.isTerminationRequested()) {
+				return;
+			}
+			if (isEliminable(atom)) {
+				eliminateVariable(atom);
+			}
+		}
+	}
+
+	private void eliminateVariable(final DPLLAtom atom) {
+		final List<Clause> pos = new ArrayList<Clause>(getOccurrences(atom));
+		final List<Clause> neg = new ArrayList<Clause>(getOccurrences(atom.negate()));
+		if (pos.size() + neg.size() > Config.PREPROCESS_MAX_OCCURRENCES) {
+			return;
+		}
+		final ArrayList<Literal[]> resolvents = new ArrayList<Literal[]>();
+		final ArrayList<Clause> primaries = new ArrayList<Clause>();
+		final ArrayList<Clause> secondaries = new ArrayList<Clause>();
+		for (final Clause c : pos) {
+			for (final Clause d : neg) {
+				final Literal[] lits = resolve(c, d, atom);
+				if (lits == null) {
+					continue;
+				}
+				if (lits.length > Config.PREPROCESS_MAX_RESOLVENT_SIZE
+						|| resolvents.size() == pos.size() + neg.size()) {
+					return;
+				}
+				resolvents.add(lits);
+				primaries.add(c);
+				secondaries.add(d);
+			}
+		}
+		/*
+		 * Only the clauses of one polarity are needed for the reconstruction. The atom is false unless one of these
+		 * clauses is not satisfied otherwise.
+		 */
+		final List<Clause> witnessed = pos.size() <= neg.size() ? pos : neg;
+		final Literal witness = witnessed == pos ? atom : atom.negate();
+		for (final Clause c : witnessed) {
+			pushReconstruction(c.mLiterals.clone(), witness);
+		}
+		pushReconstruction(new Literal[] { witness.negate() }, witness.negate());
+		for (final Clause c : pos) {
+			removeClause(c);
+		}
+		for (final Clause d : neg) {
+			removeClause(d);
+		}
+		for (int i = 0; i < resolvents.size(); i++) {
+			addClause(resolvents.get(i), primaries.get(i),
+					new Antecedent[] { new Antecedent(atom.negate(), secondaries.get(i)) });
+		}
+		eliminate(atom);
+		mNumEliminated++;
+		mNumResolvents += resolvents.size();
+	}
+
+	/**
+	 * Resolve two clauses on an atom.
+	 *
+	 * @return the literals of the resolvent or null if it is a tautology.
+	 */
+	private Literal[] resolve(final Clause c, final Clause d, final DPLLAtom atom) {
+		mMarks.clear();
+		final ArrayList<Literal> lits = new ArrayList<Literal>();
+		for (final Clause clause : new Clause[] { c, d }) {
+			for (final Literal lit : clause.mLiterals) {
+				if (lit.getAtom() == atom) {
+					continue;
+				}
+				if (mMarks.contains(lit.negate())) {
+					return null;
+				}
+				if (mMarks.add(lit)) {
+					lits.add(lit);
+				}
+			}
+		}
+		return lits.toArray(new Literal[lits.size()]);
+	}
+
+	/**
+	 * Remove blocked clauses.  A clause is blocked on one of its literals, if
+	 * all resolvents on this literal are tautologies.
+	 */
+	private void eliminateBlockedClauses() {
+		final ArrayList<Clause> clauses = new ArrayList<Clause>();
+		for (final Clause c : mEngine.getClauses()) {
+			clauses.add(c);
+		}
+		for (final Clause c : clauses) {
+			if (mEngine.isTerminationRequested()) {
+				return;
+			}
+			if (c.mNext == null || c.mCleanupHook != null) {
+				continue;
+			}
+			mMarks.clear();
+			Collections.addAll(mMarks, c.mLiterals);
+			for (final Literal lit : c.mLiterals) {
+				if (isFree(lit.getAtom()) && isBlocked(lit)) {
+					pushReconstruction(c.mLiterals.clone(), lit);
+					removeClause(c);
+					mNumBlocked++;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check if the marked clause is blocked on a literal.
+	 */
+	private boolean isBlocked(final Literal lit) {
+		final List<Clause> occ = getOccurrences(lit.negate());
+		if (occ.size() > Config.PREPROCESS_MAX_OCCURRENCES) {
+			return false;
+		}
+		next_clause: for (final Clause d : occ) {
+			for (final Literal other : d.mLiterals) {
+				if (other != lit.negate() && mMarks.contains(other.negate())) {
+					continue next_clause;
+				}
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Extend the model found by the engine to the eliminated atoms and the
+	 * removed clauses.
+	 */
+	void extendModel() {
+		mModel.clear();
+		for (int i = mReconstructClauses.size() - 1; i >= 0; i--) {
+			if (!isSatisfied(mReconstructClauses.get(i))) {
+				final Literal witness = mReconstructWitnesses.get(i);
+				mModel.put(witness.getAtom(), witness);
+			}
+		}
+	}
+
+	private boolean isSatisfied(final Literal[] lits) {
+		for (final Literal lit : lits) {
+			if (getModelStatus(lit.getAtom()) == lit) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the status of an atom in the extended model.
+	 */
+	Literal getModelStatus(final DPLLAtom atom) {
+		final Literal status = mModel.get(atom);
+		if (status != null) {
+			return status;
+		}
+		return atom.mDecideStatus == null ? atom.mLastStatus : atom.mDecideStatus;
+	}
+
+	/**
+	 * Check if new literals use an atom that was eliminated or is the witness
+	 * of a removed clause.  In that case the removed clauses are restored.
+	 *
+	 * @param lits
+	 *            the literals of a new clause or the new assumptions.
+	 */
+	void checkLiterals(final Literal[] lits) {
+		if (mTouched.isEmpty()) {
+			return;
+		}
+		for (final Literal lit : lits) {
+			if (mTouched.contains(lit.getAtom())) {
+				restore();
+				return;
+			}
+		}
+	}
+
+	private void restore() {
+		mNumRestores++;
+		for (final Clause c : mRemovedClauses) {
+			final Clause copy = new Clause(c.mLiterals.clone(), c.mStacklevel);
+			copy.setProof(c.getProof());
+			mEngine.restoreClause(copy);
+		}
+		for (final DPLLAtom atom : mEliminated) {
+			mEngine.restoreAtom(atom);
+		}
+		mRemovedClauses.clear();
+		mEliminated.clear();
+		mTouched.clear();
+		mReconstructClauses.clear();
+		mReconstructWitnesses.clear();
+		mModel.clear();
+	}
+
+	public Object[][] getStatistics() {
+		return new Object[][] { { "Substituted", mNumSubstituted }, { "Eliminated", mNumEliminated },
+				{ "Resolvents", mNumResolvents }, { "Blocked", mNumBlocked }, { "Restores", mNumRestores },
+				{ "Time", mTime / 1000000 } };// NOCHECKSTYLE
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * A restart policy decides when the DPLL engine restarts.  The engine informs
+ * the policy about every learned clause and asks after every conflict whether
+ * it should restart.
+ */
+public abstract class RestartPolicy {
+
+	/**
+	 * The available restart strategies.
+	 */
+	public static enum Strategy {
+		/**
+		 * Restart after a multiple of the Luby sequence conflicts.
+		 */
+		LUBY {
+			@Override
+			RestartPolicy create() {
+				return new Luby();
+			}
+		},
+		/**
+		 * Restart after a geometrically increasing number of conflicts.
+		 */
+		GEOMETRIC {
+			@Override
+			RestartPolicy create() {
+				return new Geometric();
+			}
+		},
+		/**
+		 * Restart when the LBD of the recently learned clauses is high
+		 * compared to the long-term average.
+		 */
+		GLUCOSE {
+			@Override
+			RestartPolicy create() {
+				return new Glucose();
+			}
+		};
+
+		abstract RestartPolicy create();
+	}
+
+	/**
+	 * The number of restarts done by this policy.
+	 */
+	int mNumRestarts;
+
+	/**
+	 * Get the strategy this policy implements.
+	 */
+	public abstract Strategy getStrategy();
+
+	/**
+	 * Called when a new check starts.
+	 */
+	abstract void init();
+
+	/**
+	 * Called for every learned clause.
+	 * @param lbd the literal block distance of the learned clause.
+	 */
+	abstract void conflict(int lbd);
+
+	/**
+	 * Check if the engine should restart now.
+	 * @return true if the engine should restart.
+	 */
+	abstract boolean shouldRestart();
+
+	/**
+	 * Called after the engine restarted.
+	 */
+	void restarted() {
+		mNumRestarts++;
+	}
+
+	public int getNumRestarts() {
+		return mNumRestarts;
+	}
+
+	public Object getStatistics() {
+		return new Object[][] { { "Strategy", getStrategy().name() }, { "Restarts", mNumRestarts } };
+	}
+
+	/**
+	 * The Luby restart policy.  The number of conflicts between two restarts
+	 * is {@link Config#RESTART_FACTOR} times the next element of the Luby
+	 * sequence.
+	 */
+	static class Luby extends RestartPolicy {
+		private int mIteration;
+		private int mNextRestart;
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.LUBY;
+		}
+
+		@Override
+		void init() {
+			mIteration = 1;
+			mNextRestart = Config.RESTART_FACTOR;
+		}
+
+		@Override
+		void conflict(final int lbd) {
+			mNextRestart--;
+		}
+
+		@Override
+		boolean shouldRestart() {
+			return mNextRestart <= 0;
+		}
+
+		@Override
+		void restarted() {
+			super.restarted();
+			mIteration++;
+			mNextRestart = Config.RESTART_FACTOR * luby_super(mIteration);
+		}
+
+		private static final int luby_super(final int i) {
+			int power;
+
+			assert i > 0;
+			/* let 2^k be the least power of 2 >= (i+1) */
+			power = 2;
+			while (power < i + 1) {
+				power *= 2;
+			}
+			if (power == i + 1) {
+				return power / 2;
+			}
+			return luby_super(i - power / 2 + 1);
+		}
+	}
+
+	/**
+	 * The geometric restart policy.  The number of conflicts between two
+	 * restarts starts at {@link Config#GEOMETRIC_RESTART_FIRST} and is
+	 * multiplied by {@link Config#GEOMETRIC_RESTART_FACTOR} after every
+	 * restart.
+	 */
+	static class Geometric extends RestartPolicy {
+		private double mInterval;
+		private int mNextRestart;
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.GEOMETRIC;
+		}
+
+		@Override
+		void init() {
+			mInterval = Config.GEOMETRIC_RESTART_FIRST;
+			mNextRestart = Config.GEOMETRIC_RESTART_FIRST;
+		}
+
+		@Override
+		void conflict(final int lbd) {
+			mNextRestart--;
+		}
+
+		@Override
+		boolean shouldRestart() {
+			return mNextRestart <= 0;
+		}
+
+		@Override
+		void restarted() {
+			super.restarted();
+			mInterval *= Config.GEOMETRIC_RESTART_FACTOR;
+			mNextRestart = mInterval > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) mInterval;
+		}
+	}
+
+	/**
+	 * The glucose style dynamic restart policy.  It keeps a fast and a slow
+	 * exponential moving average of the LBD of the learned clauses and
+	 * restarts if the fast average exceeds the slow one by the margin
+	 * {@link Config#GLUCOSE_RESTART_MARGIN}, i.e., if the recently learned
+	 * clauses are bad compared to the long-term average.
+	 */
+	static class Glucose extends RestartPolicy {
+		private double mFastAverage;
+		private double mSlowAverage;
+		private long mNumConflicts;
+		private int mConflictsSinceRestart;
+		private int mNumBlocked;
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.GLUCOSE;
+		}
+
+		@Override
+		void init() {
+			mConflictsSinceRestart = 0;
+		}
+
+		@Override
+		void conflict(final int lbd) {
+			if (mNumConflicts++ == 0) {
+				mFastAverage = mSlowAverage = lbd;
+			} else {
+				mFastAverage += (lbd - mFastAverage) * Config.GLUCOSE_FAST_ALPHA;
+				mSlowAverage += (lbd - mSlowAverage) * Config.GLUCOSE_SLOW_ALPHA;
+			}
+			mConflictsSinceRestart++;
+		}
+
+		@Override
+		boolean shouldRestart() {
+			if (mConflictsSinceRestart < Config.GLUCOSE_RESTART_MIN_CONFLICTS) {
+				return false;
+			}
+			if (mFastAverage * Config.GLUCOSE_RESTART_MARGIN > mSlowAverage) {
+				return true;
+			}
+			if (mConflictsSinceRestart == Config.GLUCOSE_RESTART_MIN_CONFLICTS) {
+				mNumBlocked++;
+			}
+			return false;
+		}
+
+		@Override
+		void restarted() {
+			super.restarted();
+			mConflictsSinceRestart = 0;
+		}
+
+		@Override
+		public Object getStatistics() {
+			return new Object[][] { { "Strategy", getStrategy().name() }, { "Restarts", mNumRestarts },
+					{ "Blocked", mNumBlocked }, { "Fast_LBD_average", mFastAverage },
+					{ "Slow_LBD_average", mSlowAverage } };
+		}
+	}
+}
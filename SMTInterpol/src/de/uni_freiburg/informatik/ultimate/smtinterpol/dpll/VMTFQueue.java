@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The queue of undecided atoms for the variable move to front heuristic.
+ *
+ * All atoms, decided or not, are kept in a doubly linked list.  Every atom
+ * involved in a conflict is moved to the front of the list and gets a new
+ * stamp; the stamps are increasing from the back to the front.  The head of
+ * the queue is the undecided atom closest to the front of the list.  To find
+ * it quickly, we keep a search pointer such that all atoms in front of it are
+ * decided.  Bumping an atom is constant time and finding the head is amortized
+ * constant time.
+ *
+ * An atom is in the queue iff its atom queue index is not -1.  Decided atoms
+ * are removed from the queue but stay linked.  Undecided atoms that are
+ * removed are unlinked since they are removed from the engine.
+ */
+public class VMTFQueue extends DecisionQueue {
+	/**
+	 * The front of the list, i.e., the atom with the highest stamp.
+	 */
+	private DPLLAtom mFront;
+	/**
+	 * The back of the list, i.e., the atom with the lowest stamp.
+	 */
+	private DPLLAtom mBack;
+	/**
+	 * The search pointer.  All atoms in front of it are decided.
+	 */
+	private DPLLAtom mSearch;
+	private long mNextStamp;
+	private int mSize;
+	private long mSearchSteps;
+
+	@Override
+	public Heuristic getHeuristic() {
+		return Heuristic.VMTF;
+	}
+
+	private boolean isLinked(DPLLAtom atom) {
+		return atom.mQueuePrev != null || atom.mQueueNext != null || mFront == atom;
+	}
+
+	/**
+	 * Link an atom at the front of the list.
+	 */
+	private void linkFront(DPLLAtom atom) {
+		atom.mQueueStamp = mNextStamp++;
+		atom.mQueueNext = null;
+		atom.mQueuePrev = mFront;
+		if (mFront == null) {
+			mBack = atom;
+		} else {
+			mFront.mQueueNext = atom;
+		}
+		mFront = atom;
+	}
+
+	private void unlink(DPLLAtom atom) {
+		if (mSearch == atom) {
+			mSearch = atom.mQueuePrev;
+		}
+		if (atom.mQueuePrev == null) {
+			mBack = atom.mQueueNext;
+		} else {
+			atom.mQueuePrev.mQueueNext = atom.mQueueNext;
+		}
+		if (atom.mQueueNext == null) {
+			mFront = atom.mQueuePrev;
+		} else {
+			atom.mQueueNext.mQueuePrev = atom.mQueuePrev;
+		}
+		atom.mQueuePrev = atom.mQueueNext = null;
+	}
+
+	@Override
+	void bumpActivity(DPLLAtom atom, double increment) {
+		mNumBumps++;
+		if (mFront == atom) {
+			return;
+		}
+		if (isLinked(atom)) {
+			unlink(atom);
+		}
+		linkFront(atom);
+		if (atom.mAtomQueueIndex != -1) {
+			mSearch = atom;
+		}
+	}
+
+	@Override
+	boolean prefers(DPLLAtom first, DPLLAtom second) {
+		return first.mQueueStamp > second.mQueueStamp;
+	}
+
+	@Override
+	public boolean offer(DPLLAtom atom) {
+		if (atom.mAtomQueueIndex != -1) {
+			return false;
+		}
+		if (!isLinked(atom)) {
+			linkFront(atom);
+		}
+		atom.mAtomQueueIndex = 0;
+		mSize++;
+		if (mSearch == null || atom.mQueueStamp > mSearch.mQueueStamp) {
+			mSearch = atom;
+		}
+		return true;
+	}
+
+	@Override
+	public DPLLAtom peek() {
+		DPLLAtom atom = mSearch;
+		while (atom != null && atom.mAtomQueueIndex == -1) {
+			atom = atom.mQueuePrev;
+			mSearchSteps++;
+		}
+		mSearch = atom;
+		return atom;
+	}
+
+	@Override
+	public DPLLAtom poll() {
+		final DPLLAtom atom = peek();
+		if (atom != null) {
+			remove(atom);
+		}
+		return atom;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof DPLLAtom && ((DPLLAtom) o).mAtomQueueIndex != -1;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!contains(o)) {
+			return false;
+		}
+		final DPLLAtom atom = (DPLLAtom) o;
+		atom.mAtomQueueIndex = -1;
+		mSize--;
+		if (atom.mDecideStatus == null) {
+			unlink(atom);
+		}
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		DPLLAtom atom = mFront;
+		while (atom != null) {
+			final DPLLAtom prev = atom.mQueuePrev;
+			atom.mAtomQueueIndex = -1;
+			atom.mQueuePrev = atom.mQueueNext = null;
+			atom = prev;
+		}
+		mFront = mBack = mSearch = null;
+		mSize = 0;
+	}
+
+	@Override
+	public int size() {
+		return mSize;
+	}
+
+	@Override
+	public Iterator<DPLLAtom> iterator() {
+		return new Iterator<DPLLAtom>() {
+			DPLLAtom mNext = advance(mFront);
+			DPLLAtom mLast;
+
+			private DPLLAtom advance(DPLLAtom atom) {
+				while (atom != null && atom.mAtomQueueIndex == -1) {
+					atom = atom.mQueuePrev;
+				}
+				return atom;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return mNext != null;
+			}
+
+			@Override
+			public DPLLAtom next() {
+				if (mNext == null) {
+					throw new NoSuchElementException();
+				}
+				mLast = mNext;
+				mNext = advance(mNext.mQueuePrev);
+				return mLast;
+			}
+
+			@Override
+			public void remove() {
+				VMTFQueue.this.remove(mLast);
+			}
+		};
+	}
+
+	@Override
+	public Object getStatistics() {
+		return new Object[][] { { "Heuristic", getHeuristic().name() }, { "Bumps", mNumBumps },
+				{ "Search_steps", mSearchSteps } };
+	}
+}
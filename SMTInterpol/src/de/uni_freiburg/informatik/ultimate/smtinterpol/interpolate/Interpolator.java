@@ -18,14 +18,19 @@
  */
 package de.uni_freiburg.informatik.ultimate.smtinterpol.interpolate;
 
+import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import de.uni_freiburg.informatik.ultimate.logic.AnnotatedTerm;
 import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
@@ -96,12 +101,17 @@ public class Interpolator extends NonRecursive {
 	 * </pre>
 	 */
 	int[] mStartOfSubtrees;
-	HashMap<Term, Occurrence> mSymbolPartition;
 	HashMap<String, Integer> mPartitions;
-	HashMap<Term, LitInfo> mAtomOccurenceInfos;
-	HashMap<Term, Term[]> mInterpolants;
-	HashMap<Term, InterpolatorClauseTermInfo> mClauseTermInfos;
-	HashMap<Term, InterpolatorAtomInfo> mLiteralTermInfos;
+	/*
+	 * The following caches are concurrent maps, since the theory lemmas may be interpolated in parallel. They are
+	 * filled lazily, but a value is only put into the map after it is completely initialized.
+	 */
+	ConcurrentHashMap<Term, Occurrence> mSymbolPartition;
+	ConcurrentHashMap<Term, LitInfo> mAtomOccurenceInfos;
+	ConcurrentHashMap<Term, Term[]> mInterpolants;
+	ConcurrentHashMap<Term, InterpolatorClauseTermInfo> mClauseTermInfos;
+	ConcurrentHashMap<Term, InterpolatorAtomInfo> mLiteralTermInfos;
+	boolean mArrayInterpolation;
 
 	/**
 	 * The interpolants which have already been computed. Used to store the interpolants preceding a resolution before
@@ -110,6 +120,34 @@ public class Interpolator extends NonRecursive {
 	 */
 	private final ArrayDeque<Term[]> mInterpolated = new ArrayDeque<>();
 
+	/**
+	 * This task interpolates a range of theory lemmas in parallel. The range is split in halves until it contains
+	 * only a single lemma.
+	 */
+	private class LeafTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Term[] mLeaves;
+		private final Term[][] mResults;
+		private final int mFrom, mTo;
+
+		LeafTask(final Term[] leaves, final Term[][] results, final int from, final int to) {
+			mLeaves = leaves;
+			mResults = results;
+			mFrom = from;
+			mTo = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (mTo - mFrom == 1) {
+				mResults[mFrom] = computeLeafInterpolants(mLeaves[mFrom]);
+			} else {
+				final int mid = (mFrom + mTo) >>> 1;
+				invokeAll(new LeafTask(mLeaves, mResults, mFrom, mid), new LeafTask(mLeaves, mResults, mid, mTo));
+			}
+		}
+	}
+
 	/**
 	 * This class goes through the proof terms of the proof tree for the input clause. It checks if the interpolant for
 	 * a term already exists, and if not, it enqueues new walkers depending on the node type.
@@ -199,11 +237,12 @@ public class Interpolator extends NonRecursive {
 		mFullOccurrence.occursIn(-1);
 
 		mStartOfSubtrees = startOfSubTrees;
-		mSymbolPartition = new HashMap<>();
-		mAtomOccurenceInfos = new HashMap<>();
-		mInterpolants = new HashMap<>();
-		mClauseTermInfos = new HashMap<>();
-		mLiteralTermInfos = new HashMap<>();
+		mSymbolPartition = new ConcurrentHashMap<>();
+		mAtomOccurenceInfos = new ConcurrentHashMap<>();
+		mInterpolants = new ConcurrentHashMap<>();
+		mClauseTermInfos = new ConcurrentHashMap<>();
+		mLiteralTermInfos = new ConcurrentHashMap<>();
+		mArrayInterpolation = (Boolean) mSmtSolver.getOption(SolverOptions.ARRAY_INTERPOLATION);
 	}
 
 	public LogProxy getLogger() {
@@ -235,6 +274,10 @@ public class Interpolator extends NonRecursive {
 
 		Term[] interpolants = null;
 
+		final int threads = ((BigInteger) mSmtSolver.getOption(SolverOptions.INTERPOLATION_THREADS)).intValue();
+		if (threads > 1) {
+			interpolateLeaves(proofTerm, threads);
+		}
 		run(new ProofTreeWalker(proofTerm));
 
 		// collect the final interpolants from the Interpolated stack
@@ -272,13 +315,75 @@ public class Interpolator extends NonRecursive {
 	}
 
 	/**
-	 * Interpolate a proof tree leaf depending on its type.
+	 * Interpolate all theory lemmas and input clauses of a proof in parallel and store their interpolants in the
+	 * cache. The resolution steps are combined afterwards by the non-recursive walk in the calling thread, which then
+	 * finds the interpolants of all leaves in the cache.
 	 *
-	 * @param clause
+	 * @param proofTerm
+	 *            the proof term to interpolate.
+	 * @param threads
+	 *            the number of threads to use.
+	 */
+	private void interpolateLeaves(final Term proofTerm, final int threads) {
+		final List<Term> leaves = new ArrayList<>();
+		final HashSet<Term> seen = new HashSet<>();
+		final ArrayDeque<Term> todo = new ArrayDeque<>();
+		todo.add(proofTerm);
+		while (!todo.isEmpty()) {
+			final Term term = todo.removeLast();
+			if (mInterpolants.containsKey(term) || !seen.add(term)) {
+				continue;
+			}
+			final InterpolatorClauseTermInfo info = getClauseTermInfo(term);
+			if (info.isResolution()) {
+				todo.add(info.getPrimary());
+				for (final AnnotatedTerm antecedent : info.getAntecedents()) {
+					todo.add(antecedent.getSubterm());
+				}
+			} else {
+				leaves.add(term);
+			}
+		}
+		if (leaves.isEmpty()) {
+			return;
+		}
+		final Term[] leafArray = leaves.toArray(new Term[leaves.size()]);
+		final Term[][] results = new Term[leafArray.length][];
+		// the workers create terms in the shared theory.
+		mTheory.setConcurrent();
+		final ForkJoinPool pool = new ForkJoinPool(Math.min(threads, leafArray.length));
+		try {
+			pool.invoke(new LeafTask(leafArray, results, 0, leafArray.length));
+		} finally {
+			pool.shutdown();
+		}
+		// log and check the results in the calling thread
+		for (int i = 0; i < leafArray.length; i++) {
+			storeLeafInterpolants(leafArray[i], results[i]);
+		}
+	}
+
+	/**
+	 * Interpolate a proof tree leaf and put its interpolants on the stack.
+	 *
+	 * @param leaf
 	 *            the clause to interpolate
 	 */
-	@SuppressWarnings("unused")
 	private void walkLeafNode(final Term leaf) {
+		final Term[] interpolants = computeLeafInterpolants(leaf);
+		storeLeafInterpolants(leaf, interpolants);
+		mInterpolated.add(interpolants);
+	}
+
+	/**
+	 * Interpolate a proof tree leaf depending on its type. This only reads the shared state of the interpolator, or
+	 * updates the concurrent caches. Thus it can be called by several threads in parallel.
+	 *
+	 * @param leaf
+	 *            the clause to interpolate
+	 * @return the interpolants of the leaf.
+	 */
+	private Term[] computeLeafInterpolants(final Term leaf) {
 		if (mSmtSolver.isTerminationRequested()) {
 			throw new SMTLIBException("Timeout exceeded");
 		}
@@ -303,7 +408,7 @@ public class Interpolator extends NonRecursive {
 			} else if (leafTermInfo.getLemmaType().equals(":trichotomy")) {
 				final LAInterpolator ipolator = new LAInterpolator(this);
 				interpolants = ipolator.computeTrichotomyInterpolants(leaf);
-			} else if ((Boolean) mSmtSolver.getOption(SolverOptions.ARRAY_INTERPOLATION)
+			} else if (mArrayInterpolation
 					&& (leafTermInfo.getLemmaType().equals(":read-over-weakeq")
 							|| leafTermInfo.getLemmaType().equals(":weakeq-ext")
 							|| leafTermInfo.getLemmaType().equals(":const-weakeq")
@@ -316,9 +421,18 @@ public class Interpolator extends NonRecursive {
 		} else {
 			throw new UnsupportedOperationException("Cannot interpolate " + leaf);
 		}
+		return interpolants;
+	}
 
-		// add the interpolants to the stack and the cache
-		mInterpolated.add(interpolants);
+	/**
+	 * Add the interpolants of a proof tree leaf to the cache.
+	 *
+	 * @param leaf
+	 *            the interpolated clause
+	 * @param interpolants
+	 *            the interpolants of the clause
+	 */
+	private void storeLeafInterpolants(final Term leaf, final Term[] interpolants) {
 		mInterpolants.put(leaf, interpolants);
 		mLogger.debug("Interpolating leaf %s %s yields ...", leaf.hashCode(), leaf);
 		for (int i = 0; i <= mNumInterpolants - 1; i++) {
@@ -326,7 +440,7 @@ public class Interpolator extends NonRecursive {
 		}
 
 		if (Config.DEEP_CHECK_INTERPOLANTS && mChecker != null) {
-			mChecker.checkInductivity(leafTermInfo.getLiterals(), interpolants);
+			mChecker.checkInductivity(getClauseTermInfo(leaf).getLiterals(), interpolants);
 		}
 	}
 
@@ -642,7 +756,10 @@ public class Interpolator extends NonRecursive {
 			} else {
 				result = new Occurrence();
 			}
-			mSymbolPartition.put(term, result);
+			final Occurrence old = mSymbolPartition.putIfAbsent(term, result);
+			if (old != null) {
+				result = old;
+			}
 		}
 		return result;
 	}
@@ -696,8 +813,14 @@ public class Interpolator extends NonRecursive {
 		assert !isNegatedTerm(atom);
 		LitInfo result = mAtomOccurenceInfos.get(atom);
 		if (result == null) {
-			mLogger.info("colorLiteral: " + atom);
-			result = colorMixedLiteral(atom);
+			// the literal must only be colored once, since its info contains the fresh mixed variable.
+			synchronized (mAtomOccurenceInfos) {
+				result = mAtomOccurenceInfos.get(atom);
+				if (result == null) {
+					mLogger.info("colorLiteral: " + atom);
+					result = colorMixedLiteral(atom);
+				}
+			}
 		}
 		return result;
 	}
@@ -731,12 +854,12 @@ public class Interpolator extends NonRecursive {
 			auxSort = atomInfo.isInt() ? mTheory.getNumericSort() : mTheory.getRealSort();
 		}
 		final LitInfo info = computeMixedOccurrence(subterms);
-		mAtomOccurenceInfos.put(atom, info);
 
 		final BitSet shared = new BitSet();
 		shared.or(info.mInA);
 		shared.or(info.mInB);
 		if (shared.nextClearBit(0) >= mNumInterpolants) {
+			mAtomOccurenceInfos.put(atom, info);
 			return info;
 		}
 
@@ -768,6 +891,7 @@ public class Interpolator extends NonRecursive {
 				info.mAPart[part] = sumApart;
 			}
 		}
+		mAtomOccurenceInfos.put(atom, info);
 		return info;
 	}
 
@@ -1131,22 +1255,24 @@ public class Interpolator extends NonRecursive {
 	 * lemmata, but also for single literals.
 	 */
 	InterpolatorClauseTermInfo getClauseTermInfo(final Term term) {
-		if (mClauseTermInfos.containsKey(term)) {
-			return mClauseTermInfos.get(term);
+		final InterpolatorClauseTermInfo info = mClauseTermInfos.get(term);
+		if (info != null) {
+			return info;
 		}
-		final InterpolatorClauseTermInfo info = new InterpolatorClauseTermInfo(term);
-		mClauseTermInfos.put(term, info);
-		return info;
+		final InterpolatorClauseTermInfo newInfo = new InterpolatorClauseTermInfo(term);
+		final InterpolatorClauseTermInfo old = mClauseTermInfos.putIfAbsent(term, newInfo);
+		return old != null ? old : newInfo;
 	}
 
 	InterpolatorAtomInfo getAtomTermInfo(final Term term) {
 		assert !isNegatedTerm(term);
-		if (mLiteralTermInfos.containsKey(term)) {
-			return mLiteralTermInfos.get(term);
+		final InterpolatorAtomInfo info = mLiteralTermInfos.get(term);
+		if (info != null) {
+			return info;
 		}
-		final InterpolatorAtomInfo info = new InterpolatorAtomInfo(term);
-		mLiteralTermInfos.put(term, info);
-		return info;
+		final InterpolatorAtomInfo newInfo = new InterpolatorAtomInfo(term);
+		final InterpolatorAtomInfo old = mLiteralTermInfos.putIfAbsent(term, newInfo);
+		return old != null ? old : newInfo;
 	}
 
 	/**
@@ -36,11 +36,13 @@ import de.uni_freiburg.informatik.ultimate.logic.Theory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.Clausifier;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.BooleanVarAtom;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.ITheory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.model.FunctionValue.Index;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.ArrayTheory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.CClosure;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.EprTheorySettings;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.DifferenceLogicSolver;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.quant.QuantifierTheory;
 
@@ -79,14 +81,10 @@ public class Model implements de.uni_freiburg.informatik.ultimate.logic.Model {
 		// Extract Boolean model
 		final FunctionValue trueValue = new FunctionValue(mBoolSort.getTrueIdx());
 		final FunctionValue falseValue = new FunctionValue(mBoolSort.getFalseIdx());
+		final DPLLEngine engine = clausifier.getEngine();
 		for (final BooleanVarAtom atom : clausifier.getBooleanVars()) {
 			final ApplicationTerm at = (ApplicationTerm) atom.getSMTFormula(t);
-			FunctionValue value;
-			if (atom.getDecideStatus() == null) {
-				value = atom.getPreferredStatus() == atom ? trueValue : falseValue;
-			} else {
-				value = atom.getDecideStatus() == atom ? trueValue : falseValue;
-			}
+			final FunctionValue value = engine.getModelStatus(atom) == atom ? trueValue : falseValue;
 			mFuncVals.put(at.getFunction(), value);
 		}
 		// Extract different theories
@@ -98,6 +96,8 @@ public class Model implements de.uni_freiburg.informatik.ultimate.logic.Model {
 				la = (LinArSolve) theory;
 			} else if (theory instanceof ArrayTheory) {
 				array = (ArrayTheory) theory;
+			} else if (theory instanceof DifferenceLogicSolver) {
+				// the values are filled in by the linear arithmetic solver
 			} else if (theory instanceof QuantifierTheory) {
 				throw new InternalError("Modelproduction for theory not implemented: " + theory);
 			} else if (theory != cc
@@ -20,6 +20,9 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.option;
 
 import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.PhaseMode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DecisionQueue;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.RestartPolicy;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.Transformations.AvailableTransformations;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.CheckType;
 
@@ -41,8 +44,28 @@ public class SolverOptions {
 	private final EnumOption<CheckType> mCheckType;
 	private final BooleanOption mSimpIps;
 	private final BooleanOption mArrayInterpolation;
+	private final LongOption mInterpolationThreads;
 	private final BooleanOption mProofCheckMode;
+	private final LongOption mProofCheckThreads;
 	private final EnumOption<CheckType> mSimpCheckType;
+	private final BooleanOption mBlockerWatchLists;
+	private final BooleanOption mBinaryImplications;
+	private final BooleanOption mTieredClauses;
+	private final EnumOption<RestartPolicy.Strategy> mRestartStrategy;
+	private final EnumOption<PhaseMode> mPhaseMode;
+	private final LongOption mRephaseInterval;
+	private final LongOption mChronoBacktrackThreshold;
+	private final EnumOption<DecisionQueue.Heuristic> mDecisionHeuristic;
+	private final BooleanOption mInprocessing;
+	private final BooleanOption mPreprocessing;
+	private final LongOption mPortfolioThreads;
+	private final LongOption mCubeDepth;
+	private final BooleanOption mSimplexLUFactorization;
+	private final BooleanOption mSimplexFloatPrepass;
+	private final LongOption mBoundPropagationBudget;
+	private final BooleanOption mGomoryCuts;
+	private final LongOption mBranchAndBoundNodes;
+	private final BooleanOption mDifferenceLogicSolver;
 
 	public static final String TIMEOUT = ":timeout";
 	public static final String RANDOM_SEED = ":random-seed";
@@ -51,13 +74,33 @@ public class SolverOptions {
 	public static final String PRODUCE_PROOFS = ":produce-proofs";
 	public static final String PROOF_TRANSFORMATION = ":proof-transformation";
 	public static final String PROOF_CHECK_MODE = ":proof-check-mode";
+	public static final String PROOF_CHECK_THREADS = ":proof-check-threads";
 	public static final String PRODUCE_INTERPOLANTS = ":produce-interpolants";
 	public static final String INTERPOLANT_CHECK_MODE = ":interpolant-check-mode";
 	public static final String SIMPLIFY_INTERPOLANTS = ":simplify-interpolants";
 	public static final String ARRAY_INTERPOLATION = ":array-interpolation";
+	public static final String INTERPOLATION_THREADS = ":interpolation-threads";
 	public static final String CHECK_TYPE = ":check-type";
 	public static final String SIMPLIFY_CHECK_TYPE = ":simplify-check-type";
 	public static final String EPR = ":epr";
+	public static final String BLOCKER_WATCH_LISTS = ":blocker-watch-lists";
+	public static final String BINARY_IMPLICATIONS = ":binary-implications";
+	public static final String TIERED_CLAUSE_DATABASE = ":tiered-clause-database";
+	public static final String RESTART_STRATEGY = ":restart-strategy";
+	public static final String PHASE_MODE = ":phase-mode";
+	public static final String REPHASE_INTERVAL = ":rephase-interval";
+	public static final String CHRONO_BACKTRACK_THRESHOLD = ":chrono-backtrack-threshold";
+	public static final String DECISION_HEURISTIC = ":decision-heuristic";
+	public static final String INPROCESSING = ":inprocessing";
+	public static final String PREPROCESSING = ":preprocessing";
+	public static final String PORTFOLIO_THREADS = ":portfolio-threads";
+	public static final String CUBE_DEPTH = ":cube-depth";
+	public static final String SIMPLEX_LU_FACTORIZATION = ":simplex-lu-factorization";
+	public static final String SIMPLEX_FLOAT_PREPASS = ":simplex-float-prepass";
+	public static final String BOUND_PROPAGATION_BUDGET = ":bound-propagation-budget";
+	public static final String GOMORY_CUTS = ":gomory-cuts";
+	public static final String BRANCH_AND_BOUND_NODES = ":branch-and-bound-nodes";
+	public static final String DIFFERENCE_LOGIC_SOLVER = ":difference-logic-solver";
 
 	SolverOptions(final OptionMap options, final LogProxy logger) {
 		mTimeout = new LongOption(0, true, "Soft timeout in milliseconds for "
@@ -83,11 +126,55 @@ public class SolverOptions {
 		mSimpIps = new BooleanOption(false, true,
 				"Apply strong context simplification to generated interpolants.");
 		mArrayInterpolation = new BooleanOption(true, true, "Support interpolation for array theory lemmas.");
+		mInterpolationThreads = new LongOption(1, true, "Number of threads interpolating the theory lemmas of a"
+				+ " proof in parallel.  Values <= 1 use only the calling thread.");
 		mProofCheckMode = new BooleanOption(false,
 				false, "Check the produced proof for unsatisfiable formulas.");
+		mProofCheckThreads = new LongOption(1, true, "Number of threads checking the lemmas and rewrites of a"
+				+ " proof in parallel.  Values <= 1 use only the calling thread.");
 		mSimpCheckType = new EnumOption<CheckType>(CheckType.QUICK, true,
 				CheckType.class, "Strength of checks used by the strong context"
 				+ " simplifier used in the simplify command");
+		mBlockerWatchLists = new BooleanOption(false, false,
+				"Use array backed watch lists with blocker literals for unit propagation.");
+		mBinaryImplications = new BooleanOption(false, false,
+				"Propagate binary clauses with a separate implication store before the other clauses.");
+		mTieredClauses = new BooleanOption(false, true,
+				"Keep learned clauses in core, tier2 and local tiers based on their LBD and reduce them periodically.");
+		mRestartStrategy = new EnumOption<RestartPolicy.Strategy>(RestartPolicy.Strategy.LUBY, true,
+				RestartPolicy.Strategy.class,
+				"Strategy that decides when to restart: luby, geometric, or glucose (based on the LBD average).");
+		mPhaseMode = new EnumOption<PhaseMode>(PhaseMode.SAVED, true, PhaseMode.class,
+				"Phase used for decisions: saved, target (longest conflict-free trail since the last restart), or best "
+				+ "(longest conflict-free trail since the last rephasing).");
+		mRephaseInterval = new LongOption(0, true, "Number of conflicts between two rephasings of the saved phases."
+				+ "  Values <= 0 deactivate rephasing.");
+		mChronoBacktrackThreshold = new LongOption(0, true, "Backtrack chronologically if a backjump would skip"
+				+ " more than this many decision levels.  Values <= 0 deactivate chronological backtracking.");
+		mDecisionHeuristic = new EnumOption<DecisionQueue.Heuristic>(DecisionQueue.Heuristic.VSIDS, true,
+				DecisionQueue.Heuristic.class,
+				"Heuristic that chooses the next atom to decide: vsids, vmtf (move to front), or chb (conflict history).");
+		mInprocessing = new BooleanOption(false, true,
+				"Simplify learned clauses at restarts by subsumption, self-subsuming resolution and vivification.");
+		mPreprocessing = new BooleanOption(false, true,
+				"Simplify the Boolean input clauses before the first check by failed literal probing, equivalent "
+						+ "literal substitution, variable elimination and blocked clause elimination.");
+		mPortfolioThreads = new LongOption(1, false, "Number of threads racing on a full check-sat, each with"
+				+ " different search parameters.  Values <= 1 use only the calling thread.");
+		mCubeDepth = new LongOption(0, false, "Split the search space of a full check-sat into up to 2^n cubes"
+				+ " chosen by lookahead and solve them in parallel.  Values <= 0 disable cube and conquer.");
+		mSimplexLUFactorization = new BooleanOption(false, false, "Use a revised simplex for linear arithmetic that"
+				+ " keeps an LU factorization of the basis instead of the full tableaux.");
+		mSimplexFloatPrepass = new BooleanOption(false, true, "Search a feasible basis for linear arithmetic with"
+				+ " floating point numbers first and let the exact simplex only check and repair it.");
+		mBoundPropagationBudget = new LongOption(0, true, "Maximal number of tableaux rows for which linear"
+				+ " arithmetic propagates bounds at once.  Values <= 0 propagate all rows.");
+		mGomoryCuts = new BooleanOption(false, true, "Generate Gomory cuts from the simplex tableaux for integer"
+				+ " arithmetic and keep them in a cut pool.");
+		mBranchAndBoundNodes = new LongOption(0, true, "Maximal number of nodes of the internal branch and bound"
+				+ " search for integer arithmetic.  Values <= 0 disable the search and branch in the DPLL engine only.");
+		mDifferenceLogicSolver = new BooleanOption(false, false, "Check the difference constraints of QF_IDL and"
+				+ " QF_RDL with a constraint graph and run the simplex only in the final check.");
 
 		// general standard compliant options
 		options.addOption(":verbosity", new VerbosityOption(logger));
@@ -109,12 +196,14 @@ public class SolverOptions {
 		options.addOption(PRODUCE_PROOFS, mProduceProofs);
 		options.addOption(PROOF_TRANSFORMATION, mProofTrans);
 		options.addOption(PROOF_CHECK_MODE, mProofCheckMode);
+		options.addOption(PROOF_CHECK_THREADS, mProofCheckThreads);
 
 		// interpolant options
 		options.addOption(PRODUCE_INTERPOLANTS, mProduceInterpolants);
 		options.addOption(INTERPOLANT_CHECK_MODE, mInterpolantCheckMode);
 		options.addOption(SIMPLIFY_INTERPOLANTS, mSimpIps);
 		options.addOption(ARRAY_INTERPOLATION, mArrayInterpolation);
+		options.addOption(INTERPOLATION_THREADS, mInterpolationThreads);
 
 		// unsat core options
 		options.addOption(":produce-unsat-cores", new BooleanOption(
@@ -133,6 +222,28 @@ public class SolverOptions {
 		options.addOption(EPR, new BooleanOption(false, false,
 				"Assume formula is in EPR fragment. This give an error if the formula is outside EPR."));
 
+		// dpll options
+		options.addOption(BLOCKER_WATCH_LISTS, mBlockerWatchLists);
+		options.addOption(BINARY_IMPLICATIONS, mBinaryImplications);
+		options.addOption(TIERED_CLAUSE_DATABASE, mTieredClauses);
+		options.addOption(RESTART_STRATEGY, mRestartStrategy);
+		options.addOption(PHASE_MODE, mPhaseMode);
+		options.addOption(REPHASE_INTERVAL, mRephaseInterval);
+		options.addOption(CHRONO_BACKTRACK_THRESHOLD, mChronoBacktrackThreshold);
+		options.addOption(DECISION_HEURISTIC, mDecisionHeuristic);
+		options.addOption(INPROCESSING, mInprocessing);
+		options.addOption(PREPROCESSING, mPreprocessing);
+		options.addOption(PORTFOLIO_THREADS, mPortfolioThreads);
+		options.addOption(CUBE_DEPTH, mCubeDepth);
+
+		// linear arithmetic options
+		options.addOption(SIMPLEX_LU_FACTORIZATION, mSimplexLUFactorization);
+		options.addOption(SIMPLEX_FLOAT_PREPASS, mSimplexFloatPrepass);
+		options.addOption(BOUND_PROPAGATION_BUDGET, mBoundPropagationBudget);
+		options.addOption(GOMORY_CUTS, mGomoryCuts);
+		options.addOption(BRANCH_AND_BOUND_NODES, mBranchAndBoundNodes);
+		options.addOption(DIFFERENCE_LOGIC_SOLVER, mDifferenceLogicSolver);
+
 		// simplifier options
 		options.addOption(SIMPLIFY_CHECK_TYPE, mSimpCheckType);
 		options.addOption(":simplify-repeatedly", new BooleanOption(true, true,
@@ -155,8 +266,28 @@ public class SolverOptions {
 		mCheckType = (EnumOption<CheckType>) options.getOption(CHECK_TYPE);
 		mSimpIps = (BooleanOption) options.getOption(SIMPLIFY_INTERPOLANTS);
 		mArrayInterpolation = (BooleanOption) options.getOption(ARRAY_INTERPOLATION);
+		mInterpolationThreads = (LongOption) options.getOption(INTERPOLATION_THREADS);
 		mProofCheckMode = (BooleanOption) options.getOption(PROOF_CHECK_MODE);
+		mProofCheckThreads = (LongOption) options.getOption(PROOF_CHECK_THREADS);
 		mSimpCheckType = (EnumOption<CheckType>) options.getOption(SIMPLIFY_CHECK_TYPE);
+		mBlockerWatchLists = (BooleanOption) options.getOption(BLOCKER_WATCH_LISTS);
+		mBinaryImplications = (BooleanOption) options.getOption(BINARY_IMPLICATIONS);
+		mTieredClauses = (BooleanOption) options.getOption(TIERED_CLAUSE_DATABASE);
+		mRestartStrategy = (EnumOption<RestartPolicy.Strategy>) options.getOption(RESTART_STRATEGY);
+		mPhaseMode = (EnumOption<PhaseMode>) options.getOption(PHASE_MODE);
+		mRephaseInterval = (LongOption) options.getOption(REPHASE_INTERVAL);
+		mChronoBacktrackThreshold = (LongOption) options.getOption(CHRONO_BACKTRACK_THRESHOLD);
+		mDecisionHeuristic = (EnumOption<DecisionQueue.Heuristic>) options.getOption(DECISION_HEURISTIC);
+		mInprocessing = (BooleanOption) options.getOption(INPROCESSING);
+		mPreprocessing = (BooleanOption) options.getOption(PREPROCESSING);
+		mPortfolioThreads = (LongOption) options.getOption(PORTFOLIO_THREADS);
+		mCubeDepth = (LongOption) options.getOption(CUBE_DEPTH);
+		mSimplexLUFactorization = (BooleanOption) options.getOption(SIMPLEX_LU_FACTORIZATION);
+		mSimplexFloatPrepass = (BooleanOption) options.getOption(SIMPLEX_FLOAT_PREPASS);
+		mBoundPropagationBudget = (LongOption) options.getOption(BOUND_PROPAGATION_BUDGET);
+		mGomoryCuts = (BooleanOption) options.getOption(GOMORY_CUTS);
+		mBranchAndBoundNodes = (LongOption) options.getOption(BRANCH_AND_BOUND_NODES);
+		mDifferenceLogicSolver = (BooleanOption) options.getOption(DIFFERENCE_LOGIC_SOLVER);
 	}
 
 	public final CheckType getCheckType() {
@@ -191,6 +322,10 @@ public class SolverOptions {
 		return mProofCheckMode.getValue();
 	}
 
+	public final long getProofCheckThreads() {
+		return mProofCheckThreads.getValue();
+	}
+
 	public final AvailableTransformations getProofTransformation() {
 		return mProofTrans.getValue();
 	}
@@ -211,4 +346,76 @@ public class SolverOptions {
 		return mSimpCheckType.getValue();
 	}
 
+	public final boolean isBlockerWatchLists() {
+		return mBlockerWatchLists.getValue();
+	}
+
+	public final boolean isBinaryImplications() {
+		return mBinaryImplications.getValue();
+	}
+
+	public final boolean isTieredClauseDatabase() {
+		return mTieredClauses.getValue();
+	}
+
+	public final RestartPolicy.Strategy getRestartStrategy() {
+		return mRestartStrategy.getValue();
+	}
+
+	public final PhaseMode getPhaseMode() {
+		return mPhaseMode.getValue();
+	}
+
+	public final long getRephaseInterval() {
+		return mRephaseInterval.getValue();
+	}
+
+	public final long getChronoBacktrackThreshold() {
+		return mChronoBacktrackThreshold.getValue();
+	}
+
+	public final DecisionQueue.Heuristic getDecisionHeuristic() {
+		return mDecisionHeuristic.getValue();
+	}
+
+	public final boolean isInprocessing() {
+		return mInprocessing.getValue();
+	}
+
+	public final boolean isPreprocessing() {
+		return mPreprocessing.getValue();
+	}
+
+	public final long getPortfolioThreads() {
+		return mPortfolioThreads.getValue();
+	}
+
+	public final long getCubeDepth() {
+		return mCubeDepth.getValue();
+	}
+
+	public final boolean isSimplexLUFactorization() {
+		return mSimplexLUFactorization.getValue();
+	}
+
+	public final boolean isSimplexFloatPrepass() {
+		return mSimplexFloatPrepass.getValue();
+	}
+
+	public final long getBoundPropagationBudget() {
+		return mBoundPropagationBudget.getValue();
+	}
+
+	public final boolean isGomoryCuts() {
+		return mGomoryCuts.getValue();
+	}
+
+	public final long getBranchAndBoundNodes() {
+		return mBranchAndBoundNodes.getValue();
+	}
+
+	public final boolean isDifferenceLogicSolver() {
+		return mDifferenceLogicSolver.getValue();
+	}
+
 }
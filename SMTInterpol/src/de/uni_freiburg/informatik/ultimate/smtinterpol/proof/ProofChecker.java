@@ -20,6 +20,7 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.proof;
 
 import java.math.BigInteger;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -27,6 +28,8 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import de.uni_freiburg.informatik.ultimate.logic.AnnotatedTerm;
 import de.uni_freiburg.informatik.ultimate.logic.Annotation;
@@ -269,6 +272,34 @@ public class ProofChecker extends NonRecursive {
 		}
 	}
 
+	/**
+	 * The task that checks a range of lemma, tautology, and rewrite leaves in parallel. The range is split in halves
+	 * until it contains only a single leaf. The formula proved by each leaf is stored in the results array.
+	 */
+	private class LeafTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final ApplicationTerm[] mLeaves;
+		private final Term[] mResults;
+		private final int mFrom, mTo;
+
+		LeafTask(final ApplicationTerm[] leaves, final Term[] results, final int from, final int to) {
+			mLeaves = leaves;
+			mResults = results;
+			mFrom = from;
+			mTo = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (mTo - mFrom == 1) {
+				mResults[mFrom] = walkLeaf(mLeaves[mFrom]);
+			} else {
+				final int mid = (mFrom + mTo) >>> 1;
+				invokeAll(new LeafTask(mLeaves, mResults, mFrom, mid), new LeafTask(mLeaves, mResults, mid, mTo));
+			}
+		}
+	}
+
 	/**
 	 * The set of all asserted terms (collected from the script by calling getAssertions()). This is used to check the
 	 * {@literal @}asserted rules.
@@ -287,6 +318,10 @@ public class ProofChecker extends NonRecursive {
 	 * The number of reported errors.
 	 */
 	int mError;
+	/**
+	 * The number of threads that check the leaves of the proof.
+	 */
+	final int mThreads;
 
 	/**
 	 * The proof cache. It maps each converted proof to the boolean term it proves.
@@ -307,8 +342,24 @@ public class ProofChecker extends NonRecursive {
 	 *            The logger where errors are reported.
 	 */
 	public ProofChecker(final Script script, final LogProxy logger) {
+		this(script, logger, 1);
+	}
+
+	/**
+	 * Create a proof checker that checks the theory lemmas and rewrites in parallel.
+	 *
+	 * @param script
+	 *            An SMT2 script.
+	 * @param logger
+	 *            The logger where errors are reported.
+	 * @param threads
+	 *            The number of threads checking the leaves of a proof. Values &lt;= 1 check the proof only in the
+	 *            calling thread.
+	 */
+	public ProofChecker(final Script script, final LogProxy logger, final int threads) {
 		mSkript = script;
 		mLogger = logger;
+		mThreads = threads;
 	}
 
 	/**
@@ -331,6 +382,9 @@ public class ProofChecker extends NonRecursive {
 		mError = 0;
 		// Now non-recursive:
 		proof = unletter.unlet(proof);
+		if (mThreads > 1) {
+			checkLeaves(proof);
+		}
 		run(new ProofWalker(proof));
 
 		assert (mStackResults.size() == 1);
@@ -345,15 +399,107 @@ public class ProofChecker extends NonRecursive {
 		return mError == 0;
 	}
 
-	private void reportError(final String msg) {
+	private synchronized void reportError(final String msg) {
 		mLogger.error(msg);
 		mError++;
 	}
 
-	private void reportWarning(final String msg) {
+	private synchronized void reportWarning(final String msg) {
 		mLogger.warn(msg);
 	}
 
+	/**
+	 * Check the lemma, tautology, and rewrite leaves of a proof in parallel. This first traverses the proof DAG to
+	 * collect the unique leaves, then checks them on a fork-join pool and finally stores the proved formulas in the
+	 * proof cache. The non-recursive walk afterwards only checks the remaining proof rules and finds the leaves in the
+	 * cache.
+	 *
+	 * @param proof
+	 *            the unletted proof.
+	 */
+	private void checkLeaves(final Term proof) {
+		final ArrayList<ApplicationTerm> leaves = new ArrayList<>();
+		final HashSet<Term> seen = new HashSet<>();
+		final ArrayDeque<Term> todo = new ArrayDeque<>();
+		todo.add(proof);
+		while (!todo.isEmpty()) {
+			final Term term = todo.removeLast();
+			if (!(term instanceof ApplicationTerm) || !seen.add(term)) {
+				continue;
+			}
+			final ApplicationTerm proofTerm = (ApplicationTerm) term;
+			final Term[] params = proofTerm.getParameters();
+			switch (proofTerm.getFunction().getName()) {
+			case ProofConstants.FN_RES:
+				todo.add(params[0]);
+				for (int i = 1; i < params.length; i++) {
+					if (params[i] instanceof AnnotatedTerm) {
+						todo.add(((AnnotatedTerm) params[i]).getSubterm());
+					}
+				}
+				break;
+			case ProofConstants.FN_EQ:
+			case ProofConstants.FN_CONG:
+			case ProofConstants.FN_TRANS:
+				todo.addAll(Arrays.asList(params));
+				break;
+			case ProofConstants.FN_CLAUSE:
+				todo.add(params[0]);
+				break;
+			case ProofConstants.FN_SPLIT:
+				if (params[0] instanceof AnnotatedTerm) {
+					todo.add(((AnnotatedTerm) params[0]).getSubterm());
+				}
+				break;
+			case ProofConstants.FN_LEMMA:
+			case ProofConstants.FN_TAUTOLOGY:
+			case ProofConstants.FN_REWRITE:
+				leaves.add(proofTerm);
+				break;
+			default:
+				// asserted and refl are cheap and checked by the walk.
+				break;
+			}
+		}
+		if (leaves.isEmpty()) {
+			return;
+		}
+		final ApplicationTerm[] leafArray = leaves.toArray(new ApplicationTerm[leaves.size()]);
+		final Term[] results = new Term[leafArray.length];
+		// the workers create terms in the shared theory.
+		leafArray[0].getTheory().setConcurrent();
+		final ForkJoinPool pool = new ForkJoinPool(Math.min(mThreads, leafArray.length));
+		try {
+			pool.invoke(new LeafTask(leafArray, results, 0, leafArray.length));
+		} finally {
+			pool.shutdown();
+		}
+		for (int i = 0; i < leafArray.length; i++) {
+			mCacheConv.put(leafArray[i], results[i]);
+		}
+	}
+
+	/**
+	 * Check a lemma, tautology, or rewrite leaf. These checks only read the state of the proof checker and report
+	 * errors synchronized. Thus this may be called by several threads in parallel.
+	 *
+	 * @param leaf
+	 *            the leaf of the proof.
+	 * @return the formula proved by the leaf.
+	 */
+	Term walkLeaf(final ApplicationTerm leaf) {
+		switch (leaf.getFunction().getName()) {
+		case ProofConstants.FN_LEMMA:
+			return walkLemma(leaf);
+		case ProofConstants.FN_TAUTOLOGY:
+			return walkTautology(leaf);
+		case ProofConstants.FN_REWRITE:
+			return walkRewrite(leaf);
+		default:
+			throw new AssertionError("Not a leaf: " + leaf.getFunction());
+		}
+	}
+
 	/**
 	 * The proof walker. This takes a proof term and pushes the proven formula on the result stack. It also checks the
 	 * proof cache to prevent running over the same term twice.
@@ -0,0 +1,111 @@
+
+//----------------------------------------------------
+// The following code was generated by jh-javacup-1.0 20160720
+// Sat Oct 17 08:38:45 UTC 2026
+//----------------------------------------------------
+
+package de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2;
+
+/** CUP generated class containing symbol constants. */
+public class LexerSymbols {
+  /* terminals */
+  public static final int error = 0;
+  public static final int EOF = 1;
+  public static final int UNDERSCORE = 2;
+  public static final int BANG = 3;
+  public static final int AS = 4;
+  public static final int ASSERT = 5;
+  public static final int CHECKSAT = 6;
+  public static final int CONTINUEDEXECUTION = 7;
+  public static final int DECLARESORT = 8;
+  public static final int DECLAREFUN = 9;
+  public static final int DECLARECONST = 10;
+  public static final int DECLAREDATATYPE = 11;
+  public static final int DECLAREDATATYPES = 12;
+  public static final int DEFINESORT = 13;
+  public static final int DEFINEFUN = 14;
+  public static final int ERRORSYM = 15;
+  public static final int EXISTS = 16;
+  public static final int EXIT = 17;
+  public static final int FALSE = 18;
+  public static final int FORALL = 19;
+  public static final int GETASSERTIONS = 20;
+  public static final int GETASSIGNMENT = 21;
+  public static final int GETINFO = 22;
+  public static final int GETINTERPOLANTS = 23;
+  public static final int GETMODEL = 24;
+  public static final int GETOPTION = 25;
+  public static final int GETPROOF = 26;
+  public static final int GETUNSATCORE = 27;
+  public static final int GETVALUE = 28;
+  public static final int IMMEDIATEEXIT = 29;
+  public static final int INCOMPLETE = 30;
+  public static final int LET = 31;
+  public static final int LOGIC = 32;
+  public static final int NONE = 33;
+  public static final int NUMERALSYM = 34;
+  public static final int MATCH = 35;
+  public static final int MEMOUT = 36;
+  public static final int PAR = 37;
+  public static final int POP = 38;
+  public static final int PUSH = 39;
+  public static final int DECIMALSYM = 40;
+  public static final int SAT = 41;
+  public static final int SUCCESS = 42;
+  public static final int SETLOGIC = 43;
+  public static final int SETINFO = 44;
+  public static final int SETOPTION = 45;
+  public static final int STRINGSYM = 46;
+  public static final int THEORY = 47;
+  public static final int TRUE = 48;
+  public static final int UNKNOWN = 49;
+  public static final int UNSUPPORTED = 50;
+  public static final int UNSAT = 51;
+  public static final int INCLUDE = 52;
+  public static final int RESET = 53;
+  public static final int RESETASSERTIONS = 54;
+  public static final int SIMPLIFY = 55;
+  public static final int TIMED = 56;
+  public static final int ALLSAT = 57;
+  public static final int ECHO = 58;
+  public static final int FINDIMPLIEDEQUALITY = 59;
+  public static final int CHECKSATASSUMING = 60;
+  public static final int GETUNSATASSUMPTIONS = 61;
+  public static final int CNAMED = 62;
+  public static final int CPATTERN = 63;
+  public static final int CSORTSDESCRIPTION = 64;
+  public static final int CSORTS = 65;
+  public static final int CFUNS = 66;
+  public static final int CFUNSDESCRIPTION = 67;
+  public static final int CDEFINITION = 68;
+  public static final int CEXTENSIONS = 69;
+  public static final int CLANGUAGE = 70;
+  public static final int CTHEORIES = 71;
+  public static final int CNOTES = 72;
+  public static final int CVALUES = 73;
+  public static final int CDIAGNOSTICOUTPUTCHANNEL = 74;
+  public static final int CREGULAROUTPUTCHANNEL = 75;
+  public static final int CEXPANDDEFINITIONS = 76;
+  public static final int CINTERACTIVEMODE = 77;
+  public static final int CPRINTSUCCESS = 78;
+  public static final int CVERBOSITY = 79;
+  public static final int CPRODUCEASSIGNMENTS = 80;
+  public static final int CPRODUCEMODELS = 81;
+  public static final int CPRODUCEPROOFS = 82;
+  public static final int CPRODUCEUNSATCORES = 83;
+  public static final int CRANDOMSEED = 84;
+  public static final int CINTERPOLANTCHECKMODE = 85;
+  public static final int CSTRONGSIMPLIFIER = 86;
+  public static final int CTIMEOUT = 87;
+  public static final int CPRODUCEUNSATASSUMPTIONS = 88;
+  public static final int SYMBOL = 89;
+  public static final int KEYWORD = 90;
+  public static final int NUMERAL = 91;
+  public static final int DECIMAL = 92;
+  public static final int HEXADECIMAL = 93;
+  public static final int BINARY = 94;
+  public static final int STRING = 95;
+  public static final int LPAR = 96;
+  public static final int RPAR = 97;
+}
+
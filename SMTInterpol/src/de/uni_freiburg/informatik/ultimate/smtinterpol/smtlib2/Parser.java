@@ -0,0 +1,3497 @@
+
+//----------------------------------------------------
+// The following code was generated by jh-javacup-1.0 20160720
+// Sat Oct 17 08:38:45 UTC 2026
+//----------------------------------------------------
+
+package de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2;
+
+import de.uni_freiburg.informatik.ultimate.logic.*;
+import de.uni_freiburg.informatik.ultimate.util.datastructures.ScopedHashMap;
+import java.math.BigInteger;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import com.github.jhoenicke.javacup.runtime.Symbol;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.util.MySymbolFactory;
+import java.util.Map;
+
+/** jh-javacup-1.0 20160720 generated parser.
+  * @version Sat Oct 17 08:38:45 UTC 2026
+  */
+public class Parser extends com.github.jhoenicke.javacup.runtime.LRParser {
+
+  /** Default constructor. */
+  public Parser() {super();}
+
+  /** Constructor which sets the default scanner. */
+  public Parser(com.github.jhoenicke.javacup.runtime.Scanner s) {super(s);}
+
+  /** Constructor which sets the default scanner. */
+  public Parser(com.github.jhoenicke.javacup.runtime.Scanner s, com.github.jhoenicke.javacup.runtime.SymbolFactory sf) {super(s,sf);}
+  /** Return action table */
+  protected String[] action_table() { 
+    return new String[] {
+    "\u0124\000\002\022\001\022\001\022\001\022\001" +
+    "\023\003\036\001\036\001\036\001\036\001\036" +
+    "\001\017\001\021\005\020\001\024\001\024\004" +
+    "\026\002\026\002\026\004\025\003\030\002\027" +
+    "\002\031\001\031\005\032\004\033\004\034\001" +
+    "\034\004\035\005\075\000\037\001\037\004\037" +
+    "\010\077\000\037\010\101\000\037\010\102\000" +
+    "\037\010\104\000\037\005\046\005\051\005\050" +
+    "\013\052\004\052\002\062\005\053\004\053\002" +
+    "\063\005\054\001\054\001\055\002\055\002\055" +
+    "\002\055\002\040\002\040\004\040\000\042\004" +
+    "\043\001\041\004\044\004\045\003\045\012\116" +
+    "\000\057\002\057\002\057\003\057\003\057\007" +
+    "\120\000\057\006\057\003\057\003\057\007\057" +
+    "\010\125\000\057\002\057\002\057\001\057\001" +
+    "\057\002\057\001\057\004\057\001\057\002\057" +
+    "\001\057\001\057\001\057\001\057\004\057\001" +
+    "\057\002\057\002\057\002\057\002\057\001\057" +
+    "\001\057\001\057\003\130\000\057\004\057\002" +
+    "\057\007\060\003\117\000\074\001\074\002\067" +
+    "\001\067\002\066\000\065\001\065\002\121\000" +
+    "\070\001\070\002\071\000\106\000\105\001\105" +
+    "\002\076\001\076\002\124\000\100\001\100\002" +
+    "\103\001\103\002\073\000\072\001\072\002\114" +
+    "\000\113\001\113\002\122\001\122\002\115\001" +
+    "\115\002\123\001\123\002\107\002\110\002\111" +
+    "\002\112\002\127\000\126\002\u0161\u017d\u0179\u2c3b" +
+    "\u016f\u0161\u0161\u2cad\u1d3b\u0161\u2bcd\u2b71\u2b15\u2ab9\u0287" +
+    "\u2a5d\u016f\u0161\u0161\u0161\u09a5\u016d\u0161\u08ff\u0161\u0161" +
+    "\u0285\u2a01\u019f\u019b\u29a5\u0859\u0581\u2949\u0207\u0161\u0161" +
+    "\u1c95\u0161\u0283\u0203\u0281\u027f\u0161\u02db\u0161\u0161\u0161" +
+    "\u0161\u0161\u0161\u0369\u0161\u0161\u0161\u0169\u027d\u23db\u0161" +
+    "\u027b\u0277\u026f\u28ed\u0161\u0193\u0161\u1bef\u07a3\u0161\u0161" +
+    "\u0161\u0ed9\u0e33\u0201\u0163\u0165\u0161\u06ed\u0161\u0161\u0165" +
+    "\u1b49\u0161\u1aa3\u0d8d\u0161\u2891\u19fd\u2375\u026d\u025f\u025d" +
+    "\u1957\u0163\u18b1\u0161\u10b1\u03cf\u0161\u0161\u0183\u0161\u2835" +
+    "\u0161\u01ed\u1315\u025b\u0161\u0169\u0161\u0ce7\u02c3\u01ff\u01fd" +
+    "\u0259\u01fb\u01f9\u2f7d\u0161\u0161\u0161\u0161\u0161\u0161\u07a7" +
+    "\u0161\u0161\u0161\u0161\u0161\u0161\u021d\u01f7\u0253\u0251\u01f5" +
+    "\u01f3\u01d3\u019d\u2f35\u0161\u0161\u0c41\u0b9b\u0af5\u02d9\u2441" +
+    "\u0637\u016f\u230f\u024f\u024d\u0249\u0247\u0a4f\u0161\u104b\u02d7" +
+    "\u22a9\u0241\u27d9\u0161\u01e9\u0163\u023b\u0161\u0161\u12af\u02d3" +
+    "\u01e5\u018d\u0161\u0161\u0161\u0161\u0161\u277d\u0161\u0161\u0161" +
+    "\u0161\u0161\u06f1\u063b\u02d1\u0161\u0161\u0239\u0237\u0161\u0161" +
+    "\u0161\u0161\u0161\u0161\u0161\u0235\u0161\u0161\u0161\u0fe5\u2721" +
+    "\u0233\u0177\u0161\u2eed\u02cf\u022f\u022d\u022b\u0229\u0161\u2243" +
+    "\u0161\u0f7f\u26c5\u01e1\u0161\u0161\u02c9\u0225\u0161\u02c3\u2669" +
+    "\u0161\u01dd\u02b1\u0161\u1249\u0585\u02a9\u0161\u0161\u21dd\u01d9" +
+    "\u1381\u01d5\u180b\u0161\u0161\u0161\u09a9\u0161\u0161\u0161\u0161" +
+    "\u01c7\u01b7\u260d\u0161\u01b3\u0223\u0161\u0161\u11e3\u25b1\u0161" +
+    "\u01ab\u02a7\u0161\u0161\u01a7\u2177\u2111\u20ab\u0161\u0161\u0161" +
+    "\u0161\u0161\u0161\u2045\u021f\u1fdf\u1f79\u0161\u0161\u0903\u085d" +
+    "\u02a5\u1765\u16bf\u1619\u1573\u0161\u0163\u0161\u01a1\u020d\u1f13" +
+    "\u0161\u0161\u0161\u0161\u0161\u02a3\u14cd\u2ea5\u2e5d\u2555\u04dd" +
+    "\u2e15\u0161\u0161\u02a1\u029f\u029d\u029b\u1ead\u0299\u0161\u020b" +
+    "\u0297\u0161\u0161\u2dcd\u0295\u2d85\u0293\u117d\u2d3d\u0291\u2cf5" +
+    "\u028f\u0161\u0161\u0161\u0161\u0161\u24f9\u1427\u0161\u0209\u0161" +
+    "\u0161\u0161\u0207\u0161\u0161\u249d\u028d\u0187\u1e47\u1117\u0161" +
+    "\u028b\u1de1\u0161\u0161\u0435\u2cad\u0289\u0287\u0161\u3043\000" +
+    "\000\000\000\u0124\002\000\000\250\000\000\000" +
+    "\000\000\000\234\310\254\272\000\166\266\000" +
+    "\260\262\000\000\244\242\000\000\000\000\000" +
+    "\304\306\000\314\000\000\000\000\264\000\034" +
+    "\016\020\022\024\026\000\056\076\246\000\000" +
+    "\000\172\000\000\000\000\276\256\274\000\000" +
+    "\240\236\206\000\000\000\000\000\210\000\300" +
+    "\302\000\000\320\000\000\324\000\000\000\000" +
+    "\000\000\000\000\000\214\000\000\036\224\000" +
+    "\226\000\u010e\000\000\000\162\166\u0104\000\354" +
+    "\000\000\000\000\000\000\212\004\006\010\010" +
+    "\012\000\160\154\150\146\152\156\354\000\000" +
+    "\000\000\000\000\000\000\000\312\000\000\000" +
+    "\000\000\000\000\000\000\000\000\000\000\350" +
+    "\000\000\000\000\000\u0112\000\000\000\u0110\330" +
+    "\000\000\000\000\270\u0106\052\142\142\000\142" +
+    "\142\144\u0120\342\000\000\000\054\134\000\000" +
+    "\134\134\134\134\136\u011e\316\000\252\334\030" +
+    "\000\000\000\354\360\000\000\000\000\000\000" +
+    "\100\000\352\000\000\000\200\u0114\000\000\332" +
+    "\000\000\372\000\000\164\000\000\000\344\050" +
+    "\000\000\000\000\000\336\032\044\000\042\122" +
+    "\362\060\000\000\000\364\000\000\222\040\000" +
+    "\000\u010a\000\000\170\u0116\000\000\000\000\374" +
+    "\140\014\000\132\u011a\000\000\000\000\132\u011c" +
+    "\000\000\000\000\000\000\000\366\074\376\000" +
+    "\000\000\176\u010c\230\u0118\216\000\000\000\000" +
+    "\000\000\000\322\046\000\000\000\000\000\000" +
+    "\u0100\000\000\064\232\000\000\000\000\000\000" +
+    "\000\000\000\112\106\062\102\066\000\000\116" +
+    "\000\174\124\126\000\126\126\000\000\000\000" +
+    "\000\072\000\000\070\202\000\000\000\000\130" +
+    "\213\011\u011c\000\117\u0117\134\253\153\000\134" +
+    "\257\024\000\017\000\003\013\223\253\u0161\001" +
+    "\312\000\001\011\001\013\000\003\000\u0122\u0161" +
+    "\001\u0161\001\312\u01e3\111\375\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\312\u01e3\u0161" +
+    "\001\u0161\001\312\u01e3\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\312\u01e3\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\312\u01e3\312\u01e3\u0161\001\312\u01e3" +
+    "\312\u01e3\u0161\001\u0161\001\312\u01e3\u0161\001\111" +
+    "\377\u0161\001\u0161\001\312\u01e3\312\u01e3\143\u013d" +
+    "\u0161\001\u0161\001\u0161\001\312\u01e3\312\u01e3\312" +
+    "\u01e3\312\u01e3\312\u01e3\312\u01e3\u0161\001\u0161\001" +
+    "\312\u01e3\312\u01e3\312\u01e3\u0161\001\312\u01e3\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u010b\u0251\242\u01b5\112" +
+    "\u0103\202\000\066\275\213\015\213\312\117\015" +
+    "\117\u0122\312\u01e3\202\u0171\312\355\312\357\312" +
+    "\361\312\363\312\365\312\367\001\015\202\u0171" +
+    "\000\005\251\325\202\u0171\143\u013f\077\325\u0154" +
+    "\u013f\u0154\u02b1\202\u0171\251\327\251\u01c5\034\211" +
+    "\077\327\033\207\202\u0171\202\u0171\211\u017f\202" +
+    "\u0171\202\u0171\u011e\u0239\u011e\u0269\202\u0171\u0104\307" +
+    "\u0104\u0247\u0100\u01fd\u0100\u0243\202\u0171\202\u0171\371" +
+    "\u01ef\371\u0235\366\u01bd\366\u0231\202\u0171\202\u0171" +
+    "\202\u0171\202\u0171\202\u0171\202\u0171\365\u01bd\365" +
+    "\u022f\202\u0171\202\u0171\202\u0171\210\u017d\202\u0171" +
+    "\353\u01d5\353\u0225\351\u01d1\351\u0219\340\u01bd\340" +
+    "\u020f\327\u01fd\327\u0108\250\u01bd\250\370\241\u013f" +
+    "\241\u01b1\147\313\147\u0147\207\u017b\206\u0179\203" +
+    "\u0173\163\u0163\162\u0161\160\u015d\157\u015b\110\373" +
+    "\047\243\156\000\041\233\u014f\u02ab\u014b\u013f\u0136" +
+    "\u0297\u011f\204\202\u0171\156\u0159\202\355\202\357" +
+    "\202\361\202\363\202\365\202\367\u010f\u0255\156" +
+    "\u0159\372\u0239\333\307\156\u0159\321\u01f5\320\u01ef" +
+    "\317\u01bd\316\u01bd\156\u0159\311\u01e1\303\u01d9\273" +
+    "\u01d5\272\u01d1\243\u01b7\156\u0159\156\u0159\236\u01ad" +
+    "\156\u0159\156\u0159\230\120\227\u01a1\156\u0159\226" +
+    "\u019f\225\u019d\205\u0177\204\u0175\156\u0159\156\u0159" +
+    "\161\u015f\151\u0151\132\104\131\110\156\u0159\156" +
+    "\u0159\156\u0159\156\u0159\156\u0159\156\u0159\130\114" +
+    "\074\321\156\u0159\156\u0159\156\u0159\073\313\156" +
+    "\u0159\072\307\067\277\051\247\050\245\046\241" +
+    "\031\203\015\167\u015f\u02c1\u015e\u02bf\u0158\u02b7\u0153" +
+    "\u02af\u0142\u02a3\u0140\u02a1\u013d\u029d\u013b\u029b\u0137\u0299" +
+    "\u0134\u0295\u0132\u028d\u0131\u028b\u0130\u0289\u012f\u0287\u0126" +
+    "\u0271\u0116\u025d\u0101\u0243\345\u0215\062\253\062\255" +
+    "\062\257\341\u020f\156\u0159\062\131\156\355\156" +
+    "\357\156\361\156\363\156\365\156\367\335\u020b" +
+    "\062\131\062\261\332\u0205\062\131\062\263\315" +
+    "\u01e9\267\u01cf\247\220\062\131\234\u01a7\220\u0189" +
+    "\053\251\u0161\001\u0161\001\062\131\062\131\062" +
+    "\265\062\131\062\131\u0161\001\062\267\062\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\062\131\062" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\062\131" +
+    "\062\131\062\131\062\131\062\131\062\131\140" +
+    "\253\u0161\001\062\131\062\131\062\131\140\131" +
+    "\062\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\140\131\u0161\001\u0161\001\140\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\140\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\140\131" +
+    "\140\131\u0161\001\140\131\140\131\u0161\001\u0161" +
+    "\001\140\131\u0161\001\062\131\u0161\001\u0161\001" +
+    "\140\131\140\131\u0161\001\u0161\001\062\271\u0161" +
+    "\001\140\131\140\131\140\131\140\131\140\131" +
+    "\140\131\u0161\001\u0161\001\140\131\140\131\140" +
+    "\131\u015c\131\140\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u015c\131\u0161\001\u0161" +
+    "\001\u015c\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u015c\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u015c\131\u015c\131\u0161\001\u015c\131\u015c\131" +
+    "\u0161\001\u0161\001\u015c\131\u0161\001\140\131\u0161" +
+    "\001\u0161\001\u015c\131\u015c\131\u0161\001\u0161\001" +
+    "\140\u0127\u0161\001\u015c\131\u015c\131\u015c\131\u015c" +
+    "\131\u015c\131\u015c\131\u0161\001\u0161\001\u015c\131" +
+    "\u015c\131\u015c\131\u0161\001\u015c\131\u0161\001\u0161" +
+    "\001\u015c\u0191\u015c\u0193\u015c\u0195\u015c\u0195\u015c\u0195" +
+    "\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c" +
+    "\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195" +
+    "\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c" +
+    "\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u015c\u0195\u0161\001" +
+    "\u015c\131\u015c\u0195\u012b\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u015c\301\u015c\356\u0161\001\u012b\131" +
+    "\u0161\001\u0161\001\u012b\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u012b\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u012b\131\u012b\131\u0161\001\u012b" +
+    "\131\u012b\131\u0161\001\u0161\001\u012b\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u012b\131\u012b\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u012b\131\u012b\131" +
+    "\u012b\131\u012b\131\u012b\131\u012b\131\u0161\001\u0161" +
+    "\001\u012b\131\u012b\131\u012b\131\u0161\001\u012b\131" +
+    "\u0161\001\u0161\001\u012b\u0191\u012b\u0193\u012b\u0195\u012b" +
+    "\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195" +
+    "\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b" +
+    "\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195" +
+    "\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b\u0195\u012b" +
+    "\u0195\u0161\001\u012b\131\u012b\u0195\344\u01cd\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u012b\301\u012b\356\u0161" +
+    "\001\344\u01cd\u0161\001\u0161\001\344\u01cd\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\344\u01cd\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\344\u01cd\344\u01cd" +
+    "\u0161\001\344\u01cd\344\u01cd\u0161\001\u0161\001\344" +
+    "\u01cd\u0161\001\u0161\001\u0161\001\u0161\001\344\u01cd" +
+    "\344\u01cd\u0161\001\u0161\001\u0161\001\u0161\001\344" +
+    "\u01cd\344\u01cd\344\u01cd\344\u01cd\344\u01cd\344\u01cd" +
+    "\u0161\001\u0161\001\344\u01cd\344\u01cd\344\u01cd\u0161" +
+    "\001\344\u01cd\037\217\037\217\037\217\037\217" +
+    "\037\217\037\217\037\217\037\217\037\217\037" +
+    "\217\037\217\037\217\037\221\037\221\037\223" +
+    "\037\223\037\223\037\225\037\223\037\223\037" +
+    "\223\037\223\037\225\037\223\037\223\037\225" +
+    "\037\223\u0161\001\037\217\344\u01cd\344\u01cd\344" +
+    "\355\344\357\344\361\344\363\344\365\344\u016b" +
+    "\344\u0215\266\u01cd\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\266\u01cd\u0161\001" +
+    "\u0161\001\266\u01cd\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\266\u01cd\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\266\u01cd\266\u01cd\u0161\001\266\u01cd\266" +
+    "\u01cd\u0161\001\u0161\001\266\u01cd\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\266\u01cd\266\u01cd\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\266\u01cd\266\u01cd\266\u01cd" +
+    "\266\u01cd\266\u01cd\266\u01cd\u0161\001\u0161\001\266" +
+    "\u01cd\266\u01cd\266\u01cd\u0161\001\266\u01cd\222\u0191" +
+    "\222\u0193\222\u0195\222\u0195\222\u0195\222\u0195\222" +
+    "\u0195\222\u0195\222\u0195\222\u0195\222\u0195\222\u0195" +
+    "\222\u0195\222\u0195\222\u0195\222\u0195\222\u0195\222" +
+    "\u0195\222\u0195\222\u0195\222\u0195\222\u0195\222\u0195" +
+    "\222\u0195\222\u0195\222\u0195\u0161\001\u0161\001\222" +
+    "\u0195\266\u01cd\266\u01cd\266\355\266\357\266\361" +
+    "\266\363\266\365\266\u016b\266\u01cf\265\u0169\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\265\u0169\u0161\001\u0161\001\265\u0169\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\265\u0169\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\265\u0169\265" +
+    "\u0169\u0161\001\265\u0169\265\u0169\u0161\001\u0161\001" +
+    "\265\u0169\u0161\001\u0161\001\u0161\001\u0161\001\265" +
+    "\u0169\265\u0169\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\265\u0169\265\u0169\265\u0169\265\u0169\265\u0169\265" +
+    "\u0169\u0161\001\u0161\001\265\u0169\265\u0169\265\u0169" +
+    "\u0161\001\265\u0169\114\u0105\114\u0105\114\u0107\114" +
+    "\u0109\114\u010b\114\u010d\114\u010f\114\u0105\114\u0105" +
+    "\114\u0105\114\u0111\114\u0113\114\u0105\114\u0105\114" +
+    "\u0105\114\u0105\114\u0105\114\u0105\114\u0105\114\u0105" +
+    "\114\u0105\114\u0105\114\u0105\114\u0105\114\u0105\114" +
+    "\u0105\u0161\001\u0161\001\114\u0105\265\u0169\265\u0169" +
+    "\265\355\265\357\265\361\265\363\265\365\265" +
+    "\u016b\265\340\173\u0169\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\173\u0169\u0161" +
+    "\001\u0161\001\173\u0169\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\173\u0169\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\173\u0169\173\u0169\u0161\001\173\u0169" +
+    "\173\u0169\u0161\001\u0161\001\173\u0169\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\173\u0169\173\u0169\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\173\u0169\173\u0169\173" +
+    "\u0169\173\u0169\173\u0169\173\u0169\u0161\001\u0161\001" +
+    "\173\u0169\173\u0169\173\u0169\u0161\001\173\u0169\102" +
+    "\335\102\335\102\335\102\335\102\335\102\335" +
+    "\102\335\102\337\102\341\102\343\102\345\102" +
+    "\347\102\335\102\335\102\335\102\335\102\335" +
+    "\102\335\102\335\102\335\102\335\102\335\102" +
+    "\335\102\335\102\335\102\335\u0161\001\u0161\001" +
+    "\102\335\173\u0169\173\u0169\173\355\173\357\173" +
+    "\361\173\363\173\365\173\u016b\173\340\u0115\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0115\131\u0161\001\u0161\001\u0115\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0115\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0115\131" +
+    "\u0115\131\u0161\001\u0115\131\u0115\131\u0161\001\u0161" +
+    "\001\u0115\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0115\131\u0115\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0115\131\u0115\131\u0115\131\u0115\131\u0115\131" +
+    "\u0115\131\u0161\001\u0161\001\u0115\131\u0115\131\u0115" +
+    "\131\u0161\001\u0115\131\036\215\036\215\036\215" +
+    "\036\215\036\215\036\215\036\215\036\215\036" +
+    "\215\036\215\036\215\036\215\036\215\036\215" +
+    "\036\215\036\215\036\215\036\215\036\215\036" +
+    "\215\036\215\036\215\036\215\036\215\036\215" +
+    "\036\215\u0161\001\u0161\001\036\215\u0115\131\u0114" +
+    "\131\u0115\133\u0115\135\u0115\137\u0115\141\u0115\143" +
+    "\u0115\145\u0115\u025d\u0114\131\u0161\001\u0161\001\u0114" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0114\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0114" +
+    "\131\u0114\131\u0161\001\u0114\131\u0114\131\u0161\001" +
+    "\u0161\001\u0114\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0114\131\u0114\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0114\131\u0114\131\u0114\131\u0114\131\u0114" +
+    "\131\u0114\131\u0161\001\u0161\001\u0114\131\u0114\131" +
+    "\u0114\131\u0161\001\u0114\131\026\201\026\201\026" +
+    "\201\026\201\026\201\026\201\026\201\026\201" +
+    "\026\201\026\201\026\201\026\201\026\201\026" +
+    "\201\026\201\026\201\026\201\026\201\026\201" +
+    "\026\201\026\201\026\201\026\201\026\201\026" +
+    "\201\026\201\u0161\001\u0161\001\026\201\u0114\131" +
+    "\360\131\u0114\133\u0114\135\u0114\137\u0114\141\u0114" +
+    "\143\u0114\145\u0114\u025b\360\131\u0161\001\u0161\001" +
+    "\360\131\u0161\001\u0161\001\u0161\001\u0161\001\360" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\360\131\360\131\u0161\001\360\131\360\131\u0161" +
+    "\001\u0161\001\360\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\360\131\360\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\360\131\360\131\360\131\360\131" +
+    "\360\131\360\131\u0161\001\u0161\001\360\131\360" +
+    "\131\360\131\u0161\001\360\131\023\175\023\175" +
+    "\023\175\023\175\023\175\023\175\023\175\023" +
+    "\175\023\175\023\175\023\175\023\175\023\175" +
+    "\023\175\023\175\023\175\023\175\023\175\023" +
+    "\175\023\175\023\175\023\175\023\175\023\175" +
+    "\023\175\023\175\u0161\001\u0161\001\023\175\360" +
+    "\131\231\131\360\133\360\135\360\137\360\141" +
+    "\360\143\360\145\360\u0102\231\131\u0161\001\u0161" +
+    "\001\231\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\231\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\231\131\231\131\u0161\001\231\131\231\131" +
+    "\u0161\001\u0161\001\231\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\231\131\231\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\231\131\231\131\231\131\231" +
+    "\131\231\131\231\131\u0161\001\u0161\001\231\131" +
+    "\231\131\231\131\u0161\001\231\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\231\131\217\131\231\133\231\135\231\137\231" +
+    "\141\231\143\231\145\231\u01a5\217\131\u0161\001" +
+    "\u0161\001\217\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\217\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\217\131\217\131\u0161\001\217\131\217" +
+    "\131\u0161\001\u0161\001\217\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\217\131\217\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\217\131\217\131\217\131" +
+    "\217\131\217\131\217\131\u0161\001\u0161\001\217" +
+    "\131\217\131\217\131\u0161\001\217\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\217\131\216\131\217\133\217\135\217\137" +
+    "\217\141\217\143\217\145\217\u0189\216\131\u0161" +
+    "\001\u0161\001\216\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\216\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\216\131\216\131\u0161\001\216\131" +
+    "\216\131\u0161\001\u0161\001\216\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\216\131\216\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\216\131\216\131\216" +
+    "\131\216\131\216\131\216\131\u0161\001\u0161\001" +
+    "\216\131\216\131\216\131\u0161\001\216\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\216\131\215\131\216\133\216\135\216" +
+    "\137\216\141\216\143\216\145\216\u0187\215\131" +
+    "\u0161\001\u0161\001\215\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\215\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\215\131\215\131\u0161\001\215" +
+    "\131\215\131\u0161\001\u0161\001\215\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\215\131\215\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\215\131\215\131" +
+    "\215\131\215\131\215\131\215\131\u0161\001\u0161" +
+    "\001\215\131\215\131\215\131\u0161\001\215\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\215\131\155\131\215\133\215\135" +
+    "\215\137\215\141\215\143\215\145\215\u0185\155" +
+    "\131\u0161\001\u0161\001\155\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\155\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\155\131\155\131\u0161\001" +
+    "\155\131\155\131\u0161\001\u0161\001\155\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\155\131\155\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\155\131\155" +
+    "\131\155\131\155\131\155\131\155\131\u0161\001" +
+    "\u0161\001\155\131\155\131\155\131\u0161\001\155" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\155\131\123\131\155\133\155" +
+    "\135\155\137\155\141\155\143\155\145\155\u0155" +
+    "\123\131\u0161\001\u0161\001\123\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\123\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\123\131\123\131\u0161" +
+    "\001\123\131\123\131\u0161\001\u0161\001\123\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\123\131\123" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\123\131" +
+    "\123\131\123\131\123\131\123\131\123\131\u0161" +
+    "\001\u0161\001\123\131\123\131\123\131\u0161\001" +
+    "\123\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\123\131\107\371\123\133" +
+    "\123\135\123\137\123\141\123\143\123\145\123" +
+    "\u0102\107\371\u0161\001\u0161\001\107\371\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\107\371\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\107\371\107\371" +
+    "\u0161\001\107\371\107\371\u0161\001\u0161\001\107" +
+    "\371\u0161\001\u0161\001\u0161\001\u0161\001\107\371" +
+    "\107\371\u0161\001\u0161\001\u0161\001\u0161\001\107" +
+    "\371\107\371\107\371\107\371\107\371\107\371" +
+    "\u0161\001\u0161\001\107\371\107\371\107\371\u0161" +
+    "\001\107\371\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\107\371\106\353\107" +
+    "\355\107\357\107\361\107\363\107\365\107\367" +
+    "\107\354\106\353\u0161\001\u0161\001\106\353\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\106\353\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\106\353\106" +
+    "\353\u0161\001\106\353\106\353\u0161\001\u0161\001" +
+    "\106\353\u0161\001\u0161\001\u0161\001\u0161\001\106" +
+    "\353\106\353\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\106\353\106\353\106\353\106\353\106\353\106" +
+    "\353\u0161\001\u0161\001\106\353\106\353\106\353" +
+    "\u0161\001\106\353\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\106\353\325\131" +
+    "\106\355\106\357\106\361\106\363\106\365\106" +
+    "\367\106\354\325\131\u0161\001\u0161\001\325\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\325\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\325\131" +
+    "\325\131\u0161\001\325\131\325\131\u0161\001\u0161" +
+    "\001\325\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\325\131\325\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\325\131\325\131\325\131\325\131\325\131" +
+    "\325\131\u0161\001\u0161\001\325\131\325\131\325" +
+    "\131\307\u01db\325\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\307\u01db\u0161\001\u0161" +
+    "\001\307\u01db\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\307\u01db\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\307\u01db\307\u01db\u0161\001\307\u01db\307\u01db" +
+    "\u0161\001\u0161\001\307\u01db\u0161\001\325\131\u0161" +
+    "\001\u0161\001\307\u01db\307\u01db\u0161\001\u0161\001" +
+    "\325\301\325\u01f9\307\u01db\307\u01db\307\u01db\307" +
+    "\u01db\307\u01db\307\u01db\u0161\001\u0161\001\307\u01db" +
+    "\307\u01db\307\u01db\233\131\307\u01db\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\233\131" +
+    "\u0161\001\u0161\001\233\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\233\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\233\131\233\131\u0161\001\233" +
+    "\131\233\131\u0161\001\u0161\001\233\131\u0161\001" +
+    "\307\u01db\u0161\001\307\u018d\233\131\233\131\u0161" +
+    "\001\u0161\001\u0161\001\307\u01dd\233\131\233\131" +
+    "\233\131\233\131\233\131\233\131\u0161\001\u0161" +
+    "\001\233\131\233\131\233\131\137\131\233\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\137\131\u0161\001\u0161\001\137\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\137\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\137\131\137\131" +
+    "\u0161\001\137\131\137\131\u0161\001\u0161\001\137" +
+    "\131\u0161\001\233\131\u0161\001\u0161\001\137\131" +
+    "\137\131\u0161\001\u0161\001\233\301\233\u01a7\137" +
+    "\131\137\131\137\131\137\131\137\131\137\131" +
+    "\u0161\001\u0161\001\137\131\137\131\137\131\u0156" +
+    "\u01b9\137\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0156\u01b9\u0161\001\u0161\001\u0156" +
+    "\u01b9\u0161\001\u0161\001\u0161\001\u0161\001\u0156\u01b9" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0156" +
+    "\u01b9\u0156\u01b9\u0161\001\u0156\u01b9\u0156\u01b9\u0161\001" +
+    "\u0161\001\u0156\u01b9\u0161\001\137\131\u0161\001\u0161" +
+    "\001\u0156\u01b9\u0156\u01b9\u0161\001\u0161\001\137\301" +
+    "\137\346\u0156\u01b9\u0156\u01b9\u0156\u01b9\u0156\u01b9\u0156" +
+    "\u01b9\u0156\u01b9\u0161\001\u0161\001\u0156\u01b9\u0156\u01b9" +
+    "\u0156\u01b9\u013e\u01b9\u0156\u01b9\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u013e\u01b9\u0161\001" +
+    "\u0161\001\u013e\u01b9\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u013e\u01b9\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u013e\u01b9\u013e\u01b9\u0161\001\u013e\u01b9\u013e" +
+    "\u01b9\u0161\001\u0161\001\u013e\u01b9\u0161\001\u0156\u01b9" +
+    "\u0161\001\u0161\001\u013e\u01b9\u013e\u01b9\u0161\001\u0161" +
+    "\001\u0161\001\u0156\u02b5\u013e\u01b9\u013e\u01b9\u013e\u01b9" +
+    "\u013e\u01b9\u013e\u01b9\u013e\u01b9\u0161\001\u0161\001\u013e" +
+    "\u01b9\u013e\u01b9\u013e\u01b9\375\u01b9\u013e\u01b9\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\375" +
+    "\u01b9\u0161\001\u0161\001\375\u01b9\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\375\u01b9\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\375\u01b9\375\u01b9\u0161\001" +
+    "\375\u01b9\375\u01b9\u0161\001\u0161\001\375\u01b9\u0161" +
+    "\001\u013e\u01b9\u0161\001\u0161\001\375\u01b9\375\u01b9" +
+    "\u0161\001\u0161\001\u0161\001\u013e\u029f\375\u01b9\375" +
+    "\u01b9\375\u01b9\375\u01b9\375\u01b9\375\u01b9\u0161\001" +
+    "\u0161\001\375\u01b9\375\u01b9\375\u01b9\343\u01b9\375" +
+    "\u01b9\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\343\u01b9\u0161\001\u0161\001\343\u01b9\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\343\u01b9\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\343\u01b9\343" +
+    "\u01b9\u0161\001\343\u01b9\343\u01b9\u0161\001\u0161\001" +
+    "\343\u01b9\u0161\001\375\u01b9\u0161\001\u0161\001\343" +
+    "\u01b9\343\u01b9\u0161\001\u0161\001\u0161\001\375\u023f" +
+    "\343\u01b9\343\u01b9\343\u01b9\343\u01b9\343\u01b9\343" +
+    "\u01b9\u0161\001\u0161\001\343\u01b9\343\u01b9\343\u01b9" +
+    "\246\u01b9\343\u01b9\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\246\u01b9\u0161\001\u0161\001" +
+    "\246\u01b9\u0161\001\u0161\001\u0161\001\u0161\001\246" +
+    "\u01b9\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\246\u01b9\246\u01b9\u0161\001\246\u01b9\246\u01b9\u0161" +
+    "\001\u0161\001\246\u01b9\u0161\001\343\u01b9\u0161\001" +
+    "\u0161\001\246\u01b9\246\u01b9\u0161\001\u0161\001\u0161" +
+    "\001\343\u0213\246\u01b9\246\u01b9\246\u01b9\246\u01b9" +
+    "\246\u01b9\246\u01b9\u0161\001\u0161\001\246\u01b9\246" +
+    "\u01b9\246\u01b9\150\u014b\246\u01b9\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\150\u014b\u0161" +
+    "\001\u0161\001\150\u014b\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\150\u014b\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\150\u014b\150\u014b\u0161\001\150\u014b" +
+    "\150\u014b\u0161\001\u0161\001\150\u014b\u0161\001\246" +
+    "\u01b9\u0161\001\u0161\001\150\u014b\150\u014b\u0161\001" +
+    "\u0161\001\u0161\001\246\220\150\u014b\150\u014b\150" +
+    "\u014b\150\u014b\150\u014b\150\u014b\u0161\001\u0161\001" +
+    "\150\u014b\150\u014b\150\u014b\u0161\001\150\u014b\u0161" +
+    "\001\352\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\352\131\u0161\001\u0161" +
+    "\001\352\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\352\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\352\131\352\131\u0161\001\352\131\352\131" +
+    "\352\u021d\150\u014b\352\131\352\u021f\u0161\001\u0161" +
+    "\001\352\u021d\352\131\352\131\150\326\u0161\001" +
+    "\u0161\001\352\u021d\352\131\352\131\352\131\352" +
+    "\131\352\131\352\131\u0161\001\u0161\001\352\131" +
+    "\352\131\352\131\u0161\001\352\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\352\131\u0149\131\352\355\352\357\352\361\352" +
+    "\363\352\365\352\u0127\u0161\001\u0149\131\u0161\001" +
+    "\u0161\001\u0149\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0149\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0149\131\u0149\131\u0161\001\u0149\131\u0149" +
+    "\131\u0161\001\u0161\001\u0149\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0149\131\u0149\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0149\131\u0149\131\u0149\131" +
+    "\u0149\131\u0149\131\u0149\131\u0161\001\u0161\001\u0149" +
+    "\131\u0149\131\u0149\131\u0161\001\u0149\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0149\131\u0127\131\u0149\133\u0149\135\u0149\137" +
+    "\u0149\141\u0149\143\u0149\145\u0161\001\u0127\131\u0161" +
+    "\001\u0161\001\u0127\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0127\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0127\131\u0127\131\u0161\001\u0127\131" +
+    "\u0127\131\u0161\001\u0161\001\u0127\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0127\131\u0127\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0127\131\u0127\131\u0127" +
+    "\131\u0127\131\u0127\131\u0127\131\u0161\001\u0161\001" +
+    "\u0127\131\u0127\131\u0127\131\u0161\001\u0127\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0127\131\u011a\131\u0127\133\u0127\135\u0127" +
+    "\137\u0127\141\u0127\143\u0127\145\u0161\001\u011a\131" +
+    "\u0161\001\u0161\001\u011a\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u011a\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u011a\131\u011a\131\u0161\001\u011a" +
+    "\131\u011a\131\u0161\001\u0161\001\u011a\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u011a\131\u011a\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u011a\131\u011a\131" +
+    "\u011a\131\u011a\131\u011a\131\u011a\131\u0161\001\u0161" +
+    "\001\u011a\131\u011a\131\u011a\131\u0161\001\u011a\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u011a\131\u0119\131\u011a\133\u011a\135" +
+    "\u011a\137\u011a\141\u011a\143\u011a\145\u0161\001\u0119" +
+    "\131\u0161\001\u0161\001\u0119\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0119\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0119\131\u0119\131\u0161\001" +
+    "\u0119\131\u0119\131\u0161\001\u0161\001\u0119\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0119\131\u0119\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0119\131\u0119" +
+    "\131\u0119\131\u0119\131\u0119\131\u0119\131\u0161\001" +
+    "\u0161\001\u0119\131\u0119\131\u0119\131\u0161\001\u0119" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0119\131\u0118\131\u0119\133\u0119" +
+    "\135\u0119\137\u0119\141\u0119\143\u0119\145\u0161\001" +
+    "\u0118\131\u0161\001\u0161\001\u0118\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0118\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0118\131\u0118\131\u0161" +
+    "\001\u0118\131\u0118\131\u0161\001\u0161\001\u0118\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0118\131\u0118" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0118\131" +
+    "\u0118\131\u0118\131\u0118\131\u0118\131\u0118\131\u0161" +
+    "\001\u0161\001\u0118\131\u0118\131\u0118\131\u0161\001" +
+    "\u0118\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0118\131\u0117\131\u0118\133" +
+    "\u0118\135\u0118\137\u0118\141\u0118\143\u0118\145\u0161" +
+    "\001\u0117\131\u0161\001\u0161\001\u0117\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0117\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0117\131\u0117\131" +
+    "\u0161\001\u0117\131\u0117\131\u0161\001\u0161\001\u0117" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0117\131" +
+    "\u0117\131\u0161\001\u0161\001\u0161\001\u0161\001\u0117" +
+    "\131\u0117\131\u0117\131\u0117\131\u0117\131\u0117\131" +
+    "\u0161\001\u0161\001\u0117\131\u0117\131\u0117\131\u0161" +
+    "\001\u0117\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0117\131\354\131\u0117" +
+    "\133\u0117\135\u0117\137\u0117\141\u0117\143\u0117\145" +
+    "\u0161\001\354\131\u0161\001\u0161\001\354\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\354\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\354\131\354" +
+    "\131\u0161\001\354\131\354\131\u0161\001\u0161\001" +
+    "\354\131\u0161\001\u0161\001\u0161\001\u0161\001\354" +
+    "\131\354\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\354\131\354\131\354\131\354\131\354\131\354" +
+    "\131\u0161\001\u0161\001\354\131\354\131\354\131" +
+    "\u0161\001\354\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\354\131\135\131" +
+    "\354\133\354\135\354\137\354\141\354\143\354" +
+    "\145\u0161\001\135\131\u0161\001\u0161\001\135\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\135\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\135\131" +
+    "\135\131\u0161\001\135\131\135\131\u0161\001\u0161" +
+    "\001\135\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\135\131\135\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\135\131\135\131\135\131\135\131\135\131" +
+    "\135\131\u0161\001\u0161\001\135\131\135\131\135" +
+    "\131\u0161\001\135\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\135\131\133" +
+    "\131\135\133\135\135\135\137\135\141\135\143" +
+    "\135\145\u0161\001\133\131\u0161\001\u0161\001\133" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\133\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\133" +
+    "\131\133\131\u0161\001\133\131\133\131\u0161\001" +
+    "\u0161\001\133\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\133\131\133\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\133\131\133\131\133\131\133\131\133" +
+    "\131\133\131\u0161\001\u0161\001\133\131\133\131" +
+    "\133\131\u0161\001\133\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\133\131" +
+    "\126\131\133\133\133\135\133\137\133\141\133" +
+    "\143\133\145\u0161\001\126\131\u0161\001\u0161\001" +
+    "\126\131\u0161\001\u0161\001\u0161\001\u0161\001\126" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\126\131\126\131\u0161\001\126\131\126\131\u0161" +
+    "\001\u0161\001\126\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\126\131\126\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\126\131\126\131\126\131\126\131" +
+    "\126\131\126\131\u0161\001\u0161\001\126\131\126" +
+    "\131\126\131\u0161\001\126\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\126" +
+    "\131\122\131\126\133\126\135\126\137\126\141" +
+    "\126\143\126\145\u0161\001\122\131\u0161\001\u0161" +
+    "\001\122\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\122\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\122\131\122\131\u0161\001\122\131\122\131" +
+    "\u0161\001\u0161\001\122\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\122\131\122\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\122\131\122\131\122\131\122" +
+    "\131\122\131\122\131\u0161\001\u0161\001\122\131" +
+    "\122\131\122\131\u0161\001\122\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\122\131\120\131\122\133\122\135\122\137\122" +
+    "\141\122\143\122\145\u0161\001\120\131\u0161\001" +
+    "\u0161\001\120\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\120\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\120\131\120\131\u0161\001\120\131\120" +
+    "\131\u0161\001\u0161\001\120\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\120\131\120\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\120\131\120\131\120\131" +
+    "\120\131\120\131\120\131\u0161\001\u0161\001\120" +
+    "\131\120\131\120\131\u0161\001\120\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\120\131\101\131\120\133\120\135\120\137" +
+    "\120\141\120\143\120\145\u0161\001\101\131\u0161" +
+    "\001\u0161\001\101\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\101\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\101\131\101\131\u0161\001\101\131" +
+    "\101\131\u0161\001\u0161\001\101\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\101\131\101\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\101\131\101\131\101" +
+    "\131\101\131\101\131\101\131\u0161\001\u0161\001" +
+    "\101\131\101\131\101\131\u0161\001\101\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\101\131\044\131\101\133\101\135\101" +
+    "\137\101\141\101\143\101\145\u0161\001\044\131" +
+    "\u0161\001\u0161\001\044\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\044\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\044\131\044\131\u0161\001\044" +
+    "\131\044\131\u0161\001\u0161\001\044\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\044\131\044\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\044\131\044\131" +
+    "\044\131\044\131\044\131\044\131\u0161\001\u0161" +
+    "\001\044\131\044\131\044\131\u0161\001\044\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\044\131\007\131\044\133\044\135" +
+    "\044\137\044\141\044\143\044\145\u0161\001\007" +
+    "\131\u0161\001\u0161\001\007\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\007\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\007\131\007\131\u0161\001" +
+    "\007\131\007\131\u0161\001\u0161\001\007\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\007\131\007\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\007\131\007" +
+    "\131\007\131\007\131\007\131\007\131\u0161\001" +
+    "\u0161\001\007\131\007\131\007\131\u0161\001\007" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\007\131\u0159\131\007\133\007" +
+    "\135\007\137\007\141\007\143\007\145\u0161\001" +
+    "\u0159\131\u0161\001\u0161\001\u0159\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0159\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0159\131\u0159\131\u0161" +
+    "\001\u0159\131\u0159\131\u0161\001\u0161\001\u0159\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0159\131\u0159" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0159\131" +
+    "\u0159\131\u0159\131\u0159\131\u0159\131\u0159\131\u0161" +
+    "\001\u0161\001\u0159\131\u0159\131\u0159\131\u0155\131" +
+    "\u0159\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0155\131\u0161\001\u0161\001\u0155\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0155\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0155\131" +
+    "\u0155\131\u0161\001\u0155\131\u0155\131\u0161\001\u0161" +
+    "\001\u0155\131\u0161\001\u0159\131\u0161\001\u0161\001" +
+    "\u0155\131\u0155\131\u0161\001\u0161\001\u0159\301\u0161" +
+    "\001\u0155\131\u0155\131\u0155\131\u0155\131\u0155\131" +
+    "\u0155\131\u0161\001\u0161\001\u0155\131\u0155\131\u0155" +
+    "\131\u0133\u028f\u0155\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0133\u028f\u0161\001\u0161" +
+    "\001\u0133\u028f\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0133\u028f\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0133\u028f\u0133\u028f\u0161\001\u0133\u028f\u0133\u028f" +
+    "\u0161\001\u0161\001\u0133\u028f\u0161\001\u0155\131\u0161" +
+    "\001\u0161\001\u0133\u028f\u0133\u028f\u0161\001\u0161\001" +
+    "\u0155\u0127\u0161\001\u0133\u028f\u0133\u028f\u0133\u028f\u0133" +
+    "\u028f\u0133\u028f\u0133\u028f\u0161\001\u0161\001\u0133\u028f" +
+    "\u0133\u028f\u0133\u028f\u0120\131\u0133\u028f\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0120\131" +
+    "\u0161\001\u0161\001\u0120\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0120\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0120\131\u0120\131\u0161\001\u0120" +
+    "\131\u0120\131\u0161\001\u0161\001\u0120\131\u0161\001" +
+    "\u0133\u028f\u0161\001\u0161\001\u0120\131\u0120\131\u0161" +
+    "\001\u0161\001\u0133\u0291\u0161\001\u0120\131\u0120\131" +
+    "\u0120\131\u0120\131\u0120\131\u0120\131\u0161\001\u0161" +
+    "\001\u0120\131\u0120\131\u0120\131\u0111\131\u0120\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0111\131\u0161\001\u0161\001\u0111\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0111\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0111\131\u0111\131" +
+    "\u0161\001\u0111\131\u0111\131\u0161\001\u0161\001\u0111" +
+    "\131\u0161\001\u0120\131\u0161\001\u0161\001\u0111\131" +
+    "\u0111\131\u0161\001\u0161\001\u0120\301\u0161\001\u0111" +
+    "\131\u0111\131\u0111\131\u0111\131\u0111\131\u0111\131" +
+    "\u0161\001\u0161\001\u0111\131\u0111\131\u0111\131\u0110" +
+    "\131\u0111\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0110\131\u0161\001\u0161\001\u0110" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0110\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0110" +
+    "\131\u0110\131\u0161\001\u0110\131\u0110\131\u0161\001" +
+    "\u0161\001\u0110\131\u0161\001\u0111\131\u0161\001\u0161" +
+    "\001\u0110\131\u0110\131\u0161\001\u0161\001\u0111\301" +
+    "\u0161\001\u0110\131\u0110\131\u0110\131\u0110\131\u0110" +
+    "\131\u0110\131\u0161\001\u0161\001\u0110\131\u0110\131" +
+    "\u0110\131\u010e\131\u0110\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u010e\131\u0161\001" +
+    "\u0161\001\u010e\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u010e\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u010e\131\u010e\131\u0161\001\u010e\131\u010e" +
+    "\131\u0161\001\u0161\001\u010e\131\u0161\001\u0110\131" +
+    "\u0161\001\u0161\001\u010e\131\u010e\131\u0161\001\u0161" +
+    "\001\u0110\301\u0161\001\u010e\131\u010e\131\u010e\131" +
+    "\u010e\131\u010e\131\u010e\131\u0161\001\u0161\001\u010e" +
+    "\131\u010e\131\u010e\131\u0107\131\u010e\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0107" +
+    "\131\u0161\001\u0161\001\u0107\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0107\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0107\131\u0107\131\u0161\001" +
+    "\u0107\131\u0107\131\u0161\001\u0161\001\u0107\131\u0161" +
+    "\001\u010e\131\u0161\001\u0161\001\u0107\131\u0107\131" +
+    "\u0161\001\u0161\001\u010e\301\u0161\001\u0107\131\u0107" +
+    "\131\u0107\131\u0107\131\u0107\131\u0107\131\u0161\001" +
+    "\u0161\001\u0107\131\u0107\131\u0107\131\u0106\131\u0107" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0106\131\u0161\001\u0161\001\u0106\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0106\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0106\131\u0106" +
+    "\131\u0161\001\u0106\131\u0106\131\u0161\001\u0161\001" +
+    "\u0106\131\u0161\001\u0107\131\u0161\001\u0161\001\u0106" +
+    "\131\u0106\131\u0161\001\u0161\001\u0107\301\u0161\001" +
+    "\u0106\131\u0106\131\u0106\131\u0106\131\u0106\131\u0106" +
+    "\131\u0161\001\u0161\001\u0106\131\u0106\131\u0106\131" +
+    "\u0105\131\u0106\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0105\131\u0161\001\u0161\001" +
+    "\u0105\131\u0161\001\u0161\001\u0161\001\u0161\001\u0105" +
+    "\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0105\131\u0105\131\u0161\001\u0105\131\u0105\131\u0161" +
+    "\001\u0161\001\u0105\131\u0161\001\u0106\131\u0161\001" +
+    "\u0161\001\u0105\131\u0105\131\u0161\001\u0161\001\u0106" +
+    "\301\u0161\001\u0105\131\u0105\131\u0105\131\u0105\131" +
+    "\u0105\131\u0105\131\u0161\001\u0161\001\u0105\131\u0105" +
+    "\131\u0105\131\350\131\u0105\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\350\131\u0161" +
+    "\001\u0161\001\350\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\350\131\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\350\131\350\131\u0161\001\350\131" +
+    "\350\131\u0161\001\u0161\001\350\131\u0161\001\u0105" +
+    "\131\u0161\001\u0161\001\350\131\350\131\u0161\001" +
+    "\u0161\001\u0105\301\u0161\001\350\131\350\131\350" +
+    "\131\350\131\350\131\350\131\u0161\001\u0161\001" +
+    "\350\131\350\131\350\131\323\131\350\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\323\131\u0161\001\u0161\001\323\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\323\131\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\323\131\323\131\u0161" +
+    "\001\323\131\323\131\u0161\001\u0161\001\323\131" +
+    "\u0161\001\350\131\u0161\001\u0161\001\323\131\323" +
+    "\131\u0161\001\u0161\001\350\u0127\u0161\001\323\131" +
+    "\323\131\323\131\323\131\323\131\323\131\u0161" +
+    "\001\u0161\001\323\131\323\131\323\131\235\131" +
+    "\323\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\235\131\u0161\001\u0161\001\235\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\235\131\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\235\131" +
+    "\235\131\u0161\001\235\131\235\131\u0161\001\u0161" +
+    "\001\235\131\u0161\001\323\131\u0161\001\u0161\001" +
+    "\235\131\235\131\u0161\001\u0161\001\323\301\u0161" +
+    "\001\235\131\235\131\235\131\235\131\235\131" +
+    "\235\131\u0161\001\u0161\001\235\131\235\131\235" +
+    "\131\224\131\235\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\224\131\u0161\001\u0161" +
+    "\001\224\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\224\131\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\224\131\224\131\u0161\001\224\131\224\131" +
+    "\u0161\001\u0161\001\224\131\u0161\001\235\131\u0161" +
+    "\001\u0161\001\224\131\224\131\u0161\001\u0161\001" +
+    "\235\301\u0161\001\224\131\224\131\224\131\224" +
+    "\131\224\131\224\131\u0161\001\u0161\001\224\131" +
+    "\224\131\224\131\127\131\224\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\127\131" +
+    "\u0161\001\u0161\001\127\131\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\127\131\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\127\131\127\131\u0161\001\127" +
+    "\131\127\131\u0161\001\u0161\001\127\131\u0161\001" +
+    "\224\131\u0161\001\u0161\001\127\131\127\131\u0161" +
+    "\001\u0161\001\224\301\u0161\001\127\131\127\131" +
+    "\127\131\127\131\127\131\127\131\u0161\001\u0161" +
+    "\001\127\131\127\131\127\131\070\131\127\131" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\070\131\u0161\001\u0161\001\070\131\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\070\131\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\070\131\070\131" +
+    "\u0161\001\070\131\070\131\u0161\001\u0161\001\070" +
+    "\131\u0161\001\127\131\u0161\001\u0161\001\070\131" +
+    "\070\131\u0161\001\u0161\001\127\u0127\u0161\001\070" +
+    "\131\070\131\070\131\070\131\070\131\070\131" +
+    "\u0161\001\u0161\001\070\131\070\131\070\131\221" +
+    "\u018b\070\131\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\221\u018b\u0161\001\u0161\001\221" +
+    "\u018b\u0161\001\u0161\001\u0161\001\u0161\001\221\u018b" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\221" +
+    "\u018b\221\u018b\u0161\001\221\u018b\221\u018b\u0161\001" +
+    "\u0161\001\221\u018b\u0161\001\070\131\u0161\001\u0161" +
+    "\001\221\u018b\221\u018b\u0161\001\u0161\001\070\301" +
+    "\u0161\001\221\u018b\221\u018b\221\u018b\221\u018b\221" +
+    "\u018b\221\u018b\u0152\u014b\u0161\001\221\u018b\221\u018b" +
+    "\221\u018b\u0161\001\221\u018b\u0161\001\u0152\u014b\u0161" +
+    "\001\u0161\001\u0152\u014b\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0152\u014b\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0152\u014b\u0152\u014b\u0161\001\u0152\u014b" +
+    "\u0152\u014b\u0161\001\u0161\001\u0152\u014b\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0152\u014b\u0152\u014b\221\u018b" +
+    "\u0161\001\221\u018d\u0161\001\u0152\u014b\u0152\u014b\u0152" +
+    "\u014b\u0152\u014b\u0152\u014b\u0152\u014b\u0148\u02a5\u0161\001" +
+    "\u0152\u014b\u0152\u014b\u0152\u014b\u0161\001\u0152\u014b\u0161" +
+    "\001\u0148\u02a5\u0161\001\u0161\001\u0148\u02a5\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0148\u02a5\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0148\u02a5\u0148\u02a5" +
+    "\u0161\001\u0148\u02a5\u0148\u02a5\u0161\001\u0161\001\u0148" +
+    "\u02a5\u0161\001\u0161\001\u0161\001\u0161\001\u0148\u02a5" +
+    "\u0148\u02a5\u0152\u014b\u0161\001\u0161\001\u0161\001\u0148" +
+    "\u02a5\u0148\u02a5\u0148\u02a5\u0148\u02a5\u0148\u02a5\u0148\u02a5" +
+    "\u012a\u014b\u0161\001\u0148\u02a5\u0148\u02a5\u0148\u02a5\u0161" +
+    "\001\u0148\u02a5\u0161\001\u012a\u014b\u0161\001\u0161\001" +
+    "\u012a\u014b\u0161\001\u0161\001\u0161\001\u0161\001\u012a" +
+    "\u014b\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u012a\u014b\u012a\u014b\u0161\001\u012a\u014b\u012a\u014b\u0161" +
+    "\001\u0161\001\u012a\u014b\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u012a\u014b\u012a\u014b\u0148\u02a5\u0161\001\u0161" +
+    "\001\u0161\001\u012a\u014b\u012a\u014b\u012a\u014b\u012a\u014b" +
+    "\u012a\u014b\u012a\u014b\376\u0241\u0161\001\u012a\u014b\u012a" +
+    "\u014b\u012a\u014b\u0161\001\u012a\u014b\u0161\001\376\u0241" +
+    "\u0161\001\u0161\001\376\u0241\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\376\u0241\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\376\u0241\376\u0241\u0161\001\376" +
+    "\u0241\376\u0241\u0161\001\u0161\001\376\u0241\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\376\u0241\376\u0241\u012a" +
+    "\u014b\u0161\001\u0161\001\u0161\001\376\u0241\376\u0241" +
+    "\376\u0241\376\u0241\376\u0241\376\u0241\367\u0233\u0161" +
+    "\001\376\u0241\376\u0241\376\u0241\u0161\001\376\u0241" +
+    "\u0161\001\367\u0233\u0161\001\u0161\001\367\u0233\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\367\u0233\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\367\u0233\367" +
+    "\u0233\u0161\001\367\u0233\367\u0233\u0161\001\u0161\001" +
+    "\367\u0233\u0161\001\u0161\001\u0161\001\u0161\001\367" +
+    "\u0233\367\u0233\376\u0241\u0161\001\u0161\001\u0161\001" +
+    "\367\u0233\367\u0233\367\u0233\367\u0233\367\u0233\367" +
+    "\u0233\336\u020d\u0161\001\367\u0233\367\u0233\367\u0233" +
+    "\u0161\001\367\u0233\u0161\001\336\u020d\u0161\001\u0161" +
+    "\001\336\u020d\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\336\u020d\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\336\u020d\336\u020d\u0161\001\336\u020d\336\u020d" +
+    "\u0161\001\u0161\001\336\u020d\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\336\u020d\336\u020d\367\u0233\u0161\001" +
+    "\u0161\001\u0161\001\336\u020d\336\u020d\336\u020d\336" +
+    "\u020d\336\u020d\336\u020d\326\u014b\u0161\001\336\u020d" +
+    "\336\u020d\336\u020d\u0161\001\336\u020d\u0161\001\326" +
+    "\u014b\u0161\001\u0161\001\326\u014b\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\326\u014b\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\326\u014b\326\u014b\u0161\001" +
+    "\326\u014b\326\u014b\u0161\001\u0161\001\326\u014b\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\326\u014b\326\u014b" +
+    "\336\u020d\u0161\001\u0161\001\u0161\001\326\u014b\326" +
+    "\u014b\326\u014b\326\u014b\326\u014b\326\u014b\310\u01df" +
+    "\u0161\001\326\u014b\326\u014b\326\u014b\u0161\001\326" +
+    "\u014b\u0161\001\310\u01df\u0161\001\u0161\001\310\u01df" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\310\u01df\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\310\u01df" +
+    "\310\u01df\u0161\001\310\u01df\310\u01df\u0161\001\u0161" +
+    "\001\310\u01df\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\310\u01df\310\u01df\326\u014b\u0161\001\u0161\001\u0161" +
+    "\001\310\u01df\310\u01df\310\u01df\310\u01df\310\u01df" +
+    "\310\u01df\257\u014b\u0161\001\310\u01df\310\u01df\310" +
+    "\u01df\u0161\001\310\u01df\u0161\001\257\u014b\u0161\001" +
+    "\u0161\001\257\u014b\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\257\u014b\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\257\u014b\257\u014b\u0161\001\257\u014b\257" +
+    "\u014b\u0161\001\u0161\001\257\u014b\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\257\u014b\257\u014b\310\u01df\u0161" +
+    "\001\u0161\001\u0161\001\257\u014b\257\u014b\257\u014b" +
+    "\257\u014b\257\u014b\257\u014b\237\u01af\u0161\001\257" +
+    "\u014b\257\u014b\257\u014b\u0161\001\257\u014b\u0161\001" +
+    "\237\u01af\u0161\001\u0161\001\237\u01af\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\237\u01af\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\237\u01af\237\u01af\u0161" +
+    "\001\237\u01af\237\u01af\u0161\001\u0161\001\237\u01af" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\237\u01af\237" +
+    "\u01af\257\u014b\u0161\001\u0161\001\u0161\001\237\u01af" +
+    "\237\u01af\237\u01af\237\u01af\237\u01af\237\u01af\145" +
+    "\u0145\u0161\001\237\u01af\237\u01af\237\u01af\u0161\001" +
+    "\237\u01af\u0161\001\145\u0145\u0161\001\u0161\001\145" +
+    "\u0145\u0161\001\u0161\001\u0161\001\u0161\001\145\u0145" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\145" +
+    "\u0145\145\u0145\u0161\001\145\u0145\145\u0145\u0161\001" +
+    "\u0161\001\145\u0145\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\145\u0145\145\u0145\237\u01af\u0161\001\u0161\001" +
+    "\u0161\001\145\u0145\145\u0145\145\u0145\145\u0145\145" +
+    "\u0145\145\u0145\125\u0123\u0161\001\145\u0145\145\u0145" +
+    "\145\u0145\u0161\001\145\u0145\u0161\001\125\u0123\u0161" +
+    "\001\u0161\001\125\u0123\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\125\u0123\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\125\u0123\125\u0123\u0161\001\125\u0123" +
+    "\125\u0123\u0161\001\u0161\001\125\u0123\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\125\u0123\125\u0123\145\u0145" +
+    "\u0161\001\u0161\001\u0161\001\125\u0123\125\u0123\125" +
+    "\u0123\125\u0123\125\u0123\125\u0123\075\323\u0161\001" +
+    "\125\u0123\125\u0123\125\u0123\u0161\001\125\u0123\u0161" +
+    "\001\075\323\u0161\001\u0161\001\075\323\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\075\323\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\075\323\075\323" +
+    "\u0161\001\075\323\075\323\u0161\001\u0161\001\075" +
+    "\323\u0161\001\u0161\001\u0161\001\u0161\001\075\323" +
+    "\075\323\125\u0123\u0161\001\u0161\001\u0161\001\075" +
+    "\323\075\323\075\323\075\323\075\323\075\323" +
+    "\040\231\u0161\001\075\323\075\323\075\323\u0161" +
+    "\001\075\323\u0161\001\040\231\u0161\001\u0161\001" +
+    "\040\231\u0161\001\u0161\001\u0161\001\u0161\001\040" +
+    "\231\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\040\231\040\231\u0161\001\040\231\040\231\u0161" +
+    "\001\u0161\001\040\231\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\040\231\040\231\075\323\u0161\001\u0161" +
+    "\001\u0161\001\040\231\040\231\040\231\040\231" +
+    "\040\231\040\231\035\213\u0161\001\040\231\040" +
+    "\231\040\231\u0161\001\040\231\u0161\001\035\213" +
+    "\u0161\001\u0161\001\035\213\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\035\213\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\035\213\035\213\u0161\001\035" +
+    "\213\035\213\u0161\001\u0161\001\035\213\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\035\213\035\213\040" +
+    "\231\u0161\001\u0161\001\u0161\001\035\213\035\213" +
+    "\035\213\035\213\035\213\035\213\032\205\u0161" +
+    "\001\035\213\035\213\035\213\u0161\001\035\213" +
+    "\u0161\001\032\205\u0161\001\u0161\001\032\205\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\032\205\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\032\205\032" +
+    "\205\u0161\001\032\205\032\205\u0161\001\u0161\001" +
+    "\032\205\u0161\001\u0161\001\u0161\001\u0161\001\032" +
+    "\205\032\205\035\213\u0161\001\u0161\001\u0161\001" +
+    "\032\205\032\205\032\205\032\205\032\205\032" +
+    "\205\016\171\u0161\001\032\205\032\205\032\205" +
+    "\u0161\001\032\205\u0161\001\016\171\u0161\001\u0161" +
+    "\001\016\171\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\016\171\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\016\171\016\171\u0161\001\016\171\016\171" +
+    "\u0161\001\u0161\001\016\171\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\016\171\016\171\032\205\u0161\001" +
+    "\u0161\001\u0161\001\016\171\016\171\016\171\016" +
+    "\171\016\171\016\171\014\163\u0161\001\016\171" +
+    "\016\171\016\171\u0161\001\016\171\u0161\001\014" +
+    "\163\u0161\001\u0161\001\014\163\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\014\163\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\014\163\014\163\u0161\001" +
+    "\014\163\014\163\u0161\001\u0161\001\014\163\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\014\163\014\163" +
+    "\016\171\u0161\001\u0161\001\u0161\001\014\163\014" +
+    "\163\014\163\014\163\014\163\014\163\013\161" +
+    "\u0161\001\014\163\014\163\014\163\u0161\001\014" +
+    "\163\u0161\001\013\161\u0161\001\u0161\001\013\161" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\013\161\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\013\161" +
+    "\013\161\u0161\001\013\161\013\161\u0161\001\u0161" +
+    "\001\013\161\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\013\161\013\161\014\163\u0161\001\u0161\001\u0161" +
+    "\001\013\161\013\161\013\161\013\161\013\161" +
+    "\013\161\012\157\u0161\001\013\161\013\161\013" +
+    "\161\u0161\001\013\161\u0161\001\012\157\u0161\001" +
+    "\u0161\001\012\157\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\012\157\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\012\157\012\157\u0161\001\012\157\012" +
+    "\157\u0161\001\u0161\001\012\157\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\012\157\012\157\013\161\u0161" +
+    "\001\u0161\001\u0161\001\012\157\012\157\012\157" +
+    "\012\157\012\157\012\157\011\155\u0161\001\012" +
+    "\157\012\157\012\157\u0161\001\012\157\u0161\001" +
+    "\011\155\u0161\001\u0161\001\011\155\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\011\155\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\011\155\011\155\u0161" +
+    "\001\011\155\011\155\u0161\001\u0161\001\011\155" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\011\155\011" +
+    "\155\012\157\u0161\001\u0161\001\u0161\001\011\155" +
+    "\011\155\011\155\011\155\011\155\011\155\u0161" +
+    "\001\u0161\001\011\155\011\155\011\155\u0161\001" +
+    "\011\155\002\017\002\021\u0161\001\002\023\002" +
+    "\025\002\027\002\031\002\033\002\035\002\037" +
+    "\u0161\001\u0161\001\002\041\u0161\001\u0161\001\002" +
+    "\043\002\045\002\047\002\051\002\053\002\055" +
+    "\002\057\002\061\002\063\u0161\001\u0161\001\u0161" +
+    "\001\002\065\u0161\001\011\155\u0161\001\u0161\001" +
+    "\u0161\001\002\067\002\071\u0161\001\u0161\001\u0161" +
+    "\001\002\073\002\075\002\077\u0161\001\002\101" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\002\103\002" +
+    "\105\002\107\002\111\002\113\002\115\002\117" +
+    "\002\121\002\123\002\125\006\017\006\021\u0161" +
+    "\001\006\023\006\025\006\027\006\031\006\033" +
+    "\006\035\006\037\u0161\001\u0161\001\006\041\u0161" +
+    "\001\u0161\001\006\043\006\045\006\047\006\051" +
+    "\006\053\006\055\006\057\006\061\006\063\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\006\067\006\071\u0161" +
+    "\001\u0161\001\u0161\001\006\073\006\075\006\077" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\006\103\006\105\006\107\006\111\006\113" +
+    "\006\115\006\117\006\121\006\123\006\125\u015d" +
+    "\u0191\u015d\u0193\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195" +
+    "\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u015d" +
+    "\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195" +
+    "\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u015d" +
+    "\u0195\u015d\u0195\u015d\u0195\u015d\u0195\u0161\001\u0161\001" +
+    "\u015d\u0195\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u015d\u02bf\u0141\u0191\u0141\u0193\u0141\u0195" +
+    "\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141" +
+    "\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195" +
+    "\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141" +
+    "\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195\u0141\u0195" +
+    "\u0141\u0195\u0161\001\u0161\001\u0141\u0195\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0141\u02a3" +
+    "\u013f\u0191\u013f\u0193\u013f\u0195\u013f\u0195\u013f\u0195\u013f" +
+    "\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195" +
+    "\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u013f" +
+    "\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195" +
+    "\u013f\u0195\u013f\u0195\u013f\u0195\u013f\u0195\u0161\001\u0161" +
+    "\001\u013f\u0195\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u013f\u02a1\u013c\u0191\u013c\u0193\u013c" +
+    "\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195" +
+    "\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c" +
+    "\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195" +
+    "\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c\u0195\u013c" +
+    "\u0195\u013c\u0195\u0161\001\u0161\001\u013c\u0195\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u013c" +
+    "\u029d\u013a\u0191\u013a\u0193\u013a\u0195\u013a\u0195\u013a\u0195" +
+    "\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a" +
+    "\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195" +
+    "\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a" +
+    "\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u013a\u0195\u0161\001" +
+    "\u0161\001\u013a\u0195\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u013a\u029b\u012c\u0191\u012c\u0193" +
+    "\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c" +
+    "\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195" +
+    "\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c" +
+    "\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195\u012c\u0195" +
+    "\u012c\u0195\u012c\u0195\u0161\001\u0161\001\u012c\u0195\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u012c\356\u0129\u0191\u0129\u0193\u0129\u0195\u0129\u0195\u0129" +
+    "\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195" +
+    "\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129" +
+    "\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195" +
+    "\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0129\u0195\u0161" +
+    "\001\u0161\001\u0129\u0195\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0129\356\u0128\u0191\u0128" +
+    "\u0193\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195" +
+    "\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128" +
+    "\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195" +
+    "\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128\u0195\u0128" +
+    "\u0195\u0128\u0195\u0128\u0195\u0161\001\u0161\001\u0128\u0195" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001\u0161" +
+    "\001\u0128\356\314\u0191\314\u0193\314\u0195\314\u0195" +
+    "\314\u0195\314\u0195\314\u0195\314\u0195\314\u0195\314" +
+    "\u0195\314\u0195\314\u0195\314\u0195\314\u0195\314\u0195" +
+    "\314\u0195\314\u0195\314\u0195\314\u0195\314\u0195\314" +
+    "\u0195\314\u0195\314\u0195\314\u0195\314\u0195\314\u0195" +
+    "\u0161\001\u0161\001\314\u0195\u0161\001\u0161\001\u0161" +
+    "\001\u0161\001\u0161\001\u0161\001\314\u01e5\212\u0105" +
+    "\212\u0105\212\u0107\212\u0109\212\u010b\212\u010d\212" +
+    "\u010f\212\u0105\212\u0105\212\u0105\212\u0111\212\u0113" +
+    "\212\u0105\212\u0105\212\u0105\212\u0105\212\u0105\212" +
+    "\u0105\212\u0105\212\u0105\212\u0105\212\u0105\212\u0105" +
+    "\212\u0105\212\u0105\212\u0105\u0161\001\u0161\001\212" +
+    "\u0105\u0161\001\u0161\001\u0161\001\u0161\001\u0161\001" +
+    "\u0161\001\212\u0181\164\335\164\335\164\335\164" +
+    "\335\164\335\164\335\164\335\164\337\164\341" +
+    "\164\343\164\345\164\347\164\335\164\335\164" +
+    "\335\164\335\164\335\164\335\164\335\164\335" +
+    "\164\335\164\335\164\335\164\335\164\335\164" +
+    "\335\u0161\001\u0161\001\164\335\u0161\001\u0161\001" +
+    "\u0161\001\u0161\001\u0161\001\u0161\001\164\u0165\u0161" +
+    "\001\u02fe\u01be\u010d\u010a\334\245\245\u0103\u0270\355" +
+    "\330\313\311\013\071\307\u0103\334\245\u0147\u01da" +
+    "\354\355\u02f6\u0152\334\305\274\054\u0120\267\u02ef" +
+    "\u01df\240\054\245\334\u0269\u010e\305\245\337\141" +
+    "\141\u0119\u0149\232\072\141\141\334\243\u0137\146" +
+    "\361\u0113\u0113\u02dd\240\u0108\022\u0106\234\u0156\u013e" +
+    "\u011d\u01ae\222\u0103\337\361\u01a3\u0111\361\u0104\240" +
+    "\375\250\366\307\202\u019e\233\u019b\u0178\377\216" +
+    "\u025f\u01b9\u0103\u0102\u0103\u0258\246\u017c\335\031\u018e" +
+    "\343\u0154\046\147\207\u011e\360\040\340\234\337" +
+    "\361\u0255\366\247\264\u0104\351\241\202\357\312" +
+    "\312\312\312\312\u01c4\370\341\u0100\u0101\264\264" +
+    "\335\327\337\156\156\156\313\242\u01f8\u010b\156" +
+    "\u024e\u0244\u023d\221\027\276\351\u02d6\156\156\156" +
+    "\u0103\u023a\263\u02d4\156\u01c0\151\201\371\375\114" +
+    "\344\345\054\016\u0107\051\365\164\202\202\263" +
+    "\202\045\346\202\213\063\063\156\317\u0141\u0142" +
+    "\105\114\374\135\164\102\212\346\346\312\312" +
+    "\312\312\312\006\163\074\063\070\u02ae\067\151" +
+    "\015\142\346\212\u02cd\313\u02c3\017\063\213\214" +
+    "\066\036\164\u011b\072\270\322\346\346\057\256" +
+    "\054\u0108\u0108\u0176\u0108\u01f2\016\343\u0108\u0135\270" +
+    "\u016c\212\270\063\063\314\313\051\254\303\043" +
+    "\054\064\041\032\251\356\154\154\314\375\u02c1" +
+    "\u02bc\u02ba\254\141\141\254\077\232\u02a9\u0122\u01be" +
+    "\u02a7\244\174\u0233\u0229\270\u0222\u021f\u0218\u020e\331" +
+    "\u0103\u0114\321\u0105\037\331\u0124\174\353\353\174" +
+    "\u0207\u0149\u0130\003\u0163\162\144\u010d\254\200\u015c" +
+    "\053\020\312\312\312\312\312\053\u02a9\004\u0296" +
+    "\004\026\u0291\u0133\u028c\227\226\353\225\313\321" +
+    "\025\u01fd\174\025\054\312\312\312\312\312\002" +
+    "\u0136\367\u014a\001\335\075\371\u0159\u0159\u015c\u017c" +
+    "\054\313\312\312\312\312\312\054\117\312\312" +
+    "\312\312\312\141\141\054\001\324\001\313\141" +
+    "\141\u013c\u013d\324\054\313\054\001\063\063\054" +
+    "\001\312\312\312\312\312\064\u010b\u010b\063\063" +
+    "\154\154\063\063\u013a\u013b\054\064\363\001\001" +
+    "\064\154\154\001\001\154\154\001\054\235\235" +
+    "\054\u015d\u015e\001\001\165\u0115\u0116\u013f\u0140\001" +
+    "\063\063\001\063\063\054\001\217\220\064\165" +
+    "\231\064\165\154\154\054\154\154\063\063\054" +
+    "\001\054\001\001\001\264\064\001\224\224\001" +
+    "\154\154\141\141\141\141\232\001\232\216\264" +
+    "\264\215\001\001\076\165\076\076\076\076\076" +
+    "\107\001\107\107\107\001\155\001\107\111\110" +
+    "\112\001\003\003\003\003\001\054\001\u012b\001" +
+    "\325\266\267\202\202\001\202\054\001\202\u0110" +
+    "\u0110\u0111\001\001\001\076\054\001\001\113\063" +
+    "\063\301\054\001\001\001\001\003\064\063\063" +
+    "\u010e\054\u0153\u0153\001\063\063\064\054\301\001" +
+    "\054\u0139\u0139\064\063\063\001\054\u0132\u0132\001" +
+    "\063\063\064\063\063\001\054\u0131\u0131\064\063" +
+    "\063\064\054\u0130\u0130\054\u012f\u012f\064\063\063" +
+    "\001\054\253\253\001\063\063\064\063\063\001" +
+    "\054\253\253\064\063\063\064\054\253\253\054" +
+    "\253\253\064\063\063\001\054\253\253\001\063" +
+    "\063\064\063\063\001\054\253\253\064\063\063" +
+    "\064\054\253\253\001\230\230\064\063\063\001" +
+    "\001\222\222\001\063\063\064\001\001\001\001" +
+    "\116\116\064\001\001\001\001\065\065\312\312" +
+    "\312\312\312\312\312\312\312\312\312\312\312" +
+    "\312\312\001\001\001\363\001\001\001\001\363" +
+    "\001\054\001\054\363\312\312\312\312\312\312" +
+    "\312\312\312\312\141\141\141\141\u012c\054\u0129" +
+    "\054\363\001\001\001\054\363\054\001\001\001" +
+    "\001\141\141\141\141\u0127\054\u0126\141\141\141" +
+    "\141\u0125\054\324\054\001\001\001\001\141\141" +
+    "\054\001\373\001\001\141\141\141\141\324\001" +
+    "\315\001\001\141\141\001\106\142\106\106\106" +
+    "\106\106\100\001\100\100\100\100\100"
+    };
+  }
+
+  /** Instance of action encapsulation class. */
+  protected Action$ action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
+    {
+      action_obj = new Action$(this);
+    }
+
+  /** Invoke a user supplied parse action. */
+  public com.github.jhoenicke.javacup.runtime.Symbol do_action(
+    int                        act_num,
+    java.util.ArrayList<com.github.jhoenicke.javacup.runtime.Symbol> stack)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$do_action(act_num, stack);
+  }
+
+
+  /** Scan to get the next Symbol. */
+  public com.github.jhoenicke.javacup.runtime.Symbol scan()
+    throws java.lang.Exception
+    {
+ return getScanner().next_token(); 
+    }
+
+
+	String filename;
+	ParseEnvironment env;
+
+	public static final Sort[] EMPTY_SORT_ARRAY = {};
+
+	public void report_error(String s, Object sym) {
+		String location;
+		if (sym instanceof MySymbolFactory.LineColumnSymbol) {
+			MySymbolFactory.LineColumnSymbol bsym = (MySymbolFactory.LineColumnSymbol) sym;
+			location = bsym.getLocation();
+		} else if ((sym instanceof Symbol)
+				   && ((Symbol)sym).sym == LexerSymbols.EOF) {
+			location = "EOF";
+		} else
+			location = "UNKNOWN";
+
+		action_obj.setError(filename+":"+location+": "+s);
+	}
+
+	public void report_error(String s) {
+		report_error(s, cur_token);
+	}
+
+	public void syntax_error(Symbol sym) {
+		report_error("Syntax Error", sym);
+		env.printError(action_obj.getError());
+	}
+
+	public void setFileName(String filename) {
+		this.filename = filename;
+	}
+
+	public void setParseEnvironment(ParseEnvironment env) {
+		this.env = env;
+	}
+
+
+/** Cup generated class to encapsulate user supplied action code.*/
+static class Action$ {
+
+
+	ScopedHashMap<String,TermVariable> localVars =
+		new ScopedHashMap<String, TermVariable>(false);
+	Sort[] mSortParams = null;
+	static Sort[] emptySortArray = new Sort[0];
+	Sort mMatchSort = null;
+
+	static class Binding {
+		TermVariable mVar;
+		Term mTerm;
+		public Binding(TermVariable var, Term term) {
+			mVar = var;
+			mTerm = term;
+		}
+		TermVariable getVar() {
+			return mVar;
+		}
+		Term getTerm() {
+			return mTerm;
+		}
+	}
+
+	static class IndexedIdentifier {
+		String mName;
+		String[] mIndices;
+		public IndexedIdentifier(String name, String[] indices) {
+			mName = name;
+			mIndices = indices;
+		}
+		public String getName() {
+			return mName;
+		}
+		public String[] getIndices() {
+			return mIndices;
+		}
+
+		public String toString() {
+			if (mIndices == null)
+				return mName;
+			return "(_ "+mName+" "+Arrays.toString(mIndices)+")";
+		}
+	}
+
+	static class QualIdentifier {
+		String mName;
+		String[] mIndices;
+		Sort mSort;
+		public QualIdentifier(IndexedIdentifier id, Sort sort) {
+			mName = id.getName();
+			mIndices = id.getIndices();
+			mSort = sort;
+		}
+		public String getIdentifier() {
+			return mName;
+		}
+		public String[] getIndices() {
+			return mIndices;
+		}
+		public Sort getSort() {
+			return mSort;
+		}
+
+		public String toString() {
+			String indexedId;
+			if (mIndices == null)
+				indexedId = mName;
+			else
+				indexedId = "(_ "+mName+" "+Arrays.toString(mIndices)+")";
+			if (mSort == null)
+				return indexedId;
+			return "(as " + indexedId + " " + mSort + ")";
+		}
+	}
+
+	static class SelectorDec {
+		String mSelector;
+		Sort mArgumentSort;
+		public SelectorDec(String selector, Sort argumentSort) {
+			mSelector = selector;
+			mArgumentSort = argumentSort; 
+		}
+		public String getSelector() {
+			return mSelector;
+		}
+		public Sort getArgumentSort() {
+			return mArgumentSort;
+		}
+		public String toString() {
+			return "(" + mSelector + " " + mArgumentSort + ")";
+		}
+	}
+
+	static class ParametricConstructors {
+		final DataType.Constructor[] mConstructors;
+		final Sort[] mSortParams;
+		public ParametricConstructors(DataType.Constructor[] constructors) {
+			mConstructors = constructors;
+			mSortParams = null;
+		}
+		public ParametricConstructors(DataType.Constructor[] constructors, Sort[] sortparams) {
+			mConstructors = constructors;
+			mSortParams = sortparams;
+		}
+		public DataType.Constructor[] getConstructors() {
+			return mConstructors;
+		}
+		public Sort[] getSortParams() {
+			return mSortParams;
+		}
+	}
+
+	class Pattern {
+		DataType.Constructor mConstructor;
+		TermVariable[] mVars;
+		Sort[] mSorts;
+
+		public Pattern(String constructor, String[] vars) {
+			for (int i = 0; i < vars.length; i++) {
+				for (int j = 0; j < i; j++) {
+					if (vars[j].equals(vars[i])) {
+						throw new SMTLIBException("Variables must all be distinct.");
+					}
+				}
+			}
+
+			DataType dataType = (DataType) mMatchSort.getSortSymbol();
+			mConstructor = dataType.findConstructor(constructor);
+			mSorts = mConstructor.getArgumentSorts();
+			mVars = new TermVariable[vars.length];
+
+			for (int i = 0; i < vars.length; i++) {
+				Sort sort = mSorts[i].mapSort(mMatchSort.getArguments());
+					mVars[i] = createTermVariable(vars[i], sort);
+			}
+		}
+
+		public Pattern(String constructor) {
+			mConstructor = ((DataType) mMatchSort.getSortSymbol()).findConstructor(constructor);
+			if (mConstructor == null) {
+				mVars = new TermVariable[1];
+					mVars[0] = createTermVariable(constructor, mMatchSort);
+			} else {
+				mVars = new TermVariable[0];
+			}
+		}
+
+		public TermVariable[] getVars() {
+			return mVars;
+		}
+
+			public DataType.Constructor getConstructor() {
+			return mConstructor;
+		}
+	}
+
+	static class MatchCase {
+		Pattern mPattern;
+		Term mCase;
+
+		public MatchCase(Pattern pattern, Term caseTerm) {
+			mPattern = pattern;
+			mCase = caseTerm;
+		}
+
+		public Pattern getPattern() {
+			return mPattern;
+		}
+
+		public Term getCase() {
+			return mCase;
+		}
+	}
+
+	Term createMatchTerm (Symbol sym, Term dataArg, MatchCase[] matchCases) {
+		if (mMatchSort == null) {
+			return null;
+		}
+		DataType matchDatatype = (DataType) mMatchSort.getSortSymbol();
+		if (!checkPatterns(matchDatatype, matchCases)) {
+			parser.report_error("Either match term contains a pattern consisting of a variable or all constructors must occur in one of the patterns.", sym);
+			return null;
+		}
+		TermVariable[][] vars = new TermVariable[matchCases.length][];
+		Term[] cases = new Term[matchCases.length];
+		DataType.Constructor[] constructors = new DataType.Constructor[matchCases.length];
+		for (int i = 0; i < matchCases.length; i++) {
+			vars[i] = matchCases[i].getPattern().getVars();
+			cases[i] = matchCases[i].getCase();
+			constructors[i] = matchCases[i].getPattern().getConstructor();
+		}
+		return parser.env.getScript().match(dataArg, vars, cases, constructors);
+	}
+
+	//Function to check that either match term contains a pattern consisting of a variable
+	// or all constructors must occur in one of the patterns.
+	public boolean checkPatterns(DataType matchDatatype, MatchCase[] matchCases) {
+		for (int i = 0; i < matchCases.length; i++) {
+			if (matchCases[i].getPattern().getConstructor() == null) {
+				return true;
+			}
+		}
+		DataType.Constructor[] allConstrs = matchDatatype.getConstructors();
+		for (int i = 0; i < allConstrs.length; i++) {
+			boolean constrFound = false;
+			for (int j = 0; j < matchCases.length; j++) {
+				if (matchCases[j].getPattern().getConstructor().getName().equals(allConstrs[i].getName())) {
+					constrFound = true;
+				}
+			}
+			if (!constrFound) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	String errorMessage;
+	public void setError(String message) {
+		if (errorMessage == null)
+			errorMessage = message;
+	}
+	public boolean hasError() {
+		return errorMessage != null;
+	}
+	public String getError() {
+		String result = errorMessage;
+		errorMessage = null;
+		return result;
+	}
+
+	private Sort[] getSortParams() {
+		return mSortParams;
+	}
+
+	private void pushSortParams(String[] sortVars) {
+		assert mSortParams == null;
+		mSortParams = parser.env.getScript().sortVariables(sortVars);
+	}
+
+	private void popSortParams() {
+		assert mSortParams != null;
+		mSortParams = null;
+	}
+
+	public Sort lookupSort(Symbol sym, IndexedIdentifier id, Sort[] args) {
+		for (Sort s: args) {
+			if (s == null) return null;
+		}
+		String name = id.getName();
+		if (args.length == 0 && id.getIndices() == null && mSortParams != null) {
+			for (Sort s: mSortParams) {
+				if (s.getName().equals(name))
+					return s;
+			}
+		}
+		try {
+			return parser.env.getScript().sort(name, id.getIndices(), args);
+		} catch (SMTLIBException se) {
+			parser.report_error("Undeclared sort ("+id+" "+args.length+")", sym);
+		}
+		return null;
+	}
+
+	public Term createTerm(Symbol fsym, String name, String[] indices, Sort resultSort, Term[] param) {
+		// check if there was an error when creating the child term.
+		for (Term p : param) {
+			if (p == null)
+				return null;
+		}
+		try {
+			return parser.env.getScript().term(name, indices, resultSort, param);
+		} catch (SMTLIBException se) {
+			parser.report_error(se.getMessage(), fsym);
+		}
+		return null;
+	}
+
+	public TermVariable createTermVariable(String name, Sort sort) {
+		if (sort == null)
+			return null;
+		try {
+			TermVariable tv = parser.env.getScript().variable(name, sort);
+			localVars.put(tv.getName(), tv);
+			return tv;
+		} catch (SMTLIBException cannotHappen) {}
+		// Actually unreachable
+		throw new AssertionError();
+	}
+
+	private Term getTermVariable(String name) {
+		return localVars.get(name);
+	}
+
+	public Term annotateTerm(Term term, Annotation[] annots) {
+		if (term == null)
+			return null;
+		try {
+			return parser.env.getScript().annotate(term, annots);
+		} catch (SMTLIBException se) {
+			parser.report_error(se.getMessage());
+		}
+		return null;
+	}
+
+  private final Parser parser;
+
+  /** Constructor */
+  Action$(Parser parser) {
+    this.parser = parser;
+  }
+
+  /** Method with the actual generated action code. */
+  @SuppressWarnings({ "unused", "unchecked" })
+  public final com.github.jhoenicke.javacup.runtime.Symbol CUP$do_action(
+    int                        CUP$act_num,
+    java.util.ArrayList<com.github.jhoenicke.javacup.runtime.Symbol> CUP$stack)
+    throws java.lang.Exception
+    {
+      /* Stack size for peeking into the stack */
+      int CUP$size = CUP$stack.size();
+
+      /* select the action based on the action number */
+      switch (CUP$act_num)
+        {
+          // $START ::= goal EOF 
+          case 0:
+            {
+              Object RESULT;
+RESULT = null;
+/* ACCEPT */
+parser.done_parsing();
+              return parser.getSymbolFactory().newSymbol("$START", 0, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // specConstant ::= NUMERAL 
+          case 1:
+            {
+              Object RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+ RESULT = n; 
+              return parser.getSymbolFactory().newSymbol("specConstant", 18, n$, n$, RESULT);
+            }
+
+          // specConstant ::= DECIMAL 
+          case 2:
+            {
+              Object RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigDecimal n = (BigDecimal) n$.value;
+ RESULT = n; 
+              return parser.getSymbolFactory().newSymbol("specConstant", 18, n$, n$, RESULT);
+            }
+
+          // specConstant ::= HEXADECIMAL 
+          // specConstant ::= BINARY 
+          case 3:
+            {
+              Object RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              String n = (String) n$.value;
+ RESULT = n; 
+              return parser.getSymbolFactory().newSymbol("specConstant", 18, n$, n$, RESULT);
+            }
+
+          // specConstant ::= STRING 
+          case 4:
+            {
+              Object RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              String n = (String) n$.value;
+ RESULT = new QuotedObject(n); 
+              return parser.getSymbolFactory().newSymbol("specConstant", 18, n$, n$, RESULT);
+            }
+
+          // sExpr ::= LPAR sExpr* RPAR 
+          case 5:
+            {
+              Object RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol s$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Object> CUP$list$s = (java.util.ArrayList<Object>) s$.value;
+              Object[] s = CUP$list$s.toArray(new Object[CUP$list$s.size()]);
+ RESULT = s; 
+              return parser.getSymbolFactory().newSymbol("sExpr", 19, CUP$stack.get(CUP$size - 3), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // constantTerm ::= NUMERAL 
+          case 6:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+ try {
+					RESULT = parser.env.getScript().numeral(n);
+					} catch (SMTLIBException se) {
+						parser.report_error(se.getMessage());
+						RESULT = null;
+					} 
+              return parser.getSymbolFactory().newSymbol("constantTerm", 30, n$, n$, RESULT);
+            }
+
+          // constantTerm ::= DECIMAL 
+          case 7:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigDecimal n = (BigDecimal) n$.value;
+ try {
+             		RESULT = parser.env.getScript().decimal(n);
+             		} catch (SMTLIBException se) {
+             			parser.report_error(se.getMessage());
+             			RESULT = null;
+             		} 
+              return parser.getSymbolFactory().newSymbol("constantTerm", 30, n$, n$, RESULT);
+            }
+
+          // constantTerm ::= HEXADECIMAL 
+          case 8:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              String n = (String) n$.value;
+ try {
+             		RESULT = parser.env.getScript().hexadecimal(n);
+             		} catch (SMTLIBException se) {
+             			parser.report_error(se.getMessage());
+             			RESULT = null;
+             		}  
+              return parser.getSymbolFactory().newSymbol("constantTerm", 30, n$, n$, RESULT);
+            }
+
+          // constantTerm ::= BINARY 
+          case 9:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              String n = (String) n$.value;
+ try {
+             		RESULT = parser.env.getScript().binary(n);
+             		} catch (SMTLIBException se) {
+             			parser.report_error(se.getMessage());
+             			RESULT = null;
+             		} 
+              return parser.getSymbolFactory().newSymbol("constantTerm", 30, n$, n$, RESULT);
+            }
+
+          // constantTerm ::= STRING 
+          case 10:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              String n = (String) n$.value;
+ try {
+                    RESULT = parser.env.getScript().string(n);
+             		} catch (SMTLIBException se) {
+             			parser.report_error(se.getMessage());
+             			RESULT = null;
+             		} 
+              return parser.getSymbolFactory().newSymbol("constantTerm", 30, n$, n$, RESULT);
+            }
+
+          // index ::= NUMERAL 
+          case 11:
+            {
+              String RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+ RESULT = n.toString(); 
+              return parser.getSymbolFactory().newSymbol("index", 15, n$, n$, RESULT);
+            }
+
+          // identifierIndexed ::= LPAR UNDERSCORE symbol index+ RPAR 
+          case 12:
+            {
+              IndexedIdentifier RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol indices$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<String> CUP$list$indices = (java.util.ArrayList<String>) indices$.value;
+              String[] indices = CUP$list$indices.toArray(new String[CUP$list$indices.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol id$ = CUP$stack.get(CUP$size - 3);
+              String id = (String) id$.value;
+ RESULT = new IndexedIdentifier(id, indices); 
+              return parser.getSymbolFactory().newSymbol("identifierIndexed", 17, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // identifier ::= symbol 
+          case 13:
+            {
+              IndexedIdentifier RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol s$ = CUP$stack.get(CUP$size - 1);
+              String s = (String) s$.value;
+ RESULT = new IndexedIdentifier(s, null); 
+              return parser.getSymbolFactory().newSymbol("identifier", 16, s$, s$, RESULT);
+            }
+
+          // sort ::= identifier 
+          case 14:
+            {
+              Sort RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol id$ = CUP$stack.get(CUP$size - 1);
+              IndexedIdentifier id = (IndexedIdentifier) id$.value;
+ RESULT = lookupSort(id$, id, emptySortArray); 
+              return parser.getSymbolFactory().newSymbol("sort", 20, id$, id$, RESULT);
+            }
+
+          // sort ::= LPAR identifier sort+ RPAR 
+          case 15:
+            {
+              Sort RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol sorts$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Sort> CUP$list$sorts = (java.util.ArrayList<Sort>) sorts$.value;
+              Sort[] sorts = CUP$list$sorts.toArray(new Sort[CUP$list$sorts.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol id$ = CUP$stack.get(CUP$size - 3);
+              IndexedIdentifier id = (IndexedIdentifier) id$.value;
+ RESULT = lookupSort(id$, id, sorts); 
+              return parser.getSymbolFactory().newSymbol("sort", 20, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // attribute ::= keywordNoAttr attributeValue? 
+          case 16:
+            {
+              Annotation RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol v$ = CUP$stack.get(CUP$size - 1);
+              Object v = (Object) v$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 2);
+              String k = (String) k$.value;
+ RESULT = new Annotation(k, v); 
+              return parser.getSymbolFactory().newSymbol("attribute", 22, k$, v$, RESULT);
+            }
+
+          // attribute ::= CNAMED symbol 
+          case 17:
+            {
+              Annotation RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol v$ = CUP$stack.get(CUP$size - 1);
+              String v = (String) v$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 2);
+              String k = (String) k$.value;
+ RESULT = new Annotation(k, v); 
+              return parser.getSymbolFactory().newSymbol("attribute", 22, k$, v$, RESULT);
+            }
+
+          // attribute ::= CPATTERN LPAR term* RPAR 
+          case 18:
+            {
+              Annotation RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> CUP$list$t = (java.util.ArrayList<Term>) t$.value;
+              Term[] t = CUP$list$t.toArray(new Term[CUP$list$t.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 4);
+              String k = (String) k$.value;
+ RESULT = new Annotation(k, t); 
+              return parser.getSymbolFactory().newSymbol("attribute", 22, k$, CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // attributeValue ::= LPAR sExpr* RPAR 
+          case 19:
+            {
+              Object RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol s$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Object> CUP$list$s = (java.util.ArrayList<Object>) s$.value;
+              Object[] s = CUP$list$s.toArray(new Object[CUP$list$s.size()]);
+ RESULT = s; 
+              return parser.getSymbolFactory().newSymbol("attributeValue", 21, CUP$stack.get(CUP$size - 3), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // attributeLogic ::= keywordNoLogic attributeValue? 
+          case 20:
+            {
+              Annotation RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol v$ = CUP$stack.get(CUP$size - 1);
+              Object v = (Object) v$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 2);
+              String k = (String) k$.value;
+ RESULT = new Annotation(k, v); 
+              return parser.getSymbolFactory().newSymbol("attributeLogic", 24, k$, v$, RESULT);
+            }
+
+          // attributeTheory ::= keywordNoTheory attributeValue? 
+          case 21:
+            {
+              Annotation RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol v$ = CUP$stack.get(CUP$size - 1);
+              Object v = (Object) v$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 2);
+              String k = (String) k$.value;
+ RESULT = new Annotation(k, v); 
+              return parser.getSymbolFactory().newSymbol("attributeTheory", 23, k$, v$, RESULT);
+            }
+
+          // qualIdentifier ::= identifier 
+          case 22:
+            {
+              QualIdentifier RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol i$ = CUP$stack.get(CUP$size - 1);
+              IndexedIdentifier i = (IndexedIdentifier) i$.value;
+ RESULT = new QualIdentifier(i, null); 
+              return parser.getSymbolFactory().newSymbol("qualIdentifier", 25, i$, i$, RESULT);
+            }
+
+          // qualIdentifier ::= LPAR AS identifier sort RPAR 
+          case 23:
+            {
+              QualIdentifier RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol s$ = CUP$stack.get(CUP$size - 2);
+              Sort s = (Sort) s$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol i$ = CUP$stack.get(CUP$size - 3);
+              IndexedIdentifier i = (IndexedIdentifier) i$.value;
+ RESULT = new QualIdentifier(i, s); 
+              return parser.getSymbolFactory().newSymbol("qualIdentifier", 25, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // varBinding ::= LPAR symbol term RPAR 
+          case 24:
+            {
+              Binding RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              Term t = (Term) t$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 3);
+              String sym = (String) sym$.value;
+ if (hasError()) {
+            	RESULT = null;
+            } else {
+         		TermVariable tv = createTermVariable(sym, t.getSort());
+            	RESULT = new Binding(tv, t);
+            }
+          
+              return parser.getSymbolFactory().newSymbol("varBinding", 26, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // sortedVar ::= LPAR symbol sort RPAR 
+          case 25:
+            {
+              TermVariable RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol s$ = CUP$stack.get(CUP$size - 2);
+              Sort s = (Sort) s$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 3);
+              String sym = (String) sym$.value;
+ RESULT = createTermVariable(sym, s); 
+              return parser.getSymbolFactory().newSymbol("sortedVar", 27, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // pattern ::= symbol 
+          case 26:
+            {
+              Pattern RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 1);
+              String sym = (String) sym$.value;
+ if (mMatchSort == null) {
+            	RESULT = null;
+            } else {
+            	RESULT = new Pattern(sym);
+            }
+         
+              return parser.getSymbolFactory().newSymbol("pattern", 28, sym$, sym$, RESULT);
+            }
+
+          // pattern ::= LPAR symbol symbol+ RPAR 
+          case 27:
+            {
+              Pattern RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol vars$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<String> CUP$list$vars = (java.util.ArrayList<String>) vars$.value;
+              String[] vars = CUP$list$vars.toArray(new String[CUP$list$vars.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol constr$ = CUP$stack.get(CUP$size - 3);
+              String constr = (String) constr$.value;
+ if (mMatchSort == null) {
+            	RESULT = null;
+            } else {
+            	RESULT = new Pattern(constr, vars);
+            }
+         
+              return parser.getSymbolFactory().newSymbol("pattern", 28, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // matchCase ::= LPAR NT$0 pattern term RPAR 
+          case 28:
+            {
+              MatchCase RESULT = (MatchCase) CUP$stack.get(CUP$size - 4).value;
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              Term t = (Term) t$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol p$ = CUP$stack.get(CUP$size - 3);
+              Pattern p = (Pattern) p$.value;
+ 
+           localVars.endScope();
+           RESULT = new MatchCase(p, t);
+         
+              return parser.getSymbolFactory().newSymbol("matchCase", 29, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // NT$0 ::= 
+          case 29:
+            {
+              MatchCase RESULT = null;
+ localVars.beginScope(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("NT$0", 61, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // term ::= qualIdentifier 
+          case 30:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol fun$ = CUP$stack.get(CUP$size - 1);
+              QualIdentifier fun = (QualIdentifier) fun$.value;
+ RESULT = fun.getIndices() == null && fun.getSort() == null ? getTermVariable(fun.getIdentifier()) : null;
+            if (RESULT == null)
+                RESULT = createTerm(fun$, fun.getIdentifier(), fun.getIndices(), fun.getSort(), new Term[0]); 
+              return parser.getSymbolFactory().newSymbol("term", 31, fun$, fun$, RESULT);
+            }
+
+          // term ::= LPAR qualIdentifier term+ RPAR 
+          case 31:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol args$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> CUP$list$args = (java.util.ArrayList<Term>) args$.value;
+              Term[] args = CUP$list$args.toArray(new Term[CUP$list$args.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol fun$ = CUP$stack.get(CUP$size - 3);
+              QualIdentifier fun = (QualIdentifier) fun$.value;
+ RESULT = createTerm(fun$, fun.getIdentifier(), fun.getIndices(), fun.getSort(), args); 
+              return parser.getSymbolFactory().newSymbol("term", 31, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // term ::= LPAR LET NT$1 LPAR varBinding+ RPAR term RPAR 
+          case 32:
+            {
+              Term RESULT = (Term) CUP$stack.get(CUP$size - 6).value;
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              Term t = (Term) t$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol bindings$ = CUP$stack.get(CUP$size - 4);
+              java.util.ArrayList<Binding> CUP$list$bindings = (java.util.ArrayList<Binding>) bindings$.value;
+              Binding[] bindings = CUP$list$bindings.toArray(new Binding[CUP$list$bindings.size()]);
+ TermVariable[] vars = new TermVariable[bindings.length];
+            Term[] terms = new Term[bindings.length];
+            for (int i = 0; i < bindings.length; i++) {
+            	if (bindings[i] != null) {
+               		vars[i] = bindings[i].getVar();
+               		terms[i] = bindings[i].getTerm();
+               	}
+            }
+            localVars.endScope();
+            if (hasError())
+            	RESULT = null;
+            else
+            	RESULT = parser.env.getScript().let(vars, terms, t); 
+              return parser.getSymbolFactory().newSymbol("term", 31, CUP$stack.get(CUP$size - 8), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // NT$1 ::= 
+          case 33:
+            {
+              Term RESULT = null;
+ localVars.beginScope(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("NT$1", 63, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // term ::= LPAR FORALL NT$2 LPAR sortedVar+ RPAR term RPAR 
+          case 34:
+            {
+              Term RESULT = (Term) CUP$stack.get(CUP$size - 6).value;
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              Term t = (Term) t$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol vars$ = CUP$stack.get(CUP$size - 4);
+              java.util.ArrayList<TermVariable> CUP$list$vars = (java.util.ArrayList<TermVariable>) vars$.value;
+              TermVariable[] vars = CUP$list$vars.toArray(new TermVariable[CUP$list$vars.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 7);
+              String sym = (String) sym$.value;
+ localVars.endScope();
+           	RESULT = null;
+			try {
+            	if (!hasError())
+            		RESULT = parser.env.getScript().quantifier(Script.FORALL, vars, t);
+			} catch (SMTLIBException se) {
+				parser.report_error(se.getMessage(), sym$);
+			} 
+              return parser.getSymbolFactory().newSymbol("term", 31, CUP$stack.get(CUP$size - 8), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // NT$2 ::= 
+          case 35:
+            {
+              Term RESULT = null;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 1);
+              String sym = (String) sym$.value;
+ localVars.beginScope(); 
+              return parser.getSymbolFactory().newSymbol("NT$2", 65, CUP$stack.get(CUP$size - 2), sym$, RESULT);
+            }
+
+          // term ::= LPAR EXISTS NT$3 LPAR sortedVar+ RPAR term RPAR 
+          case 36:
+            {
+              Term RESULT = (Term) CUP$stack.get(CUP$size - 6).value;
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              Term t = (Term) t$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol vars$ = CUP$stack.get(CUP$size - 4);
+              java.util.ArrayList<TermVariable> CUP$list$vars = (java.util.ArrayList<TermVariable>) vars$.value;
+              TermVariable[] vars = CUP$list$vars.toArray(new TermVariable[CUP$list$vars.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 7);
+              String sym = (String) sym$.value;
+ localVars.endScope();
+           	RESULT = null;
+			try {
+            	if (!hasError())
+            		RESULT = parser.env.getScript().quantifier(Script.EXISTS, vars, t);
+			} catch (SMTLIBException se) {
+				parser.report_error(se.getMessage(), sym$);
+			} 
+              return parser.getSymbolFactory().newSymbol("term", 31, CUP$stack.get(CUP$size - 8), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // NT$3 ::= 
+          case 37:
+            {
+              Term RESULT = null;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 1);
+              String sym = (String) sym$.value;
+ localVars.beginScope(); 
+              return parser.getSymbolFactory().newSymbol("NT$3", 66, CUP$stack.get(CUP$size - 2), sym$, RESULT);
+            }
+
+          // term ::= LPAR MATCH term NT$4 LPAR matchCase+ RPAR RPAR 
+          case 38:
+            {
+              Term RESULT = (Term) CUP$stack.get(CUP$size - 5).value;
+              com.github.jhoenicke.javacup.runtime.Symbol matchCases$ = CUP$stack.get(CUP$size - 3);
+              java.util.ArrayList<MatchCase> CUP$list$matchCases = (java.util.ArrayList<MatchCase>) matchCases$.value;
+              MatchCase[] matchCases = CUP$list$matchCases.toArray(new MatchCase[CUP$list$matchCases.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol dataArg$ = CUP$stack.get(CUP$size - 6);
+              Term dataArg = (Term) dataArg$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 7);
+              String sym = (String) sym$.value;
+
+            RESULT = createMatchTerm(sym$, dataArg, matchCases);
+            mMatchSort = null;
+         
+              return parser.getSymbolFactory().newSymbol("term", 31, CUP$stack.get(CUP$size - 8), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // NT$4 ::= 
+          case 39:
+            {
+              Term RESULT = null;
+              com.github.jhoenicke.javacup.runtime.Symbol dataArg$ = CUP$stack.get(CUP$size - 1);
+              Term dataArg = (Term) dataArg$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol sym$ = CUP$stack.get(CUP$size - 2);
+              String sym = (String) sym$.value;
+
+            if (dataArg != null) {
+            	mMatchSort = dataArg.getSort();
+            	if (!mMatchSort.getSortSymbol().isDatatype()) {
+            		parser.report_error("Match term must be of a datatype sort.", sym$);
+            		mMatchSort = null;
+            	}
+            } 
+              return parser.getSymbolFactory().newSymbol("NT$4", 68, CUP$stack.get(CUP$size - 3), dataArg$, RESULT);
+            }
+
+          // term ::= LPAR BANG term attribute+ RPAR 
+          case 40:
+            {
+              Term RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol attr$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Annotation> CUP$list$attr = (java.util.ArrayList<Annotation>) attr$.value;
+              Annotation[] attr = CUP$list$attr.toArray(new Annotation[CUP$list$attr.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 3);
+              Term t = (Term) t$.value;
+ RESULT = annotateTerm(t, attr); 
+              return parser.getSymbolFactory().newSymbol("term", 31, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // sortSymbolDecl ::= LPAR identifier NUMERAL attribute* RPAR 
+          case 41:
+            {
+              return parser.getSymbolFactory().newSymbol("sortSymbolDecl", 38, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1));
+            }
+
+          // funSymbolDecl ::= LPAR specConstant sort attribute* RPAR 
+          // funSymbolDecl ::= LPAR metaSpecConstant sort attribute* RPAR 
+          // funSymbolDecl ::= LPAR identifier sort+ attribute* RPAR 
+          case 42:
+            {
+              return parser.getSymbolFactory().newSymbol("funSymbolDecl", 41, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1));
+            }
+
+          // parFunSymbolDecl ::= LPAR PAR LPAR symbol+ RPAR LPAR identifier sort+ attribute* RPAR RPAR 
+          case 43:
+            {
+              return parser.getSymbolFactory().newSymbol("parFunSymbolDecl", 40, CUP$stack.get(CUP$size - 11), CUP$stack.get(CUP$size - 1));
+            }
+
+          // theoryAttribute ::= CSORTS LPAR sortSymbolDecl+ RPAR 
+          // theoryAttribute ::= CFUNS LPAR parFunSymbolDecl+ RPAR 
+          case 44:
+            {
+              return parser.getSymbolFactory().newSymbol("theoryAttribute", 42, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1));
+            }
+
+          // theoryAttribute ::= CSORTSDESCRIPTION STRING 
+          // theoryAttribute ::= CFUNSDESCRIPTION STRING 
+          // theoryAttribute ::= CDEFINITION STRING 
+          // theoryAttribute ::= CVALUES STRING 
+          // theoryAttribute ::= CNOTES STRING 
+          case 45:
+            {
+              return parser.getSymbolFactory().newSymbol("theoryAttribute", 42, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          // theoryDecl ::= LPAR THEORY symbol theoryAttribute+ RPAR 
+          case 46:
+            {
+              return parser.getSymbolFactory().newSymbol("theoryDecl", 50, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1));
+            }
+
+          // logicAttribute ::= CTHEORIES LPAR symbol+ RPAR 
+          case 47:
+            {
+              return parser.getSymbolFactory().newSymbol("logicAttribute", 43, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1));
+            }
+
+          // logicAttribute ::= CLANGUAGE STRING 
+          // logicAttribute ::= CEXTENSIONS STRING 
+          // logicAttribute ::= CVALUES STRING 
+          // logicAttribute ::= CNOTES STRING 
+          case 48:
+            {
+              return parser.getSymbolFactory().newSymbol("logicAttribute", 43, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          // logic ::= LPAR LOGIC symbol logicAttribute+ RPAR 
+          case 49:
+            {
+              return parser.getSymbolFactory().newSymbol("logic", 51, CUP$stack.get(CUP$size - 5), CUP$stack.get(CUP$size - 1));
+            }
+
+          // bValue ::= TRUE 
+          case 50:
+            {
+              Boolean RESULT;
+ RESULT = true; 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("bValue", 44, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // bValue ::= FALSE 
+          case 51:
+            {
+              Boolean RESULT;
+ RESULT = false; 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("bValue", 44, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // option ::= booleanOption bValue 
+          case 52:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol b$ = CUP$stack.get(CUP$size - 1);
+              Boolean b = (Boolean) b$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol o$ = CUP$stack.get(CUP$size - 2);
+              String o = (String) o$.value;
+ try {
+           		parser.env.getScript().setOption(o, b);
+           		parser.env.printSuccess();
+           	} catch (UnsupportedOperationException uoe) {
+           		parser.env.printResponse("unsupported");
+           	} catch (SMTLIBException se) {
+           		parser.env.printError(se.getMessage());
+           	} 
+              return parser.getSymbolFactory().newSymbol("option", 45, o$, b$);
+            }
+
+          // option ::= stringOption STRING 
+          case 53:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol s$ = CUP$stack.get(CUP$size - 1);
+              String s = (String) s$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol o$ = CUP$stack.get(CUP$size - 2);
+              String o = (String) o$.value;
+ try {
+           		parser.env.getScript().setOption(o, s);
+           		parser.env.printSuccess();
+           	} catch (UnsupportedOperationException uoe) {
+           		parser.env.printResponse("unsupported");
+           	} catch (SMTLIBException se) {
+           		parser.env.printError(se.getMessage());
+           	}
+              return parser.getSymbolFactory().newSymbol("option", 45, o$, s$);
+            }
+
+          // option ::= numeralOption NUMERAL 
+          case 54:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol o$ = CUP$stack.get(CUP$size - 2);
+              String o = (String) o$.value;
+ try {
+           		parser.env.getScript().setOption(o, n);
+           		parser.env.printSuccess();
+           	} catch (UnsupportedOperationException uoe) {
+           		parser.env.printResponse("unsupported");
+           	} catch (SMTLIBException se) {
+           		parser.env.printError(se.getMessage());
+           	}
+              return parser.getSymbolFactory().newSymbol("option", 45, o$, n$);
+            }
+
+          // option ::= keywordNoOption attributeValue? 
+          case 55:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol v$ = CUP$stack.get(CUP$size - 1);
+              Object v = (Object) v$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 2);
+              String k = (String) k$.value;
+ try {
+           		parser.env.getScript().setOption(k, v);
+           		parser.env.printSuccess();
+           	} catch (UnsupportedOperationException uoe) {
+           		parser.env.printResponse("unsupported");
+           	} catch (SMTLIBException se) {
+           		parser.env.printError(se.getMessage());
+           	} 
+              return parser.getSymbolFactory().newSymbol("option", 45, k$, v$);
+            }
+
+          // interpolantpartition ::= interpolantpartition SYMBOL 
+          case 56:
+            {
+              InterpolationInfo RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol symb$ = CUP$stack.get(CUP$size - 1);
+              String symb = (String) symb$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol child$ = CUP$stack.get(CUP$size - 2);
+              InterpolationInfo child = (InterpolationInfo) child$.value;
+ if (child.isEmpty() && symb.equals("and"))
+                   child.makeAndTerm();
+                else
+                   child.addParent(createTerm(symb$, symb, null, null, new Term[0]));
+                 RESULT = child;
+              return parser.getSymbolFactory().newSymbol("interpolantpartition", 32, child$, symb$, RESULT);
+            }
+
+          // interpolantpartition ::= interpolantpartition LPAR interpolantpartition RPAR 
+          case 57:
+            {
+              InterpolationInfo RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol sibling$ = CUP$stack.get(CUP$size - 2);
+              InterpolationInfo sibling = (InterpolationInfo) sibling$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol child$ = CUP$stack.get(CUP$size - 4);
+              InterpolationInfo child = (InterpolationInfo) child$.value;
+ if (sibling.isAndTerm() && !hasError()) {
+             	    child.addParent(parser.env.getScript()
+             	    				.term("and", sibling.getPartition()));
+                } else if (child.isClosedTree()) {
+				    child.addSibling(sibling);
+				} else {
+					parser.report_error("Interpolation tree malformed.", child$);
+				}
+                RESULT = child; 
+              return parser.getSymbolFactory().newSymbol("interpolantpartition", 32, child$, CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // interpolantpartition ::= 
+          case 58:
+            {
+              InterpolationInfo RESULT;
+ RESULT = new InterpolationInfo(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("interpolantpartition", 32, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // sortDec ::= LPAR symbol NUMERAL RPAR 
+          case 59:
+            {
+              DataType RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol numParams$ = CUP$stack.get(CUP$size - 2);
+              BigInteger numParams = (BigInteger) numParams$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol type$ = CUP$stack.get(CUP$size - 3);
+              String type = (String) type$.value;
+ RESULT = parser.env.getScript().datatype(type, numParams.intValueExact()); 
+              return parser.getSymbolFactory().newSymbol("sortDec", 34, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // sortDec0 ::= symbol 
+          case 60:
+            {
+              DataType RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol type$ = CUP$stack.get(CUP$size - 1);
+              String type = (String) type$.value;
+ RESULT = parser.env.getScript().datatype(type, 0); 
+              return parser.getSymbolFactory().newSymbol("sortDec0", 35, type$, type$, RESULT);
+            }
+
+          // selectorDec ::= LPAR symbol sort RPAR 
+          case 61:
+            {
+              SelectorDec RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol argumentSort$ = CUP$stack.get(CUP$size - 2);
+              Sort argumentSort = (Sort) argumentSort$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol selector$ = CUP$stack.get(CUP$size - 3);
+              String selector = (String) selector$.value;
+
+              RESULT = new SelectorDec(selector, argumentSort);
+              
+              return parser.getSymbolFactory().newSymbol("selectorDec", 33, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // constructorDec ::= LPAR symbol selectorDec* RPAR 
+          case 62:
+            {
+              DataType.Constructor RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol selDec$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<SelectorDec> CUP$list$selDec = (java.util.ArrayList<SelectorDec>) selDec$.value;
+              SelectorDec[] selDec = CUP$list$selDec.toArray(new SelectorDec[CUP$list$selDec.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol name$ = CUP$stack.get(CUP$size - 3);
+              String name = (String) name$.value;
+    
+                   String[] selectors = new String[selDec.length];
+                   Sort[] argumentSorts = new Sort[selDec.length];
+                   
+                   for (int i = 0; i < selDec.length; i++) {
+
+                       selectors[i] = selDec[i].getSelector();
+                       argumentSorts[i] = selDec[i].getArgumentSort();
+                       
+                       
+                   }
+                   RESULT = parser.env.getScript().constructor(name, selectors, argumentSorts);
+                   
+              return parser.getSymbolFactory().newSymbol("constructorDec", 36, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // datatypeDec ::= LPAR constructorDec+ RPAR 
+          case 63:
+            {
+              ParametricConstructors RESULT;
+              com.github.jhoenicke.javacup.runtime.Symbol cons$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<DataType.Constructor> CUP$list$cons = (java.util.ArrayList<DataType.Constructor>) cons$.value;
+              DataType.Constructor[] cons = CUP$list$cons.toArray(new DataType.Constructor[CUP$list$cons.size()]);
+ RESULT = new ParametricConstructors(cons); 
+              return parser.getSymbolFactory().newSymbol("datatypeDec", 37, CUP$stack.get(CUP$size - 3), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // datatypeDec ::= LPAR PAR LPAR symbol+ RPAR NT$5 LPAR constructorDec+ RPAR RPAR 
+          case 64:
+            {
+              ParametricConstructors RESULT = (ParametricConstructors) CUP$stack.get(CUP$size - 5).value;
+              com.github.jhoenicke.javacup.runtime.Symbol cons$ = CUP$stack.get(CUP$size - 3);
+              java.util.ArrayList<DataType.Constructor> CUP$list$cons = (java.util.ArrayList<DataType.Constructor>) cons$.value;
+              DataType.Constructor[] cons = CUP$list$cons.toArray(new DataType.Constructor[CUP$list$cons.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol sortvars$ = CUP$stack.get(CUP$size - 7);
+              java.util.ArrayList<String> CUP$list$sortvars = (java.util.ArrayList<String>) sortvars$.value;
+              String[] sortvars = CUP$list$sortvars.toArray(new String[CUP$list$sortvars.size()]);
+ RESULT = new ParametricConstructors(cons, getSortParams()); popSortParams(); 
+              return parser.getSymbolFactory().newSymbol("datatypeDec", 37, CUP$stack.get(CUP$size - 10), CUP$stack.get(CUP$size - 1), RESULT);
+            }
+
+          // NT$5 ::= 
+          case 65:
+            {
+              ParametricConstructors RESULT = null;
+              com.github.jhoenicke.javacup.runtime.Symbol sortvars$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<String> CUP$list$sortvars = (java.util.ArrayList<String>) sortvars$.value;
+              String[] sortvars = CUP$list$sortvars.toArray(new String[CUP$list$sortvars.size()]);
+ pushSortParams(sortvars); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("NT$5", 78, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // command ::= SETLOGIC symbol 
+          case 66:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol logic$ = CUP$stack.get(CUP$size - 1);
+              String logic = (String) logic$.value;
+ try {
+            	parser.env.getScript().setLogic(logic);
+            	parser.env.printSuccess();
+            } catch (UnsupportedOperationException uoe) {
+            	parser.env.printResponse("unsupported");
+            } catch (SMTLIBException se) {
+				parser.report_error(se.getMessage(), logic$);
+				parser.env.printError(getError());
+            }
+             
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), logic$);
+            }
+
+          // command ::= SETOPTION option 
+          case 67:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol opt$ = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), opt$);
+            }
+
+          // command ::= SETINFO keyword attributeValue? 
+          case 68:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol v$ = CUP$stack.get(CUP$size - 1);
+              Object v = (Object) v$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol k$ = CUP$stack.get(CUP$size - 2);
+              String k = (String) k$.value;
+ parser.env.setInfo(k, v);
+            parser.env.printSuccess(); 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 3), v$);
+            }
+
+          // command ::= DECLARESORT symbol NUMERAL 
+          case 69:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol sort$ = CUP$stack.get(CUP$size - 2);
+              String sort = (String) sort$.value;
+
+				if (n.bitLength() >= 32)
+					parser.report_error("sort has too many arguments", n$);
+				if (hasError())
+					parser.env.printError(getError());
+				else {
+					try {
+						parser.env.getScript().declareSort(sort, n.intValue());
+						parser.env.printSuccess();
+					} catch (SMTLIBException se) {
+						parser.report_error(se.getMessage(), sort$);
+						parser.env.printError(getError());
+					}
+				}
+			
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 3), n$);
+            }
+
+          // command ::= DEFINESORT symbol LPAR symbol* NT$6 RPAR sort 
+          case 70:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol def$ = CUP$stack.get(CUP$size - 1);
+              Sort def = (Sort) def$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol sortVars$ = CUP$stack.get(CUP$size - 4);
+              java.util.ArrayList<String> CUP$list$sortVars = (java.util.ArrayList<String>) sortVars$.value;
+              String[] sortVars = CUP$list$sortVars.toArray(new String[CUP$list$sortVars.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol sort$ = CUP$stack.get(CUP$size - 6);
+              String sort = (String) sort$.value;
+ if (hasError())
+            	   parser.env.printError(getError());
+               else {
+                   try {
+                   		parser.env.getScript().defineSort(sort, getSortParams(), def);
+                   		parser.env.printSuccess();
+                   } catch (SMTLIBException se) {
+                   		parser.report_error(se.getMessage(), sort$);
+                   		parser.env.printError(getError());
+                   }
+               }
+               popSortParams();
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 7), def$);
+            }
+
+          // NT$6 ::= 
+          case 71:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol sortVars$ = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<String> CUP$list$sortVars = (java.util.ArrayList<String>) sortVars$.value;
+              String[] sortVars = CUP$list$sortVars.toArray(new String[CUP$list$sortVars.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol sort$ = CUP$stack.get(CUP$size - 3);
+              String sort = (String) sort$.value;
+ pushSortParams(sortVars); 
+              return parser.getSymbolFactory().newSymbol("NT$6", 80, CUP$stack.get(CUP$size - 4), sortVars$);
+            }
+
+          // command ::= DECLAREFUN symbol LPAR sort* RPAR sort 
+          case 72:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol result$ = CUP$stack.get(CUP$size - 1);
+              Sort result = (Sort) result$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol param$ = CUP$stack.get(CUP$size - 3);
+              java.util.ArrayList<Sort> CUP$list$param = (java.util.ArrayList<Sort>) param$.value;
+              Sort[] param = CUP$list$param.toArray(new Sort[CUP$list$param.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol fun$ = CUP$stack.get(CUP$size - 5);
+              String fun = (String) fun$.value;
+ if (hasError())
+            	   parser.env.printError(getError());
+               else {
+                   try {
+                   		parser.env.getScript().declareFun(fun, param, result);
+                   		parser.env.printSuccess();
+                   } catch (SMTLIBException se) {
+                   		parser.report_error(se.getMessage(), fun$);
+                   		parser.env.printError(getError());
+                   }
+               }
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 6), result$);
+            }
+
+          // command ::= DECLARECONST symbol sort 
+          case 73:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol result$ = CUP$stack.get(CUP$size - 1);
+              Sort result = (Sort) result$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol fun$ = CUP$stack.get(CUP$size - 2);
+              String fun = (String) fun$.value;
+  if (hasError())
+                    parser.env.printError(getError());
+                else {
+                    try {
+                        parser.env.getScript().declareFun(fun, Script.EMPTY_SORT_ARRAY, result);
+                        parser.env.printSuccess();
+                    } catch(SMTLIBException se) {
+                        parser.report_error(se.getMessage(), fun$);
+                        parser.env.printError(getError());
+                    }
+               }
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 3), result$);
+            }
+
+          // command ::= DECLAREDATATYPE sortDec0 datatypeDec 
+          case 74:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol dataDec$ = CUP$stack.get(CUP$size - 1);
+              ParametricConstructors dataDec = (ParametricConstructors) dataDec$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol datatype$ = CUP$stack.get(CUP$size - 2);
+              DataType datatype = (DataType) datatype$.value;
+
+              try {
+                  parser.env.getScript().declareDatatype(datatype, dataDec.getConstructors());
+                  parser.env.printSuccess();
+              } catch (SMTLIBException se) {
+                  parser.report_error(se.getMessage(), datatype$);
+                  parser.env.printError(getError());
+              }
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 3), dataDec$);
+            }
+
+          // command ::= DECLAREDATATYPES LPAR sortDec+ RPAR LPAR datatypeDec+ RPAR 
+          case 75:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol dataDecs$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<ParametricConstructors> CUP$list$dataDecs = (java.util.ArrayList<ParametricConstructors>) dataDecs$.value;
+              ParametricConstructors[] dataDecs = CUP$list$dataDecs.toArray(new ParametricConstructors[CUP$list$dataDecs.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol datatypes$ = CUP$stack.get(CUP$size - 5);
+              java.util.ArrayList<DataType> CUP$list$datatypes = (java.util.ArrayList<DataType>) datatypes$.value;
+              DataType[] datatypes = CUP$list$datatypes.toArray(new DataType[CUP$list$datatypes.size()]);
+
+              DataType.Constructor[][] constructors = new DataType.Constructor[dataDecs.length][];
+              Sort[][] sortParams = new Sort[dataDecs.length][];
+              for (int i = 0; i < dataDecs.length; i++) {
+                  constructors[i] = dataDecs[i].getConstructors();
+                  sortParams[i] = dataDecs[i].getSortParams();
+              }
+              try {
+                  parser.env.getScript().declareDatatypes(datatypes, constructors, sortParams);
+                  parser.env.printSuccess();
+              } catch (SMTLIBException se) {
+                  parser.report_error(se.getMessage(), datatypes$);
+                  parser.env.printError(getError());
+              }
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 7), CUP$stack.get(CUP$size - 1));
+            }
+
+          // command ::= DEFINEFUN NT$7 symbol LPAR sortedVar* RPAR sort term 
+          case 76:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol value$ = CUP$stack.get(CUP$size - 1);
+              Term value = (Term) value$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol resultSort$ = CUP$stack.get(CUP$size - 2);
+              Sort resultSort = (Sort) resultSort$.value;
+              com.github.jhoenicke.javacup.runtime.Symbol param$ = CUP$stack.get(CUP$size - 4);
+              java.util.ArrayList<TermVariable> CUP$list$param = (java.util.ArrayList<TermVariable>) param$.value;
+              TermVariable[] param = CUP$list$param.toArray(new TermVariable[CUP$list$param.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol fun$ = CUP$stack.get(CUP$size - 6);
+              String fun = (String) fun$.value;
+ localVars.endScope();
+               if (hasError())
+            	   parser.env.printError(getError());
+               else {
+                   try {
+                   	parser.env.getScript().defineFun(fun, param, resultSort, value);
+                   	parser.env.printSuccess();
+                   } catch (SMTLIBException se) {
+                   		parser.report_error(se.getMessage(), fun$);
+                   		parser.env.printError(getError());
+                   }
+               }
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 8), value$);
+            }
+
+          // NT$7 ::= 
+          case 77:
+            {
+ localVars.beginScope(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("NT$7", 85, CUP$sym, CUP$sym);
+            }
+
+          // command ::= PUSH NUMERAL 
+          case 78:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+ if (n.bitLength() >= 32)  {
+            	   parser.report_error("too many push levels", n$);
+            	   parser.env.printError(getError());
+               } else {
+               	   try {
+                      parser.env.getScript().push(n.intValue());
+                      parser.env.printSuccess();
+                   } catch (SMTLIBException se) {
+                   		parser.report_error(se.getMessage(), n$);
+                   		parser.env.printError(getError());
+                   }
+               } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), n$);
+            }
+
+          // command ::= POP NUMERAL 
+          case 79:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol n$ = CUP$stack.get(CUP$size - 1);
+              BigInteger n = (BigInteger) n$.value;
+ if (n.bitLength() >= 32) {
+            	   parser.report_error("too many pop levels", n$);
+            	   parser.env.printError(getError());
+               } else {
+               	try {
+                   parser.env.getScript().pop(n.intValue());
+                   parser.env.printSuccess();
+                } catch (SMTLIBException se) {
+                   		parser.report_error(se.getMessage(), n$);
+                   		parser.env.printError(getError());
+                }
+               } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), n$);
+            }
+
+          // command ::= PUSH 
+          case 80:
+            {
+ try {
+            	parser.env.getScript().push(1);
+            	parser.env.printSuccess();
+               } catch (SMTLIBException se) {
+               	parser.env.printError(se.getMessage());
+               } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= POP 
+          case 81:
+            {
+ try {
+            	parser.env.getScript().pop(1);
+            	parser.env.printSuccess();
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            }  
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= ASSERT term 
+          case 82:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 1);
+              Term t = (Term) t$.value;
+ if (hasError())
+                   parser.env.printError(getError());
+               else {
+               	try {
+                   parser.env.getScript().assertTerm(t);
+                   parser.env.printSuccess();
+                 } catch (SMTLIBException se) {
+                 	parser.report_error(se.getMessage());
+                 	parser.env.printError(getError());
+                 }
+               }
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), t$);
+            }
+
+          // command ::= CHECKSAT 
+          case 83:
+            {
+ try {
+            	Script.LBool res = parser.env.getScript().checkSat();
+            	parser.env.printResponse(res);
+            } catch(SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= CHECKSATASSUMING LPAR term* RPAR 
+          case 84:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> CUP$list$t = (java.util.ArrayList<Term>) t$.value;
+              Term[] t = CUP$list$t.toArray(new Term[CUP$list$t.size()]);
+ try {
+                Script.LBool res = parser.env.getScript().checkSatAssuming(t);
+                parser.env.printResponse(res);
+            } catch(SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1));
+            }
+
+          // command ::= GETASSERTIONS 
+          case 85:
+            {
+ try {
+            	Term[] res = parser.env.getScript().getAssertions();
+            	parser.env.printTermResponse(res);
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= GETINTERPOLANTS interpolantpartition 
+          case 86:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol ips$ = CUP$stack.get(CUP$size - 1);
+              InterpolationInfo ips = (InterpolationInfo) ips$.value;
+ if (!ips.isClosedTree())
+                   parser.report_error("Interpolation tree malformed", ips$);
+               if (hasError())
+            	   parser.env.printError(getError());
+               else {
+               	try {
+                   Term[] partition = ips.getPartition();
+                   int[] startOfSubtree = ips.getTreeStructure();
+                   Term[] res = parser.env.getScript()
+                       .getInterpolants(partition, startOfSubtree);
+                   parser.env.printResponse(res);
+                } catch (SMTLIBException se) {
+                	parser.env.printError(se.getMessage());
+                } catch (UnsupportedOperationException ignored) {
+            	    parser.env.printResponse("unsupported");
+                }
+               } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), ips$);
+            }
+
+          // command ::= GETPROOF 
+          case 87:
+            {
+ try {
+            	Term proof = parser.env.getScript().getProof();
+            	parser.env.printResponse(proof);
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= GETUNSATCORE 
+          case 88:
+            {
+ try {
+            	Term[] res = parser.env.getScript().getUnsatCore();
+            	parser.env.printResponse(res);
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } catch (UnsupportedOperationException uoe) {
+            	parser.env.printResponse("unsupported");
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= GETUNSATASSUMPTIONS 
+          case 89:
+            {
+ try {
+            	Term[] res = parser.env.getScript().getUnsatAssumptions();
+            	parser.env.printResponse(res);
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } catch (UnsupportedOperationException uoe) {
+            	parser.env.printResponse("unsupported");
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= GETMODEL 
+          case 90:
+            {
+ try {
+                Model model = parser.env.getScript().getModel();
+                parser.env.printResponse(model);
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } catch (UnsupportedOperationException uoe) {
+            	parser.env.printResponse("unsupported");
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= GETVALUE LPAR term+ RPAR 
+          case 91:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> CUP$list$t = (java.util.ArrayList<Term>) t$.value;
+              Term[] t = CUP$list$t.toArray(new Term[CUP$list$t.size()]);
+ if (hasError())
+            	   parser.env.printError(getError());
+               else {
+               	try {
+                   Map<Term, Term> val = parser.env.getScript().getValue(t);
+                   parser.env.printValues(val);
+                } catch (SMTLIBException se) {
+                	parser.env.printError(se.getMessage());
+                }
+               } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1));
+            }
+
+          // command ::= GETASSIGNMENT 
+          case 92:
+            {
+ try {
+            	Assignments ass = parser.env.getScript().getAssignment();
+            	parser.env.printResponse(ass);
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= GETOPTION keyword 
+          case 93:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol opt$ = CUP$stack.get(CUP$size - 1);
+              String opt = (String) opt$.value;
+ try {
+            	parser.env.printResponse(parser.env.getScript().getOption(opt));
+            } catch (UnsupportedOperationException ignored) {
+            	parser.env.printResponse("unsupported");
+            } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), opt$);
+            }
+
+          // command ::= GETINFO infoFlag 
+          case 94:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol info$ = CUP$stack.get(CUP$size - 1);
+              String info = (String) info$.value;
+ try {
+            	parser.env.printInfoResponse(info, parser.env.getInfo(info));
+            } catch (UnsupportedOperationException ignored) {
+            	parser.env.printResponse("unsupported");
+            } catch (SMTLIBException se) {
+            	parser.env.printError(se.getMessage());
+            } 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), info$);
+            }
+
+          // command ::= INCLUDE STRING 
+          case 95:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol file$ = CUP$stack.get(CUP$size - 1);
+              String file = (String) file$.value;
+ try {
+          		parser.env.include(file);
+          		parser.env.printSuccess();
+          	} catch (SMTLIBException se) {
+          		parser.env.printError(se.getMessage());
+          	}
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), file$);
+            }
+
+          // command ::= SIMPLIFY term 
+          case 96:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol t$ = CUP$stack.get(CUP$size - 1);
+              Term t = (Term) t$.value;
+ if (hasError())
+            	   parser.env.printError(getError());
+               else
+                   parser.env.printResponse(parser.env.getScript().simplify(t));
+            
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), t$);
+            }
+
+          // command ::= RESET 
+          case 97:
+            {
+ parser.env.getScript().reset(); parser.env.printSuccess(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= RESETASSERTIONS 
+          case 98:
+            {
+ parser.env.getScript().resetAssertions(); parser.env.printSuccess(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= EXIT 
+          case 99:
+            {
+ parser.env.getScript().exit(); parser.done_parsing(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$sym, CUP$sym);
+            }
+
+          // command ::= TIMED NT$8 commandPar* 
+          case 100:
+            {
+ parser.env.endTiming(); 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 3), CUP$stack.get(CUP$size - 1));
+            }
+
+          // NT$8 ::= 
+          case 101:
+            {
+ parser.env.startTiming(); 
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("NT$8", 88, CUP$sym, CUP$sym);
+            }
+
+          // command ::= ALLSAT LPAR term+ RPAR 
+          case 102:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol p$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> CUP$list$p = (java.util.ArrayList<Term>) p$.value;
+              Term[] p = CUP$list$p.toArray(new Term[CUP$list$p.size()]);
+ if (hasError())
+            	  parser.env.printError(getError());
+              else {
+                try {
+          			parser.env.printResponse(parser.env.getScript().checkAllsat(p));
+          	   	} catch (SMTLIBException se) {
+          	   		parser.env.printError(se.getMessage());
+          	   	}
+          	  }
+          	 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 4), CUP$stack.get(CUP$size - 1));
+            }
+
+          // command ::= ECHO STRING 
+          case 103:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol msg$ = CUP$stack.get(CUP$size - 1);
+              String msg = (String) msg$.value;
+ parser.env.printResponse(parser.env.getScript().echo(new QuotedObject(msg))); 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 2), msg$);
+            }
+
+          // command ::= FINDIMPLIEDEQUALITY LPAR term+ RPAR LPAR term+ RPAR 
+          case 104:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol y$ = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> CUP$list$y = (java.util.ArrayList<Term>) y$.value;
+              Term[] y = CUP$list$y.toArray(new Term[CUP$list$y.size()]);
+              com.github.jhoenicke.javacup.runtime.Symbol x$ = CUP$stack.get(CUP$size - 5);
+              java.util.ArrayList<Term> CUP$list$x = (java.util.ArrayList<Term>) x$.value;
+              Term[] x = CUP$list$x.toArray(new Term[CUP$list$x.size()]);
+ if (hasError())
+            	  parser.env.printError(getError());
+              else {
+                try {
+          			parser.env.printResponse(parser.env.getScript().findImpliedEquality(x, y));
+          	   	} catch (SMTLIBException se) {
+          	   		parser.env.printError(se.getMessage());
+          	   	}
+          	  }
+          	 
+              return parser.getSymbolFactory().newSymbol("command", 47, CUP$stack.get(CUP$size - 7), CUP$stack.get(CUP$size - 1));
+            }
+
+          // commandPar ::= LPAR command RPAR 
+          case 105:
+            {
+              return parser.getSymbolFactory().newSymbol("commandPar", 48, CUP$stack.get(CUP$size - 3), CUP$stack.get(CUP$size - 1));
+            }
+
+          // symbol* ::= 
+          case 106:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("symbol*", 79, CUP$sym, CUP$sym, new java.util.ArrayList<String>());
+            }
+
+          // symbol+ ::= symbol 
+          case 107:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<String> RESULT = new java.util.ArrayList<String>();
+              RESULT.add((String) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("symbol+", 60, CUP$0, CUP$0, RESULT);
+            }
+
+          // symbol+ ::= symbol+ symbol 
+          case 108:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<String> RESULT = (java.util.ArrayList<String>) CUP$0.value;
+              RESULT.add((String) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("symbol+", 60, CUP$0, CUP$1, RESULT);
+            }
+
+          // index+ ::= index 
+          case 109:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<String> RESULT = new java.util.ArrayList<String>();
+              RESULT.add((String) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("index+", 55, CUP$0, CUP$0, RESULT);
+            }
+
+          // index+ ::= index+ index 
+          case 110:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<String> RESULT = (java.util.ArrayList<String>) CUP$0.value;
+              RESULT.add((String) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("index+", 55, CUP$0, CUP$1, RESULT);
+            }
+
+          // sExpr* ::= 
+          case 111:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("sExpr*", 54, CUP$sym, CUP$sym, new java.util.ArrayList<Object>());
+            }
+
+          // sExpr+ ::= sExpr 
+          case 112:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<Object> RESULT = new java.util.ArrayList<Object>();
+              RESULT.add((Object) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("sExpr+", 53, CUP$0, CUP$0, RESULT);
+            }
+
+          // sExpr+ ::= sExpr+ sExpr 
+          case 113:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Object> RESULT = (java.util.ArrayList<Object>) CUP$0.value;
+              RESULT.add((Object) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("sExpr+", 53, CUP$0, CUP$1, RESULT);
+            }
+
+          // sort* ::= 
+          case 114:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("sort*", 81, CUP$sym, CUP$sym, new java.util.ArrayList<Sort>());
+            }
+
+          // sort+ ::= sort 
+          case 115:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<Sort> RESULT = new java.util.ArrayList<Sort>();
+              RESULT.add((Sort) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("sort+", 56, CUP$0, CUP$0, RESULT);
+            }
+
+          // sort+ ::= sort+ sort 
+          case 116:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Sort> RESULT = (java.util.ArrayList<Sort>) CUP$0.value;
+              RESULT.add((Sort) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("sort+", 56, CUP$0, CUP$1, RESULT);
+            }
+
+          // attributeValue? ::= 
+          case 117:
+            {
+              Object RESULT;
+RESULT=null;
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("attributeValue?", 57, CUP$sym, CUP$sym, RESULT);
+            }
+
+          // attribute* ::= 
+          case 118:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("attribute*", 70, CUP$sym, CUP$sym, new java.util.ArrayList<Annotation>());
+            }
+
+          // attribute+ ::= attribute 
+          case 119:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<Annotation> RESULT = new java.util.ArrayList<Annotation>();
+              RESULT.add((Annotation) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("attribute+", 69, CUP$0, CUP$0, RESULT);
+            }
+
+          // attribute+ ::= attribute+ attribute 
+          case 120:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Annotation> RESULT = (java.util.ArrayList<Annotation>) CUP$0.value;
+              RESULT.add((Annotation) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("attribute+", 69, CUP$0, CUP$1, RESULT);
+            }
+
+          // varBinding+ ::= varBinding 
+          case 121:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<Binding> RESULT = new java.util.ArrayList<Binding>();
+              RESULT.add((Binding) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("varBinding+", 62, CUP$0, CUP$0, RESULT);
+            }
+
+          // varBinding+ ::= varBinding+ varBinding 
+          case 122:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Binding> RESULT = (java.util.ArrayList<Binding>) CUP$0.value;
+              RESULT.add((Binding) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("varBinding+", 62, CUP$0, CUP$1, RESULT);
+            }
+
+          // sortedVar* ::= 
+          case 123:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("sortedVar*", 84, CUP$sym, CUP$sym, new java.util.ArrayList<TermVariable>());
+            }
+
+          // sortedVar+ ::= sortedVar 
+          case 124:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<TermVariable> RESULT = new java.util.ArrayList<TermVariable>();
+              RESULT.add((TermVariable) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("sortedVar+", 64, CUP$0, CUP$0, RESULT);
+            }
+
+          // sortedVar+ ::= sortedVar+ sortedVar 
+          case 125:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<TermVariable> RESULT = (java.util.ArrayList<TermVariable>) CUP$0.value;
+              RESULT.add((TermVariable) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("sortedVar+", 64, CUP$0, CUP$1, RESULT);
+            }
+
+          // matchCase+ ::= matchCase 
+          case 126:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<MatchCase> RESULT = new java.util.ArrayList<MatchCase>();
+              RESULT.add((MatchCase) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("matchCase+", 67, CUP$0, CUP$0, RESULT);
+            }
+
+          // matchCase+ ::= matchCase+ matchCase 
+          case 127:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<MatchCase> RESULT = (java.util.ArrayList<MatchCase>) CUP$0.value;
+              RESULT.add((MatchCase) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("matchCase+", 67, CUP$0, CUP$1, RESULT);
+            }
+
+          // term* ::= 
+          case 128:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("term*", 59, CUP$sym, CUP$sym, new java.util.ArrayList<Term>());
+            }
+
+          // term+ ::= term 
+          case 129:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<Term> RESULT = new java.util.ArrayList<Term>();
+              RESULT.add((Term) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("term+", 58, CUP$0, CUP$0, RESULT);
+            }
+
+          // term+ ::= term+ term 
+          case 130:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<Term> RESULT = (java.util.ArrayList<Term>) CUP$0.value;
+              RESULT.add((Term) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("term+", 58, CUP$0, CUP$1, RESULT);
+            }
+
+          // selectorDec* ::= 
+          case 131:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("selectorDec*", 76, CUP$sym, CUP$sym, new java.util.ArrayList<SelectorDec>());
+            }
+
+          // selectorDec+ ::= selectorDec 
+          case 132:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<SelectorDec> RESULT = new java.util.ArrayList<SelectorDec>();
+              RESULT.add((SelectorDec) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("selectorDec+", 75, CUP$0, CUP$0, RESULT);
+            }
+
+          // selectorDec+ ::= selectorDec+ selectorDec 
+          case 133:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<SelectorDec> RESULT = (java.util.ArrayList<SelectorDec>) CUP$0.value;
+              RESULT.add((SelectorDec) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("selectorDec+", 75, CUP$0, CUP$1, RESULT);
+            }
+
+          // sortDec+ ::= sortDec 
+          case 134:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<DataType> RESULT = new java.util.ArrayList<DataType>();
+              RESULT.add((DataType) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("sortDec+", 82, CUP$0, CUP$0, RESULT);
+            }
+
+          // sortDec+ ::= sortDec+ sortDec 
+          case 135:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<DataType> RESULT = (java.util.ArrayList<DataType>) CUP$0.value;
+              RESULT.add((DataType) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("sortDec+", 82, CUP$0, CUP$1, RESULT);
+            }
+
+          // constructorDec+ ::= constructorDec 
+          case 136:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<DataType.Constructor> RESULT = new java.util.ArrayList<DataType.Constructor>();
+              RESULT.add((DataType.Constructor) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("constructorDec+", 77, CUP$0, CUP$0, RESULT);
+            }
+
+          // constructorDec+ ::= constructorDec+ constructorDec 
+          case 137:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<DataType.Constructor> RESULT = (java.util.ArrayList<DataType.Constructor>) CUP$0.value;
+              RESULT.add((DataType.Constructor) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("constructorDec+", 77, CUP$0, CUP$1, RESULT);
+            }
+
+          // datatypeDec+ ::= datatypeDec 
+          case 138:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 1);
+              java.util.ArrayList<ParametricConstructors> RESULT = new java.util.ArrayList<ParametricConstructors>();
+              RESULT.add((ParametricConstructors) CUP$0.value);
+              return parser.getSymbolFactory().newSymbol("datatypeDec+", 83, CUP$0, CUP$0, RESULT);
+            }
+
+          // datatypeDec+ ::= datatypeDec+ datatypeDec 
+          case 139:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$1 = CUP$stack.get(CUP$size - 1);
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$0 = CUP$stack.get(CUP$size - 2);
+              java.util.ArrayList<ParametricConstructors> RESULT = (java.util.ArrayList<ParametricConstructors>) CUP$0.value;
+              RESULT.add((ParametricConstructors) CUP$1.value);
+              return parser.getSymbolFactory().newSymbol("datatypeDec+", 83, CUP$0, CUP$1, RESULT);
+            }
+
+          // sortSymbolDecl+ ::= sortSymbolDecl+ sortSymbolDecl 
+          case 140:
+            {
+              return parser.getSymbolFactory().newSymbol("sortSymbolDecl+", 71, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          // parFunSymbolDecl+ ::= parFunSymbolDecl+ parFunSymbolDecl 
+          case 141:
+            {
+              return parser.getSymbolFactory().newSymbol("parFunSymbolDecl+", 72, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          // theoryAttribute+ ::= theoryAttribute+ theoryAttribute 
+          case 142:
+            {
+              return parser.getSymbolFactory().newSymbol("theoryAttribute+", 73, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          // logicAttribute+ ::= logicAttribute+ logicAttribute 
+          case 143:
+            {
+              return parser.getSymbolFactory().newSymbol("logicAttribute+", 74, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          // commandPar* ::= 
+          case 144:
+            {
+              com.github.jhoenicke.javacup.runtime.Symbol CUP$sym = CUP$stack.get(CUP$size - 1);
+              return parser.getSymbolFactory().newSymbol("commandPar*", 87, CUP$sym, CUP$sym);
+            }
+
+          // commandPar+ ::= commandPar+ commandPar 
+          case 145:
+            {
+              return parser.getSymbolFactory().newSymbol("commandPar+", 86, CUP$stack.get(CUP$size - 2), CUP$stack.get(CUP$size - 1));
+            }
+
+          /* . . . . . .*/
+          default:
+            throw new InternalError(
+               "Invalid action number found in internal parse table");
+
+        }
+    }
+}
+
+}
@@ -21,11 +21,23 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.uni_freiburg.informatik.ultimate.logic.AnnotatedTerm;
 import de.uni_freiburg.informatik.ultimate.logic.Annotation;
@@ -53,9 +65,16 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.Main;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.Clausifier;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.BooleanVarAtom;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.ClauseExchange;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLAtom;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.PhaseMode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DecisionQueue;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.ILiteral;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.RestartPolicy;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.interpolate.Interpolator;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.option.OptionMap;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.option.OptionMap.CopyMode;
@@ -81,7 +100,11 @@ public class SMTInterpol extends NoopScript {
 
 	private static class TimeoutHandler implements TerminationRequest {
 		TerminationRequest mStackedCancellation;
-		long mTimeout;
+		volatile long mTimeout;
+		/**
+		 * Set by the solver of a portfolio that found the result to stop the other solvers.
+		 */
+		volatile boolean mAborted;
 
 		public TimeoutHandler(final TerminationRequest stacked) {
 			mStackedCancellation = stacked;
@@ -98,6 +121,9 @@ public class SMTInterpol extends NoopScript {
 
 		@Override
 		public boolean isTerminationRequested() {
+			if (mAborted) {
+				return true;
+			}
 			if (mStackedCancellation != null && mStackedCancellation.isTerminationRequested()) {
 				return true;
 			}
@@ -212,6 +238,37 @@ public class SMTInterpol extends NoopScript {
 
 	private final LogProxy mLogger;
 
+	/**
+	 * The maximal number of solvers in a portfolio check.
+	 */
+	private static final int MAX_PORTFOLIO_THREADS = 64;
+	/**
+	 * The other solvers of the portfolio. They share the theory and replay the assertions of this solver.
+	 */
+	private List<SMTInterpol> mPortfolio;
+	/**
+	 * The number of assertions already replayed into the solvers of the portfolio.
+	 */
+	private int mPortfolioNumAsserted;
+	/**
+	 * The exchange of learned clauses between the solvers of the portfolio.
+	 */
+	private ClauseExchange mClauseExchange;
+	private ExecutorService mPortfolioExecutor;
+	/**
+	 * The solver of the portfolio that found the result of the last check, or null if it was this solver. Models and
+	 * unsat assumptions are taken from this solver.
+	 */
+	private SMTInterpol mPortfolioWinner;
+	/**
+	 * The maximal depth of the cube and conquer split.
+	 */
+	private static final int MAX_CUBE_DEPTH = 20;
+	/**
+	 * The pool that solves the cubes of a cube and conquer check.
+	 */
+	private ForkJoinPool mCubePool;
+
 	de.uni_freiburg.informatik.ultimate.smtinterpol.model.Model mModel = null;
 
 	private final static Object NAME = new QuotedObject("SMTInterpol");
@@ -355,6 +412,11 @@ public class SMTInterpol extends NoopScript {
 	 *            What to do when copying existing options.
 	 */
 	public SMTInterpol(final SMTInterpol other, final Map<String, Object> options, final OptionMap.CopyMode mode) {
+		this(other, options, mode, other.mCancel);
+	}
+
+	private SMTInterpol(final SMTInterpol other, final Map<String, Object> options, final OptionMap.CopyMode mode,
+			final TimeoutHandler cancel) {
 		super(other.getTheory());
 		mLogger = other.mLogger;
 		mOptions = other.mOptions.copy(mode);
@@ -364,7 +426,7 @@ public class SMTInterpol extends NoopScript {
 				setOption(me.getKey(), me.getValue());
 			}
 		}
-		mCancel = other.mCancel;
+		mCancel = cancel;
 		setupClausifier(getTheory().getLogic());
 	}
 
@@ -381,6 +443,7 @@ public class SMTInterpol extends NoopScript {
 		if (mAssertions != null) {
 			mAssertions.clear();
 		}
+		discardPortfolio();
 		mOptions.reset();
 	}
 
@@ -391,6 +454,7 @@ public class SMTInterpol extends NoopScript {
 		if (mAssertions != null) {
 			mAssertions.clear();
 		}
+		discardPortfolio();
 		setupClausifier(mEngine.getSMTTheory().getLogic());
 	}
 
@@ -423,6 +487,9 @@ public class SMTInterpol extends NoopScript {
 				mAssertions.endScope();
 			}
 		}
+		if (mPortfolio != null && mPortfolioNumAsserted > mAssertions.size()) {
+			discardPortfolio();
+		}
 		mClausifier.pop(n);
 	}
 
@@ -436,9 +503,28 @@ public class SMTInterpol extends NoopScript {
 		if (mEngine == null) {
 			throw new SMTLIBException("No logic set!");
 		}
-		mModel = null;
-		mAssertionStackModified = false;
-		mEngine.clearAssumptions();
+		if (!prepareCheck(assumptions)) {
+			return LBool.UNSAT;
+		}
+		if (useCubeAndConquer(assumptions)) {
+			final LBool result = runCubeAndConquer();
+			if (result != null) {
+				return result;
+			}
+		}
+		return runCheck(startPortfolio(assumptions));
+	}
+
+	/**
+	 * Prepare a check-sat: create the literals for the assumptions and configure the engine with the current options.
+	 * This part of a check clausifies and must be called from the thread that asserts the formulas.
+	 *
+	 * @param assumptions
+	 *            the assumptions of the check.
+	 * @return false if the assumptions are already inconsistent.
+	 */
+	private boolean prepareCheck(final Term... assumptions) {
+		Literal[] assumptionlits = null;
 		if (assumptions != null && assumptions.length != 0) {
 			if (Config.STRONG_USAGE_CHECKS) {
 				// Check that every literal is a Boolean constant or its negation
@@ -456,14 +542,31 @@ public class SMTInterpol extends NoopScript {
 					}
 				}
 			}
+			assumptionlits = new Literal[assumptions.length];
+			for (int i = 0; i < assumptions.length; ++i) {
+				assumptionlits[i] = mClausifier.getCreateLiteral(assumptions[i], new SourceAnnotation("", null));
+			}
+		}
+		return prepareCheck(assumptionlits);
+	}
+
+	/**
+	 * Prepare a check-sat under the given assumption literals and configure the engine with the current options.
+	 *
+	 * @param assumptionlits
+	 *            the literals to assume, or null for none.
+	 * @return false if the assumptions are already inconsistent.
+	 */
+	private boolean prepareCheck(final Literal[] assumptionlits) {
+		mModel = null;
+		mPortfolioWinner = null;
+		mAssertionStackModified = false;
+		mEngine.clearAssumptions();
+		if (assumptionlits != null) {
 			// Since checkSatAssuming does not first do bcp and we might have
 			// popped, we manually trigger bcp
 			if (!mEngine.quickCheck()) {
-				return LBool.UNSAT;
-			}
-			final Literal[] assumptionlits = new Literal[assumptions.length];
-			for (int i = 0; i < assumptions.length; ++i) {
-				assumptionlits[i] = mClausifier.getCreateLiteral(assumptions[i], new SourceAnnotation("", null));
+				return false;
 			}
 			mEngine.assume(assumptionlits);
 		}
@@ -471,11 +574,49 @@ public class SMTInterpol extends NoopScript {
 		if (timeout > 0) {
 			mCancel.setTimeout(timeout);
 		}
+		mEngine.setRandomSeed(mSolverOptions.getRandomSeed());
+		mEngine.setTieredClauses(mSolverOptions.isTieredClauseDatabase());
+		mEngine.setRestartStrategy(mSolverOptions.getRestartStrategy());
+		mEngine.setPhaseMode(mSolverOptions.getPhaseMode());
+		mEngine.setDecisionHeuristic(mSolverOptions.getDecisionHeuristic());
+		mEngine.setInprocessing(mSolverOptions.isInprocessing());
+		mEngine.setPreprocessing(mSolverOptions.isPreprocessing());
+		if (mClausifier.getLASolver() != null) {
+			mClausifier.getLASolver().setFloatPrepass(mSolverOptions.isSimplexFloatPrepass());
+			final long budget = mSolverOptions.getBoundPropagationBudget();
+			mClausifier.getLASolver()
+					.setPropagationBudget(budget <= 0 ? 0 : (int) Math.min(budget, Integer.MAX_VALUE));
+			mClausifier.getLASolver().setGomoryCuts(mSolverOptions.isGomoryCuts());
+			final long nodes = mSolverOptions.getBranchAndBoundNodes();
+			mClausifier.getLASolver()
+					.setBranchAndBoundNodeLimit(nodes <= 0 ? 0 : (int) Math.min(nodes, Integer.MAX_VALUE));
+		}
+		final long rephaseInterval = mSolverOptions.getRephaseInterval();
+		mEngine.setRephaseInterval(rephaseInterval <= 0 ? 0 : (int) Math.min(rephaseInterval, Integer.MAX_VALUE));
+		final long chronoThreshold = mSolverOptions.getChronoBacktrackThreshold();
+		mEngine.setChronoBacktrackThreshold(
+				chronoThreshold <= 0 ? 0 : (int) Math.min(chronoThreshold, Integer.MAX_VALUE));
+		return true;
+	}
 
+	/**
+	 * Run a prepared check-sat and set the status.
+	 *
+	 * @param portfolio
+	 *            the running portfolio solvers, or null if this solver checks alone.
+	 * @return the result of the check.
+	 */
+	private LBool runCheck(final List<Future<LBool>> portfolio) {
 		LBool result = LBool.UNKNOWN;
 		mReasonUnknown = ReasonUnknown.INCOMPLETE;
-		mEngine.setRandomSeed(mSolverOptions.getRandomSeed());
-		if (mSolverOptions.getCheckType().check(mEngine)) {
+		final boolean checkResult = mSolverOptions.getCheckType().check(mEngine);
+		if (portfolio != null) {
+			mPortfolioWinner = finishPortfolio(portfolio, !checkResult || mEngine.hasModel());
+		}
+		if (mPortfolioWinner != null) {
+			result = mPortfolioWinner.mStatus;
+			mReasonUnknown = mPortfolioWinner.mReasonUnknown;
+		} else if (checkResult) {
 			if (mEngine.hasModel()) {
 				result = LBool.SAT;
 				if (mSolverOptions.isModelCheckModeActive()) {
@@ -533,7 +674,8 @@ public class SMTInterpol extends NoopScript {
 		} else {
 			result = LBool.UNSAT;
 			if (mSolverOptions.isProofCheckModeActive()) {
-				final ProofChecker proofchecker = new ProofChecker(this, getLogger());
+				final int threads = (int) Math.min(mSolverOptions.getProofCheckThreads(), MAX_PORTFOLIO_THREADS);
+				final ProofChecker proofchecker = new ProofChecker(this, getLogger(), threads);
 				if (!proofchecker.check(getProof())) {
 					if (mDDFriendly) {
 						System.exit(2);
@@ -543,6 +685,17 @@ public class SMTInterpol extends NoopScript {
 				}
 			}
 		}
+		return finishCheck(result);
+	}
+
+	/**
+	 * Set the status after a check-sat and clear the timeout.
+	 *
+	 * @param result
+	 *            the result of the check.
+	 * @return the result of the check.
+	 */
+	private LBool finishCheck(final LBool result) {
 		mStatus = result;
 		if (Config.CHECK_STATUS_SET && isStatusSet() && mReasonUnknown != ReasonUnknown.MEMOUT
 				&& !mStatus.toString().equals(mStatusSet)) {
@@ -556,6 +709,389 @@ public class SMTInterpol extends NoopScript {
 		return result;
 	}
 
+	/**
+	 * Check whether the next check-sat should race several solvers.  We only do this for full checks without proofs
+	 * on quantifier-free logics, and only if the assertions are recorded, since the other solvers need to replay them.
+	 */
+	private boolean usePortfolio() {
+		return mSolverOptions.getPortfolioThreads() > 1 && canCheckInParallel();
+	}
+
+	private boolean canCheckInParallel() {
+		return mAssertions != null && mSolverOptions.getCheckType() == CheckType.FULL && getProofMode() == 0
+				&& !getTheory().getLogic().isQuantified() && !mEngine.inconsistent();
+	}
+
+	/**
+	 * Check whether the next check-sat should split the search space into cubes. The cubes are assumptions, so we do
+	 * not split a check that already has assumptions.
+	 */
+	private boolean useCubeAndConquer(final Term... assumptions) {
+		return mSolverOptions.getCubeDepth() > 0 && (assumptions == null || assumptions.length == 0)
+				&& canCheckInParallel();
+	}
+
+	/**
+	 * Create the options for the i-th solver of the portfolio. Each solver uses a different decision heuristic,
+	 * restart strategy, phase mode, and random seed.
+	 */
+	private Map<String, Object> getPortfolioOptions(final int i) {
+		final DecisionQueue.Heuristic[] heuristics = DecisionQueue.Heuristic.values();
+		final RestartPolicy.Strategy[] restarts = RestartPolicy.Strategy.values();
+		final PhaseMode[] phases = PhaseMode.values();
+		final Map<String, Object> options = new HashMap<>();
+		options.put(SolverOptions.PORTFOLIO_THREADS, 1L);
+		options.put(SolverOptions.CUBE_DEPTH, 0L);
+		options.put(SolverOptions.RANDOM_SEED, mSolverOptions.getRandomSeed() + i);
+		options.put(SolverOptions.DECISION_HEURISTIC,
+				heuristics[(mSolverOptions.getDecisionHeuristic().ordinal() + i) % heuristics.length].name());
+		options.put(SolverOptions.RESTART_STRATEGY,
+				restarts[(mSolverOptions.getRestartStrategy().ordinal() + i) % restarts.length].name());
+		options.put(SolverOptions.PHASE_MODE,
+				phases[(mSolverOptions.getPhaseMode().ordinal() + i / heuristics.length) % phases.length].name());
+		return options;
+	}
+
+	/**
+	 * Start the other solvers of the portfolio on the current assertions and the given assumptions. The solvers are
+	 * kept between checks as long as no assertions are removed. The new assertions and the assumptions are
+	 * clausified on the calling thread; only the search runs in parallel. The solvers share their short learned
+	 * clauses through a clause exchange.
+	 *
+	 * @return the futures of the running solvers, or null if no portfolio is used.
+	 */
+	private List<Future<LBool>> startPortfolio(final Term... assumptions) {
+		if (!usePortfolio()) {
+			return null;
+		}
+		final int threads = (int) Math.min(mSolverOptions.getPortfolioThreads(), MAX_PORTFOLIO_THREADS);
+		syncPortfolio(threads - 1);
+		if (mPortfolioExecutor == null) {
+			mPortfolioExecutor = Executors.newCachedThreadPool(runnable -> {
+				final Thread thread = new Thread(runnable, "SMTInterpol-portfolio");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		final List<Future<LBool>> futures = new ArrayList<>();
+		for (final SMTInterpol solver : mPortfolio.subList(0, threads - 1)) {
+			if (!solver.prepareCheck(assumptions)) {
+				// The solver already knows the result, so we don't need to run any other solver.
+				cancelPortfolio(futures);
+				return null;
+			}
+			futures.add(mPortfolioExecutor.submit(() -> {
+				final LBool result = solver.runCheck(null);
+				if (result != LBool.UNKNOWN) {
+					mCancel.mAborted = true;
+				}
+				return result;
+			}));
+		}
+		return futures;
+	}
+
+	/**
+	 * Create the other solvers of the portfolio and replay the new assertions into them. The solvers are connected
+	 * to the clause exchange.
+	 *
+	 * @param size
+	 *            the minimal number of other solvers.
+	 */
+	private void syncPortfolio(final int size) {
+		if (mPortfolio == null) {
+			// the solvers of the portfolio share the theory of this solver and create terms in their own threads.
+			getTheory().setConcurrent();
+			mPortfolio = new ArrayList<>();
+			mPortfolioNumAsserted = 0;
+			mClauseExchange = new ClauseExchange();
+			mEngine.setClauseExchange(mClauseExchange.connect(mClausifier::getBaseLiteral));
+		}
+		while (mPortfolio.size() < size) {
+			final SMTInterpol solver = new SMTInterpol(this, getPortfolioOptions(mPortfolio.size() + 1),
+					CopyMode.CURRENT_VALUE, new TimeoutHandler(mCancel));
+			for (int i = 0; i < mPortfolioNumAsserted; i++) {
+				solver.assertTerm(mAssertions.get(i));
+			}
+			solver.mEngine.setClauseExchange(mClauseExchange.connect(solver.mClausifier::getBaseLiteral));
+			mPortfolio.add(solver);
+		}
+		for (final SMTInterpol solver : mPortfolio) {
+			for (int i = mPortfolioNumAsserted; i < mAssertions.size(); i++) {
+				solver.assertTerm(mAssertions.get(i));
+			}
+		}
+		mPortfolioNumAsserted = mAssertions.size();
+	}
+
+	private void cancelPortfolio(final List<Future<LBool>> futures) {
+		mCancel.mAborted = true;
+		try {
+			for (final Future<LBool> future : futures) {
+				try {
+					future.get();
+				} catch (final InterruptedException | ExecutionException ignored) {
+					// we are not interested in the result
+				}
+			}
+		} finally {
+			resumePortfolio();
+		}
+	}
+
+	/**
+	 * Wait for the other solvers of the portfolio and pick the result.
+	 *
+	 * @param futures
+	 *            the futures of the running solvers.
+	 * @param solved
+	 *            true if the engine of this solver found a result. In that case all other solvers are stopped.
+	 * @return the solver that found the result, or null if this solver's engine should be used.
+	 */
+	private SMTInterpol finishPortfolio(final List<Future<LBool>> futures, final boolean solved) {
+		if (solved) {
+			cancelPortfolio(futures);
+			return null;
+		}
+		SMTInterpol winner = null;
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				final LBool result = futures.get(i).get();
+				if (winner == null && result != LBool.UNKNOWN) {
+					winner = mPortfolio.get(i);
+					mLogger.debug("Portfolio solver %d found the result", i + 1);
+				}
+			}
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancelPortfolio(futures);
+			return null;
+		} catch (final ExecutionException ex) {
+			cancelPortfolio(futures);
+			discardPortfolio();
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw new SMTLIBException(ex.getCause());
+		} finally {
+			resumePortfolio();
+		}
+		return winner;
+	}
+
+	/**
+	 * Clear the abort flag after the other solvers of the portfolio were stopped. A stopped engine remembers the
+	 * cancellation until the next pop, so we also reset the completeness of the other solvers.
+	 */
+	private void resumePortfolio() {
+		mCancel.mAborted = false;
+		if (mPortfolio != null) {
+			for (final SMTInterpol solver : mPortfolio) {
+				if (solver.mEngine.getCompleteness() == DPLLEngine.INCOMPLETE_CANCELLED) {
+					solver.mEngine.setCompleteness(DPLLEngine.COMPLETE);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the other solvers of the portfolio. This is called when assertions are removed.
+	 */
+	private void discardPortfolio() {
+		mPortfolio = null;
+		mPortfolioWinner = null;
+		mClauseExchange = null;
+		if (mEngine != null) {
+			mEngine.setClauseExchange(null);
+		}
+	}
+
+	/**
+	 * Run a cube and conquer check. The engine of this solver chooses the split atoms by lookahead. Every assignment
+	 * to the split atoms is a cube that is solved as assumption by one of the other solvers of the portfolio. The
+	 * cubes are the leaves of a binary tree of tasks run by a work-stealing pool. When a cube is unsatisfiable, its
+	 * unsat assumptions prune all other cubes that contain them.
+	 *
+	 * @return the result of the check, or null if the search space cannot be split and a normal check should be done.
+	 */
+	private LBool runCubeAndConquer() {
+		final int depth = (int) Math.min(mSolverOptions.getCubeDepth(), MAX_CUBE_DEPTH);
+		final DPLLAtom[] splits = mEngine.lookahead(depth, atom -> atom instanceof BooleanVarAtom);
+		if (splits == null || mEngine.inconsistent()) {
+			return runCheck(null);
+		}
+		if (splits.length == 0) {
+			return null;
+		}
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final int workers = (int) Math.min(Math.min(MAX_PORTFOLIO_THREADS, 1L << splits.length),
+				mSolverOptions.getPortfolioThreads() > 1 ? mSolverOptions.getPortfolioThreads() : processors);
+		syncPortfolio(workers);
+		final Literal[][] splitLits = new Literal[workers][splits.length];
+		for (int i = 0; i < workers; i++) {
+			for (int j = 0; j < splits.length; j++) {
+				final ILiteral lit = mPortfolio.get(i).mClausifier.getBaseLiteral(splits[j].getSMTFormula(getTheory()));
+				if (!(lit instanceof BooleanVarAtom)) {
+					return null;
+				}
+				splitLits[i][j] = (Literal) lit;
+			}
+		}
+		if (mCubePool == null || mCubePool.getParallelism() != workers) {
+			if (mCubePool != null) {
+				mCubePool.shutdown();
+			}
+			mCubePool = new ForkJoinPool(workers);
+		}
+		final CubeSearch search = new CubeSearch(splitLits);
+		mReasonUnknown = ReasonUnknown.INCOMPLETE;
+		try {
+			mCubePool.invoke(search.new CubeTask(0, 0));
+		} finally {
+			resumePortfolio();
+		}
+		mLogger.debug("Cube and conquer: %d split atoms, %d cubes solved, %d cubes pruned", splits.length,
+				search.mNumSolved.get(), search.mNumPruned.get());
+		if (search.mFailure != null) {
+			discardPortfolio();
+			if (search.mFailure instanceof Error) {
+				throw (Error) search.mFailure;
+			}
+			throw (RuntimeException) search.mFailure;
+		}
+		final LBool result;
+		if (search.mWinner != null) {
+			mPortfolioWinner = search.mWinner;
+			result = LBool.SAT;
+		} else if (search.mRefuted || search.mUnknown == null) {
+			result = LBool.UNSAT;
+		} else {
+			mReasonUnknown = search.mUnknown.mReasonUnknown;
+			result = LBool.UNKNOWN;
+		}
+		return finishCheck(result);
+	}
+
+	/**
+	 * The state of a cube and conquer search. A cube is given by a bit vector whose i-th bit is set if the i-th split
+	 * atom is assumed to be true. The unsat assumptions of the unsatisfiable cubes are stored as a mask of the split
+	 * atoms together with their values.
+	 */
+	private final class CubeSearch {
+		final Literal[][] mSplitLits;
+		final LinkedBlockingQueue<Integer> mFreeSolvers = new LinkedBlockingQueue<>();
+		final ConcurrentLinkedQueue<long[]> mCores = new ConcurrentLinkedQueue<>();
+		final AtomicInteger mNumSolved = new AtomicInteger();
+		final AtomicInteger mNumPruned = new AtomicInteger();
+		volatile boolean mDone;
+		volatile boolean mRefuted;
+		volatile SMTInterpol mWinner;
+		volatile SMTInterpol mUnknown;
+		volatile Throwable mFailure;
+
+		CubeSearch(final Literal[][] splitLits) {
+			mSplitLits = splitLits;
+			for (int i = 0; i < splitLits.length; i++) {
+				mFreeSolvers.add(i);
+			}
+		}
+
+		boolean isPruned(final int level, final long values) {
+			for (final long[] core : mCores) {
+				if ((core[0] >>> level) == 0 && (values & core[0]) == core[1]) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void solveCube(final long values) throws InterruptedException {
+			final int index = mFreeSolvers.take();
+			try {
+				final SMTInterpol solver = mPortfolio.get(index);
+				final Literal[] lits = mSplitLits[index];
+				final Literal[] cube = new Literal[lits.length];
+				for (int i = 0; i < lits.length; i++) {
+					cube[i] = (values & (1L << i)) != 0 ? lits[i] : lits[i].negate();
+				}
+				final LBool result = solver.prepareCheck(cube) ? solver.runCheck(null) : LBool.UNSAT;
+				mNumSolved.incrementAndGet();
+				if (result == LBool.SAT) {
+					mWinner = solver;
+					stop();
+				} else if (result == LBool.UNSAT) {
+					long mask = 0;
+					if (solver.mEngine.inconsistent()) {
+						for (final Literal lit : solver.mEngine.getUnsatAssumptions()) {
+							for (int i = 0; i < cube.length; i++) {
+								if (cube[i] == lit.negate()) {
+									mask |= 1L << i;
+								}
+							}
+						}
+					}
+					mCores.add(new long[] { mask, values & mask });
+					if (mask == 0) {
+						// the formula is unsatisfiable without any cube.
+						mRefuted = true;
+						stop();
+					}
+				} else if (mUnknown == null && !mDone) {
+					mUnknown = solver;
+				}
+			} finally {
+				mFreeSolvers.add(index);
+			}
+		}
+
+		void stop() {
+			mDone = true;
+			mCancel.mAborted = true;
+		}
+
+		/**
+		 * The task that solves all cubes that extend the given values of the first split atoms.
+		 */
+		final class CubeTask extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+			final int mLevel;
+			final long mValues;
+
+			CubeTask(final int level, final long values) {
+				mLevel = level;
+				mValues = values;
+			}
+
+			@Override
+			protected void compute() {
+				if (mDone) {
+					return;
+				}
+				if (isPruned(mLevel, mValues)) {
+					mNumPruned.incrementAndGet();
+					return;
+				}
+				if (mLevel == mSplitLits[0].length) {
+					try {
+						solveCube(mValues);
+					} catch (final InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						mUnknown = SMTInterpol.this;
+						stop();
+					} catch (RuntimeException | Error ex) {
+						mFailure = ex;
+						stop();
+					}
+					return;
+				}
+				invokeAll(new CubeTask(mLevel + 1, mValues), new CubeTask(mLevel + 1, mValues | (1L << mLevel)));
+			}
+		}
+	}
+
 	private final boolean isStatusSet() {
 		return mStatusSet != null && !mStatusSet.equals("unknown");
 	}
@@ -590,11 +1126,15 @@ public class SMTInterpol extends NoopScript {
 		try {
 			final int proofMode = getProofMode();
 			mEngine = new DPLLEngine(getTheory(), mLogger, mCancel);
+			mEngine.setBlockerWatchLists(mSolverOptions.isBlockerWatchLists());
+			mEngine.setBinaryImplications(mSolverOptions.isBinaryImplications());
 			mClausifier = new Clausifier(mEngine, proofMode);
 			// This has to be before set-logic since we need to capture
 			// initialization of CClosure.
 			mEngine.setProofGeneration(proofMode > 0);
 			mClausifier.setEPR(getBooleanOption(SolverOptions.EPR));
+			mClausifier.setSimplexLUFactorization(mSolverOptions.isSimplexLUFactorization());
+			mClausifier.setDifferenceLogicSolver(mSolverOptions.isDifferenceLogicSolver());
 			mClausifier.setLogic(logic);
 			final boolean produceAssignment = getBooleanOption(":produce-assignments");
 			mClausifier.setAssignmentProduction(produceAssignment);
@@ -603,7 +1143,8 @@ public class SMTInterpol extends NoopScript {
 			if (getBooleanOption(":interactive-mode") || mSolverOptions.isInterpolantCheckModeActive()
 					|| mSolverOptions.isProofCheckModeActive()
 					|| mSolverOptions.isModelCheckModeActive() || getBooleanOption(":unsat-core-check-mode")
-					|| getBooleanOption(":unsat-assumptions-check-mode")) {
+					|| getBooleanOption(":unsat-assumptions-check-mode")
+					|| mSolverOptions.getPortfolioThreads() > 1 || mSolverOptions.getCubeDepth() > 0) {
 				mAssertions = new ScopedArrayList<>();
 			}
 			mOptions.setOnline();
@@ -692,6 +1233,9 @@ public class SMTInterpol extends NoopScript {
 			throw new SMTLIBException("Set option :produce-assignments to true to generate assignments!");
 		}
 		checkAssertionStackModified();
+		if (mPortfolioWinner != null) {
+			return mPortfolioWinner.getAssignment();
+		}
 		return mEngine.getAssignments();
 	}
 
@@ -951,7 +1495,14 @@ public class SMTInterpol extends NoopScript {
 					"Set option :produce-unsat-assumptions to true before using get-unsat-assumptions");
 		}
 		checkAssertionStackModified();
+		if (mPortfolioWinner != null) {
+			return mPortfolioWinner.getUnsatAssumptions();
+		}
 		if (!mEngine.inconsistent()) {
+			if (mStatus == LBool.UNSAT && mSolverOptions.getCubeDepth() > 0) {
+				// cube and conquer only runs without assumptions
+				return new Term[0];
+			}
 			throw new SMTLIBException("Logical context not inconsistent!");
 		}
 		final Literal[] unsatAssumptionLits = mEngine.getUnsatAssumptions();
@@ -990,6 +1541,10 @@ public class SMTInterpol extends NoopScript {
 		if (mEngine == null) {
 			throw new SMTLIBException("No logic set!");
 		}
+		if (mPortfolioWinner != null) {
+			checkAssertionStackModified();
+			return mPortfolioWinner.getValue(terms);
+		}
 		buildModel();
 		return mModel.evaluate(terms);
 	}
@@ -999,6 +1554,10 @@ public class SMTInterpol extends NoopScript {
 		if (mEngine == null) {
 			throw new SMTLIBException("No logic set!");
 		}
+		if (mPortfolioWinner != null) {
+			checkAssertionStackModified();
+			return mPortfolioWinner.getModel();
+		}
 		buildModel();
 		return mModel;
 	}
@@ -1101,6 +1660,7 @@ public class SMTInterpol extends NoopScript {
 	private void modifyAssertionStack() {
 		mAssertionStackModified = true;
 		mModel = null;
+		mPortfolioWinner = null;
 		mEngine.clearAssumptions();
 	}
 
@@ -1332,6 +1892,20 @@ public class SMTInterpol extends NoopScript {
 		super.declareFun(fun, paramSorts, resultSort);
 	}
 
+	@Override
+	public void exit() {
+		discardPortfolio();
+		if (mPortfolioExecutor != null) {
+			mPortfolioExecutor.shutdownNow();
+			mPortfolioExecutor = null;
+		}
+		if (mCubePool != null) {
+			mCubePool.shutdownNow();
+			mCubePool = null;
+		}
+		super.exit();
+	}
+
 	private final boolean getBooleanOption(final String option) {
 		return ((Boolean) mOptions.get(option)).booleanValue();
 	}
@@ -0,0 +1,442 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * Exact sparse LU factorization of a simplex basis. The basis {@code B} is a square matrix whose rows are the
+ * constraint rows and whose columns are the basis slots. The factorization keeps a list of eta matrices {@code E} and
+ * an upper triangular matrix {@code U} (upto permutation of rows and columns) with {@code E * B = U}.
+ *
+ * <p>
+ * The initial factorization is computed by Gaussian elimination choosing sparse pivot columns first; every elimination
+ * step adds a column eta. When a column of the basis is replaced, the factorization is updated with the method of
+ * Forrest and Tomlin: the transformed column is put into {@code U}, the row of the old pivot is moved behind the last
+ * row the new column touches and the entries of this row left of the diagonal are eliminated, which adds a row eta.
+ * After {@link #REFACTOR_INTERVAL} updates the factorization is marked invalid so that the owner computes it again
+ * from scratch.
+ */
+class BasisFactorization {
+	/** The number of Forrest-Tomlin updates after which the basis should be factorized again. */
+	static final int REFACTOR_INTERVAL = 100;
+
+	/**
+	 * An eta matrix. A column eta applies {@code v[rows[i]] -= factors[i] * v[pivot]} for all i, a row eta applies
+	 * {@code v[pivot] -= sum factors[i] * v[rows[i]]}.
+	 */
+	private static final class Eta {
+		final boolean mIsRowEta;
+		final int mPivot;
+		final int[] mRows;
+		final Rational[] mFactors;
+
+		Eta(final boolean isRowEta, final int pivot, final int[] rows, final Rational[] factors) {
+			mIsRowEta = isRowEta;
+			mPivot = pivot;
+			mRows = rows;
+			mFactors = factors;
+		}
+	}
+
+	/** The dimension of the basis. */
+	private int mSize;
+	/** True if the factorization represents the current basis. */
+	private boolean mValid;
+	/** The number of Forrest-Tomlin updates since the last factorization. */
+	private int mNumUpdates;
+	/** The eta matrices in the order they are applied. */
+	private final ArrayList<Eta> mEtas = new ArrayList<>();
+	/** The rows of U indexed by constraint row; each row maps a basis slot to the non-zero entry. */
+	private final ArrayList<HashMap<Integer, Rational>> mURows = new ArrayList<>();
+	/** For every basis slot the set of constraint rows that have a non-zero entry in U for this slot. */
+	private final ArrayList<BitSet> mUCols = new ArrayList<>();
+	/** For every constraint row the basis slot of its diagonal element in U. */
+	private int[] mPivotSlot = new int[0];
+	/** For every basis slot the constraint row of its diagonal element in U. */
+	private int[] mPivotRow = new int[0];
+	/** The constraint rows in the order in which U is triangular. */
+	private int[] mOrder = new int[0];
+	/** The inverse of mOrder: the position of every constraint row. */
+	private int[] mPosition = new int[0];
+
+	public boolean isValid() {
+		return mValid;
+	}
+
+	public void invalidate() {
+		mValid = false;
+	}
+
+	/**
+	 * Factorize a basis from scratch.
+	 *
+	 * @param size
+	 *            the dimension of the basis.
+	 * @param colRows
+	 *            for every basis slot the constraint rows of the non-zero entries of its column.
+	 * @param colValues
+	 *            for every basis slot the non-zero entries of its column.
+	 */
+	public void factorize(final int size, final int[][] colRows, final Rational[][] colValues) {
+		mSize = size;
+		mEtas.clear();
+		mURows.clear();
+		mUCols.clear();
+		mPivotSlot = new int[size];
+		mPivotRow = new int[size];
+		mOrder = new int[size];
+		mPosition = new int[size];
+		// activeCols[c] contains the rows that are not yet used as pivot and have an entry in column c.
+		final BitSet[] activeCols = new BitSet[size];
+		final int[] colCount = new int[size];
+		for (int i = 0; i < size; i++) {
+			mURows.add(new HashMap<>());
+			activeCols[i] = new BitSet();
+		}
+		for (int c = 0; c < size; c++) {
+			for (int k = 0; k < colRows[c].length; k++) {
+				mURows.get(colRows[c][k]).put(c, colValues[c][k]);
+				activeCols[c].set(colRows[c][k]);
+			}
+			colCount[c] = colRows[c].length;
+		}
+		final boolean[] pivotedCols = new boolean[size];
+		for (int step = 0; step < size; step++) {
+			// choose the sparsest column and in this column the sparsest row.
+			int col = -1;
+			for (int c = 0; c < size; c++) {
+				if (!pivotedCols[c] && (col < 0 || colCount[c] < colCount[col])) {
+					col = c;
+				}
+			}
+			if (colCount[col] == 0) {
+				throw new AssertionError("Singular simplex basis");
+			}
+			int row = -1;
+			final BitSet rowsInCol = activeCols[col];
+			for (int r = rowsInCol.nextSetBit(0); r >= 0; r = rowsInCol.nextSetBit(r + 1)) {
+				if (row < 0 || mURows.get(r).size() < mURows.get(row).size()) {
+					row = r;
+				}
+			}
+			pivotedCols[col] = true;
+			mOrder[step] = row;
+			mPosition[row] = step;
+			mPivotSlot[row] = col;
+			mPivotRow[col] = row;
+
+			final HashMap<Integer, Rational> pivotRow = mURows.get(row);
+			for (final Integer c : pivotRow.keySet()) {
+				activeCols[c].clear(row);
+				colCount[c]--;
+			}
+			final int[] elimRows = rowsInCol.stream().toArray();
+			if (elimRows.length == 0) {
+				continue;
+			}
+			final Rational pivot = pivotRow.get(col);
+			final Rational[] factors = new Rational[elimRows.length];
+			for (int k = 0; k < elimRows.length; k++) {
+				final HashMap<Integer, Rational> elimRow = mURows.get(elimRows[k]);
+				final Rational factor = elimRow.get(col).div(pivot);
+				factors[k] = factor;
+				for (final Map.Entry<Integer, Rational> entry : pivotRow.entrySet()) {
+					final int c = entry.getKey();
+					final Rational old = elimRow.get(c);
+					final Rational val = c == col ? Rational.ZERO
+							: (old == null ? Rational.ZERO : old).sub(factor.mul(entry.getValue()));
+					if (val.signum() == 0) {
+						if (old != null) {
+							elimRow.remove(c);
+							activeCols[c].clear(elimRows[k]);
+							colCount[c]--;
+						}
+					} else {
+						elimRow.put(c, val);
+						if (old == null) {
+							activeCols[c].set(elimRows[k]);
+							colCount[c]++;
+						}
+					}
+				}
+			}
+			mEtas.add(new Eta(false, row, elimRows, factors));
+		}
+		for (int c = 0; c < size; c++) {
+			mUCols.add(new BitSet());
+		}
+		for (int r = 0; r < size; r++) {
+			for (final Integer c : mURows.get(r).keySet()) {
+				mUCols.get(c).set(r);
+			}
+		}
+		mNumUpdates = 0;
+		mValid = true;
+	}
+
+	/**
+	 * Apply the eta matrices to a column vector, i.e., compute {@code E * v} in place.
+	 *
+	 * @param v
+	 *            a dense vector indexed by constraint rows.
+	 * @return v.
+	 */
+	public Rational[] transform(final Rational[] v) {
+		assert mValid;
+		for (final Eta eta : mEtas) {
+			if (eta.mIsRowEta) {
+				Rational sum = v[eta.mPivot];
+				for (int i = 0; i < eta.mRows.length; i++) {
+					final Rational val = v[eta.mRows[i]];
+					if (val.signum() != 0) {
+						sum = sum.sub(eta.mFactors[i].mul(val));
+					}
+				}
+				v[eta.mPivot] = sum;
+			} else {
+				final Rational pivot = v[eta.mPivot];
+				if (pivot.signum() != 0) {
+					for (int i = 0; i < eta.mRows.length; i++) {
+						v[eta.mRows[i]] = v[eta.mRows[i]].sub(eta.mFactors[i].mul(pivot));
+					}
+				}
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * Solve {@code U * y = v} by back substitution.
+	 *
+	 * @param v
+	 *            a dense vector indexed by constraint rows. It is overwritten.
+	 * @return the solution y as dense vector indexed by basis slots.
+	 */
+	public Rational[] solveU(final Rational[] v) {
+		assert mValid;
+		final Rational[] y = new Rational[mSize];
+		Arrays.fill(y, Rational.ZERO);
+		for (int pos = mSize - 1; pos >= 0; pos--) {
+			final int row = mOrder[pos];
+			if (v[row].signum() == 0) {
+				continue;
+			}
+			final int slot = mPivotSlot[row];
+			final Rational val = v[row].div(mURows.get(row).get(slot));
+			y[slot] = val;
+			final BitSet rows = mUCols.get(slot);
+			for (int r = rows.nextSetBit(0); r >= 0; r = rows.nextSetBit(r + 1)) {
+				if (r != row) {
+					v[r] = v[r].sub(mURows.get(r).get(slot).mul(val));
+				}
+			}
+		}
+		return y;
+	}
+
+	/**
+	 * Solve {@code y * B = e_slot}, i.e., compute the row of the inverse basis that belongs to a basis slot.
+	 *
+	 * @param slot
+	 *            the basis slot.
+	 * @return the row y as dense vector indexed by constraint rows.
+	 */
+	public Rational[] btran(final int slot) {
+		assert mValid;
+		final Rational[] rhs = new Rational[mSize];
+		Arrays.fill(rhs, Rational.ZERO);
+		rhs[slot] = Rational.ONE;
+		final Rational[] y = new Rational[mSize];
+		Arrays.fill(y, Rational.ZERO);
+		// solve z * U = e_slot
+		for (int pos = mPosition[mPivotRow[slot]]; pos < mSize; pos++) {
+			final int row = mOrder[pos];
+			final int pivotSlot = mPivotSlot[row];
+			if (rhs[pivotSlot].signum() == 0) {
+				continue;
+			}
+			final HashMap<Integer, Rational> urow = mURows.get(row);
+			final Rational val = rhs[pivotSlot].div(urow.get(pivotSlot));
+			y[row] = val;
+			for (final Map.Entry<Integer, Rational> entry : urow.entrySet()) {
+				final int c = entry.getKey();
+				if (c != pivotSlot) {
+					rhs[c] = rhs[c].sub(entry.getValue().mul(val));
+				}
+			}
+		}
+		// y = z * E
+		for (int i = mEtas.size() - 1; i >= 0; i--) {
+			final Eta eta = mEtas.get(i);
+			if (eta.mIsRowEta) {
+				final Rational pivot = y[eta.mPivot];
+				if (pivot.signum() != 0) {
+					for (int k = 0; k < eta.mRows.length; k++) {
+						y[eta.mRows[k]] = y[eta.mRows[k]].sub(eta.mFactors[k].mul(pivot));
+					}
+				}
+			} else {
+				Rational sum = y[eta.mPivot];
+				for (int k = 0; k < eta.mRows.length; k++) {
+					final Rational val = y[eta.mRows[k]];
+					if (val.signum() != 0) {
+						sum = sum.sub(eta.mFactors[k].mul(val));
+					}
+				}
+				y[eta.mPivot] = sum;
+			}
+		}
+		return y;
+	}
+
+	/**
+	 * Replace the column of a basis slot (Forrest-Tomlin update).
+	 *
+	 * @param slot
+	 *            the basis slot whose column changes.
+	 * @param spike
+	 *            the new column already transformed by {@link #transform}.
+	 */
+	public void replaceColumn(final int slot, final Rational[] spike) {
+		assert mValid;
+		final int pivotRow = mPivotRow[slot];
+		final int first = mPosition[pivotRow];
+		final BitSet oldCol = mUCols.get(slot);
+		for (int r = oldCol.nextSetBit(0); r >= 0; r = oldCol.nextSetBit(r + 1)) {
+			mURows.get(r).remove(slot);
+		}
+		oldCol.clear();
+		int last = first;
+		for (int r = 0; r < mSize; r++) {
+			if (spike[r].signum() != 0) {
+				mURows.get(r).put(slot, spike[r]);
+				oldCol.set(r);
+				last = Math.max(last, mPosition[r]);
+			}
+		}
+		if (last > first) {
+			// move the pivot row behind the last row of the spike and eliminate the entries left of the diagonal.
+			System.arraycopy(mOrder, first + 1, mOrder, first, last - first);
+			mOrder[last] = pivotRow;
+			for (int pos = first; pos <= last; pos++) {
+				mPosition[mOrder[pos]] = pos;
+			}
+			eliminate(pivotRow, first, last);
+		}
+		if (!mURows.get(pivotRow).containsKey(slot)) {
+			throw new AssertionError("Singular simplex basis");
+		}
+		if (++mNumUpdates >= REFACTOR_INTERVAL) {
+			mValid = false;
+		}
+	}
+
+	/**
+	 * Extend the basis by a new constraint row and a new basis slot whose column only contains the entry in the new
+	 * row. The new row and the new slot get the index {@code size}.
+	 *
+	 * @param slots
+	 *            the existing basis slots with a non-zero entry in the new row.
+	 * @param values
+	 *            the corresponding entries of the new row.
+	 * @param diagonal
+	 *            the entry of the new slot in the new row.
+	 */
+	public void appendRow(final int[] slots, final Rational[] values, final Rational diagonal) {
+		assert mValid;
+		final int row = mSize++;
+		mPivotSlot = Arrays.copyOf(mPivotSlot, mSize);
+		mPivotRow = Arrays.copyOf(mPivotRow, mSize);
+		mOrder = Arrays.copyOf(mOrder, mSize);
+		mPosition = Arrays.copyOf(mPosition, mSize);
+		final HashMap<Integer, Rational> urow = new HashMap<>();
+		mURows.add(urow);
+		mUCols.add(new BitSet());
+		for (int i = 0; i < slots.length; i++) {
+			urow.put(slots[i], values[i]);
+			mUCols.get(slots[i]).set(row);
+		}
+		eliminate(row, 0, row);
+		assert urow.isEmpty();
+		urow.put(row, diagonal);
+		mUCols.get(row).set(row);
+		mOrder[row] = row;
+		mPosition[row] = row;
+		mPivotSlot[row] = row;
+		mPivotRow[row] = row;
+	}
+
+	/**
+	 * Eliminate the entries of a row of U that belong to the pivot slots of the rows at the given positions. The
+	 * performed row operations are recorded as row eta.
+	 *
+	 * @param row
+	 *            the row to change.
+	 * @param from
+	 *            the first position (inclusive).
+	 * @param to
+	 *            the last position (exclusive).
+	 */
+	private void eliminate(final int row, final int from, final int to) {
+		final HashMap<Integer, Rational> urow = mURows.get(row);
+		final int[] rows = new int[to - from];
+		final Rational[] factors = new Rational[to - from];
+		int count = 0;
+		for (int pos = from; pos < to && !urow.isEmpty(); pos++) {
+			final int other = mOrder[pos];
+			final int pivotSlot = mPivotSlot[other];
+			final Rational entry = urow.get(pivotSlot);
+			if (entry == null) {
+				continue;
+			}
+			final HashMap<Integer, Rational> otherRow = mURows.get(other);
+			final Rational factor = entry.div(otherRow.get(pivotSlot));
+			for (final Map.Entry<Integer, Rational> e : otherRow.entrySet()) {
+				final int c = e.getKey();
+				final Rational old = urow.get(c);
+				final Rational val = c == pivotSlot ? Rational.ZERO
+						: (old == null ? Rational.ZERO : old).sub(factor.mul(e.getValue()));
+				if (val.signum() == 0) {
+					if (old != null) {
+						urow.remove(c);
+						mUCols.get(c).clear(row);
+					}
+				} else {
+					urow.put(c, val);
+					if (old == null) {
+						mUCols.get(c).set(row);
+					}
+				}
+			}
+			rows[count] = other;
+			factors[count] = factor;
+			count++;
+		}
+		if (count > 0) {
+			mEtas.add(new Eta(true, row, Arrays.copyOf(rows, count), Arrays.copyOf(factors, count)));
+		}
+	}
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+
+/**
+ * An internal branch and bound search for integer solutions of the current linear relaxation. It copies the current
+ * tableaux and bounds into a dense floating point tableaux and searches a tree of bound changes on the integer
+ * variables without involving the DPLL engine. Each node is checked with a bounded simplex using Bland's rule that
+ * continues from the basis of the previously checked node. The search only runs if all variables are integer
+ * variables, so that an integer point found by the floating point computation can be checked exactly.
+ *
+ * <p>
+ * Open nodes are kept in a priority queue and the node with the best estimate is expanded first. As we only search
+ * for a feasible point, there is no objective function. Instead the estimate of a node is the sum of the integer
+ * infeasibilities of its parent's solution plus the change predicted by the pseudo costs of the branch. The pseudo
+ * costs record for every variable the average change of the sum of integer infeasibilities per unit of rounding
+ * distance when branching down or up on it. They are kept across searches. The branching variable is the fractional
+ * variable with the largest product of the predicted changes of both children.
+ *
+ * <p>
+ * If the search finds an integer point, the point is checked exactly against the bounds of all variables. If it
+ * satisfies them, the solver fixes every integer variable to its value in this point, by suggesting the corresponding
+ * bound literals to the DPLL engine. Fixing only the variables with a fractional value is not enough, since the exact
+ * simplex may then move to a different fractional point, and on unbounded problems this does not terminate. If the
+ * search proves that there is no integer point, finds a point that violates a bound due to rounding errors, or gives
+ * up because the node limit is reached, the solver falls back to the cuts and branches of the {@link CutCreator},
+ * which also provide the explanation of the conflict.
+ */
+class BranchAndBound {
+	/** The tolerance used to compare floating point values. */
+	private static final double TOLERANCE = 1e-9;
+	/** Coefficients below this value are considered as zero. */
+	private static final double ZERO_TOLERANCE = 1e-12;
+	/** Values that are closer to an integer are considered integral. */
+	private static final double INT_TOLERANCE = 1e-6;
+	/** The value used for the infinitesimal epsilon. */
+	private static final double EPSILON = 1e-7;
+	/** The pseudo cost of a variable that was never branched on. */
+	private static final double INITIAL_PSEUDO_COST = 1;
+	/** The maximal number of entries of the dense tableaux. The search is skipped for larger problems. */
+	private static final int MAX_TABLEAUX_SIZE = 1 << 20;
+	/** The maximal number of pivot steps in one node. Nodes exceeding it are dropped. */
+	private static final int MAX_PIVOTS_PER_NODE = 1000;
+	/** The bound above which doubles no longer represent all integers. */
+	private static final double MAX_EXACT_INTEGER = 0x1p53;
+
+	/**
+	 * A node of the search tree. It is given by the bound change on the branching variable and its parent.
+	 */
+	private static class Node {
+		final Node mParent;
+		/** The position of the branching variable, or -1 for the root. */
+		final int mVar;
+		final boolean mIsUpper;
+		final double mBound;
+		final int mDepth;
+		final double mEstimate;
+		/** The sum of the integer infeasibilities of the parent's solution. */
+		final double mParentInfeasibility;
+		/** The distance of the parent's value of the branching variable to the new bound. */
+		final double mDistance;
+
+		Node() {
+			mParent = null;
+			mVar = -1;
+			mIsUpper = false;
+			mBound = 0;
+			mDepth = 0;
+			mEstimate = 0;
+			mParentInfeasibility = 0;
+			mDistance = 0;
+		}
+
+		Node(final Node parent, final int var, final boolean isUpper, final double bound, final double estimate,
+				final double parentInfeasibility, final double distance) {
+			mParent = parent;
+			mVar = var;
+			mIsUpper = isUpper;
+			mBound = bound;
+			mDepth = parent.mDepth + 1;
+			mEstimate = estimate;
+			mParentInfeasibility = parentInfeasibility;
+			mDistance = distance;
+		}
+	}
+
+	/**
+	 * The pseudo costs of a variable.
+	 */
+	private static class PseudoCost {
+		double mDownSum;
+		int mDownCount;
+		double mUpSum;
+		int mUpCount;
+
+		double getDown() {
+			return mDownCount == 0 ? INITIAL_PSEUDO_COST : mDownSum / mDownCount;
+		}
+
+		double getUp() {
+			return mUpCount == 0 ? INITIAL_PSEUDO_COST : mUpSum / mUpCount;
+		}
+	}
+
+	private final LinArSolve mSolver;
+	private final HashMap<LinVar, PseudoCost> mPseudoCosts = new HashMap<>();
+
+	/* The floating point tableaux of the current search, indexed by matrix position. */
+	private LinVar[] mVars;
+	private double[] mValue;
+	private double[] mLower;
+	private double[] mUpper;
+	private double[] mRootLower;
+	private double[] mRootUpper;
+	/** For every variable the row where it is basic, or -1 for non-basic variables. */
+	private int[] mRowOf;
+	/** For every variable the column where it is non-basic, or -1 for basic variables. */
+	private int[] mColOf;
+	/** The basic variable of every row. */
+	private int[] mBasic;
+	/** The non-basic variable of every column. */
+	private int[] mNonBasic;
+	/** The dense tableaux, {@code x_mBasic[r] = sum(mTableaux[r][c] * x_mNonBasic[c])}. */
+	private double[][] mTableaux;
+	/** The positions of the integer variables that must get integral values. */
+	private int[] mIntVars;
+	/** The pseudo costs of the integer variables, indexed like mIntVars. */
+	private PseudoCost[] mCosts;
+	/** The integer point found by the last search, indexed like mIntVars. */
+	private BigInteger[] mSolution;
+
+	BranchAndBound(final LinArSolve solver) {
+		mSolver = solver;
+	}
+
+	/**
+	 * Forget the pseudo costs. This is called on pop, since the variables may be removed.
+	 */
+	void clear() {
+		mPseudoCosts.clear();
+	}
+
+	/**
+	 * Search for an integer point and fix the integer variables to it.
+	 *
+	 * @param nodeLimit
+	 *            the maximal number of nodes to check.
+	 * @return true if a branch was suggested, false if the search failed.
+	 */
+	boolean search(final int nodeLimit) {
+		if (!init()) {
+			return false;
+		}
+		final PriorityQueue<Node> queue = new PriorityQueue<>((n1, n2) -> n1.mEstimate != n2.mEstimate
+				? Double.compare(n1.mEstimate, n2.mEstimate) : n2.mDepth - n1.mDepth);
+		queue.add(new Node());
+		int nodes = 0;
+		while (!queue.isEmpty() && nodes < nodeLimit) {
+			final Node node = queue.poll();
+			nodes++;
+			if (!loadBounds(node) || !solve()) {
+				continue;
+			}
+			double infeasibility = 0;
+			int branch = -1;
+			double bestScore = -1;
+			for (int i = 0; i < mIntVars.length; i++) {
+				final double value = mValue[mIntVars[i]];
+				final double frac = value - Math.floor(value);
+				if (frac < INT_TOLERANCE || frac > 1 - INT_TOLERANCE) {
+					continue;
+				}
+				infeasibility += Math.min(frac, 1 - frac);
+				final double score = Math.max(mCosts[i].getDown() * frac, INT_TOLERANCE)
+						* Math.max(mCosts[i].getUp() * (1 - frac), INT_TOLERANCE);
+				if (score > bestScore) {
+					bestScore = score;
+					branch = i;
+				}
+			}
+			updatePseudoCosts(node, infeasibility);
+			if (branch < 0) {
+				mSolver.mNumBranchAndBoundNodes += nodes;
+				return checkSolution() && suggestBranches();
+			}
+			final int pos = mIntVars[branch];
+			final double value = mValue[pos];
+			final double frac = value - Math.floor(value);
+			queue.add(new Node(node, pos, true, Math.floor(value),
+					infeasibility + mCosts[branch].getDown() * frac, infeasibility, frac));
+			queue.add(new Node(node, pos, false, Math.ceil(value),
+					infeasibility + mCosts[branch].getUp() * (1 - frac), infeasibility, 1 - frac));
+		}
+		mSolver.mNumBranchAndBoundNodes += nodes;
+		return false;
+	}
+
+	/**
+	 * Copy the current tableaux and bounds.
+	 *
+	 * @return false if the tableaux is too large.
+	 */
+	private boolean init() {
+		final int size = mSolver.mLinvars.size();
+		int numRows = 0;
+		for (final LinVar var : mSolver.mLinvars) {
+			if (!var.isInitiallyBasic() && !var.isInt()) {
+				return false;
+			}
+			if (var.mBasic) {
+				numRows++;
+			}
+		}
+		if ((long) numRows * (size - numRows) > MAX_TABLEAUX_SIZE) {
+			return false;
+		}
+		mVars = new LinVar[size];
+		mValue = new double[size];
+		mRootLower = new double[size];
+		mRootUpper = new double[size];
+		mRowOf = new int[size];
+		mColOf = new int[size];
+		mBasic = new int[numRows];
+		mNonBasic = new int[size - numRows];
+		mTableaux = new double[numRows][size - numRows];
+		int row = 0;
+		int col = 0;
+		for (final LinVar var : mSolver.mLinvars) {
+			final int pos = var.mMatrixpos;
+			mVars[pos] = var;
+			final ExactInfinitesimalNumber value = var.getValue();
+			mValue[pos] = FloatSimplex.toDouble(value.getRealValue())
+					+ EPSILON * FloatSimplex.toDouble(value.getEpsilon());
+			mRootLower[pos] = toDouble(var.getTightLowerBound());
+			mRootUpper[pos] = toDouble(var.getTightUpperBound());
+			if (var.mBasic) {
+				mBasic[row] = pos;
+				mRowOf[pos] = row++;
+				mColOf[pos] = -1;
+			} else {
+				mNonBasic[col] = pos;
+				mColOf[pos] = col++;
+				mRowOf[pos] = -1;
+			}
+		}
+		for (int r = 0; r < numRows; r++) {
+			for (final MatrixEntry entry : mVars[mBasic[r]].getTableauxRow(mSolver)) {
+				mTableaux[r][mColOf[entry.getColumn().mMatrixpos]] = FloatSimplex.toDouble(entry.getRowCoeff());
+			}
+		}
+		mLower = mRootLower.clone();
+		mUpper = mRootUpper.clone();
+		mIntVars = new int[mSolver.mIntVars.size()];
+		mCosts = new PseudoCost[mIntVars.length];
+		for (int i = 0; i < mIntVars.length; i++) {
+			final LinVar var = mSolver.mIntVars.get(i);
+			mIntVars[i] = var.mMatrixpos;
+			mCosts[i] = mPseudoCosts.computeIfAbsent(var, v -> new PseudoCost());
+		}
+		return true;
+	}
+
+	private static double toDouble(final InfinitesimalNumber bound) {
+		if (bound.isInfinity()) {
+			return bound.mReal.signum() * Double.POSITIVE_INFINITY;
+		}
+		return FloatSimplex.toDouble(bound.mReal) + EPSILON * bound.mEps;
+	}
+
+	/**
+	 * Set the bounds of the node and move the non-basic variables into their bounds.
+	 *
+	 * @return false if the bounds are contradictory.
+	 */
+	private boolean loadBounds(final Node node) {
+		System.arraycopy(mRootLower, 0, mLower, 0, mLower.length);
+		System.arraycopy(mRootUpper, 0, mUpper, 0, mUpper.length);
+		for (Node n = node; n.mVar >= 0; n = n.mParent) {
+			if (n.mIsUpper) {
+				mUpper[n.mVar] = Math.min(mUpper[n.mVar], n.mBound);
+			} else {
+				mLower[n.mVar] = Math.max(mLower[n.mVar], n.mBound);
+			}
+		}
+		for (int pos = 0; pos < mValue.length; pos++) {
+			if (mLower[pos] > mUpper[pos] + TOLERANCE) {
+				return false;
+			}
+		}
+		for (int c = 0; c < mNonBasic.length; c++) {
+			final int pos = mNonBasic[c];
+			if (mValue[pos] < mLower[pos]) {
+				update(c, mLower[pos] - mValue[pos]);
+			} else if (mValue[pos] > mUpper[pos]) {
+				update(c, mUpper[pos] - mValue[pos]);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Change the value of a non-basic variable and update the basic variables.
+	 */
+	private void update(final int col, final double delta) {
+		mValue[mNonBasic[col]] += delta;
+		for (int r = 0; r < mBasic.length; r++) {
+			mValue[mBasic[r]] += mTableaux[r][col] * delta;
+		}
+	}
+
+	/**
+	 * Search a solution within the current bounds using Bland's rule.
+	 *
+	 * @return true if a solution was found, false if the bounds are infeasible or the pivot limit was reached.
+	 */
+	private boolean solve() {
+		for (int steps = 0; steps < MAX_PIVOTS_PER_NODE; steps++) {
+			int leave = -1;
+			for (int r = 0; r < mBasic.length; r++) {
+				final int pos = mBasic[r];
+				if ((mValue[pos] < mLower[pos] - TOLERANCE || mValue[pos] > mUpper[pos] + TOLERANCE)
+						&& (leave < 0 || pos < mBasic[leave])) {
+					leave = r;
+				}
+			}
+			if (leave < 0) {
+				return true;
+			}
+			final int basic = mBasic[leave];
+			final boolean increase = mValue[basic] < mLower[basic];
+			int enter = -1;
+			for (int c = 0; c < mNonBasic.length; c++) {
+				final double coeff = mTableaux[leave][c];
+				if (Math.abs(coeff) < ZERO_TOLERANCE || enter >= 0 && mNonBasic[c] > mNonBasic[enter]) {
+					continue;
+				}
+				final int pos = mNonBasic[c];
+				if ((coeff > 0) == increase ? mValue[pos] < mUpper[pos] - TOLERANCE
+						: mValue[pos] > mLower[pos] + TOLERANCE) {
+					enter = c;
+				}
+			}
+			if (enter < 0) {
+				return false;
+			}
+			final double target = increase ? mLower[basic] : mUpper[basic];
+			update(enter, (target - mValue[basic]) / mTableaux[leave][enter]);
+			pivot(leave, enter);
+		}
+		return false;
+	}
+
+	/**
+	 * Exchange the basic variable of a row with the non-basic variable of a column.
+	 */
+	private void pivot(final int row, final int col) {
+		final int leaving = mBasic[row];
+		final int entering = mNonBasic[col];
+		final double[] pivotRow = mTableaux[row];
+		final double inverse = 1 / pivotRow[col];
+		for (int c = 0; c < pivotRow.length; c++) {
+			pivotRow[c] = -pivotRow[c] * inverse;
+		}
+		pivotRow[col] = inverse;
+		for (int r = 0; r < mBasic.length; r++) {
+			final double factor = mTableaux[r][col];
+			if (r == row || factor == 0) {
+				continue;
+			}
+			final double[] other = mTableaux[r];
+			for (int c = 0; c < other.length; c++) {
+				other[c] += factor * pivotRow[c];
+			}
+			other[col] = factor * inverse;
+		}
+		mBasic[row] = entering;
+		mNonBasic[col] = leaving;
+		mRowOf[entering] = row;
+		mColOf[entering] = -1;
+		mRowOf[leaving] = -1;
+		mColOf[leaving] = col;
+	}
+
+	/**
+	 * Update the pseudo costs of the branching variable of a node whose relaxation was solved.
+	 */
+	private void updatePseudoCosts(final Node node, final double infeasibility) {
+		if (node.mVar < 0 || node.mDistance < INT_TOLERANCE) {
+			return;
+		}
+		final PseudoCost cost = mPseudoCosts.get(mVars[node.mVar]);
+		final double change = Math.abs(infeasibility - node.mParentInfeasibility) / node.mDistance;
+		if (node.mIsUpper) {
+			cost.mDownSum += change;
+			cost.mDownCount++;
+		} else {
+			cost.mUpSum += change;
+			cost.mUpCount++;
+		}
+	}
+
+	/**
+	 * Round the current values of the integer variables and check exactly that all variables are within their bounds.
+	 *
+	 * @return true if the rounded values are a solution.
+	 */
+	private boolean checkSolution() {
+		mSolution = new BigInteger[mIntVars.length];
+		final BigInteger[] values = new BigInteger[mVars.length];
+		for (int i = 0; i < mIntVars.length; i++) {
+			final double value = Math.rint(mValue[mIntVars[i]]);
+			if (Math.abs(value) >= MAX_EXACT_INTEGER) {
+				return false;
+			}
+			mSolution[i] = BigInteger.valueOf((long) value);
+			values[mIntVars[i]] = mSolution[i];
+		}
+		for (final LinVar var : mVars) {
+			BigInteger value = values[var.mMatrixpos];
+			if (var.isInitiallyBasic()) {
+				final LinTerm term = (LinTerm) var.getLinTerm();
+				value = BigInteger.ZERO;
+				for (int i = 0; i < term.mVars.length; i++) {
+					value = value.add(term.mCoeffs[i].multiply(values[term.mVars[i].mMatrixpos]));
+				}
+			}
+			final InfinitesimalNumber exact = new InfinitesimalNumber(Rational.valueOf(value, BigInteger.ONE), 0);
+			if (exact.less(var.getLowerBound()) || var.getUpperBound().less(exact)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Fix every integer variable to its value in the found solution, by suggesting the bounds that are not yet
+	 * implied. With all integer variables fixed, the exact simplex either finds a solution or a conflict.
+	 *
+	 * @return true if a bound was suggested.
+	 */
+	private boolean suggestBranches() {
+		boolean suggested = false;
+		for (int i = 0; i < mIntVars.length; i++) {
+			final LinVar var = mVars[mIntVars[i]];
+			final InfinitesimalNumber target = new InfinitesimalNumber(Rational.valueOf(mSolution[i], BigInteger.ONE), 0);
+			if (target.less(var.getUpperBound())) {
+				suggested |= suggestBound(var, target, true);
+			}
+			if (var.getLowerBound().less(target)) {
+				suggested |= suggestBound(var, target, false);
+			}
+		}
+		return suggested;
+	}
+
+	private boolean suggestBound(final LinVar var, final InfinitesimalNumber bound, final boolean isUpper) {
+		final MutableAffineTerm mat = new MutableAffineTerm();
+		mat.add(isUpper ? Rational.ONE : Rational.MONE, var);
+		mat.add(isUpper ? bound.negate() : bound);
+		final Literal branch = mSolver.generateConstraint(mat, false);
+		if (branch.getAtom().getDecideStatus() != null) {
+			return false;
+		}
+		if (mSolver.mEngine.getLogger().isDebugEnabled()) {
+			mSolver.mEngine.getLogger().debug("branch and bound on " + branch);
+		}
+		mSolver.mSuggestions.add(branch);
+		mSolver.mNumBranches++;
+		return true;
+	}
+}
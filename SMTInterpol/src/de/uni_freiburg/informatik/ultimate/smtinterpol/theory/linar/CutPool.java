@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+
+/**
+ * Generates Gomory cuts from the rows of the simplex tableaux and keeps them in a pool across final checks.
+ *
+ * <p>
+ * For an integer basic variable {@code y} with a fractional value and a row {@code y = r1*x1 + ... + rn*xn}, where all
+ * {@code xi} are integer variables sitting on one of their bounds, we round each coefficient {@code ri} to an integer
+ * {@code ci} in the direction of the bound, i.e., down if {@code xi} is on its lower bound and up if it is on its upper
+ * bound. The term {@code s = y - c1*x1 - ... - cn*xn} is integral and its current value {@code v} is also its lower
+ * bound, since {@code s = (r1-c1)*x1 + ... + (rn-cn)*xn}. Hence {@code s >= ceil(v)} is a cut that excludes the
+ * current solution. Rounding in the other direction gives the cut {@code s <= floor(v)}. These are the Gomory
+ * fractional cuts. They only need integer rounding of a bound derived from the tableaux, so the solver can explain
+ * them like every other bound, which is not the case for the stronger Gomory mixed integer cuts.
+ *
+ * <p>
+ * From all candidates we select the cuts with the best efficacy, i.e., the distance of the current solution to the
+ * cut, that are not almost parallel to an already selected cut. The selected cuts are suggested to the DPLL engine and
+ * remembered in the pool. Every final check the activity of the pooled cuts decays. A cut that is violated again is
+ * suggested again and its activity is bumped; cuts whose activity drops too low are removed from the pool.
+ */
+class CutPool {
+	/** The factor by which the activity of a pooled cut decays in each final check. */
+	private static final double ACTIVITY_DECAY = 0.95;
+	/** The activity below which a cut is removed from the pool. */
+	private static final double MIN_ACTIVITY = 0.05;
+	/** The minimal efficacy of a cut. */
+	private static final double MIN_EFFICACY = 1e-6;
+	/** The maximal cosine of the angle between two cuts selected in the same round. */
+	private static final double MAX_PARALLELISM = 0.9;
+	/** The maximal number of cuts selected in one round. */
+	private static final int MAX_CUTS_PER_ROUND = 2;
+	/** The maximal bit length of a rounded row coefficient. Cuts with larger coefficients are not generated. */
+	private static final int MAX_COEFF_BITS = 8;
+
+	/**
+	 * A cut candidate derived from a tableaux row.
+	 */
+	private static class Candidate {
+		final LinVar mBasic;
+		final LinVar[] mColumns;
+		/** The rounded row coefficients ci. */
+		final Rational[] mCoeffs;
+		/** The distances ri - ci that define the cut in the space of the column variables. */
+		final double[] mDistances;
+		/** The bound of the term s. */
+		final Rational mBound;
+		/** True if the cut is s &gt;= bound, false if it is s &lt;= bound. */
+		final boolean mIsLower;
+		double mNorm;
+		double mEfficacy;
+
+		Candidate(final LinVar basic, final int size, final Rational bound, final boolean isLower) {
+			mBasic = basic;
+			mColumns = new LinVar[size];
+			mCoeffs = new Rational[size];
+			mDistances = new double[size];
+			mBound = bound;
+			mIsLower = isLower;
+		}
+	}
+
+	/**
+	 * A cut in the pool.
+	 */
+	private static class Cut {
+		final Literal mLiteral;
+		double mActivity;
+
+		Cut(final Literal literal) {
+			mLiteral = literal;
+			mActivity = 1;
+		}
+	}
+
+	private final LinArSolve mSolver;
+	/** The cuts in the pool indexed by their literal. */
+	private final LinkedHashMap<Literal, Cut> mCuts = new LinkedHashMap<>();
+	/**
+	 * The variables of the generated cuts. We do not derive cuts from their rows, as cuts of cuts quickly get dense.
+	 */
+	private final HashSet<LinVar> mCutVars = new HashSet<>();
+
+	CutPool(final LinArSolve solver) {
+		mSolver = solver;
+	}
+
+	/**
+	 * Decay the activity of all cuts and remove the inactive cuts.
+	 */
+	void age() {
+		final Iterator<Cut> it = mCuts.values().iterator();
+		while (it.hasNext()) {
+			final Cut cut = it.next();
+			cut.mActivity *= ACTIVITY_DECAY;
+			if (cut.mActivity < MIN_ACTIVITY) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove all cuts. This is called on pop, since the literals and variables of the cuts may be removed.
+	 */
+	void clear() {
+		mCuts.clear();
+		mCutVars.clear();
+	}
+
+	/**
+	 * Suggest all pooled cuts that are violated by the current solution and not yet decided.
+	 *
+	 * @return true if a cut was suggested.
+	 */
+	boolean suggestViolatedCuts() {
+		boolean found = false;
+		for (final Cut cut : mCuts.values()) {
+			if (cut.mLiteral.getAtom().getDecideStatus() == null && isViolated(cut.mLiteral)) {
+				cut.mActivity += 1;
+				mSolver.mSuggestions.add(cut.mLiteral);
+				mSolver.mNumPoolCuts++;
+				found = true;
+			}
+		}
+		return found;
+	}
+
+	private static boolean isViolated(final Literal lit) {
+		final BoundConstraint bc = (BoundConstraint) lit.getAtom();
+		final ExactInfinitesimalNumber value = bc.getVar().getValue();
+		return lit == bc ? value.compareTo(bc.getBound()) > 0 : value.compareTo(bc.getInverseBound()) < 0;
+	}
+
+	/**
+	 * Generate Gomory cuts for the current solution, suggest the best of them and add them to the pool.
+	 *
+	 * @return true if a cut was suggested.
+	 */
+	boolean generateCuts() {
+		final ArrayList<Candidate> candidates = new ArrayList<>();
+		for (final LinVar basic : mSolver.mLinvars) {
+			if (basic.mBasic && basic.isInt() && !isIntegral(basic.getValue()) && !mCutVars.contains(basic)) {
+				addCandidates(basic, candidates);
+			}
+		}
+		candidates.sort((c1, c2) -> Double.compare(c2.mEfficacy, c1.mEfficacy));
+		final ArrayList<Candidate> selected = new ArrayList<>();
+		final double[] scratch = new double[mSolver.mLinvars.size()];
+		for (final Candidate cand : candidates) {
+			if (selected.size() >= MAX_CUTS_PER_ROUND) {
+				break;
+			}
+			if (isParallelToSelected(cand, selected, scratch)) {
+				continue;
+			}
+			final Literal cut = createConstraint(cand);
+			if (cut.getAtom().getDecideStatus() != null) {
+				continue;
+			}
+			if (mSolver.mEngine.getLogger().isDebugEnabled()) {
+				mSolver.mEngine.getLogger().debug("gomory cut on " + cut);
+			}
+			selected.add(cand);
+			final Cut old = mCuts.get(cut);
+			if (old == null) {
+				mCuts.put(cut, new Cut(cut));
+				mCutVars.add(((BoundConstraint) cut.getAtom()).getVar());
+			} else {
+				old.mActivity += 1;
+			}
+			mSolver.mSuggestions.add(cut);
+			mSolver.mNumGomoryCuts++;
+		}
+		return !selected.isEmpty();
+	}
+
+	private static boolean isIntegral(final ExactInfinitesimalNumber value) {
+		return value.getRealValue().isIntegral() && value.getEpsilon().equals(Rational.ZERO);
+	}
+
+	/**
+	 * Add the two Gomory cuts of the row of a basic variable to the candidates, if the row is suitable.
+	 */
+	private void addCandidates(final LinVar basic, final ArrayList<Candidate> candidates) {
+		final ArrayList<MatrixEntry> entries = new ArrayList<>();
+		for (final MatrixEntry entry : basic.getTableauxRow(mSolver)) {
+			final LinVar col = entry.getColumn();
+			if (!col.isInt()) {
+				return;
+			}
+			if (!entry.getRowCoeff().isIntegral()) {
+				final ExactInfinitesimalNumber value = col.getValue();
+				if (!isIntegral(value) || value.compareTo(col.getTightLowerBound()) != 0
+						&& value.compareTo(col.getTightUpperBound()) != 0) {
+					return;
+				}
+			}
+			entries.add(entry);
+		}
+		addCandidate(basic, entries, true, candidates);
+		addCandidate(basic, entries, false, candidates);
+	}
+
+	private static void addCandidate(final LinVar basic, final ArrayList<MatrixEntry> entries, final boolean isLower,
+			final ArrayList<Candidate> candidates) {
+		final int size = entries.size();
+		final LinVar[] columns = new LinVar[size];
+		final Rational[] coeffs = new Rational[size];
+		final double[] distances = new double[size];
+		Rational real = basic.getValue().getRealValue();
+		Rational eps = basic.getValue().getEpsilon();
+		double norm = 0;
+		for (int i = 0; i < size; i++) {
+			final MatrixEntry entry = entries.get(i);
+			final LinVar col = entry.getColumn();
+			final Rational r = entry.getRowCoeff();
+			final boolean atLower = col.getValue().compareTo(col.getTightLowerBound()) == 0;
+			final Rational c = atLower == isLower ? r.floor() : r.ceil();
+			if (c.numerator().bitLength() > MAX_COEFF_BITS) {
+				return;
+			}
+			columns[i] = col;
+			coeffs[i] = c;
+			distances[i] = FloatSimplex.toDouble(r.sub(c));
+			norm += distances[i] * distances[i];
+			real = real.sub(c.mul(col.getValue().getRealValue()));
+			eps = eps.sub(c.mul(col.getValue().getEpsilon()));
+		}
+		if (real.isIntegral() && eps.equals(Rational.ZERO)) {
+			return;
+		}
+		final InfinitesimalNumber value = new InfinitesimalNumber(real, eps.signum());
+		final Rational bound = isLower ? value.ceil().mReal : value.floor().mReal;
+		final double violation = Math.abs(FloatSimplex.toDouble(bound.sub(real)));
+		if (norm == 0 || violation / Math.sqrt(norm) < MIN_EFFICACY) {
+			return;
+		}
+		final Candidate cand = new Candidate(basic, size, bound, isLower);
+		System.arraycopy(columns, 0, cand.mColumns, 0, size);
+		System.arraycopy(coeffs, 0, cand.mCoeffs, 0, size);
+		System.arraycopy(distances, 0, cand.mDistances, 0, size);
+		cand.mNorm = Math.sqrt(norm);
+		cand.mEfficacy = violation / cand.mNorm;
+		candidates.add(cand);
+	}
+
+	/**
+	 * Check if a candidate is almost parallel to one of the selected cuts.
+	 *
+	 * @param scratch
+	 *            an array indexed by matrix position that is zero on entry and on exit.
+	 */
+	private static boolean isParallelToSelected(final Candidate cand, final ArrayList<Candidate> selected,
+			final double[] scratch) {
+		if (selected.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < cand.mColumns.length; i++) {
+			scratch[cand.mColumns[i].mMatrixpos] = cand.mDistances[i];
+		}
+		boolean parallel = false;
+		for (final Candidate other : selected) {
+			double dot = 0;
+			for (int i = 0; i < other.mColumns.length; i++) {
+				dot += scratch[other.mColumns[i].mMatrixpos] * other.mDistances[i];
+			}
+			if (Math.abs(dot) > MAX_PARALLELISM * cand.mNorm * other.mNorm) {
+				parallel = true;
+				break;
+			}
+		}
+		for (int i = 0; i < cand.mColumns.length; i++) {
+			scratch[cand.mColumns[i].mMatrixpos] = 0;
+		}
+		return parallel;
+	}
+
+	/**
+	 * Create the literal for a cut. The cut {@code s >= bound} is expressed as {@code bound - s <= 0}, the cut
+	 * {@code s <= bound} as {@code s - bound <= 0}.
+	 */
+	private Literal createConstraint(final Candidate cand) {
+		final Rational sign = cand.mIsLower ? Rational.MONE : Rational.ONE;
+		final MutableAffineTerm mat = new MutableAffineTerm();
+		mat.add(sign, cand.mBasic);
+		for (int i = 0; i < cand.mColumns.length; i++) {
+			mat.add(cand.mCoeffs[i].mul(sign).negate(), cand.mColumns[i]);
+		}
+		mat.add(cand.mBound.mul(sign).negate());
+		assert mat.isInt() && !mat.isConstant();
+		return mSolver.generateConstraint(mat, false);
+	}
+}
@@ -0,0 +1,636 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLAtom;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.ITheory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.LeafNode;
+
+/**
+ * A theory solver for difference logic. It keeps the bound constraints of the form {@code x - y <= c} and
+ * {@code x <= c} as weighted edges of a constraint graph and detects conflicts as negative cycles in this graph.
+ *
+ * <p>
+ * The solver keeps a potential function {@code pi} on the nodes that satisfies {@code pi(v) <= pi(u) + w} for every
+ * active edge {@code u -> v} with weight {@code w}. When an edge is activated, the potentials are repaired
+ * incrementally by a Dijkstra search on the reduced costs that only visits the nodes whose potential decreases
+ * (Cotton and Maler, "Fast and Flexible Difference Constraint Propagation for DPLL(T)"). If the search reaches the
+ * source of the new edge, the predecessor edges form a negative cycle, which is the conflict. Backtracking only
+ * deactivates edges, since the potential function stays valid for fewer edges.
+ *
+ * <p>
+ * The weights and potentials are stored as two longs, the real part scaled by the common denominator of all weights
+ * and the number of epsilons. Constraints whose scaled weight would exceed {@link #MAX_WEIGHT} are left to the linear
+ * arithmetic solver.
+ *
+ * <p>
+ * This solver does not replace the linear arithmetic solver. The linear arithmetic solver still sees all literals,
+ * checks the remaining constraints in the final check and produces the model. This solver only finds the conflicts
+ * and the propagations between parallel edges early and cheaply. The conflicts are explained by a Farkas annotation,
+ * so proofs and interpolants work as for linear arithmetic lemmas.
+ */
+public class DifferenceLogicSolver implements ITheory {
+	/**
+	 * A node of the constraint graph. It stands for an original linear variable or for the constant zero.
+	 */
+	private static final class Node {
+		private final LinVar mVar;
+		private final int mId;
+		/** The potential of the node, scaled by the common denominator. */
+		private long mPotential;
+		/** The epsilons of the potential of the node. */
+		private long mPotentialEps;
+		/** The active edges starting in this node. */
+		private final ArrayList<Edge> mOutgoing = new ArrayList<>();
+		/** The number of registered edges starting or ending in this node. */
+		private int mNumEdges;
+
+		/** The decrease of the potential found by the current search. */
+		private long mDelta;
+		private long mDeltaEps;
+		/** The edge by which the current search reached this node. */
+		private Edge mPred;
+		/** The search in which this node was reached. */
+		private int mVisited;
+		/** The search in which this node was settled. */
+		private int mSettled;
+
+		Node(final LinVar var, final int id) {
+			mVar = var;
+			mId = id;
+		}
+
+		@Override
+		public String toString() {
+			return mVar == null ? "0" : mVar.toString();
+		}
+	}
+
+	/**
+	 * An edge {@code from -> to} with weight {@code w} for the constraint {@code to - from <= w}. It belongs to a
+	 * literal, i.e., every bound constraint gives two edges, one for each polarity.
+	 */
+	private static final class Edge {
+		private final Node mFrom;
+		private final Node mTo;
+		/** The weight, scaled by the common denominator. */
+		private long mWeight;
+		/** The epsilons of the weight, either 0 or -1. */
+		private final long mWeightEps;
+		private final Literal mLiteral;
+		/** The position in the outgoing list of the source node, or -1 if this edge is not active. */
+		private int mIndex = -1;
+		/** The edge for the negated literal. */
+		private Edge mNegated;
+		/** The active edge that implied the literal of this edge, if it was propagated. */
+		private Edge mReason;
+
+		Edge(final Node from, final Node to, final long weight, final long weightEps, final Literal literal) {
+			mFrom = from;
+			mTo = to;
+			mWeight = weight;
+			mWeightEps = weightEps;
+			mLiteral = literal;
+		}
+
+		boolean isActive() {
+			return mIndex >= 0;
+		}
+
+		@Override
+		public String toString() {
+			return mFrom + " -(" + mWeight + (mWeightEps < 0 ? "-eps" : "") + ")-> " + mTo;
+		}
+	}
+
+	/**
+	 * An entry of the priority queue of the search. The delta of a node may be decreased while the node is in the
+	 * queue; then the old entry is outdated and skipped.
+	 */
+	private static final class QueueEntry implements Comparable<QueueEntry> {
+		private final Node mNode;
+		private final long mDelta;
+		private final long mDeltaEps;
+
+		QueueEntry(final Node node) {
+			mNode = node;
+			mDelta = node.mDelta;
+			mDeltaEps = node.mDeltaEps;
+		}
+
+		boolean isOutdated() {
+			return mDelta != mNode.mDelta || mDeltaEps != mNode.mDeltaEps;
+		}
+
+		@Override
+		public int compareTo(final QueueEntry other) {
+			return compare(mDelta, mDeltaEps, other.mDelta, other.mDeltaEps);
+		}
+	}
+
+	/** The maximal absolute value of a scaled weight. */
+	private static final long MAX_WEIGHT = 1L << 40;
+	/**
+	 * The potentials only decrease. If one drops below this limit, they are recomputed from scratch to avoid an
+	 * overflow.
+	 */
+	private static final long MIN_POTENTIAL = -(1L << 60);
+
+	private final DPLLEngine mEngine;
+	/** The node for the constant zero. */
+	private final Node mZero;
+	private final HashMap<LinVar, Node> mNodes = new HashMap<>();
+	private int mNextNodeId = 1;
+	/** The common denominator of all weights. */
+	private BigInteger mDenominator = BigInteger.ONE;
+	/** The maximal absolute value of the scaled weights. */
+	private long mMaxWeight;
+	/** True if a potential dropped below {@link #MIN_POTENTIAL}. */
+	private boolean mResetPending;
+	/** The edge for the positive literal of every registered bound constraint. */
+	private final HashMap<BoundConstraint, Edge> mEdges = new HashMap<>();
+	/** The registered edges between two nodes, indexed by the ids of both nodes. */
+	private final HashMap<Long, ArrayList<Edge>> mParallelEdges = new HashMap<>();
+	private final ArrayDeque<Literal> mPropagations = new ArrayDeque<>();
+	private final PriorityQueue<QueueEntry> mQueue = new PriorityQueue<>();
+	private final ArrayList<Node> mChanged = new ArrayList<>();
+	private int mSearch;
+
+	private int mNumConflicts;
+	private int mNumPropagations;
+	private int mNumPotentialUpdates;
+	private long mSearchTime;
+
+	public DifferenceLogicSolver(final DPLLEngine engine) {
+		mEngine = engine;
+		mZero = new Node(null, 0);
+	}
+
+	/**
+	 * Register a literal created by the linear arithmetic solver. Literals that are not bound constraints on a
+	 * difference of two variables or on a single variable are ignored and left to the linear arithmetic solver.
+	 *
+	 * @param literal
+	 *            the literal.
+	 */
+	public void addAtom(final Literal literal) {
+		if (!(literal.getAtom() instanceof BoundConstraint)) {
+			return;
+		}
+		final BoundConstraint bc = (BoundConstraint) literal.getAtom();
+		if (mEdges.containsKey(bc)) {
+			return;
+		}
+		final LinVar var = bc.getVar();
+		LinVar plusVar = var;
+		LinVar minusVar = null;
+		if (var.isInitiallyBasic()) {
+			final Map<LinVar, BigInteger> linterm = var.getLinTerm();
+			if (linterm.size() != 2) {
+				return;
+			}
+			plusVar = null;
+			for (final Map.Entry<LinVar, BigInteger> entry : linterm.entrySet()) {
+				if (entry.getValue().equals(BigInteger.ONE)) {
+					plusVar = entry.getKey();
+				} else if (entry.getValue().equals(BigInteger.ONE.negate())) {
+					minusVar = entry.getKey();
+				}
+			}
+			if (plusVar == null || minusVar == null) {
+				return;
+			}
+		}
+		// bc is plus - minus <= bound, its negation is minus - plus <= -ibound.
+		final Rational bound = bc.getBound().mReal;
+		final Rational negBound = bc.getInverseBound().mReal.negate();
+		BigInteger denominator = lcm(mDenominator, bound.denominator());
+		denominator = lcm(denominator, negBound.denominator());
+		final BigInteger factor = denominator.divide(mDenominator);
+		final BigInteger weight = bound.numerator().multiply(denominator.divide(bound.denominator()));
+		final BigInteger negWeight = negBound.numerator().multiply(denominator.divide(negBound.denominator()));
+		final BigInteger maxWeight = BigInteger.valueOf(MAX_WEIGHT);
+		if (weight.abs().compareTo(maxWeight) > 0 || negWeight.abs().compareTo(maxWeight) > 0
+				|| factor.compareTo(maxWeight) > 0
+				|| factor.multiply(BigInteger.valueOf(mMaxWeight)).compareTo(maxWeight) > 0) {
+			return;
+		}
+		if (!factor.equals(BigInteger.ONE)) {
+			rescale(factor.longValue());
+			mDenominator = denominator;
+		}
+		final Node plus = getNode(plusVar);
+		final Node minus = minusVar == null ? mZero : getNode(minusVar);
+		mMaxWeight = Math.max(mMaxWeight, Math.max(weight.abs().longValue(), negWeight.abs().longValue()));
+		final Edge edge = new Edge(minus, plus, weight.longValue(), bc.getBound().mEps, bc);
+		final Edge negEdge = new Edge(plus, minus, negWeight.longValue(), -bc.getInverseBound().mEps, bc.negate());
+		edge.mNegated = negEdge;
+		negEdge.mNegated = edge;
+		mEdges.put(bc, edge);
+		addParallelEdge(edge);
+		addParallelEdge(negEdge);
+		plus.mNumEdges += 2;
+		minus.mNumEdges += 2;
+	}
+
+	private static BigInteger lcm(final BigInteger a, final BigInteger b) {
+		return a.divide(a.gcd(b)).multiply(b);
+	}
+
+	/**
+	 * Multiply all weights by a factor after the common denominator changed.
+	 */
+	private void rescale(final long factor) {
+		for (final ArrayList<Edge> parallel : mParallelEdges.values()) {
+			for (final Edge edge : parallel) {
+				edge.mWeight *= factor;
+			}
+		}
+		mMaxWeight *= factor;
+		resetPotentials();
+	}
+
+	/**
+	 * Recompute the potential function from scratch by activating the active edges again. Since the active edges
+	 * have no negative cycle, this cannot fail. The new potentials are bounded by the length of the shortest paths.
+	 */
+	private void resetPotentials() {
+		final ArrayList<Edge> active = new ArrayList<>();
+		resetNode(mZero, active);
+		for (final Node node : mNodes.values()) {
+			resetNode(node, active);
+		}
+		for (final Edge edge : active) {
+			final Clause conflict = activate(edge);
+			assert conflict == null;
+		}
+		mResetPending = false;
+	}
+
+	private static void resetNode(final Node node, final ArrayList<Edge> active) {
+		for (final Edge edge : node.mOutgoing) {
+			edge.mIndex = -1;
+			active.add(edge);
+		}
+		node.mOutgoing.clear();
+		node.mPotential = 0;
+		node.mPotentialEps = 0;
+	}
+
+	private static int compare(final long real1, final long eps1, final long real2, final long eps2) {
+		final int cmp = Long.compare(real1, real2);
+		return cmp != 0 ? cmp : Long.compare(eps1, eps2);
+	}
+
+	private Node getNode(final LinVar var) {
+		Node node = mNodes.get(var);
+		if (node == null) {
+			node = new Node(var, mNextNodeId++);
+			mNodes.put(var, node);
+		}
+		return node;
+	}
+
+	private static Long getPairKey(final Node from, final Node to) {
+		return ((long) from.mId << 32) | to.mId; // NOCHECKSTYLE
+	}
+
+	private void addParallelEdge(final Edge edge) {
+		mParallelEdges.computeIfAbsent(getPairKey(edge.mFrom, edge.mTo), k -> new ArrayList<>()).add(edge);
+	}
+
+	private void removeParallelEdge(final Edge edge) {
+		final Long key = getPairKey(edge.mFrom, edge.mTo);
+		final ArrayList<Edge> parallel = mParallelEdges.get(key);
+		parallel.remove(edge);
+		if (parallel.isEmpty()) {
+			mParallelEdges.remove(key);
+		}
+	}
+
+	private Edge getEdge(final Literal literal) {
+		final Edge edge = mEdges.get(literal.getAtom());
+		return edge == null || literal == edge.mLiteral ? edge : edge.mNegated;
+	}
+
+	/**
+	 * Add the literal of an edge to a Farkas annotation of a conflict. The literal is true and appears negated in the
+	 * conflict clause. Its coefficient is chosen such that the sum over a cycle cancels all variables.
+	 */
+	private static void addFarkas(final LAAnnotation annot, final Literal literal) {
+		annot.addFarkas(literal.negate(), literal == literal.getAtom() ? Rational.ONE : Rational.MONE);
+	}
+
+	private Clause createClause(final LAAnnotation annot) {
+		final Clause clause = new Clause(annot.collectLiterals());
+		if (mEngine.isProofGenerationEnabled()) {
+			clause.setProof(new LeafNode(LeafNode.THEORY_LA, annot));
+		}
+		return clause;
+	}
+
+	/**
+	 * Activate an edge and repair the potential function.
+	 *
+	 * @return the conflict clause for a negative cycle through the edge, or null if there is none.
+	 */
+	private Clause activate(final Edge edge) {
+		final Node source = edge.mFrom;
+		final Node target = edge.mTo;
+		edge.mIndex = source.mOutgoing.size();
+		source.mOutgoing.add(edge);
+		final long delta = source.mPotential + edge.mWeight - target.mPotential;
+		final long deltaEps = source.mPotentialEps + edge.mWeightEps - target.mPotentialEps;
+		if (compare(delta, deltaEps, 0, 0) >= 0) {
+			return null;
+		}
+		mSearch++;
+		target.mDelta = delta;
+		target.mDeltaEps = deltaEps;
+		target.mPred = edge;
+		target.mVisited = mSearch;
+		mQueue.add(new QueueEntry(target));
+		while (!mQueue.isEmpty()) {
+			final QueueEntry entry = mQueue.poll();
+			final Node node = entry.mNode;
+			if (node.mSettled == mSearch || entry.isOutdated()) {
+				continue;
+			}
+			node.mSettled = mSearch;
+			mChanged.add(node);
+			final long newPotential = node.mPotential + node.mDelta;
+			final long newPotentialEps = node.mPotentialEps + node.mDeltaEps;
+			for (final Edge out : node.mOutgoing) {
+				final Node next = out.mTo;
+				if (next.mSettled == mSearch) {
+					continue;
+				}
+				final long nextDelta = newPotential + out.mWeight - next.mPotential;
+				final long nextDeltaEps = newPotentialEps + out.mWeightEps - next.mPotentialEps;
+				if (compare(nextDelta, nextDeltaEps, 0, 0) >= 0) {
+					continue;
+				}
+				if (next == source) {
+					mQueue.clear();
+					mChanged.clear();
+					deactivate(edge);
+					return explainCycle(out);
+				}
+				if (next.mVisited != mSearch || compare(nextDelta, nextDeltaEps, next.mDelta, next.mDeltaEps) < 0) {
+					next.mDelta = nextDelta;
+					next.mDeltaEps = nextDeltaEps;
+					next.mPred = out;
+					next.mVisited = mSearch;
+					mQueue.add(new QueueEntry(next));
+				}
+			}
+		}
+		for (final Node node : mChanged) {
+			node.mPotential += node.mDelta;
+			node.mPotentialEps += node.mDeltaEps;
+			mResetPending |= node.mPotential < MIN_POTENTIAL || node.mPotentialEps < MIN_POTENTIAL;
+		}
+		mNumPotentialUpdates += mChanged.size();
+		mChanged.clear();
+		return null;
+	}
+
+	private void deactivate(final Edge edge) {
+		final ArrayList<Edge> outgoing = edge.mFrom.mOutgoing;
+		final Edge last = outgoing.remove(outgoing.size() - 1);
+		if (last != edge) {
+			outgoing.set(edge.mIndex, last);
+			last.mIndex = edge.mIndex;
+		}
+		edge.mIndex = -1;
+	}
+
+	/**
+	 * Explain the negative cycle closed by the given edge. The cycle follows the predecessor edges of the current
+	 * search back to the source of the edge.
+	 */
+	private Clause explainCycle(final Edge closing) {
+		mNumConflicts++;
+		final LAAnnotation annot = new LAAnnotation();
+		addFarkas(annot, closing.mLiteral);
+		final Node source = closing.mTo;
+		Node node = closing.mFrom;
+		while (node != source) {
+			final Edge pred = node.mPred;
+			addFarkas(annot, pred.mLiteral);
+			node = pred.mFrom;
+		}
+		return createClause(annot);
+	}
+
+	/**
+	 * Propagate the literals of the parallel edges that are implied by a newly activated edge.
+	 */
+	private void propagateParallel(final Edge edge) {
+		final ArrayList<Edge> parallel = mParallelEdges.get(getPairKey(edge.mFrom, edge.mTo));
+		for (final Edge other : parallel) {
+			if (other != edge && !other.isActive() && other.mLiteral.getAtom().getDecideStatus() == null
+					&& compare(edge.mWeight, edge.mWeightEps, other.mWeight, other.mWeightEps) <= 0) {
+				other.mReason = edge;
+				mPropagations.add(other.mLiteral);
+			}
+		}
+	}
+
+	@Override
+	public Clause startCheck() {
+		return null;
+	}
+
+	@Override
+	public void endCheck() {
+		// Nothing to do
+	}
+
+	@Override
+	public Clause setLiteral(final Literal literal) {
+		if (!(literal.getAtom() instanceof BoundConstraint)) {
+			return null;
+		}
+		final Edge edge = getEdge(literal);
+		if (edge == null) {
+			return null;
+		}
+		long time = 0;
+		if (Config.PROFILE_TIME) {
+			time = System.nanoTime();
+		}
+		final Clause conflict = activate(edge);
+		if (mResetPending) {
+			resetPotentials();
+		}
+		if (Config.PROFILE_TIME) {
+			mSearchTime += System.nanoTime() - time;
+		}
+		if (conflict == null) {
+			propagateParallel(edge);
+		}
+		return conflict;
+	}
+
+	@Override
+	public void backtrackLiteral(final Literal literal) {
+		if (!(literal.getAtom() instanceof BoundConstraint)) {
+			return;
+		}
+		final Edge edge = getEdge(literal);
+		if (edge != null && edge.isActive()) {
+			deactivate(edge);
+			mPropagations.clear();
+		}
+	}
+
+	@Override
+	public Clause checkpoint() {
+		return null;
+	}
+
+	@Override
+	public Clause computeConflictClause() {
+		return null;
+	}
+
+	@Override
+	public Literal getPropagatedLiteral() {
+		while (!mPropagations.isEmpty()) {
+			final Literal lit = mPropagations.poll();
+			if (lit.getAtom().getDecideStatus() == null) {
+				mNumPropagations++;
+				return lit;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Clause getUnitClause(final Literal literal) {
+		final Edge edge = getEdge(literal);
+		final LAAnnotation annot = new LAAnnotation();
+		addFarkas(annot, literal.negate());
+		addFarkas(annot, edge.mReason.mLiteral);
+		return createClause(annot);
+	}
+
+	@Override
+	public Literal getSuggestion() {
+		return null;
+	}
+
+	@Override
+	public void printStatistics(final LogProxy logger) {
+		if (logger.isInfoEnabled()) {
+			logger.info("DL: Nodes: " + mNodes.size() + " Edges: " + 2 * mEdges.size() + " Conflicts: "
+					+ mNumConflicts + " Props: " + mNumPropagations + " Updates: " + mNumPotentialUpdates);
+			logger.info("DL: Search time: " + mSearchTime / 1000000); // NOCHECKSTYLE
+		}
+	}
+
+	@Override
+	public void dumpModel(final LogProxy logger) {
+		// The model is produced by the linear arithmetic solver
+	}
+
+	@Override
+	public void increasedDecideLevel(final int currentDecideLevel) {
+		// Nothing to do
+	}
+
+	@Override
+	public void decreasedDecideLevel(final int currentDecideLevel) {
+		// Nothing to do
+	}
+
+	@Override
+	public Clause backtrackComplete() {
+		mPropagations.clear();
+		return null;
+	}
+
+	@Override
+	public void restart(final int iteration) {
+		// Nothing to do
+	}
+
+	@Override
+	public void removeAtom(final DPLLAtom atom) {
+		if (!(atom instanceof BoundConstraint)) {
+			return;
+		}
+		final Edge edge = mEdges.remove(atom);
+		if (edge == null) {
+			return;
+		}
+		final Edge negEdge = edge.mNegated;
+		assert !edge.isActive() && !negEdge.isActive();
+		removeParallelEdge(edge);
+		removeParallelEdge(negEdge);
+		removeNodeEdges(edge.mFrom);
+		removeNodeEdges(edge.mTo);
+	}
+
+	private void removeNodeEdges(final Node node) {
+		node.mNumEdges -= 2;
+		if (node.mNumEdges == 0 && node != mZero) {
+			mNodes.remove(node.mVar);
+		}
+	}
+
+	@Override
+	public Object push() {
+		return null;
+	}
+
+	@Override
+	public void pop(final Object object, final int targetlevel) {
+		mPropagations.clear();
+	}
+
+	@Override
+	public Object[] getStatistics() {
+		return new Object[] {
+			":DL", new Object[][] {
+				{"Nodes", mNodes.size()},
+				{"Edges", 2 * mEdges.size()},
+				{"Conflicts", mNumConflicts},
+				{"Propagations", mNumPropagations},
+				{"PotentialUpdates", mNumPotentialUpdates},
+				{"Times", new Object[][]{
+					{"Search", mSearchTime / 1000000}}// NOCHECKSTYLE
+				}
+			}};
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * The tableaux of the revised simplex method. Instead of rewriting all rows of the tableaux on every pivot step, this
+ * class keeps the original constraint matrix {@code M}, with one row {@code -s + c1*x1 + ... + cn*xn = 0} for every
+ * initially basic variable {@code s}, and a {@link BasisFactorization} of the columns of the current basic variables.
+ * Rows and columns of the tableaux are computed on demand from the factorization.
+ *
+ * <p>
+ * LinArSolve still caches the computed rows in {@code mTableaux}; after a pivot step it only drops the rows that
+ * changed. The columns are cached here until the basis changes.
+ */
+class FactorizedTableaux {
+	private static final MatrixEntry[] EMPTY_COLUMN = new MatrixEntry[0];
+
+	/**
+	 * A column of the constraint matrix. The entries are sorted by constraint row.
+	 */
+	private static final class Column {
+		int[] mRows = new int[2];
+		Rational[] mCoeffs = new Rational[2];
+		int mSize;
+
+		void add(final int row, final Rational coeff) {
+			if (mSize == mRows.length) {
+				mRows = Arrays.copyOf(mRows, 2 * mSize);
+				mCoeffs = Arrays.copyOf(mCoeffs, 2 * mSize);
+			}
+			mRows[mSize] = row;
+			mCoeffs[mSize] = coeff;
+			mSize++;
+		}
+
+		void removeLast(final int row) {
+			assert mSize > 0 && mRows[mSize - 1] == row;
+			mSize--;
+			mCoeffs[mSize] = null;
+		}
+	}
+
+	private final LinArSolve mSolver;
+	/** For every constraint row the variables with non-zero coefficient. */
+	private final ArrayList<LinVar[]> mRowVars = new ArrayList<>();
+	/** For every constraint row the non-zero coefficients. */
+	private final ArrayList<Rational[]> mRowCoeffs = new ArrayList<>();
+	/** The columns of the constraint matrix indexed by matrix position. */
+	private final ArrayList<Column> mColumns = new ArrayList<>();
+	/** The basic variables indexed by their basis slot. */
+	private final ArrayList<LinVar> mBasis = new ArrayList<>();
+	/** The basis slot for every variable indexed by matrix position; -1 for non-basic variables. */
+	private int[] mSlots = new int[16]; // NOCHECKSTYLE
+	private final BasisFactorization mFactorization = new BasisFactorization();
+	/** The computed tableaux columns indexed by matrix position. */
+	private final ArrayList<MatrixEntry[]> mColumnCache = new ArrayList<>();
+	/** The basis version for which the cached column was computed. */
+	private int[] mColumnStamp = new int[16]; // NOCHECKSTYLE
+	/** The current basis version; incremented whenever the tableaux changes. */
+	private int mStamp = 1;
+
+	/** Number of factorizations from scratch. */
+	int mNumFactorizations;
+
+	FactorizedTableaux(final LinArSolve solver) {
+		mSolver = solver;
+	}
+
+	private void ensureFactorized() {
+		if (mFactorization.isValid()) {
+			return;
+		}
+		final int size = mBasis.size();
+		final int[][] colRows = new int[size][];
+		final Rational[][] colValues = new Rational[size][];
+		for (int slot = 0; slot < size; slot++) {
+			final Column col = mColumns.get(mBasis.get(slot).mMatrixpos);
+			colRows[slot] = Arrays.copyOf(col.mRows, col.mSize);
+			colValues[slot] = Arrays.copyOf(col.mCoeffs, col.mSize);
+		}
+		mFactorization.factorize(size, colRows, colValues);
+		mNumFactorizations++;
+	}
+
+	private Rational[] denseColumn(final LinVar var) {
+		final Rational[] v = new Rational[mBasis.size()];
+		Arrays.fill(v, Rational.ZERO);
+		final Column col = mColumns.get(var.mMatrixpos);
+		for (int i = 0; i < col.mSize; i++) {
+			v[col.mRows[i]] = col.mCoeffs[i];
+		}
+		return v;
+	}
+
+	/**
+	 * Add a new variable. This must be called for every variable in the order of their matrix positions.
+	 *
+	 * @param var
+	 *            the new variable.
+	 */
+	void addColumn(final LinVar var) {
+		assert var.mMatrixpos == mColumns.size();
+		mColumns.add(new Column());
+		mColumnCache.add(null);
+		if (var.mMatrixpos >= mSlots.length) {
+			mSlots = Arrays.copyOf(mSlots, 2 * mSlots.length);
+			mColumnStamp = Arrays.copyOf(mColumnStamp, mSlots.length);
+		}
+		mSlots[var.mMatrixpos] = -1;
+		mColumnStamp[var.mMatrixpos] = 0;
+	}
+
+	/**
+	 * Add the defining constraint row for a new basic variable.
+	 *
+	 * @param basic
+	 *            the new basic variable, already added with {@link #addColumn}.
+	 * @param factors
+	 *            the integer coefficients of the linear combination defining the variable.
+	 */
+	void addRow(final LinVar basic, final LinTerm factors) {
+		final int row = mRowVars.size();
+		final LinVar[] vars = new LinVar[factors.mVars.length + 1];
+		final Rational[] coeffs = new Rational[factors.mVars.length + 1];
+		int i = 0;
+		int numBasic = 0;
+		for (; i < factors.mVars.length; i++) {
+			vars[i] = factors.mVars[i];
+			coeffs[i] = Rational.valueOf(factors.mCoeffs[i], BigInteger.ONE);
+			if (mSlots[vars[i].mMatrixpos] >= 0) {
+				numBasic++;
+			}
+		}
+		vars[i] = basic;
+		coeffs[i] = Rational.MONE;
+		mRowVars.add(vars);
+		mRowCoeffs.add(coeffs);
+		for (int k = 0; k < vars.length; k++) {
+			mColumns.get(vars[k].mMatrixpos).add(row, coeffs[k]);
+		}
+		final int slot = mBasis.size();
+		assert slot == row;
+		if (mFactorization.isValid()) {
+			final int[] slots = new int[numBasic];
+			final Rational[] values = new Rational[numBasic];
+			numBasic = 0;
+			for (int k = 0; k < vars.length - 1; k++) {
+				if (mSlots[vars[k].mMatrixpos] >= 0) {
+					slots[numBasic] = mSlots[vars[k].mMatrixpos];
+					values[numBasic] = coeffs[k];
+					numBasic++;
+				}
+			}
+			mFactorization.appendRow(slots, values, Rational.MONE);
+		}
+		mBasis.add(basic);
+		mSlots[basic.mMatrixpos] = slot;
+		mStamp++;
+	}
+
+	/**
+	 * Compute the tableaux row of a basic variable.
+	 *
+	 * @param basic
+	 *            the basic variable.
+	 * @return the row expressing the variable as linear combination of the non-basic variables.
+	 */
+	TableauxRow computeRow(final LinVar basic) {
+		ensureFactorized();
+		final Rational[] y = mFactorization.btran(mSlots[basic.mMatrixpos]);
+		final TreeMap<LinVar, Rational> coeffs = new TreeMap<>();
+		for (int row = 0; row < y.length; row++) {
+			if (y[row].signum() == 0) {
+				continue;
+			}
+			final LinVar[] vars = mRowVars.get(row);
+			final Rational[] rowCoeffs = mRowCoeffs.get(row);
+			for (int i = 0; i < vars.length; i++) {
+				if (mSlots[vars[i].mMatrixpos] < 0) {
+					final Rational coeff = y[row].mul(rowCoeffs[i]).negate();
+					final Rational old = coeffs.get(vars[i]);
+					coeffs.put(vars[i], old == null ? coeff : old.add(coeff));
+				}
+			}
+		}
+		coeffs.values().removeIf(c -> c.signum() == 0);
+		return new TableauxRow(basic, coeffs);
+	}
+
+	/**
+	 * Compute the tableaux column of a non-basic variable.
+	 *
+	 * @param nonbasic
+	 *            the non-basic variable.
+	 * @return the entries of the column sorted by the matrix position of the row variable.
+	 */
+	MatrixEntry[] getColumn(final LinVar nonbasic) {
+		final int pos = nonbasic.mMatrixpos;
+		if (mColumnStamp[pos] == mStamp) {
+			return mColumnCache.get(pos);
+		}
+		MatrixEntry[] entries = EMPTY_COLUMN;
+		if (mColumns.get(pos).mSize > 0) {
+			ensureFactorized();
+			final Rational[] alpha = mFactorization.solveU(mFactorization.transform(denseColumn(nonbasic)));
+			final ArrayList<MatrixEntry> list = new ArrayList<>();
+			for (int slot = 0; slot < alpha.length; slot++) {
+				if (alpha[slot].signum() != 0) {
+					list.add(new MatrixEntry(mSolver, mBasis.get(slot), nonbasic, alpha[slot].negate()));
+				}
+			}
+			entries = list.toArray(new MatrixEntry[list.size()]);
+			Arrays.sort(entries, (e1, e2) -> e1.getRow().compareTo(e2.getRow()));
+		}
+		mColumnCache.set(pos, entries);
+		mColumnStamp[pos] = mStamp;
+		return entries;
+	}
+
+	/**
+	 * Exchange a basic and a non-basic variable.
+	 *
+	 * @param leaving
+	 *            the basic variable that becomes non-basic.
+	 * @param entering
+	 *            the non-basic variable that becomes basic.
+	 * @return the other basic variables whose tableaux row changed.
+	 */
+	ArrayList<LinVar> pivot(final LinVar leaving, final LinVar entering) {
+		ensureFactorized();
+		final int slot = mSlots[leaving.mMatrixpos];
+		final Rational[] spike = mFactorization.transform(denseColumn(entering));
+		final Rational[] alpha = mFactorization.solveU(spike.clone());
+		assert alpha[slot].signum() != 0;
+		final ArrayList<LinVar> changed = new ArrayList<>();
+		for (int s = 0; s < alpha.length; s++) {
+			if (s != slot && alpha[s].signum() != 0) {
+				changed.add(mBasis.get(s));
+			}
+		}
+		mFactorization.replaceColumn(slot, spike);
+		mBasis.set(slot, entering);
+		mSlots[entering.mMatrixpos] = slot;
+		mSlots[leaving.mMatrixpos] = -1;
+		mStamp++;
+		return changed;
+	}
+
+	/**
+	 * Remove the variable with the highest matrix position. If it is basic, it must be the variable defined by the
+	 * last constraint row.
+	 *
+	 * @param var
+	 *            the variable to remove.
+	 */
+	void removeLast(final LinVar var) {
+		final int pos = var.mMatrixpos;
+		assert pos == mColumns.size() - 1;
+		final int slot = mSlots[pos];
+		if (slot >= 0) {
+			final int row = mRowVars.size() - 1;
+			final LinVar[] vars = mRowVars.remove(row);
+			mRowCoeffs.remove(row);
+			assert vars[vars.length - 1] == var;
+			for (final LinVar v : vars) {
+				mColumns.get(v.mMatrixpos).removeLast(row);
+			}
+			final int lastSlot = mBasis.size() - 1;
+			final LinVar moved = mBasis.remove(lastSlot);
+			if (slot != lastSlot) {
+				mBasis.set(slot, moved);
+				mSlots[moved.mMatrixpos] = slot;
+			}
+			mFactorization.invalidate();
+		}
+		assert mColumns.get(pos).mSize == 0;
+		mColumns.remove(pos);
+		mColumnCache.remove(pos);
+		mStamp++;
+	}
+}
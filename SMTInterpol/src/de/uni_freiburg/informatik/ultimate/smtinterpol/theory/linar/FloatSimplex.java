@@ -0,0 +1,448 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * A floating point version of the {@link SOIPivoter} that runs in front of the exact one. It copies the current
+ * tableaux into sparse rows of doubles and searches the pivot steps that decrease the sum of infeasibilities in
+ * floating point, which is much cheaper than computing the sum and the freedom of every column with rationals.
+ * Afterwards the pivot steps are replayed on the exact tableaux and the variables that left the basis are set to the
+ * bound they were moved to.
+ *
+ * <p>
+ * The result is only a guess. The exact pivoter runs afterwards and continues from the basis found this way; it
+ * detects and repairs rounding errors, so soundness does not depend on the floating point computation. The floating
+ * point simplex stops when it cannot make progress, i.e., it leaves degenerate steps and conflicts to the exact
+ * pivoter.
+ */
+class FloatSimplex {
+	/** The relative tolerance used to compare floating point values. */
+	private static final double TOLERANCE = 1e-9;
+	/** Coefficients below this value are considered as zero. */
+	private static final double ZERO_TOLERANCE = 1e-12;
+	/** The value used for the infinitesimal epsilon. */
+	private static final double EPSILON = 1e-7;
+
+	private final LinArSolve mSolver;
+	/** The approximated values of the variables indexed by matrix position. */
+	private final double[] mValue;
+	private final double[] mLower;
+	private final double[] mUpper;
+	/** For every variable the row where it is basic, or -1 for non-basic variables. */
+	private final int[] mRowOf;
+	/** For the non-basic variables that were moved, the bound they were moved to. */
+	private final InfinitesimalNumber[] mTarget;
+	/** The basic variable of every row. */
+	private final int[] mBasic;
+	/** The sorted column indices of every row. */
+	private final int[][] mRowIdx;
+	/** The coefficients of every row, i.e., {@code x_basic = sum(mRowVal[i] * x_mRowIdx[i])}. */
+	private final double[][] mRowVal;
+	/** The gradient of the sum of infeasibilities for every column variable. */
+	private final double[] mGradient;
+	/** The current sum of infeasibilities. */
+	private double mSOIValue;
+	/** The leaving and entering variable of every pivot step. */
+	private int[] mPivotLog = new int[16]; // NOCHECKSTYLE
+	private int mNumPivots;
+
+	FloatSimplex(final LinArSolve solver) {
+		mSolver = solver;
+		final int size = solver.mLinvars.size();
+		mValue = new double[size];
+		mLower = new double[size];
+		mUpper = new double[size];
+		mRowOf = new int[size];
+		mTarget = new InfinitesimalNumber[size];
+		mGradient = new double[size];
+		int numRows = 0;
+		for (final LinVar var : solver.mLinvars) {
+			final int pos = var.mMatrixpos;
+			final ExactInfinitesimalNumber value = var.getValue();
+			mValue[pos] = toDouble(value.getRealValue()) + EPSILON * toDouble(value.getEpsilon());
+			mLower[pos] = toDouble(var.getLowerBound());
+			mUpper[pos] = toDouble(var.getUpperBound());
+			mRowOf[pos] = var.mBasic ? numRows++ : -1;
+		}
+		mBasic = new int[numRows];
+		mRowIdx = new int[numRows][];
+		mRowVal = new double[numRows][];
+		for (final LinVar var : solver.mLinvars) {
+			if (var.mBasic) {
+				final int r = mRowOf[var.mMatrixpos];
+				final TableauxRow row = solver.getRow(var.mMatrixpos);
+				mBasic[r] = var.mMatrixpos;
+				mRowIdx[r] = new int[row.size() - 1];
+				mRowVal[r] = new double[row.size() - 1];
+				for (int i = 1; i < row.size(); i++) {
+					mRowIdx[r][i - 1] = row.getRawIndex(i);
+					mRowVal[r][i - 1] = row.getApproxRowCoeff(i);
+				}
+			}
+		}
+	}
+
+	static double toDouble(final Rational r) {
+		if (r.numerator().bitLength() < 1000 && r.denominator().bitLength() < 1000) { // NOCHECKSTYLE
+			return r.numerator().doubleValue() / r.denominator().doubleValue();
+		}
+		if (r.denominator().signum() == 0) {
+			return r.numerator().signum() * Double.POSITIVE_INFINITY;
+		}
+		return new BigDecimal(r.numerator()).divide(new BigDecimal(r.denominator()), MathContext.DECIMAL64)
+				.doubleValue();
+	}
+
+	private static double toDouble(final InfinitesimalNumber bound) {
+		if (bound.isInfinity()) {
+			return bound.mReal.signum() * Double.POSITIVE_INFINITY;
+		}
+		return toDouble(bound.mReal) + EPSILON * bound.mEps;
+	}
+
+	private static boolean isBelow(final double value, final double bound) {
+		if (Double.isInfinite(bound)) {
+			return value < bound;
+		}
+		return value < bound - TOLERANCE * (1 + Math.abs(bound));
+	}
+
+	/**
+	 * Run the floating point simplex, then replay its pivot steps on the exact tableaux.
+	 *
+	 * @param maxPivots
+	 *            the maximum number of floating point pivot steps.
+	 * @return the number of floating point pivot steps.
+	 */
+	int run(final int maxPivots) {
+		int steps = 0;
+		while (steps < maxPivots && computeSOI() && findPivot()) {
+			steps++;
+		}
+		if (steps > 0) {
+			applyBasis();
+		}
+		return mNumPivots;
+	}
+
+	/**
+	 * Compute the sum of infeasibilities and its gradient for the column variables.
+	 *
+	 * @return true if there is a variable that is out of bound.
+	 */
+	private boolean computeSOI() {
+		Arrays.fill(mGradient, 0);
+		mSOIValue = 0;
+		boolean isOOB = false;
+		for (int r = 0; r < mBasic.length; r++) {
+			final int var = mBasic[r];
+			final double sign;
+			if (isBelow(mValue[var], mLower[var])) {
+				mSOIValue += mLower[var] - mValue[var];
+				sign = -1;
+			} else if (isBelow(-mValue[var], -mUpper[var])) {
+				mSOIValue += mValue[var] - mUpper[var];
+				sign = 1;
+			} else {
+				continue;
+			}
+			isOOB = true;
+			final int[] idx = mRowIdx[r];
+			final double[] val = mRowVal[r];
+			for (int i = 0; i < idx.length; i++) {
+				mGradient[idx[i]] += sign * val[i];
+			}
+		}
+		return isOOB;
+	}
+
+	/**
+	 * Find and execute the step that decreases the sum of infeasibilities most. This follows
+	 * {@link SOIPivoter#findPivot()}, but only accepts steps that make progress.
+	 *
+	 * @return true if a step was executed.
+	 */
+	private boolean findPivot() {
+		// build the columns of the column variables with non-zero gradient.
+		final int[] colSize = new int[mValue.length];
+		for (int r = 0; r < mBasic.length; r++) {
+			for (final int col : mRowIdx[r]) {
+				if (Math.abs(mGradient[col]) >= ZERO_TOLERANCE) {
+					colSize[col]++;
+				}
+			}
+		}
+		final int[][] colRows = new int[mValue.length][];
+		final int[][] colEntries = new int[mValue.length][];
+		for (int col = 0; col < mValue.length; col++) {
+			if (colSize[col] > 0) {
+				colRows[col] = new int[colSize[col]];
+				colEntries[col] = new int[colSize[col]];
+				colSize[col] = 0;
+			}
+		}
+		for (int r = 0; r < mBasic.length; r++) {
+			final int[] idx = mRowIdx[r];
+			for (int i = 0; i < idx.length; i++) {
+				final int col = idx[i];
+				if (colRows[col] != null) {
+					colRows[col][colSize[col]] = r;
+					colEntries[col][colSize[col]++] = i;
+				}
+			}
+		}
+
+		double bestDiff = 0;
+		int bestCol = -1;
+		int bestLimiter = -1;
+		double bestFreedom = 0;
+		double bestBound = 0;
+		boolean bestIsUpper = false;
+		final double[] freedom = new double[2 * mBasic.length + 1];
+		final double[] weight = new double[freedom.length];
+		final int[] limiter = new int[freedom.length];
+		final boolean[] limiterUpper = new boolean[freedom.length];
+		final Integer[] order = new Integer[freedom.length];
+		for (int col = 0; col < mValue.length; col++) {
+			final double coeff = mGradient[col];
+			if (Math.abs(coeff) < ZERO_TOLERANCE || mRowOf[col] >= 0) {
+				continue;
+			}
+			final boolean increase = coeff < 0;
+			final double colBound = increase ? mUpper[col] : mLower[col];
+			if (!(increase ? isBelow(mValue[col], colBound) : isBelow(-mValue[col], -colBound))) {
+				continue;
+			}
+			// collect the points where the gradient changes, i.e., where a variable reaches one of its bounds.
+			int num = 0;
+			if (!Double.isInfinite(colBound)) {
+				freedom[num] = Math.abs(colBound - mValue[col]);
+				weight[num] = 1;
+				limiter[num] = col;
+				limiterUpper[num++] = increase;
+			}
+			if (colRows[col] != null) {
+				for (int k = 0; k < colRows[col].length; k++) {
+					final int r = colRows[col][k];
+					final int rowVar = mBasic[r];
+					final double w = increase ? mRowVal[r][colEntries[col][k]] : -mRowVal[r][colEntries[col][k]];
+					if (Math.abs(w) < ZERO_TOLERANCE) {
+						continue;
+					}
+					final double value = mValue[rowVar];
+					if (!Double.isInfinite(mLower[rowVar])
+							&& (w > 0 ? isBelow(value, mLower[rowVar]) : !isBelow(value, mLower[rowVar]))) {
+						freedom[num] = Math.max(0, (mLower[rowVar] - value) / w);
+						weight[num] = Math.abs(w);
+						limiter[num] = rowVar;
+						limiterUpper[num++] = false;
+					}
+					if (!Double.isInfinite(mUpper[rowVar])
+							&& (w < 0 ? isBelow(-value, -mUpper[rowVar]) : !isBelow(-value, -mUpper[rowVar]))) {
+						freedom[num] = Math.max(0, (mUpper[rowVar] - value) / w);
+						weight[num] = Math.abs(w);
+						limiter[num] = rowVar;
+						limiterUpper[num++] = true;
+					}
+				}
+			}
+			for (int i = 0; i < num; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, 0, num, (i1, i2) -> Double.compare(freedom[i1], freedom[i2]));
+			double remaining = Math.abs(coeff);
+			double lastFreedom = 0;
+			double soidiff = 0;
+			for (int j = 0; j < num; j++) {
+				final int i = order[j];
+				soidiff += (freedom[i] - lastFreedom) * remaining;
+				lastFreedom = freedom[i];
+				remaining -= weight[i];
+				if (remaining <= ZERO_TOLERANCE) {
+					if (soidiff > bestDiff + TOLERANCE * (1 + mSOIValue)) {
+						bestDiff = soidiff;
+						bestCol = col;
+						bestLimiter = limiter[i];
+						bestFreedom = freedom[i];
+						bestIsUpper = limiterUpper[i];
+						bestBound = bestIsUpper ? mUpper[bestLimiter] : mLower[bestLimiter];
+					}
+					break;
+				}
+			}
+		}
+		if (bestCol < 0 || bestFreedom <= 0) {
+			return false;
+		}
+		final LinVar limiterVar = mSolver.mLinvars.get(bestLimiter);
+		final InfinitesimalNumber target = bestIsUpper ? limiterVar.getUpperBound() : limiterVar.getLowerBound();
+		if (bestLimiter == bestCol) {
+			moveColumn(bestCol, bestBound - mValue[bestCol]);
+			mTarget[bestCol] = target;
+			return true;
+		}
+		return pivot(mRowOf[bestLimiter], bestCol, bestBound, target);
+	}
+
+	/**
+	 * Change the value of a column variable and update the basic variables.
+	 */
+	private void moveColumn(final int col, final double delta) {
+		mValue[col] += delta;
+		for (int r = 0; r < mBasic.length; r++) {
+			final int k = Arrays.binarySearch(mRowIdx[r], col);
+			if (k >= 0) {
+				mValue[mBasic[r]] += mRowVal[r][k] * delta;
+			}
+		}
+	}
+
+	/**
+	 * Make a column variable basic and move the row variable to the target value.
+	 *
+	 * @return false if the computation became unstable.
+	 */
+	private boolean pivot(final int row, final int col, final double value, final InfinitesimalNumber target) {
+		final int basic = mBasic[row];
+		final int i = Arrays.binarySearch(mRowIdx[row], col);
+		final double coeff = mRowVal[row][i];
+		final double delta = (value - mValue[basic]) / coeff;
+		if (Double.isNaN(delta) || Double.isInfinite(delta)) {
+			return false;
+		}
+		moveColumn(col, delta);
+		mValue[basic] = value;
+
+		// solve the row for col: col = 1/coeff * basic - sum(c_j/coeff * x_j)
+		final int[] oldIdx = mRowIdx[row];
+		final double[] oldVal = mRowVal[row];
+		final int[] newIdx = new int[oldIdx.length];
+		final double[] newVal = new double[oldIdx.length];
+		int n = 0;
+		boolean inserted = false;
+		for (int j = 0; j < oldIdx.length; j++) {
+			if (!inserted && oldIdx[j] > basic) {
+				newIdx[n] = basic;
+				newVal[n++] = 1 / coeff;
+				inserted = true;
+			}
+			if (j != i) {
+				newIdx[n] = oldIdx[j];
+				newVal[n++] = -oldVal[j] / coeff;
+			}
+		}
+		if (!inserted) {
+			newIdx[n] = basic;
+			newVal[n++] = 1 / coeff;
+		}
+		assert n == newIdx.length;
+		mRowIdx[row] = newIdx;
+		mRowVal[row] = newVal;
+		mBasic[row] = col;
+		mRowOf[col] = row;
+		mRowOf[basic] = -1;
+		mTarget[basic] = target;
+		if (2 * mNumPivots + 2 > mPivotLog.length) {
+			mPivotLog = Arrays.copyOf(mPivotLog, 2 * mPivotLog.length);
+		}
+		mPivotLog[2 * mNumPivots] = basic;
+		mPivotLog[2 * mNumPivots + 1] = col;
+		mNumPivots++;
+
+		// eliminate col from the other rows
+		for (int r = 0; r < mBasic.length; r++) {
+			if (r != row) {
+				final int k = Arrays.binarySearch(mRowIdx[r], col);
+				if (k >= 0) {
+					substitute(r, k, newIdx, newVal);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replace the k-th column variable of a row by the given linear combination.
+	 */
+	private void substitute(final int row, final int k, final int[] subIdx, final double[] subVal) {
+		final int[] idx = mRowIdx[row];
+		final double[] val = mRowVal[row];
+		final double factor = val[k];
+		final int[] resIdx = new int[idx.length + subIdx.length];
+		final double[] resVal = new double[idx.length + subIdx.length];
+		int n = 0;
+		int i = 0;
+		int j = 0;
+		while (i < idx.length || j < subIdx.length) {
+			if (i == k) {
+				i++;
+				continue;
+			}
+			final int col;
+			double value;
+			if (j == subIdx.length || (i < idx.length && idx[i] < subIdx[j])) {
+				col = idx[i];
+				value = val[i++];
+			} else if (i == idx.length || subIdx[j] < idx[i]) {
+				col = subIdx[j];
+				value = factor * subVal[j++];
+			} else {
+				col = idx[i];
+				value = val[i++] + factor * subVal[j++];
+			}
+			if (Math.abs(value) >= ZERO_TOLERANCE) {
+				resIdx[n] = col;
+				resVal[n++] = value;
+			}
+		}
+		mRowIdx[row] = Arrays.copyOf(resIdx, n);
+		mRowVal[row] = Arrays.copyOf(resVal, n);
+	}
+
+	/**
+	 * Replay the pivot steps of the floating point simplex on the exact tableaux and set the variables that were
+	 * moved to their bounds. Pivot steps whose exact pivot element is zero are skipped.
+	 */
+	private void applyBasis() {
+		for (int i = 0; i < mNumPivots; i++) {
+			final LinVar leaving = mSolver.mLinvars.get(mPivotLog[2 * i]);
+			final LinVar entering = mSolver.mLinvars.get(mPivotLog[2 * i + 1]);
+			if (leaving.mBasic && !entering.mBasic
+					&& mSolver.getRow(leaving.mMatrixpos).getCoeffForPos(entering.mMatrixpos).signum() != 0) {
+				mSolver.pivot(leaving.mMatrixpos, entering.mMatrixpos);
+			}
+		}
+		for (final LinVar var : mSolver.mLinvars) {
+			final InfinitesimalNumber bound = mTarget[var.mMatrixpos];
+			if (var.mBasic || bound == null) {
+				continue;
+			}
+			final ExactInfinitesimalNumber value = new ExactInfinitesimalNumber(bound);
+			if (!value.equals(var.getValue())) {
+				mSolver.updateVariableValue(var, value);
+			}
+		}
+	}
+}
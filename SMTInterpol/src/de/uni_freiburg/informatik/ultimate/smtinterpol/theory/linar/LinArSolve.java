@@ -86,30 +86,48 @@ import de.uni_freiburg.informatik.ultimate.util.datastructures.ScopedHashMap;
  * the bound.  Then we can use this composite reason as a source for bound
  * propagation and propagate all bounds that are weaker than the composite.
  *
+ * The tableau is either kept completely and every pivot step rewrites all
+ * rows containing the new basic variable, or it is computed on demand from a
+ * factorization of the basis as in the revised simplex method (see
+ * {@link FactorizedTableaux}).
+ *
  * @author Juergen Christ, Jochen Hoenicke
  */
 public class LinArSolve implements ITheory {
+	/** The number of floating point pivot steps per variable before the floating point simplex gives up. */
+	private static final int FLOAT_PIVOT_FACTOR = 4;
+	/**
+	 * The minimal number of variables out of bounds for the floating point simplex. Building it copies the whole
+	 * tableau, which only pays off if many rows need to be repaired.
+	 */
+	private static final int FLOAT_MIN_OOB = 8;
+
 	/** The DPLL engine. */
 	final DPLLEngine mEngine;
 	/** The list of all variables (basic and nonbasic, integer and reals) indexed by their matrix position. */
 	final ScopedArrayList<LinVar> mLinvars;
 	/**
 	 * The tableaux, represented as list of all tableaux row indexed by matrix position. The entries for column
-	 * variables (nonbasic) must be null.
+	 * variables (nonbasic) must be null. With a factorized tableaux, this is only a cache and the entries for row
+	 * variables may also be null; use {@link #getRow} to access the rows.
 	 */
 	final ArrayList<TableauxRow> mTableaux;
 	/**
 	 * The tableaux row occurence. For each column variable gives the set of row variables (represented as bitset
 	 * indexed with matrix position), where the tableaux row contains the column variable. The entries for row variables
-	 * must be null.
+	 * must be null. With a factorized tableaux all entries are null.
 	 */
 	final ArrayList<BitSet> mDependentRows;
+	/**
+	 * The factorized basis if the tableaux is computed on demand, or null if the full tableaux is kept.
+	 */
+	final FactorizedTableaux mFactorized;
 	/** The list of all non-basic integer variables. */
 	final ArrayList<LinVar> mIntVars;
 	/** The literals that will be propagated. */
 	final Queue<Literal> mProplist;
 	/** The basic variables hashed by their linear combinations. */
-	final ScopedHashMap<Map<LinVar,Rational>,LinVar> mTerms;
+	final ScopedHashMap<LinTerm, LinVar> mTerms;
 	/** List of all variables outside their bounds.
 	 * I prefer a tree set here since it provides ordering, retrieval of the
 	 * first element, addition of elements and uniqueness of elements!
@@ -120,6 +138,8 @@ public class LinArSolve implements ITheory {
 	int mNumPivots;
 	/** Pivot counter. */
 	int mNumPivotsBland;
+	/** Pivot steps done by the floating point simplex. */
+	int mNumFloatPivots;
 	/** Time needed for pivoting operations. */
 	long mPivotTime;
 	/** Time needed for fixOobs (including searching for pivot). */
@@ -130,6 +150,9 @@ public class LinArSolve implements ITheory {
 	// Statistics
 	int mNumCuts;
 	int mNumBranches;
+	int mNumGomoryCuts;
+	int mNumPoolCuts;
+	int mNumBranchAndBoundNodes;
 	long mCutGenTime;
 	final ScopedArrayList<SharedTerm> mSharedVars =
 		new ScopedArrayList<>();
@@ -149,15 +172,41 @@ public class LinArSolve implements ITheory {
 
 	/** Are we in a check-sat? */
 	private boolean mInCheck = false;
+	/** Run the floating point simplex before the exact one. */
+	private boolean mFloatPrepass = false;
+	/** The maximal number of rows to propagate bounds for in one call, or 0 for no limit. */
+	private int mPropagationBudget = 0;
+	/** The number of times bound propagation stopped because the budget was exhausted. */
+	private int mNumPropagationBudgetExceeded;
+	/** The pool of Gomory cuts, or null if Gomory cuts are disabled. */
+	private CutPool mCutPool;
+	/** True if the next cut round should use the Gomory cuts instead of cuts from proofs. */
+	private boolean mGomoryTurn;
+	/** The internal branch and bound search, or null if it is disabled. */
+	private BranchAndBound mBranchAndBound;
+	/** The maximal number of nodes of one branch and bound search. */
+	private int mBranchAndBoundNodeLimit;
+	/** True if the simplex only runs in the final check, since a difference logic solver checks the bounds. */
+	private boolean mDeferSimplex;
 	/**
 	 * Basic initialization.
 	 * @param engine DPLLEngine this theory is used in.
 	 */
 	public LinArSolve(final DPLLEngine engine) {
+		this(engine, false);
+	}
+
+	/**
+	 * Basic initialization.
+	 * @param engine DPLLEngine this theory is used in.
+	 * @param factorized true, if the tableaux should be computed on demand from an LU factorization of the basis.
+	 */
+	public LinArSolve(final DPLLEngine engine, final boolean factorized) {
 		mEngine = engine;
 		mLinvars = new ScopedArrayList<>();
 		mTableaux = new ArrayList<>();
 		mDependentRows = new ArrayList<>();
+		mFactorized = factorized ? new FactorizedTableaux(this) : null;
 		mIntVars = new ArrayList<>();
 		mDirty = new BitSet();
 		mProplist = new ArrayDeque<>();
@@ -174,6 +223,69 @@ public class LinArSolve implements ITheory {
 //		m_compositeWatchers = new HashMap<LAReason, Set<CompositeReason>>();
 	}
 
+	/**
+	 * Enable the floating point simplex that searches for a feasible basis before the exact simplex runs.
+	 *
+	 * @param floatPrepass
+	 *            true, if the floating point simplex should be used.
+	 */
+	public void setFloatPrepass(final boolean floatPrepass) {
+		mFloatPrepass = floatPrepass;
+	}
+
+	/**
+	 * Limit the number of rows for which bounds are propagated in one call of the bound propagation.
+	 *
+	 * @param budget
+	 *            the maximal number of rows, or 0 for no limit.
+	 */
+	public void setPropagationBudget(final int budget) {
+		mPropagationBudget = budget;
+	}
+
+	/**
+	 * Enable the generation of Gomory cuts. If enabled, the solver alternates between Gomory cuts from the tableaux and
+	 * the cuts from proofs.
+	 *
+	 * @param gomoryCuts
+	 *            true, if Gomory cuts should be generated.
+	 */
+	public void setGomoryCuts(final boolean gomoryCuts) {
+		if (!gomoryCuts) {
+			mCutPool = null;
+		} else if (mCutPool == null) {
+			mCutPool = new CutPool(this);
+		}
+	}
+
+	/**
+	 * Enable the internal branch and bound search for integer solutions. It runs before the cuts from proofs and only
+	 * falls back to them if it fails.
+	 *
+	 * @param nodeLimit
+	 *            the maximal number of nodes of one search, or 0 to disable the search.
+	 */
+	public void setBranchAndBoundNodeLimit(final int nodeLimit) {
+		mBranchAndBoundNodeLimit = nodeLimit;
+		if (nodeLimit <= 0) {
+			mBranchAndBound = null;
+		} else if (mBranchAndBound == null) {
+			mBranchAndBound = new BranchAndBound(this);
+		}
+	}
+
+	/**
+	 * Defer the simplex to the final check. This is used if a {@link DifferenceLogicSolver} finds the conflicts
+	 * between the bound constraints; the simplex then only checks the remaining constraints once the boolean search is
+	 * complete.
+	 *
+	 * @param deferSimplex
+	 *            true, if the simplex should only run in the final check.
+	 */
+	public void setDeferSimplex(final boolean deferSimplex) {
+		mDeferSimplex = deferSimplex;
+	}
+
 	/// --- Assertion check routines ---
 	private boolean checkClean() {
 		if (Config.EXPENSIVE_ASSERTS) {
@@ -219,8 +331,13 @@ public class LinArSolve implements ITheory {
 		}
 		final LinVar var = new LinVar(name, isint, level, mLinvars.size());
 		mLinvars.add(var);
-		mDependentRows.add(new BitSet());
 		mTableaux.add(null);
+		if (mFactorized == null) {
+			mDependentRows.add(new BitSet());
+		} else {
+			mDependentRows.add(null);
+			mFactorized.addColumn(var);
+		}
 		if (isint) {
 			mIntVars.add(var);
 		}
@@ -229,46 +346,45 @@ public class LinArSolve implements ITheory {
 
 	/**
 	 * Add a new basic variable that is defined as linear combination.
-	 * @param factors the linear combination as a map from LinVar to its factor.
-	 *        The map must be normalized, i.e. divided by its gcd.
+	 * @param at the linear combination of initially non-basic variables.
+	 *        The term must be normalized, i.e. divided by its gcd.
 	 * @return Newly created variable
 	 */
-	public LinVar generateLinVar(final TreeMap<LinVar, Rational> factors) {
-		if (factors.size() == 1) {
-			final Map.Entry<LinVar,Rational> me = factors.entrySet().iterator().next();
-			assert me.getValue().equals(Rational.ONE);
-			final LinVar var = me.getKey();
-			return var;
+	public LinVar generateLinVar(final MutableAffineTerm at) {
+		if (at.mSize == 1) {
+			assert at.mCoeffs[0].equals(Rational.ONE);
+			return at.mVars[0];
 		}
+		final LinTerm factors = at.toLinTerm();
 		LinVar var = mTerms.get(factors);
 		if (var == null) {
 			// Linear combination not known yet
-			final LinVar[] vars = new LinVar[factors.size()];
-			final BigInteger[] coeffs = new BigInteger[factors.size()];
-			int i = 0;
 			final TreeMap<LinVar,Rational> curcoeffs = new TreeMap<>();
 			boolean isInt = true;
-			for (final Map.Entry<LinVar, Rational> entry : factors.entrySet()) {
-				vars[i] = entry.getKey();
-				assert entry.getValue().denominator().equals(BigInteger.ONE);
-				coeffs[i] = entry.getValue().numerator();
-				unsimplifyAndAdd(entry.getKey(), entry.getValue(), curcoeffs);
-				isInt &= vars[i].mIsInt;
-				i++;
-			}
-			var = new LinVar(new LinTerm(vars, coeffs), isInt, mEngine.getAssertionStackLevel(), mLinvars.size());
+			for (int i = 0; i < factors.mVars.length; i++) {
+				unsimplifyAndAdd(factors.mVars[i], at.mCoeffs[i], curcoeffs);
+				isInt &= factors.mVars[i].mIsInt;
+			}
+			var = new LinVar(factors, isInt, mEngine.getAssertionStackLevel(), mLinvars.size());
 			mTerms.put(factors, var);
 			mLinvars.add(var);
 			mDependentRows.add(null);
+			assert curcoeffs.size() >= 2;
 			mTableaux.add(new TableauxRow(var, curcoeffs));
+			if (mFactorized != null) {
+				mFactorized.addColumn(var);
+				mFactorized.addRow(var, factors);
+			}
 			mEngine.getLogger().debug("Generated LinVar %1$s", var);
 			var.mBasic = true;
 			ExactInfinitesimalNumber curValue = ExactInfinitesimalNumber.ZERO;
 			for (final MatrixEntry entry : var.getTableauxRow(this)) {
 				final LinVar colVar = entry.getColumn();
-				final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
+				final Rational coeff = entry.getRowCoeff();
 				curValue = curValue.add(colVar.getValue().mul(coeff));
-				mDependentRows.get(colVar.mMatrixpos).set(var.mMatrixpos);
+				if (mFactorized == null) {
+					mDependentRows.get(colVar.mMatrixpos).set(var.mMatrixpos);
+				}
 			}
 			var.setValue(curValue);
 			assert var.checkCoeffChain(this);
@@ -288,15 +404,11 @@ public class LinArSolve implements ITheory {
 	public Literal generateConstraint(final MutableAffineTerm at, final boolean strict) {
 		final Rational normFactor = at.getGCD().inverse();
 		at.mul(normFactor);
-		final LinVar var = generateLinVar(getSummandMap(at));
+		final LinVar var = generateLinVar(at);
 		return generateConstraint(var, at.mConstant.mReal.negate(),
 				normFactor.isNegative(), strict);
 	}
 
-	private final TreeMap<LinVar, Rational> getSummandMap(final MutableAffineTerm at) {
-		return at.getSummands();
-	}
-
 
 	/**
 	 * Update values of all basic variables depending on some non-basic variable.
@@ -306,12 +418,11 @@ public class LinArSolve implements ITheory {
 	void updateVariableValue(final LinVar updateVar, final ExactInfinitesimalNumber newValue) {
 		assert(!updateVar.mBasic);
 		final ExactInfinitesimalNumber diff = newValue.sub(updateVar.getValue());
-		updateVar.addValue(diff);
+		updateVar.setValue(newValue);
 		for (final MatrixEntry entry : updateVar.getTableauxColumn(this)) {
 			final LinVar var = entry.getRow();
 			assert var.mBasic;
-			final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
-			var.addValue(diff.mul(coeff));
+			var.addValue(diff, entry.getRowCoeff());
 			assert !var.getValue().getRealValue().denominator().equals(BigInteger.ZERO);
 			if (var.outOfBounds()) {
 				mOob.add(var);
@@ -338,14 +449,12 @@ public class LinArSolve implements ITheory {
 		}
 
 		assert !(updateVar.getValue().getRealValue().denominator().equals(BigInteger.ZERO));
-		BitSet dependencies = mDependentRows.get(updateVar.mMatrixpos);
-		mDirty.or(dependencies);
 		for (final MatrixEntry entry : updateVar.getTableauxColumn(this)) {
 			final LinVar var = entry.getRow();
 			assert var.mBasic;
-			final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
+			mDirty.set(var.mMatrixpos);
 			if (changeVar) {
-				var.addValue(diff.mul(coeff));
+				var.addValue(diff, entry.getRowCoeff());
 			}
 			assert !var.getValue().getRealValue().denominator().equals(BigInteger.ZERO);
 			if (var.outOfBounds()) {
@@ -354,8 +463,35 @@ public class LinArSolve implements ITheory {
 		}
 	}
 
+	/**
+	 * Update the cached row bounds of all rows containing a non-basic variable after its literal bound changed.
+	 *
+	 * @param var
+	 *            the variable whose literal bound changed.
+	 * @param isUpper
+	 *            whether the upper or lower bound changed.
+	 * @param oldBound
+	 *            the previous literal bound.
+	 */
+	private void updateRowBounds(final LinVar var, final boolean isUpper, final InfinitesimalNumber oldBound) {
+		if (var.mBasic) {
+			return;
+		}
+		final InfinitesimalNumber newBound = isUpper ? var.getUpperBound() : var.getLowerBound();
+		if (newBound.equals(oldBound)) {
+			return;
+		}
+		for (final MatrixEntry entry : var.getTableauxColumn(this)) {
+			final RowBounds rowBounds = entry.getRow().mRowBounds;
+			if (rowBounds != null) {
+				rowBounds.update(entry, isUpper, oldBound, newBound);
+			}
+		}
+	}
+
 	public void removeReason(final LAReason reason) {
 		final LinVar var = reason.getVar();
+		final InfinitesimalNumber oldLiteralBound = reason.isUpper() ? var.getUpperBound() : var.getLowerBound();
 		LAReason chain;
 		if (reason.isUpper()) {
 			if (var.mUpper == reason) {
@@ -365,6 +501,7 @@ public class LinArSolve implements ITheory {
 				} else {
 					assert reason instanceof CompositeReason;
 				}
+				updateRowBounds(var, true, oldLiteralBound);
 				if (!var.mBasic) { // NOPMD
 					if (var.getValue().compareTo(var.getLowerBound()) < 0) {
 						updateVariableValue(var, new ExactInfinitesimalNumber(var.getLowerBound()));
@@ -377,6 +514,7 @@ public class LinArSolve implements ITheory {
 			chain = var.mUpper;
 			if (var.mUpperLiteral == reason) {
 				var.mUpperLiteral = ((LiteralReason) reason).getOldLiteralReason();
+				updateRowBounds(var, true, oldLiteralBound);
 			}
 		} else {
 			if (var.mLower == reason) {
@@ -386,6 +524,7 @@ public class LinArSolve implements ITheory {
 				} else {
 					assert reason instanceof CompositeReason;
 				}
+				updateRowBounds(var, false, oldLiteralBound);
 				if (!var.mBasic) { // NOPMD
 					if (var.getValue().compareTo(var.getUpperBound()) > 0) {
 						updateVariableValue(var, new ExactInfinitesimalNumber(var.getUpperBound()));
@@ -398,6 +537,7 @@ public class LinArSolve implements ITheory {
 			chain = var.mLower;
 			if (var.mLowerLiteral == reason) {
 				var.mLowerLiteral = ((LiteralReason) reason).getOldLiteralReason();
+				updateRowBounds(var, false, oldLiteralBound);
 			}
 		}
 		while (true) {
@@ -498,11 +638,24 @@ public class LinArSolve implements ITheory {
 		}
 
 		assert checkClean();
-		return fixOobs();
+		return mDeferSimplex ? null : fixOobs();
 	}
 
+	/**
+	 * Propagate the bounds implied by the rows of the dirty basic variables. The bounds of a row are cached in
+	 * {@link LinVar#mRowBounds} and updated incrementally when a bound of a column variable changes. At most
+	 * {@link #mPropagationBudget} rows are processed in one call; the remaining rows stay dirty and are processed in
+	 * the next call.
+	 *
+	 * @return a conflict clause if a propagated bound conflicts with the bounds of the variable.
+	 */
 	Clause checkPendingBoundPropagations() {
+		int budget = mPropagationBudget;
 		while (!mDirty.isEmpty()) {
+			if (mPropagationBudget > 0 && budget-- == 0) {
+				mNumPropagationBudgetExceeded++;
+				return null;
+			}
 			final int matrixPos = mDirty.nextSetBit(0);
 			final LinVar var = mLinvars.get(matrixPos);
 			mDirty.clear(matrixPos);
@@ -514,55 +667,25 @@ public class LinArSolve implements ITheory {
 				time = System.nanoTime();
 			}
 
-			boolean hasUpper = true, hasLower = true;
-			TableauxRow row = mTableaux.get(var.mMatrixpos);
-			int sign = -row.getRawCoeff(0).signum();
-			for (int i = 1; i < row.size(); i++) {
-				int coeffSign = row.getRawCoeff(i).signum();
-				LinVar colvar = mLinvars.get(row.getRawIndex(i));
-				if (hasUpper) {
-					InfinitesimalNumber colBound = coeffSign == sign ? colvar.getTightUpperBound()
-							: colvar.getTightLowerBound();
-					if (colBound.isInfinity()) {
-						hasUpper = false;
-					}
-				}
-				if (hasLower) {
-					InfinitesimalNumber colBound = coeffSign == sign ? colvar.getTightLowerBound()
-							: colvar.getTightUpperBound();
-					if (colBound.isInfinity()) {
-						hasLower = false;
-					}
-				}
+			if (var.mRowBounds == null) {
+				var.mRowBounds = new RowBounds(this, var);
 			}
+			final RowBounds rowBounds = var.mRowBounds;
+			assert !Config.EXPENSIVE_ASSERTS || checkRowBounds(var);
+			final boolean hasUpper = rowBounds.hasUpperBound();
+			final boolean hasLower = rowBounds.hasLowerBound();
 			if (Config.PROFILE_TIME) {
 				mBacktrackPropTime += System.nanoTime() - time;
 				time = System.nanoTime();
 			}
 			if (hasUpper || hasLower) {
-				InfinitesimalNumber upperBound = InfinitesimalNumber.ZERO;
-				InfinitesimalNumber lowerBound = InfinitesimalNumber.ZERO;
-				for (final MatrixEntry entry : var.getTableauxRow(this)) {
-					Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
-					LinVar colvar = entry.getColumn();
-					if (hasUpper) {
-						InfinitesimalNumber colBound = coeff.signum() > 0 ? colvar.getUpperBound()
-								: colvar.getLowerBound();
-						upperBound = upperBound.add(colBound.mul(coeff));
-					}
-					if (hasLower) {
-						InfinitesimalNumber colBound = coeff.signum() > 0 ? colvar.getLowerBound()
-								: colvar.getUpperBound();
-						lowerBound = lowerBound.add(colBound.mul(coeff));
-					}
-				}
 				Clause conflict = null;
 				if (hasUpper) {
-					conflict = propagateBound(var, upperBound, true);
+					conflict = propagateBound(var, rowBounds.getUpperBound(this, var), true);
 				}
 				if (hasLower) {
 					if (conflict == null) {
-						conflict = propagateBound(var, lowerBound, false);
+						conflict = propagateBound(var, rowBounds.getLowerBound(this, var), false);
 					} else {
 						mDirty.set(var.mMatrixpos);
 					}
@@ -581,12 +704,60 @@ public class LinArSolve implements ITheory {
 		return null;
 	}
 
+	/**
+	 * Check that the cached bounds of a row agree with the bounds computed from scratch.
+	 */
+	private boolean checkRowBounds(final LinVar var) {
+		final RowBounds fresh = new RowBounds(this, var);
+		assert fresh.hasUpperBound() == var.mRowBounds.hasUpperBound();
+		assert fresh.hasLowerBound() == var.mRowBounds.hasLowerBound();
+		assert !fresh.hasUpperBound()
+				|| fresh.getUpperBound(this, var).equals(var.mRowBounds.getUpperBound(this, var));
+		assert !fresh.hasLowerBound()
+				|| fresh.getLowerBound(this, var).equals(var.mRowBounds.getLowerBound(this, var));
+		return true;
+	}
+
+	/**
+	 * Bring all variables within their bounds before the final check. This runs the simplex if it was deferred, or if
+	 * the last checkpoint stopped at propagated literals before running it. The bound propagations may tighten a bound
+	 * that equals a disequality, which moves variables out of bounds again, so this repeats until all variables are
+	 * within their bounds. Propagated literals that are already set are removed, since only unset literals prevent the
+	 * final check from enforcing the disequalities.
+	 *
+	 * @return a conflict clause or null if all bounds are satisfied or new literals are propagated.
+	 */
+	private Clause fixAllOobs() {
+		do {
+			Clause c = fixOobs();
+			if (c == null) {
+				c = checkPendingBoundPropagations();
+			}
+			if (c != null) {
+				return c;
+			}
+			for (final Iterator<Literal> it = mProplist.iterator(); it.hasNext();) {
+				final Literal lit = it.next();
+				final Literal status = lit.getAtom().getDecideStatus();
+				assert status != lit.negate() : "Propagated literal conflicts with the bounds";
+				if (status != null) {
+					it.remove();
+				}
+			}
+		} while (mProplist.isEmpty() && (!mOob.isEmpty() || !mDirty.isEmpty()));
+		return null;
+	}
+
 	@Override
 	public Clause computeConflictClause() {
 		mSuggestions.clear();
 		mEngine.getLogger().debug("Final Check LA");
+		Clause c = fixAllOobs();
+		if (c != null || !mProplist.isEmpty()) {
+			return c;
+		}
 		assert mOob.isEmpty();
-		Clause c = ensureIntegrals();
+		c = ensureIntegrals();
 		if (c != null || !mSuggestions.isEmpty() || !mProplist.isEmpty()) {
 			return c;
 		}
@@ -765,7 +936,9 @@ public class LinArSolve implements ITheory {
 			if (prevReason != null) {
 				prevReason.setOldLiteralReason(reason);
 			} else {
+				final InfinitesimalNumber oldLiteralBound = var.getUpperBound();
 				var.mUpperLiteral = reason;
+				updateRowBounds(var, true, oldLiteralBound);
 			}
 			// insert reason into the reason chain
 			if (bound.less(var.getExactUpperBound())) {
@@ -801,7 +974,9 @@ public class LinArSolve implements ITheory {
 			if (prevReason != null) {
 				prevReason.setOldLiteralReason(reason);
 			} else {
+				final InfinitesimalNumber oldLiteralBound = var.getLowerBound();
 				var.mLowerLiteral = reason;
+				updateRowBounds(var, false, oldLiteralBound);
 			}
 			// insert reason into the reason chain
 			if (var.getExactLowerBound().less(bound)) {
@@ -832,6 +1007,7 @@ public class LinArSolve implements ITheory {
 		InfinitesimalNumber bound = reason.getBound();
 		final InfinitesimalNumber epsilon = var.getEpsilon();
 		LiteralReason lastLiteral = reason.getLastLiteral();
+		final InfinitesimalNumber oldLiteralBound = reason.isUpper() ? var.getUpperBound() : var.getLowerBound();
 		if (reason instanceof LiteralReason) {
 			if (reason.isUpper()) {
 				reason.getVar().mUpperLiteral = (LiteralReason) reason;
@@ -865,6 +1041,7 @@ public class LinArSolve implements ITheory {
 			}
 
 			if (!var.mBasic) {
+				updateRowBounds(var, true, oldLiteralBound);
 				updateVariable(var, true, oldBound, bound);
 			} else if (var.outOfBounds()) {
 				mOob.add(var);
@@ -907,6 +1084,7 @@ public class LinArSolve implements ITheory {
 			}
 
 			if (!var.mBasic) {
+				updateRowBounds(var, false, oldLiteralBound);
 				updateVariable(var, false, oldBound, bound);
 			} else if (var.outOfBounds()) {
 				mOob.add(var);
@@ -1030,7 +1208,7 @@ public class LinArSolve implements ITheory {
 			return conflict;
 		}
 		// Prevent pivoting before tableau simplification
-		if (!mInCheck) {
+		if (!mInCheck || mDeferSimplex) {
 			return null;
 		}
 		conflict = fixOobs();
@@ -1050,8 +1228,9 @@ public class LinArSolve implements ITheory {
 	}
 
 	public void dumpTableaux(final LogProxy logger) {
-		for (final TableauxRow row : mTableaux) {
-			if (row != null) {
+		for (final LinVar var : mLinvars) {
+			if (var.mBasic) {
+				final TableauxRow row = getRow(var.mMatrixpos);
 				final StringBuilder sb = new StringBuilder();
 				sb.append(row.getRawCoeff(0)).append('*').append(mLinvars.get(row.getRawIndex(0)));
 				String comma = "";
@@ -1143,6 +1322,9 @@ public class LinArSolve implements ITheory {
 			}
 			logger.info("Number of variables: " + mLinvars.size()
 					+ " nonbasic: " + basicVars + " shared: " + mSharedVars.size());
+			if (mFactorized != null) {
+				logger.info("Number of basis factorizations: " + mFactorized.mNumFactorizations);
+			}
 			logger.info("Time for fix Oob          : " + mFixTime / 1000000);// NOCHECKSTYLE
 			logger.info("Time for pivoting         : " + mPivotTime / 1000000);// NOCHECKSTYLE
 			logger.info("Time for bound computation: " + mPropBoundTime / 1000000);// NOCHECKSTYLE
@@ -1152,6 +1334,8 @@ public class LinArSolve implements ITheory {
 			logger.info("Number of cuts: " + mNumCuts);
 			logger.info("Time for cut-generation: " + mCutGenTime / 1000000);// NOCHECKSTYLE
 			logger.info("Number of branchings: " + mNumBranches);
+			logger.info("Number of Gomory cuts: " + mNumGomoryCuts + " (reused from pool: " + mNumPoolCuts + ")");
+			logger.info("Number of branch and bound nodes: " + mNumBranchAndBoundNodes);
 		}
 	}
 
@@ -1170,12 +1354,19 @@ public class LinArSolve implements ITheory {
 		}
 		final LinVar basic = mLinvars.get(rowMatrixPos);
 		final LinVar nonbasic = mLinvars.get(colMatrixPos);
-		final TableauxRow row = mTableaux.get(rowMatrixPos);
+		final TableauxRow row = getRow(rowMatrixPos);
 		if (mEngine.getLogger().isDebugEnabled()) {
 			mEngine.getLogger().debug("pivot " + basic + " / " + nonbasic);
 		}
 		assert basic.mBasic;
 		assert !nonbasic.mBasic;
+		if (mFactorized != null) {
+			pivotFactorized(basic, nonbasic, row);
+			if (Config.PROFILE_TIME) {
+				mPivotTime += System.nanoTime() - starttime;
+			}
+			return;
+		}
 		basic.mBasic = false;
 		nonbasic.mBasic = true;
 
@@ -1199,6 +1390,7 @@ public class LinArSolve implements ITheory {
 		}
 		basic.mCachedRowVars = null;
 		basic.mCachedRowCoeffs = null;
+		basic.mRowBounds = null;
 
 		mDirty.set(colMatrixPos);
 		assert nonbasic.mCachedRowCoeffs == null;
@@ -1213,6 +1405,7 @@ public class LinArSolve implements ITheory {
 			mTableaux.get(rowIdx).addRow(this, row);
 			rowVar.mCachedRowVars = null;
 			rowVar.mCachedRowCoeffs = null;
+			rowVar.mRowBounds = null;
 			mDirty.set(rowVar.mMatrixpos);
 			assert rowVar.checkCoeffChain(this);
 		}
@@ -1222,6 +1415,49 @@ public class LinArSolve implements ITheory {
 //		mengine.getLogger().debug("Pivoting took " + (System.nanoTime() - starttime));
 	}
 
+	/**
+	 * Pivot step for the factorized tableaux. The row of the old basic variable becomes the row of the new basic
+	 * variable; the other rows containing the new basic variable are dropped and computed again when needed.
+	 */
+	private void pivotFactorized(final LinVar basic, final LinVar nonbasic, final TableauxRow row) {
+		final ArrayList<LinVar> changedRows = mFactorized.pivot(basic, nonbasic);
+		basic.mBasic = false;
+		nonbasic.mBasic = true;
+		mTableaux.set(basic.mMatrixpos, null);
+		row.swapRowCol(nonbasic.mMatrixpos);
+		mTableaux.set(nonbasic.mMatrixpos, row);
+		basic.mCachedRowVars = null;
+		basic.mCachedRowCoeffs = null;
+		basic.mRowBounds = null;
+		mDirty.set(nonbasic.mMatrixpos);
+		assert nonbasic.mCachedRowCoeffs == null;
+		assert nonbasic.checkCoeffChain(this);
+		for (final LinVar rowVar : changedRows) {
+			mTableaux.set(rowVar.mMatrixpos, null);
+			rowVar.mCachedRowVars = null;
+			rowVar.mCachedRowCoeffs = null;
+			rowVar.mRowBounds = null;
+			mDirty.set(rowVar.mMatrixpos);
+		}
+	}
+
+	/**
+	 * Get the tableaux row of a basic variable.
+	 *
+	 * @param matrixPos
+	 *            the matrix position of the basic variable.
+	 * @return the tableaux row.
+	 */
+	TableauxRow getRow(final int matrixPos) {
+		TableauxRow row = mTableaux.get(matrixPos);
+		if (row == null) {
+			assert mFactorized != null && mLinvars.get(matrixPos).mBasic;
+			row = mFactorized.computeRow(mLinvars.get(matrixPos));
+			mTableaux.set(matrixPos, row);
+		}
+		return row;
+	}
+
 	/**
 	 * Ensure that all integer variables have integral values.
 	 * @return Conflict clause or <code>null</code> if formula is satisfiable.
@@ -1250,8 +1486,19 @@ public class LinArSolve implements ITheory {
 		if (Config.PROFILE_TIME) {
 			start = System.nanoTime();
 		}
-		final CutCreator cutter = new CutCreator(this);
-		cutter.generateCuts();
+		boolean suggested = false;
+		if (mCutPool != null) {
+			mCutPool.age();
+			mGomoryTurn = !mGomoryTurn;
+			suggested = mCutPool.suggestViolatedCuts() || mGomoryTurn && mCutPool.generateCuts();
+		}
+		if (!suggested && mBranchAndBound != null) {
+			suggested = mBranchAndBound.search(mBranchAndBoundNodeLimit);
+		}
+		if (!suggested) {
+			final CutCreator cutter = new CutCreator(this);
+			cutter.generateCuts();
+		}
 		if (Config.PROFILE_TIME) {
 			mCutGenTime += System.nanoTime() - start;
 		}
@@ -1283,19 +1530,22 @@ public class LinArSolve implements ITheory {
 			starttime = System.nanoTime();
 		}
 
-		boolean hasOob = false;
+		int numOob = 0;
 		for (final Iterator<LinVar> it = mOob.iterator(); it.hasNext();) {
 			final LinVar var = it.next();
 			if (var.outOfBounds()) {
-				hasOob = true;
+				numOob++;
 			} else {
 				it.remove();
 			}
 		}
-		if (!hasOob) {
+		if (numOob == 0) {
 			return null;
 		}
 
+		if (mFloatPrepass && numOob >= FLOAT_MIN_OOB) {
+			mNumFloatPivots += new FloatSimplex(this).run(FLOAT_PIVOT_FACTOR * mLinvars.size());
+		}
 		final Clause conflict = new SOIPivoter(this).fixOobs();
 		if (conflict == null) {
 			mOob.clear();
@@ -1326,7 +1576,7 @@ public class LinArSolve implements ITheory {
 			start = System.nanoTime();
 		}
 		if (isUpper ? bound.less(basic.getTightUpperBound()) : basic.getTightLowerBound().less(bound)) {
-			final TableauxRow row = mTableaux.get(basic.mMatrixpos);
+			final TableauxRow row = getRow(basic.mMatrixpos);
 			final BigInteger denom = row.getRawCoeff(0).negate();
 
 			LAReason[] reasons;
@@ -1432,16 +1682,18 @@ public class LinArSolve implements ITheory {
 	private void removeLinVar(final LinVar v) {
 		if (!v.mBasic) {
 			// We might have nonbasic variables that do not contribute to a basic variable.
-			final BitSet dependencies = mDependentRows.get(v.mMatrixpos);
-			if (!dependencies.isEmpty()) {
-				final int row = dependencies.nextSetBit(0);
-				pivot(row, v.mMatrixpos);
+			final Iterator<MatrixEntry> dependencies = v.getTableauxColumn(this).iterator();
+			if (dependencies.hasNext()) {
+				pivot(dependencies.next().getRow().mMatrixpos, v.mMatrixpos);
 			}
 		}
-		assert v.mBasic || mDependentRows.get(v.mMatrixpos).isEmpty();
+		assert v.mBasic || !v.getTableauxColumn(this).iterator().hasNext();
 		assert v.mMatrixpos == mLinvars.size() - 1;
+		if (mFactorized != null) {
+			mFactorized.removeLast(v);
+		}
 		mLinvars.remove(v.mMatrixpos);
-		if (v.mBasic) {
+		if (v.mBasic && mFactorized == null) {
 			final TableauxRow row = mTableaux.get(v.mMatrixpos);
 			for (int i = 1; i < row.size(); i++) {
 				final LinVar col = mLinvars.get(row.getRawIndex(i));
@@ -1463,7 +1715,7 @@ public class LinArSolve implements ITheory {
 	private void unsimplifyAndAdd(final LinVar lv, final Rational fac, final Map<LinVar, Rational> facs) {
 		if (lv.mBasic) {
 			// currently basic variable
-			final TableauxRow row = mTableaux.get(lv.mMatrixpos);
+			final TableauxRow row = getRow(lv.mMatrixpos);
 			final BigInteger denom = row.getRawCoeff(0).negate();
 			for (int i = 1; i < row.size(); i++) {
 				final Rational coeff = Rational.valueOf(row.getRawCoeff(i), denom);
@@ -1902,10 +2154,10 @@ public class LinArSolve implements ITheory {
 	public LAEquality createEquality(final MutableAffineTerm at) {
 		final Rational normFactor = at.getGCD().inverse();
 		at.mul(normFactor);
-		final LinVar var = generateLinVar(getSummandMap(at));
+		final LinVar var = generateLinVar(at);
 		InfinitesimalNumber bound;
-		if (at.mSummands.size() == 1) {
-			final Rational fac = at.mSummands.values().iterator().next();
+		if (at.mSize == 1) {
+			final Rational fac = at.mCoeffs[0];
 			bound = at.mConstant.negate().div(fac);
 		} else {
 			bound = at.mConstant.negate();
@@ -1972,7 +2224,7 @@ public class LinArSolve implements ITheory {
 			final Rational normFactor = mat.getGCD().inverse();
 			final Rational offset = mat.getConstant().mReal;
 			mat.mul(normFactor);
-			final LinVar linVar = generateLinVar(getSummandMap(mat));
+			final LinVar linVar = generateLinVar(mat);
 			shared.setLinVar(normFactor.inverse(), linVar, offset);
 		}
 	}
@@ -2021,6 +2273,12 @@ public class LinArSolve implements ITheory {
 		mLinvars.endScope();
 		mSharedVars.endScope();
 		mTerms.endScope();
+		if (mCutPool != null) {
+			mCutPool.clear();
+		}
+		if (mBranchAndBound != null) {
+			mBranchAndBound.clear();
+		}
 		// TODO This is a bit too much but should work
 		mSuggestions.clear();
 		mProplist.clear();
@@ -2045,10 +2303,15 @@ public class LinArSolve implements ITheory {
 			":LA", new Object[][] {
 				{"Pivot", mNumPivots},
 				{"PivotBland", mNumPivotsBland},
+				{"PivotFloat", mNumFloatPivots},
+				{"PropBudgetExceeded", mNumPropagationBudgetExceeded},
 				{"Vars", mLinvars.size()},
 				{"CompLits", mCompositeCreateLit},
 				{"Cuts", mNumCuts},
 				{"Branches", mNumBranches},
+				{"GomoryCuts", mNumGomoryCuts},
+				{"PoolCuts", mNumPoolCuts},
+				{"BranchAndBoundNodes", mNumBranchAndBoundNodes},
 				{"Times", new Object[][]{
 					{"Pivot", mPivotTime / 1000000},// NOCHECKSTYLE
 					{"Fix", mFixTime / 1000000}, // NOCHECKSTYLE
@@ -2129,12 +2392,11 @@ public class LinArSolve implements ITheory {
 		final Rational normFactor = at.getGCD().inverse();
 		at.mul(normFactor);
 		LinVar var;
-		if (at.getSummands().size() == 1) {
-			final Map.Entry<LinVar, Rational> me = at.getSummands().entrySet().iterator().next();
-			assert me.getValue().equals(Rational.ONE);
-			var = me.getKey();
+		if (at.mSize == 1) {
+			assert at.mCoeffs[0].equals(Rational.ONE);
+			var = at.mVars[0];
 		} else {
-			var = mTerms.get(at.getSummands());
+			var = mTerms.get(at.toLinTerm());
 		}
 		// original at is (var + at.getOffset()) / normFactor
 		if (var != null) {
@@ -19,6 +19,7 @@
 package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import de.uni_freiburg.informatik.ultimate.smtinterpol.util.ArrayMap;
 
@@ -28,13 +29,43 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.util.ArrayMap;
  * @author Juergen Christ
  */
 public class LinTerm extends ArrayMap<LinVar, BigInteger> {
+	/** The variables sorted by their matrix position. */
+	final LinVar[] mVars;
+	/** The non-zero coefficients of the variables. */
+	final BigInteger[] mCoeffs;
+
 	/**
 	 * Generate a new linear term. Note that we do not make a copy of the given
 	 * map.
-	 * @param coeffmap Coefficient map to use.
+	 * @param vars The variables sorted by their matrix position.
+	 * @param coeffs The coefficients of the variables.
 	 */
 	LinTerm(LinVar[] vars, BigInteger[] coeffs) {
 		super(vars, coeffs);
+		mVars = vars;
+		mCoeffs = coeffs;
+	}
+
+	/**
+	 * Compute the hash code as defined by {@link java.util.Map#hashCode()} without creating entry objects.
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int i = 0; i < mVars.length; i++) {
+			hash += mVars[i].hashCode() ^ mCoeffs[i].hashCode();
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof LinTerm) {
+			// both terms are sorted by matrix position, so they are equal iff the arrays are equal.
+			final LinTerm other = (LinTerm) o;
+			return Arrays.equals(mVars, other.mVars) && Arrays.equals(mCoeffs, other.mCoeffs);
+		}
+		return super.equals(o);
 	}
 
 	@Override
@@ -19,6 +19,7 @@
 package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 
+import de.uni_freiburg.informatik.ultimate.logic.MutableRational;
 import de.uni_freiburg.informatik.ultimate.logic.Rational;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.SharedTerm;
 
@@ -59,7 +61,13 @@ public class LinVar implements Comparable<LinVar> {
 	LAReason mUpper;
 	/** Current lower bound and its reason. null if no lower bound. */
 	LAReason mLower;
-	/** Current value. */
+	/**
+	 * Current value.  The real and epsilon part are updated in place by the simplex algorithm to avoid creating
+	 * temporary objects.
+	 */
+	private final MutableRational mCurReal = new MutableRational(0, 1);
+	private final MutableRational mCurEps = new MutableRational(0, 1);
+	/** Immutable copy of the current value; null if the value changed since the last call to getValue(). */
 	private ExactInfinitesimalNumber mCurval;
 	// Is value required to be integer?
 	boolean mIsInt;
@@ -81,6 +89,11 @@ public class LinVar implements Comparable<LinVar> {
 
 	LinVar[] mCachedRowVars;
 	Rational[] mCachedRowCoeffs;
+	/**
+	 * The bounds implied by the tableaux row of this basic variable, or null if they were not computed since the last
+	 * change of the row.
+	 */
+	RowBounds mRowBounds;
 
 	int mAssertionstacklevel;
 
@@ -184,18 +197,28 @@ public class LinVar implements Comparable<LinVar> {
 	 */
 	public boolean outOfBounds() {
 		if (mUpperLiteral != null) {
-			if (mCurval.compareTo(mUpperLiteral.getBound()) > 0) {
+			if (compareValue(mUpperLiteral.getBound()) > 0) {
 				return true;
 			}
 		}
 		if (mLowerLiteral != null) {
-			if (mCurval.compareTo(mLowerLiteral.getExactBound()) < 0) {
+			if (compareValue(mLowerLiteral.getExactBound()) < 0) {
 				return true;
 			}
 		}
 		return false;
 	}
 
+	/**
+	 * Compare the current value with a bound without creating temporary objects.
+	 * @param bound the bound.
+	 * @return -1, 0, or 1 if the value is less than, equal to, or greater than the bound.
+	 */
+	private int compareValue(final InfinitesimalNumber bound) {
+		final int cmp = mCurReal.compareTo(bound.mReal);
+		return cmp == 0 ? mCurEps.compareTo(Rational.valueOf(bound.mEps, 1)) : cmp;
+	}
+
 	/**
 	 * Dummy linear variable marking end of a non-basic chain.
 	 */
@@ -259,12 +282,13 @@ public class LinVar implements Comparable<LinVar> {
 			return true;
 		}
 		final MutableAffineTerm mat = new MutableAffineTerm();
-		final BigInteger headCoeff = solver.mTableaux.get(mMatrixpos).getRawCoeff(0);
+		final BigInteger headCoeff = solver.getRow(mMatrixpos).getRawCoeff(0);
 		mat.add(Rational.valueOf(headCoeff, BigInteger.ONE), this);
 		for (final MatrixEntry entry : getTableauxRow(solver)) {
 			assert entry.getRow() == this;
 			assert !entry.getColumn().mBasic;
-			assert solver.mDependentRows.get(entry.getColumn().mMatrixpos).get(mMatrixpos);
+			assert solver.mFactorized != null
+					|| solver.mDependentRows.get(entry.getColumn().mMatrixpos).get(mMatrixpos);
 			mat.add(Rational.valueOf(entry.getCoeff(), BigInteger.ONE), entry.getColumn());
 		}
 		assert mat.isConstant() && mat.getConstant().equals(InfinitesimalNumber.ZERO);
@@ -280,15 +304,36 @@ public class LinVar implements Comparable<LinVar> {
 	}
 
 	public final ExactInfinitesimalNumber getValue() {
+		if (mCurval == null) {
+			mCurval = new ExactInfinitesimalNumber(mCurReal.toRational(), mCurEps.toRational());
+		}
 		return mCurval;
 	}
 
 	public final void setValue(final ExactInfinitesimalNumber value) {
+		mCurReal.setValue(value.getRealValue());
+		mCurEps.setValue(value.getEpsilon());
 		mCurval = value;
 	}
 
 	public final void addValue(final ExactInfinitesimalNumber value) {
-		mCurval = mCurval.add(value);
+		mCurReal.add(value.getRealValue());
+		mCurEps.add(value.getEpsilon());
+		mCurval = null;
+	}
+
+	/**
+	 * Add {@code value * coeff} to the current value.  This is the update done for every dependent basic variable
+	 * when a non-basic variable changes.
+	 * @param value the change of the non-basic variable.
+	 * @param coeff the coefficient of the non-basic variable in the row of this variable.
+	 */
+	public final void addValue(final ExactInfinitesimalNumber value, final Rational coeff) {
+		mCurReal.addmul(value.getRealValue(), coeff);
+		if (value.getEpsilon() != Rational.ZERO) {
+			mCurEps.addmul(value.getEpsilon(), coeff);
+		}
+		mCurval = null;
 	}
 
 	private boolean checkReasonChain(LAReason reason, LiteralReason litreason) {
@@ -310,8 +355,7 @@ public class LinVar implements Comparable<LinVar> {
 
 	public Iterable<MatrixEntry> getTableauxRow(final LinArSolve solver) {
 		assert mBasic;
-		final TableauxRow row = solver.mTableaux.get(mMatrixpos);
-		assert row != null;
+		final TableauxRow row = solver.getRow(mMatrixpos);
 		return new Iterable<MatrixEntry>() {
 
 			@Override
@@ -335,6 +379,9 @@ public class LinVar implements Comparable<LinVar> {
 
 	public Iterable<MatrixEntry> getTableauxColumn(final LinArSolve solver) {
 		assert !mBasic;
+		if (solver.mFactorized != null) {
+			return Arrays.asList(solver.mFactorized.getColumn(this));
+		}
 		final BitSet dependentRows = solver.mDependentRows.get(mMatrixpos);
 		return new Iterable<MatrixEntry>() {
 
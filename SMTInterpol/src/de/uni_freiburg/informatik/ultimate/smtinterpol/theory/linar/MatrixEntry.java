@@ -20,8 +20,11 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
 
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
 /**
- * This represents an entry in our sparse matrix.
+ * This represents an entry in our sparse matrix. The entry either points into a stored tableaux row, or it was
+ * computed from the basis factorization and stores the row variable and the coefficient directly.
  *
  * @author Jochen Hoenicke
  */
@@ -29,30 +32,79 @@ public class MatrixEntry {
 	private final LinArSolve mSolver;
 	private final TableauxRow mRow;
 	private final int mPosition;
+	/** The row variable, column variable and the row coefficient for computed entries; null otherwise. */
+	private final LinVar mRowVar;
+	private final LinVar mColumnVar;
+	private final Rational mRowCoeff;
 
 	public MatrixEntry(final LinArSolve solver, final TableauxRow row, final int pos) {
 		mSolver = solver;
 		mRow = row;
 		mPosition = pos;
+		mRowVar = null;
+		mColumnVar = null;
+		mRowCoeff = null;
+	}
+
+	/**
+	 * Create a computed matrix entry.
+	 *
+	 * @param rowVar
+	 *            the basic variable.
+	 * @param columnVar
+	 *            the non-basic variable.
+	 * @param rowCoeff
+	 *            the coefficient of the non-basic variable in the row of the basic variable.
+	 */
+	public MatrixEntry(final LinArSolve solver, final LinVar rowVar, final LinVar columnVar, final Rational rowCoeff) {
+		mSolver = solver;
+		mRow = null;
+		mPosition = -1;
+		mRowVar = rowVar;
+		mColumnVar = columnVar;
+		mRowCoeff = rowCoeff;
 	}
 
 	public LinVar getColumn() {
+		if (mRow == null) {
+			return mColumnVar;
+		}
 		return mSolver.mLinvars.get(mRow.getRawIndex(mPosition));
 	}
 
 	public LinVar getRow() {
+		if (mRow == null) {
+			return mRowVar;
+		}
 		return mSolver.mLinvars.get(mRow.getRawIndex(0));
 	}
 
 	public BigInteger getCoeff() {
+		if (mRow == null) {
+			return mRowCoeff.numerator();
+		}
 		return mRow.getRawCoeff(mPosition);
 	}
 
 	public BigInteger getHeadCoeff() {
+		if (mRow == null) {
+			return mRowCoeff.denominator().negate();
+		}
 		assert mPosition != 0;
 		return mRow.getRawCoeff(0);
 	}
 
+	/**
+	 * Get the coefficient of the column variable in the row variable, i.e., {@code -getCoeff()/getHeadCoeff()}.
+	 */
+	public Rational getRowCoeff() {
+		if (mRow == null) {
+			return mRowCoeff;
+		}
+		assert mPosition != 0;
+		return mRow.getRawRowCoeff(mPosition);
+	}
+
 	@Override
 	public String toString() {
 		if (mPosition == 0) {
@@ -19,24 +19,34 @@
 package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 
 import de.uni_freiburg.informatik.ultimate.logic.FunctionSymbol;
 import de.uni_freiburg.informatik.ultimate.logic.Rational;
 import de.uni_freiburg.informatik.ultimate.logic.Sort;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.util.ArrayMap;
 
 /**
  * Represents a modifiable affin term, i.e. SUM_i c_i * x_i + c, where the x_i are initially nonbasic variable.
  *
+ * The summands are stored in two parallel arrays sorted by the matrix position of the variables. Adding two terms
+ * merges the arrays, adding a single summand inserts it in place.
+ *
  * @author hoenicke.
  */
 public class MutableAffineTerm {
-	TreeMap<LinVar, Rational> mSummands = new TreeMap<>();
+	private static final LinVar[] EMPTY_VARS = new LinVar[0];
+	private static final Rational[] EMPTY_COEFFS = new Rational[0];
+
+	/** The variables of the summands sorted by their matrix position. Only the first mSize entries are used. */
+	LinVar[] mVars = EMPTY_VARS;
+	/** The non-zero coefficients of the summands. */
+	Rational[] mCoeffs = EMPTY_COEFFS;
+	/** The number of summands. */
+	int mSize;
 	InfinitesimalNumber mConstant;
 
 	public MutableAffineTerm() {
@@ -58,36 +68,108 @@ public class MutableAffineTerm {
 			return this;
 		}
 		if (var.isInitiallyBasic()) {
-			for (final Map.Entry<LinVar, BigInteger> me : var.getLinTerm().entrySet()) {
-				add(c.mul(me.getValue()), me.getKey());
-			}
+			final LinTerm linterm = (LinTerm) var.getLinTerm();
+			merge(c, linterm.mVars, null, linterm.mCoeffs, linterm.mVars.length);
 		} else {
 			addSimple(c, var);
 		}
 		return this;
 	}
 
-	private void addMap(final Rational c, final Map<LinVar, Rational> linterm) {
-		for (final Map.Entry<LinVar, Rational> summand : linterm.entrySet()) {
-			addSimple(c.mul(summand.getValue()), summand.getKey());
+	/**
+	 * Find the position of a variable in the summand arrays.
+	 *
+	 * @return the index of the variable if it is contained, otherwise {@code -(insertion point) - 1}.
+	 */
+	private int find(final LinVar var) {
+		int low = 0;
+		int high = mSize - 1;
+		while (low <= high) {
+			final int mid = (low + high) >>> 1;
+			final int cmp = mVars[mid].mMatrixpos - var.mMatrixpos;
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
 		}
+		return -low - 1;
 	}
 
-	private void addSimple(Rational c, final LinVar term) {
+	private void addSimple(final Rational c, final LinVar term) {
 		assert (!c.equals(Rational.ZERO));
-		final Rational oldc = mSummands.remove(term);
-		if (oldc != null) {
-			c = oldc.add(c);
-			if (c.equals(Rational.ZERO)) {
-				return;
+		final int pos = find(term);
+		if (pos >= 0) {
+			final Rational sum = mCoeffs[pos].add(c);
+			if (sum.equals(Rational.ZERO)) {
+				mSize--;
+				System.arraycopy(mVars, pos + 1, mVars, pos, mSize - pos);
+				System.arraycopy(mCoeffs, pos + 1, mCoeffs, pos, mSize - pos);
+				mVars[mSize] = null;
+				mCoeffs[mSize] = null;
+			} else {
+				mCoeffs[pos] = sum;
+			}
+			return;
+		}
+		final int insert = -pos - 1;
+		if (mSize == mVars.length) {
+			final int newLength = Math.max(4, 2 * mSize); // NOCHECKSTYLE
+			mVars = Arrays.copyOf(mVars, newLength);
+			mCoeffs = Arrays.copyOf(mCoeffs, newLength);
+		}
+		System.arraycopy(mVars, insert, mVars, insert + 1, mSize - insert);
+		System.arraycopy(mCoeffs, insert, mCoeffs, insert + 1, mSize - insert);
+		mVars[insert] = term;
+		mCoeffs[insert] = c;
+		mSize++;
+	}
+
+	/**
+	 * Add c times the sorted summands given by the arrays to this term. Exactly one of the coefficient arrays is
+	 * non-null.
+	 */
+	private void merge(final Rational c, final LinVar[] vars, final Rational[] coeffs, final BigInteger[] intCoeffs,
+			final int size) {
+		if (size == 1) {
+			addSimple(coeffs != null ? c.mul(coeffs[0]) : c.mul(intCoeffs[0]), vars[0]);
+			return;
+		}
+		final LinVar[] newVars = new LinVar[mSize + size];
+		final Rational[] newCoeffs = new Rational[mSize + size];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while (i < mSize || j < size) {
+			final int cmp = i == mSize ? 1 : j == size ? -1 : mVars[i].mMatrixpos - vars[j].mMatrixpos;
+			if (cmp < 0) {
+				newVars[k] = mVars[i];
+				newCoeffs[k++] = mCoeffs[i++];
+				continue;
+			}
+			Rational coeff = coeffs != null ? c.mul(coeffs[j]) : c.mul(intCoeffs[j]);
+			if (cmp == 0) {
+				coeff = coeff.add(mCoeffs[i++]);
+				if (coeff.equals(Rational.ZERO)) {
+					j++;
+					continue;
+				}
 			}
+			newVars[k] = vars[j++];
+			newCoeffs[k++] = coeff;
 		}
-		mSummands.put(term, c);
+		mVars = newVars;
+		mCoeffs = newCoeffs;
+		mSize = k;
 	}
 
 	public MutableAffineTerm add(final Rational c, final MutableAffineTerm a) {
 		if (c != Rational.ZERO) {
-			addMap(c, a.mSummands);
+			if (a.mSize > 0) {
+				merge(c, a.mVars, a.mCoeffs, null, a.mSize);
+			}
 			mConstant = mConstant.add(a.mConstant.mul(c));
 		}
 		return this;
@@ -95,10 +177,12 @@ public class MutableAffineTerm {
 
 	public MutableAffineTerm mul(final Rational c) {
 		if (c.equals(Rational.ZERO)) {
-			mSummands.clear();
+			Arrays.fill(mVars, 0, mSize, null);
+			Arrays.fill(mCoeffs, 0, mSize, null);
+			mSize = 0;
 		} else if (!c.equals(Rational.ONE)) {
-			for (final Map.Entry<LinVar, Rational> summand : mSummands.entrySet()) {
-				summand.setValue(c.mul(summand.getValue()));
+			for (int i = 0; i < mSize; i++) {
+				mCoeffs[i] = c.mul(mCoeffs[i]);
 			}
 			mConstant = mConstant.mul(c);
 		}
@@ -114,25 +198,44 @@ public class MutableAffineTerm {
 	}
 
 	public boolean isConstant() {
-		return mSummands.isEmpty();
+		return mSize == 0;
 	}
 
 	public InfinitesimalNumber getConstant() {
 		return mConstant;
 	}
 
-	public TreeMap<LinVar, Rational> getSummands() {
-		return mSummands;
+	/**
+	 * Get the summands of this term as a map. The map is a copy and not affected by later changes to this term.
+	 *
+	 * @return the map from variables to their non-zero coefficients.
+	 */
+	public Map<LinVar, Rational> getSummands() {
+		return new ArrayMap<>(Arrays.copyOf(mVars, mSize), Arrays.copyOf(mCoeffs, mSize));
+	}
+
+	/**
+	 * Convert the summands of this term to a linear term. The term must be normalized, i.e., all coefficients must be
+	 * integral.
+	 *
+	 * @return the linear term.
+	 */
+	LinTerm toLinTerm() {
+		final BigInteger[] coeffs = new BigInteger[mSize];
+		for (int i = 0; i < mSize; i++) {
+			assert mCoeffs[i].isIntegral();
+			coeffs[i] = mCoeffs[i].numerator();
+		}
+		return new LinTerm(Arrays.copyOf(mVars, mSize), coeffs);
 	}
 
 	public Rational getGCD() {
-		assert (!mSummands.isEmpty());
-		final Iterator<Rational> it = mSummands.values().iterator();
-		Rational gcd = it.next();
+		assert (mSize > 0);
+		Rational gcd = mCoeffs[0];
 		final boolean firstSign = gcd.isNegative();
 		gcd = gcd.abs();
-		while (it.hasNext()) {
-			gcd = gcd.gcd(it.next().abs());
+		for (int i = 1; i < mSize; i++) {
+			gcd = gcd.gcd(mCoeffs[i].abs());
 		}
 		if (firstSign) {
 			gcd = gcd.negate();
@@ -152,9 +255,9 @@ public class MutableAffineTerm {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		boolean isFirst = true;
-		for (final Entry<LinVar, Rational> entry : mSummands.entrySet()) {
-			final LinVar var = entry.getKey();
-			Rational fact = entry.getValue();
+		for (int i = 0; i < mSize; i++) {
+			final LinVar var = mVars[i];
+			Rational fact = mCoeffs[i];
 			if (fact.isNegative()) {
 				sb.append(isFirst ? "-" : " - ");
 			} else {
@@ -204,29 +307,29 @@ public class MutableAffineTerm {
 		}
 		assert (!isInt || mConstant.mReal.isIntegral());
 		final Term constTerm = mConstant.mReal.equals(Rational.ZERO) ? null : mConstant.mReal.toTerm(numSort);
-		final Term[] terms = new Term[mSummands.size() + (constTerm == null ? 0 : 1)];
+		final Term[] terms = new Term[mSize + (constTerm == null ? 0 : 1)];
 		if (constTerm != null) {
-			terms[mSummands.size()] = constTerm;
+			terms[mSize] = constTerm;
 		}
-		int offset = 0;
-		for (final Map.Entry<LinVar, Rational> me : mSummands.entrySet()) {
-			final LinVar lv = me.getKey();
+		for (int i = 0; i < mSize; i++) {
+			final LinVar lv = mVars[i];
+			final Rational coeff = mCoeffs[i];
 			Term convme = lv.getSharedTerm().getRealTerm();
 			// if affine term is integral it may only add integers.
 			assert (!isInt || lv.isInt());
-			assert (!isInt || me.getValue().isIntegral());
+			assert (!isInt || coeff.isIntegral());
 			if (!isInt && lv.isInt()) {
 				final Sort intSort = t.getSort("Int");
 				final FunctionSymbol toReal = t.getFunction("to_real", intSort);
 				convme = t.term(toReal, convme);
 			}
-			if (me.getValue().equals(Rational.MONE)) {
+			if (coeff.equals(Rational.MONE)) {
 				convme = t.term(negate, convme);
-			} else if (!me.getValue().equals(Rational.ONE)) {
-				final Term convfac = me.getValue().toTerm(numSort);
+			} else if (!coeff.equals(Rational.ONE)) {
+				final Term convfac = coeff.toTerm(numSort);
 				convme = t.term(times, convfac, convme);
 			}
-			terms[offset++] = convme;
+			terms[i] = convme;
 		}
 		if (terms.length == 0) {
 			return Rational.ZERO.toTerm(numSort);
@@ -238,8 +341,8 @@ public class MutableAffineTerm {
 	}
 
 	public boolean isInt() {
-		for (final LinVar v : mSummands.keySet()) {
-			if (!v.isInt()) {
+		for (int i = 0; i < mSize; i++) {
+			if (!mVars[i].isInt()) {
 				return false;
 			}
 		}
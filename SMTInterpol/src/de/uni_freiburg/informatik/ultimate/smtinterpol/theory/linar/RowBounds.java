@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import de.uni_freiburg.informatik.ultimate.logic.MutableRational;
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * The bounds of a basic variable implied by its tableaux row and the literal bounds of the column variables. For the
+ * row {@code y = c1*x1 + ... + cn*xn} the upper bound is the sum of {@code ci*ui} for positive {@code ci} and
+ * {@code ci*li} for negative {@code ci}, where {@code li} and {@code ui} are the bounds of {@code xi}. The lower bound
+ * is computed symmetrically.
+ *
+ * <p>
+ * For each of the two bounds this class keeps the number of infinite summands and the sum of the finite summands. It
+ * is updated whenever a bound of a column variable changes, so that the bounds of a row are available without
+ * iterating over the row. The sums are only computed once they are needed, i.e., when there are no infinite summands
+ * left.
+ */
+class RowBounds {
+	/** The number of summands of the upper bound that are infinite. */
+	private int mUpperInf;
+	/** The sum of the finite summands of the upper bound, or null if it was not computed yet. */
+	private MutableRational mUpperSum;
+	/** The sum of the epsilons of the finite summands of the upper bound. */
+	private int mUpperEps;
+	/** The number of summands of the lower bound that are infinite. */
+	private int mLowerInf;
+	/** The sum of the finite summands of the lower bound, or null if it was not computed yet. */
+	private MutableRational mLowerSum;
+	/** The sum of the epsilons of the finite summands of the lower bound. */
+	private int mLowerEps;
+
+	/**
+	 * Count the infinite summands of the bounds of a basic variable.
+	 *
+	 * @param solver
+	 *            the linear arithmetic solver.
+	 * @param basic
+	 *            the basic variable.
+	 */
+	RowBounds(final LinArSolve solver, final LinVar basic) {
+		final TableauxRow row = solver.getRow(basic.mMatrixpos);
+		final int sign = -row.getRawCoeff(0).signum();
+		for (int i = 1; i < row.size(); i++) {
+			final boolean isPositive = row.getRawCoeff(i).signum() == sign;
+			final LinVar colvar = solver.mLinvars.get(row.getRawIndex(i));
+			if (colvar.getUpperBound().isInfinity()) {
+				if (isPositive) {
+					mUpperInf++;
+				} else {
+					mLowerInf++;
+				}
+			}
+			if (colvar.getLowerBound().isInfinity()) {
+				if (isPositive) {
+					mLowerInf++;
+				} else {
+					mUpperInf++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compute the sum of the finite summands of the upper or lower bound.
+	 */
+	private void computeSum(final LinArSolve solver, final LinVar basic, final boolean isUpper) {
+		final MutableRational sum = new MutableRational(0, 1);
+		int eps = 0;
+		for (final MatrixEntry entry : basic.getTableauxRow(solver)) {
+			final Rational coeff = entry.getRowCoeff();
+			final LinVar colvar = entry.getColumn();
+			final InfinitesimalNumber bound =
+					isUpper == coeff.signum() > 0 ? colvar.getUpperBound() : colvar.getLowerBound();
+			if (!bound.isInfinity()) {
+				sum.addmul(bound.mReal, coeff);
+				eps += bound.mEps * coeff.signum();
+			}
+		}
+		if (isUpper) {
+			mUpperSum = sum;
+			mUpperEps = eps;
+		} else {
+			mLowerSum = sum;
+			mLowerEps = eps;
+		}
+	}
+
+	/**
+	 * Update the bounds after a bound of a column variable changed.
+	 *
+	 * @param entry
+	 *            the matrix entry of the column variable in the row.
+	 * @param isUpperOfColumn
+	 *            true if the upper bound of the column variable changed.
+	 * @param oldBound
+	 *            the previous bound of the column variable.
+	 * @param newBound
+	 *            the new bound of the column variable.
+	 */
+	void update(final MatrixEntry entry, final boolean isUpperOfColumn, final InfinitesimalNumber oldBound,
+			final InfinitesimalNumber newBound) {
+		final boolean isPositive = entry.getCoeff().signum() != entry.getHeadCoeff().signum();
+		final boolean isUpper = isUpperOfColumn == isPositive;
+		final int infDiff = (newBound.isInfinity() ? 1 : 0) - (oldBound.isInfinity() ? 1 : 0);
+		final MutableRational sum;
+		if (isUpper) {
+			mUpperInf += infDiff;
+			sum = mUpperSum;
+		} else {
+			mLowerInf += infDiff;
+			sum = mLowerSum;
+		}
+		if (sum == null) {
+			return;
+		}
+		final Rational coeff = entry.getRowCoeff();
+		int epsDiff = 0;
+		if (!oldBound.isInfinity()) {
+			sum.addmul(oldBound.mReal, coeff.negate());
+			epsDiff -= oldBound.mEps * coeff.signum();
+		}
+		if (!newBound.isInfinity()) {
+			sum.addmul(newBound.mReal, coeff);
+			epsDiff += newBound.mEps * coeff.signum();
+		}
+		if (isUpper) {
+			mUpperEps += epsDiff;
+		} else {
+			mLowerEps += epsDiff;
+		}
+	}
+
+	boolean hasUpperBound() {
+		return mUpperInf == 0;
+	}
+
+	boolean hasLowerBound() {
+		return mLowerInf == 0;
+	}
+
+	InfinitesimalNumber getUpperBound(final LinArSolve solver, final LinVar basic) {
+		assert hasUpperBound();
+		if (mUpperSum == null) {
+			computeSum(solver, basic, true);
+		}
+		return new InfinitesimalNumber(mUpperSum.toRational(), InfinitesimalNumber.normEpsilon(mUpperEps));
+	}
+
+	InfinitesimalNumber getLowerBound(final LinArSolve solver, final LinVar basic) {
+		assert hasLowerBound();
+		if (mLowerSum == null) {
+			computeSum(solver, basic, false);
+		}
+		return new InfinitesimalNumber(mLowerSum.toRational(), InfinitesimalNumber.normEpsilon(mLowerEps));
+	}
+}
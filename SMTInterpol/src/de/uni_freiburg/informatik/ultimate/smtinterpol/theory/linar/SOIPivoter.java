@@ -77,7 +77,7 @@ public class SOIPivoter {
 			// mSoiValue is already updated.
 			// Next step: Update soiVar by adding the row of coefficients.
 
-			BigInteger divisor = mSolver.mTableaux.get(var.mMatrixpos).getRawCoeff(0);
+			BigInteger divisor = mSolver.getRow(var.mMatrixpos).getRawCoeff(0);
 			if (isUpper) {
 				divisor = divisor.negate();
 			}
@@ -116,7 +116,7 @@ public class SOIPivoter {
 
 			for (final MatrixEntry me : colVar.getTableauxColumn(mSolver)) {
 				final LinVar rowVar = me.getRow();
-				final Rational weight = Rational.valueOf(me.getCoeff(), me.getHeadCoeff().negate());
+				final Rational weight = me.getRowCoeff();
 				final LAReason bound = weight.signum() == coeff.signum() ? rowVar.mLowerLiteral : rowVar.mUpperLiteral;
 				if (bound != null && rowVar.getValue().equals(new ExactInfinitesimalNumber(bound.getBound()))) {
 					// check if this entry would be used by Bland strategy (first column, smallest row variable)
@@ -2,6 +2,7 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.SortedMap;
 
@@ -12,26 +13,48 @@ import de.uni_freiburg.informatik.ultimate.logic.Rational;
  * tableaux row that encodes a linear relation {@code c0*y + c1*x1 + ... + cn*xn == 0}, where {@code x1...xn} are the
  * current column variables and the coefficients {@code ci} are all integers.
  *
+ * The coefficients are stored in one of three tiers, depending on the largest coefficient of the row. If all
+ * coefficients fit into 31 bits, they are stored in an int array. If they all fit into a long, they are stored in a
+ * long array. Otherwise, the int array contains markers that point to the big coefficients. Adding two rows uses
+ * plain int or long arithmetic as long as the coefficients of both rows are small enough.
+ *
  * @author Jochen Hoenicke
  */
 public class TableauxRow {
 	final static int LIMIT_BITS = 30;
 	final static int LIMIT = 1 << LIMIT_BITS;
 	final static int MARKER = LIMIT + 1;
+	/**
+	 * The maximal bit length of a product computed in long arithmetic. The sum of two such products cannot overflow,
+	 * so the long tier never contains {@code Long.MIN_VALUE} and coefficients can be negated without overflow.
+	 */
+	final static int LONG_LIMIT_BITS = 62;
 
 	/**
-	 * The entries are stored in a single integer array in the form {@code x0 c0 x1 c1 x2 c2 ...} where {@code xi} is
-	 * the matrixpos of the i-th variable and {@code ci} the i-th coefficient ({@code x0} is the matrix pos of the row
-	 * variable and {@code c0} is its coefficient). If the coefficient is big (doesn't fit in 31 bits), {@code ci} is
-	 * stored as {@code MARKER + j} where j is the index into the {@code mBigEntries} array. The xi are sorted by matrix
-	 * position, except that the row variable comes first.
+	 * The matrix positions of the variables. The first entry is the matrix pos of the row variable, the remaining
+	 * entries are the column variables sorted by matrix position.
+	 */
+	private int[] mIndices;
+	/**
+	 * The coefficients of the variables, in the same order as {@link #mIndices}. If the coefficient is big (doesn't fit
+	 * in 31 bits), it is stored as {@code MARKER + j} where j is the index into the {@code mBigEntries} array. This is
+	 * null if the row is stored in the long tier.
+	 */
+	private int[] mCoeffs;
+	/**
+	 * The coefficients of the variables if some of them do not fit into 31 bits, but all fit into a long. Otherwise
+	 * this is null.
 	 */
-	private int[] mEntries;
+	private long[] mLongCoeffs;
 	/**
 	 * This array stores all big coefficients that don't fit in 31 bits. The order is random and it may contain
 	 * duplicates.
 	 */
 	private BigInteger[] mBigEntries;
+	/**
+	 * The maximal bit length of the coefficients, if the row has no big coefficients.
+	 */
+	private int mMaxBits;
 
 	/**
 	 * Create a tableaux row for the given coefficients. It first brings the coefficients to integer by dividing by the
@@ -42,35 +65,22 @@ public class TableauxRow {
 	 */
 	public TableauxRow(final LinVar rowVar, final SortedMap<LinVar, Rational> coeffs) {
 		assert !coeffs.containsKey(rowVar);
-		assert coeffs.size() >= 2;
-		mEntries = new int[coeffs.size() * 2 + 2];
+		final int[] vars = new int[coeffs.size() + 1];
+		final BigInteger[] bigCoeffs = new BigInteger[coeffs.size() + 1];
 		Rational gcd = Rational.ONE;
 		for (final Rational c : coeffs.values()) {
 			gcd = gcd.gcd(c);
 		}
-		final ArrayList<BigInteger> bigInts = new ArrayList<>();
-		mEntries[0] = rowVar.mMatrixpos;
-		mEntries[1] = addBigInteger(bigInts, gcd.inverse().negate().numerator());
-		int i = 2;
+		vars[0] = rowVar.mMatrixpos;
+		bigCoeffs[0] = gcd.inverse().negate().numerator();
+		int i = 1;
 		for (final Map.Entry<LinVar, Rational> entry : coeffs.entrySet()) {
 			assert entry.getValue().div(gcd).isIntegral();
-			final BigInteger coeff = entry.getValue().div(gcd).numerator();
-			mEntries[i] = entry.getKey().mMatrixpos;
-			mEntries[i + 1] = addBigInteger(bigInts, coeff);
-			i += 2;
-		}
-		if (bigInts.size() > 0) {
-			mBigEntries = bigInts.toArray(new BigInteger[bigInts.size()]);
-		}
-	}
-
-	private static int addBigInteger(final ArrayList<BigInteger> bigInts, final long coeff) {
-		if (coeff >= -LIMIT && coeff < LIMIT) {
-			return (int) coeff;
-		} else {
-			bigInts.add(BigInteger.valueOf(coeff));
-			return MARKER + bigInts.size() - 1;
+			vars[i] = entry.getKey().mMatrixpos;
+			bigCoeffs[i] = entry.getValue().div(gcd).numerator();
+			i++;
 		}
+		setBigCoeffs(vars, bigCoeffs, vars.length, BigInteger.ONE);
 	}
 
 	private static int addBigInteger(final ArrayList<BigInteger> bigInts, final BigInteger coeff) {
@@ -82,12 +92,66 @@ public class TableauxRow {
 		}
 	}
 
+	/**
+	 * Store the given coefficients divided by their gcd in the smallest tier they fit in.
+	 */
+	private void setLongCoeffs(final int[] vars, final long[] coeffs, final int size, final long gcd) {
+		int maxBits = 0;
+		for (int i = 0; i < size; i++) {
+			coeffs[i] /= gcd;
+			maxBits = Math.max(maxBits, bitLength(coeffs[i]));
+		}
+		mMaxBits = maxBits;
+		final boolean isInt = maxBits <= LIMIT_BITS;
+		mIndices = vars.length == size ? vars : Arrays.copyOf(vars, size);
+		mBigEntries = null;
+		if (isInt) {
+			final int[] intCoeffs = new int[size];
+			for (int i = 0; i < size; i++) {
+				intCoeffs[i] = (int) coeffs[i];
+			}
+			mCoeffs = intCoeffs;
+			mLongCoeffs = null;
+		} else {
+			mCoeffs = null;
+			mLongCoeffs = coeffs.length == size ? coeffs : Arrays.copyOf(coeffs, size);
+		}
+	}
+
+	/**
+	 * Store the given coefficients divided by their gcd in the smallest tier they fit in.
+	 */
+	private void setBigCoeffs(final int[] vars, final BigInteger[] coeffs, final int size, final BigInteger gcd) {
+		int maxBits = 0;
+		for (int i = 0; i < size; i++) {
+			coeffs[i] = coeffs[i].divide(gcd);
+			maxBits = Math.max(maxBits, coeffs[i].bitLength());
+		}
+		if (maxBits <= LONG_LIMIT_BITS) {
+			final long[] longCoeffs = new long[size];
+			for (int i = 0; i < size; i++) {
+				longCoeffs[i] = coeffs[i].longValue();
+			}
+			setLongCoeffs(vars, longCoeffs, size, 1);
+			return;
+		}
+		mIndices = vars.length == size ? vars : Arrays.copyOf(vars, size);
+		mCoeffs = new int[size];
+		mLongCoeffs = null;
+		final ArrayList<BigInteger> bigInts = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			mCoeffs[i] = addBigInteger(bigInts, coeffs[i]);
+			assert mCoeffs[i] >= -LIMIT && mCoeffs[i] < MARKER + bigInts.size();
+		}
+		mBigEntries = bigInts.toArray(new BigInteger[bigInts.size()]);
+	}
+
 	public int findRawIndex(final int matrixPos) {
 		int low = 1;
 		int high = size();
 		while (low < high) {
 			final int mid = (low + high) / 2;
-			if (mEntries[2 * mid] < matrixPos) {
+			if (mIndices[mid] < matrixPos) {
 				low = mid + 1;
 			} else {
 				high = mid;
@@ -96,148 +160,208 @@ public class TableauxRow {
 		return low;
 	}
 
-	private int findEntry(final int matrixPos) {
-		final int idx = findRawIndex(matrixPos);
-		return mEntries[2 * idx] == matrixPos ? mEntries[2 * idx + 1] : 0;
-	}
-
 	private BigInteger bigEntry(final int entry) {
 		return entry < MARKER ? BigInteger.valueOf(entry) : mBigEntries[entry - MARKER];
 	}
 
+	/**
+	 * Get a coefficient of a row that has no big coefficients.
+	 */
+	private long longCoeff(final int idx) {
+		assert mBigEntries == null;
+		return mLongCoeffs != null ? mLongCoeffs[idx] : mCoeffs[idx];
+	}
+
+	/**
+	 * Add two rows whose coefficients all fit into 31 bits. The products and sums are computed in long and cannot
+	 * overflow.
+	 */
 	private void addRowInt(final LinArSolve solver, final TableauxRow other) {
-		final int matrixPos = other.mEntries[0];
-		assert mBigEntries == null && other.mBigEntries == null;
-		int myFactor = -other.mEntries[1];
-		int otherFactor = findEntry(matrixPos);
+		final int matrixPos = other.mIndices[0];
+		assert mCoeffs != null && mBigEntries == null && other.mCoeffs != null && other.mBigEntries == null;
+		final int[] myVars = mIndices;
+		final int[] myCoeffs = mCoeffs;
+		final int[] otherVars = other.mIndices;
+		final int[] otherCoeffs = other.mCoeffs;
+		int myFactor = -otherCoeffs[0];
+		int otherFactor = myCoeffs[findRawIndex(matrixPos)];
 		assert otherFactor != 0;
 		final int gcdFactor = Rational.gcd(myFactor, otherFactor);
 		myFactor = myFactor / gcdFactor;
 		otherFactor = otherFactor / gcdFactor;
 
-		final int[] newVars = new int[mEntries.length / 2 + other.mEntries.length / 2];
-		final long[] newCoeffs = new long[mEntries.length / 2 + other.mEntries.length / 2];
-		int myIndex = 2;
-		int otherIndex = 2;
+		final int[] newVars = new int[myVars.length + otherVars.length];
+		final long[] newCoeffs = new long[myVars.length + otherVars.length];
+		int myIndex = 1;
+		int otherIndex = 1;
 		int newIndex = 1;
-		newVars[0] = mEntries[0];
-		newCoeffs[0] = (long) mEntries[1] * myFactor;
+		newVars[0] = myVars[0];
+		newCoeffs[0] = (long) myCoeffs[0] * myFactor;
 		long gcd = newCoeffs[0];
-		while (myIndex < mEntries.length || otherIndex < other.mEntries.length) {
-			if (otherIndex == other.mEntries.length
-					|| (myIndex < mEntries.length && mEntries[myIndex] < other.mEntries[otherIndex])) {
-				if (mEntries[myIndex] != matrixPos) {
-					newVars[newIndex] = mEntries[myIndex];
-					final long newCoeff = (long) mEntries[myIndex + 1] * myFactor;
+		while (myIndex < myVars.length || otherIndex < otherVars.length) {
+			if (otherIndex == otherVars.length
+					|| (myIndex < myVars.length && myVars[myIndex] < otherVars[otherIndex])) {
+				if (myVars[myIndex] != matrixPos) {
+					newVars[newIndex] = myVars[myIndex];
+					final long newCoeff = (long) myCoeffs[myIndex] * myFactor;
 					gcd = Rational.gcd(gcd, newCoeff);
 					newCoeffs[newIndex] = newCoeff;
 					newIndex++;
 				}
-				myIndex += 2;
-			} else if (myIndex == mEntries.length || mEntries[myIndex] > other.mEntries[otherIndex]) {
-				solver.mDependentRows.get(other.mEntries[otherIndex]).set(mEntries[0]);
-				newVars[newIndex] = other.mEntries[otherIndex];
-				final long newCoeff = (long) other.mEntries[otherIndex + 1] * otherFactor;
+				myIndex++;
+			} else if (myIndex == myVars.length || myVars[myIndex] > otherVars[otherIndex]) {
+				solver.mDependentRows.get(otherVars[otherIndex]).set(myVars[0]);
+				newVars[newIndex] = otherVars[otherIndex];
+				final long newCoeff = (long) otherCoeffs[otherIndex] * otherFactor;
 				gcd = Rational.gcd(gcd, newCoeff);
 				newCoeffs[newIndex] = newCoeff;
-				otherIndex += 2;
+				otherIndex++;
 				newIndex++;
 			} else {
-				assert mEntries[myIndex] == other.mEntries[otherIndex];
+				assert myVars[myIndex] == otherVars[otherIndex];
 				final long newCoeff =
-						(long) mEntries[myIndex + 1] * myFactor + (long) other.mEntries[otherIndex + 1] * otherFactor;
+						(long) myCoeffs[myIndex] * myFactor + (long) otherCoeffs[otherIndex] * otherFactor;
 				if (newCoeff != 0) {
-					newVars[newIndex] = mEntries[myIndex];
+					newVars[newIndex] = myVars[myIndex];
 					gcd = Rational.gcd(gcd, newCoeff);
 					newCoeffs[newIndex] = newCoeff;
 					newIndex++;
 				} else {
-					solver.mDependentRows.get(mEntries[myIndex]).clear(mEntries[0]);
+					solver.mDependentRows.get(myVars[myIndex]).clear(myVars[0]);
 				}
-				myIndex += 2;
-				otherIndex += 2;
+				myIndex++;
+				otherIndex++;
 			}
 		}
-		final int[] result = new int[2 * newIndex];
-		final ArrayList<BigInteger> bigInts = new ArrayList<>();
-		for (int i = 0; i < newIndex; i++) {
-			result[2 * i] = newVars[i];
-			result[2 * i + 1] = addBigInteger(bigInts, newCoeffs[i] / gcd);
-			assert result[2 * i + 1] >= -LIMIT && result[2 * i + 1] < MARKER + bigInts.size();
+		setLongCoeffs(newVars, newCoeffs, newIndex, gcd);
+	}
+
+	/**
+	 * Add two rows without big coefficients, at least one of them in the long tier. The rows are only added if the
+	 * bit lengths of the coefficients guarantee that no product or sum overflows.
+	 *
+	 * @return true if the rows were added, false if the big integer version must be used.
+	 */
+	private boolean addRowLong(final LinArSolve solver, final TableauxRow other) {
+		final int matrixPos = other.mIndices[0];
+		final int[] myVars = mIndices;
+		final int[] otherVars = other.mIndices;
+		long myFactor = -other.longCoeff(0);
+		long otherFactor = longCoeff(findRawIndex(matrixPos));
+		assert otherFactor != 0;
+		final long gcdFactor = Rational.gcd(myFactor, otherFactor);
+		myFactor = myFactor / gcdFactor;
+		otherFactor = otherFactor / gcdFactor;
+		if (mMaxBits + bitLength(myFactor) > LONG_LIMIT_BITS
+				|| other.mMaxBits + bitLength(otherFactor) > LONG_LIMIT_BITS) {
+			return false;
 		}
-		mEntries = result;
-		if (bigInts.size() > 0) {
-			mBigEntries = bigInts.toArray(new BigInteger[bigInts.size()]);
+
+		final int[] newVars = new int[myVars.length + otherVars.length];
+		final long[] newCoeffs = new long[myVars.length + otherVars.length];
+		int myIndex = 1;
+		int otherIndex = 1;
+		int newIndex = 1;
+		newVars[0] = myVars[0];
+		newCoeffs[0] = longCoeff(0) * myFactor;
+		long gcd = newCoeffs[0];
+		while (myIndex < myVars.length || otherIndex < otherVars.length) {
+			if (otherIndex == otherVars.length
+					|| (myIndex < myVars.length && myVars[myIndex] < otherVars[otherIndex])) {
+				if (myVars[myIndex] != matrixPos) {
+					newVars[newIndex] = myVars[myIndex];
+					final long newCoeff = longCoeff(myIndex) * myFactor;
+					gcd = Rational.gcd(gcd, newCoeff);
+					newCoeffs[newIndex] = newCoeff;
+					newIndex++;
+				}
+				myIndex++;
+			} else if (myIndex == myVars.length || myVars[myIndex] > otherVars[otherIndex]) {
+				solver.mDependentRows.get(otherVars[otherIndex]).set(myVars[0]);
+				newVars[newIndex] = otherVars[otherIndex];
+				final long newCoeff = other.longCoeff(otherIndex) * otherFactor;
+				gcd = Rational.gcd(gcd, newCoeff);
+				newCoeffs[newIndex] = newCoeff;
+				otherIndex++;
+				newIndex++;
+			} else {
+				assert myVars[myIndex] == otherVars[otherIndex];
+				final long newCoeff = longCoeff(myIndex) * myFactor + other.longCoeff(otherIndex) * otherFactor;
+				if (newCoeff != 0) {
+					newVars[newIndex] = myVars[myIndex];
+					gcd = Rational.gcd(gcd, newCoeff);
+					newCoeffs[newIndex] = newCoeff;
+					newIndex++;
+				} else {
+					solver.mDependentRows.get(myVars[myIndex]).clear(myVars[0]);
+				}
+				myIndex++;
+				otherIndex++;
+			}
 		}
+		setLongCoeffs(newVars, newCoeffs, newIndex, gcd);
+		return true;
+	}
+
+	private static int bitLength(final long value) {
+		return Long.SIZE - Long.numberOfLeadingZeros(Math.abs(value));
 	}
 
 	private void addRowBigInt(final LinArSolve solver, final TableauxRow other) {
-		final int matrixPos = other.mEntries[0];
-		BigInteger myFactor = other.bigEntry(other.mEntries[1]).negate();
-		BigInteger otherFactor = bigEntry(findEntry(matrixPos));
+		final int matrixPos = other.mIndices[0];
+		final int[] myVars = mIndices;
+		final int[] otherVars = other.mIndices;
+		BigInteger myFactor = other.getRawCoeff(0).negate();
+		BigInteger otherFactor = getRawCoeff(findRawIndex(matrixPos));
 		assert otherFactor.signum() != 0;
 		final BigInteger gcdFactor = Rational.gcd(myFactor, otherFactor);
 		myFactor = myFactor.divide(gcdFactor);
 		otherFactor = otherFactor.divide(gcdFactor);
 
-		final int[] newVars = new int[mEntries.length / 2 + other.mEntries.length / 2];
-		final BigInteger[] newCoeffs = new BigInteger[mEntries.length / 2 + other.mEntries.length / 2];
-		int myIndex = 2;
-		int otherIndex = 2;
+		final int[] newVars = new int[myVars.length + otherVars.length];
+		final BigInteger[] newCoeffs = new BigInteger[myVars.length + otherVars.length];
+		int myIndex = 1;
+		int otherIndex = 1;
 		int newIndex = 1;
-		newVars[0] = mEntries[0];
-		newCoeffs[0] = bigEntry(mEntries[1]).multiply(myFactor);
+		newVars[0] = myVars[0];
+		newCoeffs[0] = getRawCoeff(0).multiply(myFactor);
 		BigInteger gcd = newCoeffs[0];
-		while (myIndex < mEntries.length || otherIndex < other.mEntries.length) {
-			if (otherIndex == other.mEntries.length
-					|| (myIndex < mEntries.length && mEntries[myIndex] < other.mEntries[otherIndex])) {
-				if (mEntries[myIndex] != matrixPos) {
-					newVars[newIndex] = mEntries[myIndex];
-					final BigInteger newCoeff = bigEntry(mEntries[myIndex + 1]).multiply(myFactor);
+		while (myIndex < myVars.length || otherIndex < otherVars.length) {
+			if (otherIndex == otherVars.length
+					|| (myIndex < myVars.length && myVars[myIndex] < otherVars[otherIndex])) {
+				if (myVars[myIndex] != matrixPos) {
+					newVars[newIndex] = myVars[myIndex];
+					final BigInteger newCoeff = getRawCoeff(myIndex).multiply(myFactor);
 					gcd = Rational.gcd(gcd, newCoeff);
 					newCoeffs[newIndex] = newCoeff;
 					newIndex++;
 				}
-				myIndex += 2;
-			} else if (myIndex == mEntries.length || mEntries[myIndex] > other.mEntries[otherIndex]) {
-				solver.mDependentRows.get(other.mEntries[otherIndex]).set(mEntries[0]);
-				newVars[newIndex] = other.mEntries[otherIndex];
-				final BigInteger newCoeff = other.bigEntry(other.mEntries[otherIndex + 1]).multiply(otherFactor);
+				myIndex++;
+			} else if (myIndex == myVars.length || myVars[myIndex] > otherVars[otherIndex]) {
+				solver.mDependentRows.get(otherVars[otherIndex]).set(myVars[0]);
+				newVars[newIndex] = otherVars[otherIndex];
+				final BigInteger newCoeff = other.getRawCoeff(otherIndex).multiply(otherFactor);
 				gcd = Rational.gcd(gcd, newCoeff);
 				newCoeffs[newIndex] = newCoeff;
-				otherIndex += 2;
+				otherIndex++;
 				newIndex++;
 			} else {
-				assert mEntries[myIndex] == other.mEntries[otherIndex];
-				final BigInteger newCoeff =
-						bigEntry(mEntries[myIndex + 1]).multiply(myFactor).add(
-								other.bigEntry(other.mEntries[otherIndex + 1]).multiply(otherFactor));
+				assert myVars[myIndex] == otherVars[otherIndex];
+				final BigInteger newCoeff = getRawCoeff(myIndex).multiply(myFactor)
+						.add(other.getRawCoeff(otherIndex).multiply(otherFactor));
 				if (newCoeff.signum() != 0) {
-					newVars[newIndex] = mEntries[myIndex];
+					newVars[newIndex] = myVars[myIndex];
 					gcd = Rational.gcd(gcd, newCoeff);
 					newCoeffs[newIndex] = newCoeff;
 					newIndex++;
 				} else {
-					solver.mDependentRows.get(mEntries[myIndex]).clear(mEntries[0]);
+					solver.mDependentRows.get(myVars[myIndex]).clear(myVars[0]);
 				}
-				myIndex += 2;
-				otherIndex += 2;
+				myIndex++;
+				otherIndex++;
 			}
 		}
-		final int[] result = new int[2 * newIndex];
-		final ArrayList<BigInteger> bigInts = new ArrayList<>();
-		for (int i = 0; i < newIndex; i++) {
-			result[2 * i] = newVars[i];
-			final BigInteger newCoeff = newCoeffs[i].divide(gcd);
-			result[2 * i + 1] = addBigInteger(bigInts, newCoeff);
-			assert result[2 * i + 1] >= -LIMIT && result[2 * i + 1] < MARKER + bigInts.size();
-		}
-		mEntries = result;
-		if (bigInts.size() > 0) {
-			mBigEntries = bigInts.toArray(new BigInteger[bigInts.size()]);
-		} else {
-			mBigEntries = null;
-		}
+		setBigCoeffs(newVars, newCoeffs, newIndex, gcd);
 	}
 
 	/**
@@ -253,10 +377,15 @@ public class TableauxRow {
 	 */
 	public void addRow(final LinArSolve solver, final TableauxRow other) {
 		if (mBigEntries == null && other.mBigEntries == null) {
-			addRowInt(solver, other);
-		} else {
-			addRowBigInt(solver, other);
+			if (mLongCoeffs == null && other.mLongCoeffs == null) {
+				addRowInt(solver, other);
+				return;
+			}
+			if (addRowLong(solver, other)) {
+				return;
+			}
 		}
+		addRowBigInt(solver, other);
 	}
 
 	/**
@@ -269,24 +398,49 @@ public class TableauxRow {
 	 *            The matrix position of the previous column variable.
 	 */
 	public void swapRowCol(final int oldColMatrixPos) {
-		final int oldRowMatrixPos = mEntries[0];
+		final int oldRowMatrixPos = mIndices[0];
 		final int oldIdx = findRawIndex(oldColMatrixPos);
 		int newIdx = findRawIndex(oldRowMatrixPos);
 		assert oldIdx >= 1;
-		assert mEntries[2 * oldIdx] == oldColMatrixPos;
-		assert 2 * newIdx == mEntries.length || mEntries[2 * newIdx] > oldRowMatrixPos;
-		assert newIdx == 1 || mEntries[2 * (newIdx - 1)] < oldRowMatrixPos;
-		final int newHeadCoeff = mEntries[2 * oldIdx + 1];
+		assert mIndices[oldIdx] == oldColMatrixPos;
+		assert newIdx == mIndices.length || mIndices[newIdx] > oldRowMatrixPos;
+		assert newIdx == 1 || mIndices[newIdx - 1] < oldRowMatrixPos;
 		if (oldIdx < newIdx) {
 			newIdx--;
-			System.arraycopy(mEntries, 2 * oldIdx + 2, mEntries, 2 * oldIdx, 2 * (newIdx - oldIdx));
+		}
+		moveEntry(mIndices, oldIdx, newIdx);
+		if (mLongCoeffs != null) {
+			moveEntry(mLongCoeffs, oldIdx, newIdx);
 		} else {
-			System.arraycopy(mEntries, 2 * newIdx, mEntries, 2 * newIdx + 2, 2 * (oldIdx - newIdx));
+			moveEntry(mCoeffs, oldIdx, newIdx);
 		}
-		mEntries[2 * newIdx] = oldRowMatrixPos;
-		mEntries[2 * newIdx + 1] = mEntries[1];
-		mEntries[0] = oldColMatrixPos;
-		mEntries[1] = newHeadCoeff;
+	}
+
+	/**
+	 * Swap the head entry with the entry at oldIdx and move the previous head entry to newIdx.
+	 */
+	private static void moveEntry(final int[] array, final int oldIdx, final int newIdx) {
+		final int oldHead = array[0];
+		final int newHead = array[oldIdx];
+		if (oldIdx <= newIdx) {
+			System.arraycopy(array, oldIdx + 1, array, oldIdx, newIdx - oldIdx);
+		} else {
+			System.arraycopy(array, newIdx, array, newIdx + 1, oldIdx - newIdx);
+		}
+		array[newIdx] = oldHead;
+		array[0] = newHead;
+	}
+
+	private static void moveEntry(final long[] array, final int oldIdx, final int newIdx) {
+		final long oldHead = array[0];
+		final long newHead = array[oldIdx];
+		if (oldIdx <= newIdx) {
+			System.arraycopy(array, oldIdx + 1, array, oldIdx, newIdx - oldIdx);
+		} else {
+			System.arraycopy(array, newIdx, array, newIdx + 1, oldIdx - newIdx);
+		}
+		array[newIdx] = oldHead;
+		array[0] = newHead;
 	}
 
 	/**
@@ -298,19 +452,61 @@ public class TableauxRow {
 	 * @return the corresponding coefficient.
 	 */
 	public BigInteger getCoeffForPos(final int matrixPos) {
-		return bigEntry(findEntry(matrixPos));
+		final int idx = findRawIndex(matrixPos);
+		return idx < mIndices.length && mIndices[idx] == matrixPos ? getRawCoeff(idx) : BigInteger.ZERO;
 	}
 
 	int getRawIndex(final int idx) {
-		return mEntries[2*idx];
+		return mIndices[idx];
 	}
 
 	BigInteger getRawCoeff(final int idx) {
-		return bigEntry(mEntries[2*idx + 1]);
+		return mLongCoeffs != null ? BigInteger.valueOf(mLongCoeffs[idx]) : bigEntry(mCoeffs[idx]);
+	}
+
+	/**
+	 * Get the coefficient of the idx-th column variable when the row variable is expressed as a sum of the column
+	 * variables, i.e. {@code -ci/c0}. This avoids creating big integers if both coefficients are small.
+	 *
+	 * @param idx
+	 *            the index of the entry (must not be 0).
+	 * @return the coefficient.
+	 */
+	Rational getRawRowCoeff(final int idx) {
+		assert idx != 0;
+		if (mLongCoeffs != null) {
+			return Rational.valueOf(mLongCoeffs[idx], -mLongCoeffs[0]);
+		}
+		final int coeff = mCoeffs[idx];
+		final int headCoeff = mCoeffs[0];
+		if (coeff < MARKER && headCoeff < MARKER) {
+			return Rational.valueOf(coeff, -(long) headCoeff);
+		}
+		return Rational.valueOf(bigEntry(coeff), bigEntry(headCoeff).negate());
+	}
+
+	/**
+	 * Get an approximation of {@code -ci/c0} as floating point number.
+	 *
+	 * @param idx
+	 *            the index of the entry (must not be 0).
+	 * @return the approximated coefficient.
+	 */
+	double getApproxRowCoeff(final int idx) {
+		assert idx != 0;
+		if (mLongCoeffs != null) {
+			return -(double) mLongCoeffs[idx] / mLongCoeffs[0];
+		}
+		final int coeff = mCoeffs[idx];
+		final int headCoeff = mCoeffs[0];
+		if (coeff < MARKER && headCoeff < MARKER) {
+			return -(double) coeff / headCoeff;
+		}
+		return FloatSimplex.toDouble(getRawRowCoeff(idx));
 	}
 
 	int size() {
-		return mEntries.length / 2;
+		return mIndices.length;
 	}
 
 	@Override
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the array backed watch lists with blocker literals and the binary
+ * implication store on pigeon hole problems and on random linear arithmetic
+ * problems, also with chronological backtracking.
+ */
+@RunWith(JUnit4.class)
+public class BlockerWatchListTest {
+
+	private SMTInterpol createSolver(final boolean blocker) {
+		return createSolver(blocker, false);
+	}
+
+	private SMTInterpol createSolver(final boolean blocker, final boolean binary) {
+		return createSolver(blocker, binary, 0, Logics.QF_UF);
+	}
+
+	private SMTInterpol createSolver(final boolean blocker, final boolean binary, final int chronoThreshold,
+			final Logics logic) {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(":verbosity", 2);
+		solver.setOption(SolverOptions.BLOCKER_WATCH_LISTS, blocker);
+		solver.setOption(SolverOptions.BINARY_IMPLICATIONS, binary);
+		solver.setOption(SolverOptions.CHRONO_BACKTRACK_THRESHOLD, chronoThreshold);
+		solver.setOption(":produce-proofs", true);
+		solver.setOption(":proof-check-mode", true);
+		solver.setOption(":model-check-mode", true);
+		solver.setLogic(logic);
+		return solver;
+	}
+
+	/**
+	 * Assert random clauses over bounds on integer variables and their sums. The
+	 * linear arithmetic solver propagates bounds that are often inserted below the
+	 * current decision on the decide stack.
+	 */
+	private void assertRandomLinearClauses(final SMTInterpol solver, final Random rnd) {
+		final int numVars = 6;
+		final Term[] vars = new Term[numVars];
+		for (int i = 0; i < numVars; i++) {
+			solver.declareFun("x" + i, Script.EMPTY_SORT_ARRAY, solver.sort("Int"));
+			vars[i] = solver.term("x" + i);
+		}
+		for (int c = 0; c < 30; c++) {// NOCHECKSTYLE
+			final Term[] lits = new Term[2];
+			for (int l = 0; l < lits.length; l++) {
+				final Term x = vars[rnd.nextInt(numVars)];
+				final Term y = vars[rnd.nextInt(numVars)];
+				final int value = rnd.nextInt(9) - 4;// NOCHECKSTYLE
+				final Term abs = solver.numeral(String.valueOf(Math.abs(value)));
+				final Term bound = value < 0 ? solver.term("-", abs) : abs;
+				final Term sum = x == y ? x : solver.term(rnd.nextBoolean() ? "+" : "-", x, y);
+				lits[l] = rnd.nextBoolean() ? solver.term("<=", sum, bound) : solver.term(">=", sum, bound);
+			}
+			solver.assertTerm(solver.term("or", lits));
+		}
+	}
+
+	private LBool solveRandomLinear(final long seed, final boolean blocker, final int chronoThreshold) {
+		final SMTInterpol solver = createSolver(blocker, false, chronoThreshold, Logics.QF_LIA);
+		assertRandomLinearClauses(solver, new Random(seed));
+		final LBool result = solver.checkSat();
+		solver.exit();
+		return result;
+	}
+
+	@Test
+	public void testLinearArithmetic() {
+		for (long seed = 0; seed < 30; seed++) {// NOCHECKSTYLE
+			final LBool expected = solveRandomLinear(seed, false, 0);
+			Assert.assertNotSame(LBool.UNKNOWN, expected);
+			Assert.assertSame(expected, solveRandomLinear(seed, true, 0));
+		}
+	}
+
+	@Test
+	public void testChronologicalBacktracking() {
+		for (final boolean binary : new boolean[] { false, true }) {
+			final SMTInterpol solver = createSolver(true, binary, 1, Logics.QF_UF);
+			solver.push(1);
+			SatTestHelpers.assertPigeonHole(solver, 6, 5);// NOCHECKSTYLE
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+			solver.pop(1);
+			SatTestHelpers.assertPigeonHole(solver, 5, 5);// NOCHECKSTYLE
+			Assert.assertSame(LBool.SAT, solver.checkSat());
+		}
+		for (long seed = 0; seed < 30; seed++) {// NOCHECKSTYLE
+			final LBool expected = solveRandomLinear(seed, false, 0);
+			Assert.assertSame(expected, solveRandomLinear(seed, true, 1));
+		}
+	}
+
+	@Test
+	public void testPigeonHoleUnsat() {
+		for (final boolean blocker : new boolean[] { false, true }) {
+			final SMTInterpol solver = createSolver(blocker);
+			SatTestHelpers.assertPigeonHole(solver, 6, 5);// NOCHECKSTYLE
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		}
+	}
+
+	@Test
+	public void testPigeonHoleIncremental() {
+		final SMTInterpol solver = createSolver(true);
+		solver.push(1);
+		SatTestHelpers.assertPigeonHole(solver, 5, 5);// NOCHECKSTYLE
+		Assert.assertSame(LBool.SAT, solver.checkSat());
+		solver.push(1);
+		solver.assertTerm(solver.term("not", solver.term("in_4_4")));
+		solver.assertTerm(solver.term("not", solver.term("in_4_3")));
+		Assert.assertSame(LBool.SAT, solver.checkSat());
+		solver.assertTerm(solver.term("not", solver.term("in_3_4")));
+		solver.assertTerm(solver.term("not", solver.term("in_2_4")));
+		solver.assertTerm(solver.term("not", solver.term("in_1_4")));
+		solver.assertTerm(solver.term("not", solver.term("in_0_4")));
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		solver.pop(1);
+		Assert.assertSame(LBool.SAT, solver.checkSat());
+		solver.pop(1);
+		solver.push(1);
+		SatTestHelpers.assertPigeonHole(solver, 6, 5);// NOCHECKSTYLE
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		solver.pop(1);
+	}
+
+	@Test
+	public void testBinaryImplications() {
+		for (final boolean blocker : new boolean[] { false, true }) {
+			final SMTInterpol solver = createSolver(blocker, true);
+			solver.push(1);
+			SatTestHelpers.assertPigeonHole(solver, 6, 5);// NOCHECKSTYLE
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+			solver.pop(1);
+			SatTestHelpers.assertPigeonHole(solver, 4, 4);// NOCHECKSTYLE
+			Assert.assertSame(LBool.SAT, solver.checkSat());
+			solver.push(1);
+			solver.assertTerm(solver.term("in_0_0"));
+			solver.assertTerm(solver.term("in_1_0"));
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+			solver.pop(1);
+			Assert.assertSame(LBool.SAT, solver.checkSat());
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the chronological backtracking on random 3-SAT problems near the threshold. The models and proofs are checked
+ * by the model-check-mode and proof-check-mode of SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class ChronologicalBacktrackTest {
+
+	private static final int VARS = 200;
+	private static final int CLAUSES = 852;
+	/** A satisfiable problem. */
+	private static final long SAT_SEED = 6;
+	/** An unsatisfiable problem. */
+	private static final long UNSAT_SEED = 5;
+
+	private SMTInterpol mSolver;
+
+	private void setup(final long seed, final boolean proofs, final int threshold) {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":verbosity", 2);
+		if (proofs) {
+			mSolver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+			mSolver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		} else {
+			mSolver.setOption(":produce-models", Boolean.TRUE);
+			mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		}
+		mSolver.setOption(SolverOptions.CHRONO_BACKTRACK_THRESHOLD, threshold);
+		mSolver.setLogic(Logics.QF_UF);
+		SatTestHelpers.assertRandom3Sat(mSolver, VARS, CLAUSES, seed);
+	}
+
+	private long getChronoBacktracks() {
+		return SatTestHelpers.getStatistic(mSolver, ":Core", "Chrono_backtracks");
+	}
+
+	@Test
+	public void testSat() {
+		setup(SAT_SEED, false, 1);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getChronoBacktracks() > 0);
+		mSolver.exit();
+	}
+
+	@Test
+	public void testUnsat() {
+		setup(UNSAT_SEED, true, 1);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertTrue(getChronoBacktracks() > 0);
+		mSolver.exit();
+	}
+
+	/**
+	 * The decide level never exceeds the number of variables, so no backjump is long enough for this threshold.
+	 */
+	@Test
+	public void testLargeThreshold() {
+		setup(UNSAT_SEED, true, VARS);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertEquals(0, getChronoBacktracks());
+		mSolver.exit();
+	}
+
+	@Test
+	public void testDisabled() {
+		setup(UNSAT_SEED, false, 0);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		Assert.assertEquals(0, getChronoBacktracks());
+		mSolver.exit();
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the decision queues for the different decision heuristics.
+ */
+@RunWith(JUnit4.class)
+public class DecisionQueueTest {
+
+	private static class DummyAtom extends DPLLAtom {
+		private final String mName;
+
+		public DummyAtom(final String name) {
+			super(name.hashCode(), 0);
+			mName = name;
+		}
+
+		@Override
+		public Term getSMTFormula(final Theory smtTheory, final boolean quoted) {
+			throw new InternalError("Bug in testcase");
+		}
+
+		@Override
+		public String toString() {
+			return mName;
+		}
+	}
+
+	private DPLLAtom[] createAtoms(final int num) {
+		final DPLLAtom[] atoms = new DPLLAtom[num];
+		for (int i = 0; i < num; i++) {
+			atoms[i] = new DummyAtom("a" + i);
+		}
+		return atoms;
+	}
+
+	@Test
+	public void testVMTF() {
+		final DecisionQueue queue = DecisionQueue.Heuristic.VMTF.create();
+		final DPLLAtom[] atoms = createAtoms(5);// NOCHECKSTYLE
+		for (final DPLLAtom atom : atoms) {
+			queue.add(atom);
+		}
+		Assert.assertEquals(5, queue.size());// NOCHECKSTYLE
+		// the most recently added atom comes first
+		Assert.assertSame(atoms[4], queue.peek());// NOCHECKSTYLE
+
+		// decide a4 and a3; bump a1 while it is undecided
+		atoms[4].mDecideStatus = atoms[4];// NOCHECKSTYLE
+		queue.remove(atoms[4]);// NOCHECKSTYLE
+		atoms[3].mDecideStatus = atoms[3];
+		queue.remove(atoms[3]);
+		Assert.assertSame(atoms[2], queue.peek());
+		queue.bumpActivity(atoms[1], 0);
+		Assert.assertSame(atoms[1], queue.peek());
+
+		// bump a decided atom; it is preferred once it is backtracked
+		queue.bumpActivity(atoms[3], 0);
+		Assert.assertSame(atoms[1], queue.peek());
+		Assert.assertTrue(queue.prefers(atoms[3], atoms[1]));
+		atoms[3].mDecideStatus = null;
+		queue.add(atoms[3]);
+		Assert.assertSame(atoms[3], queue.peek());
+
+		// removing an undecided atom removes it completely
+		queue.remove(atoms[0]);
+		Assert.assertFalse(queue.contains(atoms[0]));
+		int count = 0;
+		for (final DPLLAtom atom : queue) {
+			Assert.assertNotSame(atoms[0], atom);
+			Assert.assertNull(atom.mDecideStatus);
+			count++;
+		}
+		Assert.assertEquals(3, count);// NOCHECKSTYLE
+		Assert.assertEquals(3, queue.size());// NOCHECKSTYLE
+	}
+
+	@Test
+	public void testCHB() {
+		final DecisionQueue queue = DecisionQueue.Heuristic.CHB.create();
+		final DPLLAtom[] atoms = createAtoms(3);// NOCHECKSTYLE
+		for (final DPLLAtom atom : atoms) {
+			queue.add(atom);
+		}
+		// a1 is involved in the most recent conflict and gets the highest reward.
+		queue.conflict();
+		queue.bumpActivity(atoms[0], 0);
+		queue.conflict();
+		queue.bumpActivity(atoms[1], 0);
+		for (final DPLLAtom atom : atoms) {
+			queue.remove(atom);
+			queue.add(atom);
+		}
+		Assert.assertSame(atoms[1], queue.peek());
+		Assert.assertTrue(queue.prefers(atoms[0], atoms[2]));
+	}
+
+	@Test
+	public void testSwitchHeuristic() {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(":produce-proofs", true);
+		solver.setOption(":proof-check-mode", true);
+		solver.setOption(":model-check-mode", true);
+		solver.setLogic(Logics.QF_UF);
+		final int holes = 5;
+		final Term[][] in = new Term[holes + 1][holes];
+		for (int p = 0; p <= holes; p++) {
+			for (int h = 0; h < holes; h++) {
+				final String name = "in_" + p + "_" + h;
+				solver.declareFun(name, new Sort[0], solver.sort("Bool"));
+				in[p][h] = solver.term(name);
+			}
+		}
+		for (int h = 0; h < holes; h++) {
+			for (int p = 0; p <= holes; p++) {
+				for (int q = p + 1; q <= holes; q++) {
+					solver.assertTerm(solver.term("not", solver.term("and", in[p][h], in[q][h])));
+				}
+			}
+		}
+		for (int p = 0; p < holes; p++) {
+			solver.assertTerm(solver.term("or", in[p]));
+		}
+		for (final String heuristic : new String[] { "vmtf", "chb", "vsids", "vmtf" }) {
+			solver.setOption(SolverOptions.DECISION_HEURISTIC, heuristic);
+			Assert.assertSame(LBool.SAT, solver.checkSat());
+			solver.push(1);
+			solver.assertTerm(solver.term("or", in[holes]));
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+			solver.pop(1);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Check the subsumption, strengthening and vivification of learned clauses on random 3-SAT problems near the
+ * threshold, which need enough conflicts for several inprocessing rounds. The models and proofs are checked by the
+ * model-check-mode and proof-check-mode of SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class InprocessingTest {
+
+	private static final int VARS = 200;
+	private static final int CLAUSES = 852;
+	/** A satisfiable problem. */
+	private static final long SAT_SEED = 6;
+	/** An unsatisfiable problem. */
+	private static final long UNSAT_SEED = 5;
+
+	private SMTInterpol mSolver;
+
+	private void setup(final long seed, final boolean proofs) {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":verbosity", 2);
+		if (proofs) {
+			mSolver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+			mSolver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		} else {
+			mSolver.setOption(":produce-models", Boolean.TRUE);
+			mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		}
+		mSolver.setOption(SolverOptions.INPROCESSING, Boolean.TRUE);
+		mSolver.setLogic(Logics.QF_UF);
+		SatTestHelpers.assertRandom3Sat(mSolver, VARS, CLAUSES, seed);
+	}
+
+	private long getStatistic(final String name) {
+		return SatTestHelpers.getStatistic(mSolver, ":Core", "Inprocessing", name);
+	}
+
+	@Test
+	public void testSat() {
+		setup(SAT_SEED, false);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getStatistic("Subsumed") > 0);
+		Assert.assertTrue(getStatistic("Strengthened") > 0);
+		Assert.assertTrue(getStatistic("Vivified") > 0);
+		mSolver.exit();
+	}
+
+	@Test
+	public void testUnsat() {
+		setup(UNSAT_SEED, false);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		Assert.assertTrue(getStatistic("Subsumed") > 0);
+		Assert.assertTrue(getStatistic("Strengthened") > 0);
+		Assert.assertTrue(getStatistic("Vivified") > 0);
+		mSolver.exit();
+	}
+
+	/**
+	 * Vivification does not produce proofs, so only subsumption and strengthening are done if proofs are produced.
+	 */
+	@Test
+	public void testUnsatProof() {
+		setup(UNSAT_SEED, true);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertTrue(getStatistic("Subsumed") > 0);
+		Assert.assertTrue(getStatistic("Strengthened") > 0);
+		Assert.assertEquals(0, getStatistic("Vivified"));
+		mSolver.exit();
+	}
+
+	@Test
+	public void testSatProof() {
+		setup(SAT_SEED, true);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getStatistic("Subsumed") > 0);
+		Assert.assertTrue(getStatistic("Strengthened") > 0);
+		mSolver.exit();
+	}
+}
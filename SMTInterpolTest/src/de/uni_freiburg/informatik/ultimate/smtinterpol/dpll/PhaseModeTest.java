@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.PhaseMode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the target and best phases and the rephasing on random 3-SAT problems near the threshold. The models and proofs
+ * are checked by the model-check-mode and proof-check-mode of SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class PhaseModeTest {
+
+	private static final int VARS = 200;
+	private static final int CLAUSES = 852;
+	/** A satisfiable problem. */
+	private static final long SAT_SEED = 6;
+	/** An unsatisfiable problem. */
+	private static final long UNSAT_SEED = 5;
+	private static final int REPHASE_INTERVAL = 1000;
+
+	private SMTInterpol mSolver;
+
+	private void setup(final long seed, final boolean proofs, final PhaseMode mode, final int rephaseInterval) {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":verbosity", 2);
+		if (proofs) {
+			mSolver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+			mSolver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		} else {
+			mSolver.setOption(":produce-models", Boolean.TRUE);
+			mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		}
+		mSolver.setOption(SolverOptions.PHASE_MODE, mode.name().toLowerCase());
+		mSolver.setOption(SolverOptions.REPHASE_INTERVAL, rephaseInterval);
+		mSolver.setLogic(Logics.QF_UF);
+		SatTestHelpers.assertRandom3Sat(mSolver, VARS, CLAUSES, seed);
+	}
+
+	private long getStatistic(final String name) {
+		return SatTestHelpers.getStatistic(mSolver, ":Core", "Phases", name);
+	}
+
+	@Test
+	public void testTarget() {
+		setup(SAT_SEED, false, PhaseMode.TARGET, 0);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertSame(PhaseMode.TARGET, mSolver.getEngine().getPhaseMode());
+		Assert.assertTrue(getStatistic("Best_trail") > 0);
+		Assert.assertEquals(0, getStatistic("Rephases"));
+		mSolver.exit();
+	}
+
+	@Test
+	public void testRephaseSat() {
+		setup(SAT_SEED, false, PhaseMode.BEST, REPHASE_INTERVAL);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getStatistic("Rephases") > 0);
+		mSolver.exit();
+	}
+
+	@Test
+	public void testRephaseUnsat() {
+		setup(UNSAT_SEED, true, PhaseMode.BEST, REPHASE_INTERVAL);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertTrue(getStatistic("Rephases") > 0);
+		mSolver.exit();
+	}
+
+	/**
+	 * Rephase four times in the final state of a satisfiable problem. The saved phases become the best phases, their
+	 * negation, stay the same as the best phases were reset, and finally the negative phases. The target phases
+	 * follow the saved phases.
+	 */
+	@Test
+	public void testRephaseCycle() {
+		setup(SAT_SEED, false, PhaseMode.BEST, 0);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertEquals(0, getStatistic("Rephases"));
+		final DPLLEngine engine = mSolver.getEngine();
+		final ArrayList<DPLLAtom> atoms = new ArrayList<DPLLAtom>();
+		final ArrayList<Literal> expected = new ArrayList<Literal>();
+		for (final Literal lit : engine.mDecideStack) {
+			final DPLLAtom atom = lit.getAtom();
+			atoms.add(atom);
+			expected.add(atom.mBestStatus != null ? atom.mBestStatus : atom.mLastStatus);
+		}
+		Assert.assertFalse(atoms.isEmpty());
+		for (int kind = 0; kind < 4; kind++) {// NOCHECKSTYLE
+			engine.rephase();
+			for (int i = 0; i < atoms.size(); i++) {
+				final DPLLAtom atom = atoms.get(i);
+				if (kind == 1) {
+					expected.set(i, expected.get(i).negate());
+				} else if (kind == 3) {// NOCHECKSTYLE
+					expected.set(i, atom.negate());
+				}
+				Assert.assertSame(expected.get(i), atom.mLastStatus);
+				Assert.assertSame(atom.mLastStatus, atom.mTargetStatus);
+				Assert.assertNull(atom.mBestStatus);
+			}
+		}
+		Assert.assertEquals(4, getStatistic("Rephases"));// NOCHECKSTYLE
+		mSolver.exit();
+	}
+
+	@Test
+	public void testDisabled() {
+		setup(UNSAT_SEED, false, PhaseMode.SAVED, 0);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		Assert.assertEquals(0, getStatistic("Rephases"));
+		Assert.assertEquals(0, getStatistic("Best_trail"));
+		mSolver.exit();
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Model;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the preprocessing of the input clauses.
+ */
+@RunWith(JUnit4.class)
+public class PreprocessorTest {
+
+	private SMTInterpol createSolver(final boolean proofs) {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(SolverOptions.PREPROCESSING, true);
+		if (proofs) {
+			solver.setOption(":produce-proofs", true);
+			solver.setOption(":proof-check-mode", true);
+		} else {
+			solver.setOption(":produce-models", true);
+		}
+		solver.setLogic(Logics.QF_UF);
+		return solver;
+	}
+
+	private Term[] declare(final SMTInterpol solver, final int num) {
+		final Term[] vars = new Term[num];
+		for (int i = 0; i < num; i++) {
+			solver.declareFun("x" + i, new Sort[0], solver.sort("Bool"));
+			vars[i] = solver.term("x" + i);
+		}
+		return vars;
+	}
+
+	/**
+	 * Create random clauses with some equivalences between the variables.
+	 */
+	private ArrayList<Term> createClauses(final SMTInterpol solver, final Term[] vars, final int numClauses,
+			final Random rand) {
+		final ArrayList<Term> clauses = new ArrayList<Term>();
+		for (int i = 0; i < numClauses; i++) {
+			final Term[] lits = new Term[2 + rand.nextInt(2)];
+			for (int j = 0; j < lits.length; j++) {
+				final Term var = vars[rand.nextInt(vars.length)];
+				lits[j] = rand.nextBoolean() ? var : solver.term("not", var);
+			}
+			clauses.add(solver.term("or", lits));
+		}
+		for (int i = 0; i < vars.length / 4; i++) {
+			clauses.add(solver.term("=", vars[rand.nextInt(vars.length)], vars[rand.nextInt(vars.length)]));
+		}
+		return clauses;
+	}
+
+	@Test
+	public void testModelReconstruction() {
+		final Random rand = new Random(42);// NOCHECKSTYLE
+		int sat = 0;
+		for (int round = 0; round < 20; round++) {// NOCHECKSTYLE
+			final SMTInterpol solver = createSolver(false);
+			final Term[] vars = declare(solver, 30);// NOCHECKSTYLE
+			final ArrayList<Term> clauses = createClauses(solver, vars, 45, rand);// NOCHECKSTYLE
+			for (final Term clause : clauses) {
+				solver.assertTerm(clause);
+			}
+			if (solver.checkSat() == LBool.SAT) {
+				sat++;
+				final Model model = solver.getModel();
+				for (final Term clause : clauses) {
+					Assert.assertSame(solver.term("true"), model.evaluate(clause));
+				}
+			}
+		}
+		Assert.assertTrue(sat > 0);
+	}
+
+	@Test
+	public void testProof() {
+		final Random rand = new Random(7);// NOCHECKSTYLE
+		int unsat = 0;
+		for (int round = 0; round < 20; round++) {// NOCHECKSTYLE
+			final SMTInterpol solver = createSolver(true);
+			final Term[] vars = declare(solver, 20);// NOCHECKSTYLE
+			for (final Term clause : createClauses(solver, vars, 60, rand)) {// NOCHECKSTYLE
+				solver.assertTerm(clause);
+			}
+			if (solver.checkSat() == LBool.UNSAT) {
+				unsat++;
+				Assert.assertNotNull(solver.getProof());
+			}
+		}
+		Assert.assertTrue(unsat > 0);
+	}
+
+	@Test
+	public void testRestore() {
+		final SMTInterpol solver = createSolver(false);
+		final Term[] x = declare(solver, 4);// NOCHECKSTYLE
+		final Term trueTerm = solver.term("true");
+		final Term falseTerm = solver.term("false");
+		solver.assertTerm(solver.term("=", x[0], x[1]));
+		solver.assertTerm(solver.term("or", x[0], x[2]));
+		solver.assertTerm(solver.term("or", solver.term("not", x[1]), x[3]));
+		Assert.assertSame(LBool.SAT, solver.checkSat());
+		Model model = solver.getModel();
+		Assert.assertSame(model.evaluate(x[0]), model.evaluate(x[1]));
+		// x1 was substituted or eliminated; using it again restores its clauses
+		solver.assertTerm(solver.term("not", x[1]));
+		Assert.assertSame(LBool.SAT, solver.checkSat());
+		model = solver.getModel();
+		Assert.assertSame(falseTerm, model.evaluate(x[0]));
+		Assert.assertSame(trueTerm, model.evaluate(x[2]));
+		solver.push(1);
+		solver.assertTerm(solver.term("not", x[2]));
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		solver.pop(1);
+		Assert.assertSame(LBool.SAT, solver.checkSatAssuming(solver.term("not", x[3])));
+		model = solver.getModel();
+		Assert.assertSame(falseTerm, model.evaluate(x[3]));
+		Assert.assertSame(falseTerm, model.evaluate(x[1]));
+	}
+}
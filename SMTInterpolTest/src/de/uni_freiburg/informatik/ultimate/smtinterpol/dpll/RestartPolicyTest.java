@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the restart policies.
+ */
+@RunWith(JUnit4.class)
+public class RestartPolicyTest {
+
+	/**
+	 * Count the conflicts until the policy asks for the next restart.
+	 */
+	private int nextInterval(final RestartPolicy policy, final int lbd) {
+		int conflicts = 0;
+		do {
+			policy.conflict(lbd);
+			conflicts++;
+		} while (!policy.shouldRestart());
+		policy.restarted();
+		return conflicts;
+	}
+
+	@Test
+	public void testLuby() {
+		final RestartPolicy policy = RestartPolicy.Strategy.LUBY.create();
+		policy.init();
+		final int[] luby = new int[] { 1, 1, 2, 1, 1, 2, 4, 1, 1, 2 };// NOCHECKSTYLE
+		for (final int factor : luby) {
+			Assert.assertEquals(factor * Config.RESTART_FACTOR, nextInterval(policy, 2));
+		}
+		Assert.assertEquals(luby.length, policy.getNumRestarts());
+	}
+
+	@Test
+	public void testGeometric() {
+		final RestartPolicy policy = RestartPolicy.Strategy.GEOMETRIC.create();
+		policy.init();
+		double interval = Config.GEOMETRIC_RESTART_FIRST;
+		for (int i = 0; i < 10; i++) {// NOCHECKSTYLE
+			Assert.assertEquals((int) interval, nextInterval(policy, 2));
+			interval *= Config.GEOMETRIC_RESTART_FACTOR;
+		}
+	}
+
+	@Test
+	public void testGlucose() {
+		final RestartPolicy policy = RestartPolicy.Strategy.GLUCOSE.create();
+		policy.init();
+		// constant LBD never triggers a restart
+		for (int i = 0; i < 1000; i++) {// NOCHECKSTYLE
+			policy.conflict(5);// NOCHECKSTYLE
+			Assert.assertFalse(policy.shouldRestart());
+		}
+		// a sequence of bad clauses triggers a restart immediately
+		Assert.assertTrue(nextInterval(policy, 20) < 10);// NOCHECKSTYLE
+		// but not before the minimal number of conflicts after the last restart
+		Assert.assertEquals(Config.GLUCOSE_RESTART_MIN_CONFLICTS, nextInterval(policy, 20));// NOCHECKSTYLE
+		Assert.assertEquals(2, policy.getNumRestarts());
+	}
+
+	@Test
+	public void testRestartStrategyOption() {
+		for (final String strategy : new String[] { "luby", "geometric", "glucose" }) {
+			final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+			solver.setOption(SolverOptions.RESTART_STRATEGY, strategy);
+			solver.setOption(":produce-proofs", true);
+			solver.setOption(":proof-check-mode", true);
+			solver.setLogic(Logics.QF_UF);
+			SatTestHelpers.assertPigeonHole(solver, 7, 6);// NOCHECKSTYLE
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+			Assert.assertEquals(strategy.toUpperCase(), solver.getOption(SolverOptions.RESTART_STRATEGY).toString());
+		}
+	}
+}
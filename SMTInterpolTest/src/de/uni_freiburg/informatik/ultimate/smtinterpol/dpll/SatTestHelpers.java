@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.Random;
+
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+
+/**
+ * Propositional problems shared by the tests of the DPLL engine and its heuristics.
+ */
+public class SatTestHelpers {
+
+	/**
+	 * Declare the variables {@code in_p_h} of a pigeon hole problem and assert that no two pigeons share a hole.
+	 *
+	 * @return the variables indexed by pigeon and hole.
+	 */
+	public static Term[][] declarePigeonHole(final Script solver, final int pigeons, final int holes) {
+		final Term[][] in = new Term[pigeons][holes];
+		for (int p = 0; p < pigeons; p++) {
+			for (int h = 0; h < holes; h++) {
+				final String name = "in_" + p + "_" + h;
+				solver.declareFun(name, Script.EMPTY_SORT_ARRAY, solver.sort("Bool"));
+				in[p][h] = solver.term(name);
+			}
+		}
+		for (int h = 0; h < holes; h++) {
+			for (int p = 0; p < pigeons; p++) {
+				for (int q = p + 1; q < pigeons; q++) {
+					solver.assertTerm(solver.term("not", solver.term("and", in[p][h], in[q][h])));
+				}
+			}
+		}
+		return in;
+	}
+
+	/**
+	 * Assert that a pigeon sits in one of the holes.
+	 */
+	public static void assertPigeon(final Script solver, final Term[] holes) {
+		solver.assertTerm(holes.length == 1 ? holes[0] : solver.term("or", holes));
+	}
+
+	/**
+	 * Assert that each of the pigeons sits in one of the holes and no two pigeons share a hole.
+	 */
+	public static void assertPigeonHole(final Script solver, final int pigeons, final int holes) {
+		for (final Term[] pigeon : declarePigeonHole(solver, pigeons, holes)) {
+			assertPigeon(solver, pigeon);
+		}
+	}
+
+	/**
+	 * Assert a random 3-SAT problem over the variables {@code b_i}.
+	 *
+	 * @param seed
+	 *            the seed of the random generator.
+	 */
+	public static void assertRandom3Sat(final Script solver, final int vars, final int clauses, final long seed) {
+		final Term[] atoms = new Term[vars];
+		for (int i = 0; i < vars; i++) {
+			solver.declareFun("b" + i, Script.EMPTY_SORT_ARRAY, solver.sort("Bool"));
+			atoms[i] = solver.term("b" + i);
+		}
+		final Random rnd = new Random(seed);
+		for (int j = 0; j < clauses; j++) {
+			final Term[] lits = new Term[3];// NOCHECKSTYLE
+			for (int k = 0; k < lits.length; k++) {
+				final Term atom = atoms[rnd.nextInt(vars)];
+				lits[k] = rnd.nextBoolean() ? atom : solver.term("not", atom);
+			}
+			solver.assertTerm(solver.term("or", lits));
+		}
+	}
+
+	/**
+	 * Get a statistic from {@code :all-statistics}.
+	 *
+	 * @param path
+	 *            the names of the nested statistics, starting with the theory, e.g., {@code ":Core", "Conflicts"}.
+	 * @return the value of the statistic.
+	 */
+	public static long getStatistic(final Script solver, final String... path) {
+		Object stats = solver.getInfo(":all-statistics");
+		for (final String name : path) {
+			Object value = null;
+			for (final Object entry : (Object[]) stats) {
+				if (name.equals(((Object[]) entry)[0])) {
+					value = ((Object[]) entry)[1];
+				}
+			}
+			if (value == null) {
+				throw new AssertionError("No statistic " + String.join(" ", path));
+			}
+			stats = value;
+		}
+		return ((Number) stats).longValue();
+	}
+}
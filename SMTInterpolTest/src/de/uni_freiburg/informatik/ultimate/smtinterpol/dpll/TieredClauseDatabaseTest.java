@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Test the reduction of the tiered clause database on random 3-SAT problems near the threshold. The models and proofs
+ * are checked by the model-check-mode and proof-check-mode of SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class TieredClauseDatabaseTest {
+
+	private static final int VARS = 200;
+	private static final int CLAUSES = 852;
+	/** A satisfiable problem. */
+	private static final long SAT_SEED = 6;
+	/** An unsatisfiable problem. */
+	private static final long UNSAT_SEED = 5;
+
+	private SMTInterpol mSolver;
+
+	private void setup(final long seed, final boolean proofs) {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":verbosity", 2);
+		if (proofs) {
+			mSolver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+			mSolver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		} else {
+			mSolver.setOption(":produce-models", Boolean.TRUE);
+			mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		}
+		mSolver.setOption(SolverOptions.TIERED_CLAUSE_DATABASE, Boolean.TRUE);
+		mSolver.setLogic(Logics.QF_UF);
+		SatTestHelpers.assertRandom3Sat(mSolver, VARS, CLAUSES, seed);
+	}
+
+	private long getStatistic(final String name) {
+		return SatTestHelpers.getStatistic(mSolver, ":Core", name);
+	}
+
+	private static boolean isReason(final Clause clause) {
+		for (final Literal lit : clause.mLiterals) {
+			if (lit.getAtom().mExplanation == clause) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void testSat() {
+		setup(SAT_SEED, false);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getStatistic("Reductions") > 0);
+		Assert.assertTrue(getStatistic("Reduced_clauses") > 0);
+		mSolver.exit();
+	}
+
+	@Test
+	public void testUnsat() {
+		setup(UNSAT_SEED, true);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertTrue(getStatistic("Reductions") > 0);
+		Assert.assertTrue(getStatistic("Reduced_clauses") > 0);
+		mSolver.exit();
+	}
+
+	/**
+	 * Mark all clauses as unused and reduce the clause database. Core clauses, binary clauses, tier two clauses and
+	 * reasons are kept, tier two clauses move to the local tier, and half of the other local clauses are removed.
+	 *
+	 * @return the number of reasons in the local tier before the reduction.
+	 */
+	private int checkReduction(final DPLLEngine engine) {
+		final ArrayList<Clause> kept = new ArrayList<Clause>();
+		final ArrayList<Clause> tier2 = new ArrayList<Clause>();
+		final ArrayList<Clause> candidates = new ArrayList<Clause>();
+		int localReasons = 0;
+		for (final Clause c : engine.mLearnedClauses) {
+			c.mUsed = false;
+			if (c.mTier == Clause.TIER_LOCAL && c.getSize() > 2) {
+				if (isReason(c)) {
+					localReasons++;
+					kept.add(c);
+				} else {
+					candidates.add(c);
+				}
+			} else {
+				kept.add(c);
+				if (c.mTier == Clause.TIER_TWO && c.getSize() > 2) {
+					tier2.add(c);
+				}
+			}
+		}
+		Assert.assertFalse(candidates.isEmpty());
+		final long reduced = getStatistic("Reduced_clauses");
+		engine.reduceClauseDatabase();
+		Assert.assertEquals(reduced + candidates.size() / 2, getStatistic("Reduced_clauses"));
+		for (final Clause c : kept) {
+			Assert.assertNotNull(c.mNext);
+		}
+		for (final Clause c : tier2) {
+			Assert.assertEquals(Clause.TIER_LOCAL, c.mTier);
+		}
+		int removed = 0;
+		for (final Clause c : candidates) {
+			if (c.mNext == null) {
+				removed++;
+			}
+		}
+		Assert.assertEquals(candidates.size() / 2, removed);
+		return localReasons;
+	}
+
+	/**
+	 * Reduce the clause database twice in the final state of a satisfiable problem, where many learned clauses are
+	 * the reason of a literal. The first reduction moves the tier two clauses, which include reasons, to the local
+	 * tier, and the second reduction must keep these reasons.
+	 */
+	@Test
+	public void testReduction() {
+		setup(SAT_SEED, false);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		final DPLLEngine engine = mSolver.getEngine();
+		checkReduction(engine);
+		Assert.assertTrue(checkReduction(engine) > 0);
+		mSolver.exit();
+	}
+
+	@Test
+	public void testDisabled() {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":verbosity", 2);
+		mSolver.setLogic(Logics.QF_UF);
+		SatTestHelpers.assertRandom3Sat(mSolver, VARS, CLAUSES, UNSAT_SEED);
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		Assert.assertEquals(0, getStatistic("Reductions"));
+		mSolver.exit();
+	}
+}
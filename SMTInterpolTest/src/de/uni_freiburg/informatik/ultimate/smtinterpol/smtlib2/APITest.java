@@ -25,6 +25,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import de.uni_freiburg.informatik.ultimate.logic.Annotation;
 import de.uni_freiburg.informatik.ultimate.logic.Logics;
 import de.uni_freiburg.informatik.ultimate.logic.ReasonUnknown;
 import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
@@ -34,6 +35,7 @@ import de.uni_freiburg.informatik.ultimate.logic.Sort;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
 
 /**
  * A basic test case for the API of SMTInterpol.
@@ -192,6 +194,63 @@ public class APITest {
 		}
 	}
 
+	@Test
+	public void testParallelInterpolation() {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(":produce-interpolants", true);
+		solver.setOption(":interpolant-check-mode", true);
+		solver.setOption(SolverOptions.INTERPOLATION_THREADS, 4);// NOCHECKSTYLE
+		solver.setLogic(Logics.QF_UFLIA);
+		final int length = 20;// NOCHECKSTYLE
+		final Sort intSort = solver.sort("Int");
+		solver.declareFun("f", new Sort[] { intSort }, intSort);
+		final Term[] vars = new Term[length + 1];
+		for (int i = 0; i <= length; i++) {
+			solver.declareFun("x" + i, new Sort[0], intSort);
+			vars[i] = solver.term("x" + i);
+		}
+		// a chain x0 < f(x1) = x1 < ... < x20 < x0, that needs LA and CC lemmas in every partition.
+		final Term[] partition = new Term[length + 1];
+		for (int i = 0; i <= length; i++) {
+			final Term next = i < length ? solver.term("f", vars[i + 1]) : vars[0];
+			final Term step = i < length ? solver.term("and", solver.term("<", vars[i], next),
+					solver.term("=", next, vars[i + 1])) : solver.term("<", vars[i], next);
+			solver.assertTerm(solver.annotate(step, new Annotation(":named", "P" + i)));
+			partition[i] = solver.term("P" + i);
+		}
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		final Term[] interpolants = solver.getInterpolants(partition);
+		Assert.assertEquals(length, interpolants.length);
+		solver.exit();
+	}
+
+	@Test
+	public void testParallelProofCheck() {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(":produce-proofs", true);
+		solver.setOption(SolverOptions.PROOF_CHECK_MODE, true);
+		solver.setOption(SolverOptions.PROOF_CHECK_THREADS, 4);// NOCHECKSTYLE
+		solver.setLogic(Logics.QF_UFLIA);
+		final int length = 20;// NOCHECKSTYLE
+		final Sort intSort = solver.sort("Int");
+		solver.declareFun("f", new Sort[] { intSort }, intSort);
+		final Term[] vars = new Term[length + 1];
+		for (int i = 0; i <= length; i++) {
+			solver.declareFun("x" + i, new Sort[0], intSort);
+			vars[i] = solver.term("x" + i);
+		}
+		for (int i = 0; i < length; i++) {
+			solver.assertTerm(solver.term("or", solver.term("<", solver.term("f", vars[i]), vars[i + 1]),
+					solver.term("<", vars[i], solver.term("f", vars[i + 1]))));
+			solver.assertTerm(solver.term("=", solver.term("f", vars[i]), vars[i]));
+		}
+		solver.assertTerm(solver.term("=", solver.term("f", vars[length]), vars[length]));
+		solver.assertTerm(solver.term("<=", vars[length], vars[0]));
+		// the proof checker throws an exception if it cannot verify the proof.
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		solver.exit();
+	}
+
 	@Test
 	public void testPushPop() {
 		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Model;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.SatTestHelpers;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+
+/**
+ * Test the portfolio check-sat that races several solvers and the cube and conquer check-sat.
+ */
+@RunWith(JUnit4.class)
+public class PortfolioTest {
+
+	private SMTInterpol createSolver(final Logics logic) {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(SolverOptions.PORTFOLIO_THREADS, 4);// NOCHECKSTYLE
+		solver.setOption(":produce-models", true);
+		solver.setOption(":produce-unsat-assumptions", true);
+		solver.setOption(":model-check-mode", true);
+		solver.setLogic(logic);
+		return solver;
+	}
+
+	private void checkPigeonHole(final SMTInterpol solver) {
+		final int holes = 6;// NOCHECKSTYLE
+		final Term[][] in = SatTestHelpers.declarePigeonHole(solver, holes + 1, holes);
+		for (int p = 0; p < holes; p++) {
+			SatTestHelpers.assertPigeon(solver, in[p]);
+		}
+		for (int round = 0; round < 3; round++) {// NOCHECKSTYLE
+			Assert.assertSame(LBool.SAT, solver.checkSat());
+			final Model model = solver.getModel();
+			for (int p = 0; p < holes; p++) {
+				Assert.assertSame(solver.term("true"), model.evaluate(solver.term("or", in[p])));
+			}
+			solver.push(1);
+			SatTestHelpers.assertPigeon(solver, in[holes]);
+			Assert.assertSame(LBool.UNSAT, solver.checkSat());
+			solver.pop(1);
+		}
+		solver.exit();
+	}
+
+	/**
+	 * Assert a random 3-SAT problem near the threshold. It needs enough conflicts that the solvers of the portfolio
+	 * exchange learned clauses.
+	 */
+	private void assertRandom3Sat(final SMTInterpol solver, final long seed) {
+		SatTestHelpers.assertRandom3Sat(solver, 200, 852, seed);// NOCHECKSTYLE
+	}
+
+	private long getSharedClauses(final SMTInterpol solver, final String name) {
+		return SatTestHelpers.getStatistic(solver, ":Core", "Shared_clauses", name);
+	}
+
+	@Test
+	public void testPigeonHole() {
+		checkPigeonHole(createSolver(Logics.QF_UF));
+	}
+
+	@Test
+	public void testCubeAndConquer() {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(SolverOptions.CUBE_DEPTH, 3);// NOCHECKSTYLE
+		solver.setOption(":produce-models", true);
+		solver.setOption(":model-check-mode", true);
+		solver.setLogic(Logics.QF_UF);
+		checkPigeonHole(solver);
+	}
+
+	@Test
+	public void testAssumptions() {
+		final SMTInterpol solver = createSolver(Logics.QF_LIA);
+		final Sort intSort = solver.sort("Int");
+		final Sort boolSort = solver.sort("Bool");
+		solver.declareFun("x", new Sort[0], intSort);
+		solver.declareFun("y", new Sort[0], intSort);
+		solver.declareFun("p", new Sort[0], boolSort);
+		solver.declareFun("q", new Sort[0], boolSort);
+		solver.declareFun("r", new Sort[0], boolSort);
+		final Term x = solver.term("x");
+		final Term y = solver.term("y");
+		final Term p = solver.term("p");
+		final Term q = solver.term("q");
+		final Term r = solver.term("r");
+		final Term ten = solver.numeral(BigInteger.TEN);
+		solver.assertTerm(solver.term("=>", p, solver.term(">", x, ten)));
+		solver.assertTerm(solver.term("=>", q, solver.term("<", solver.term("+", x, y), ten)));
+		solver.assertTerm(solver.term(">=", y, solver.numeral(BigInteger.ZERO)));
+		Assert.assertSame(LBool.UNSAT, solver.checkSatAssuming(p, q, r));
+		final HashSet<Term> core = new HashSet<>(Arrays.asList(solver.getUnsatAssumptions()));
+		Assert.assertEquals(new HashSet<>(Arrays.asList(p, q)), core);
+		Assert.assertSame(LBool.SAT, solver.checkSatAssuming(p, r));
+		final Term xval = solver.getValue(new Term[] { x }).get(x);
+		Assert.assertSame(solver.term("true"), solver.getModel().evaluate(solver.term(">", xval, ten)));
+		solver.exit();
+	}
+
+	@Test
+	public void testSharedClausesSat() {
+		final SMTInterpol solver = createSolver(Logics.QF_UF);
+		assertRandom3Sat(solver, 6);// NOCHECKSTYLE
+		Assert.assertSame(LBool.SAT, solver.checkSat());
+		Assert.assertTrue(getSharedClauses(solver, "Exported") > 0);
+		Assert.assertTrue(getSharedClauses(solver, "Imported") > 0);
+		solver.exit();
+	}
+
+	@Test
+	public void testSharedClausesUnsat() {
+		final SMTInterpol solver = createSolver(Logics.QF_UF);
+		assertRandom3Sat(solver, 5);// NOCHECKSTYLE
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		Assert.assertTrue(getSharedClauses(solver, "Exported") > 0);
+		Assert.assertTrue(getSharedClauses(solver, "Imported") > 0);
+		solver.exit();
+	}
+}
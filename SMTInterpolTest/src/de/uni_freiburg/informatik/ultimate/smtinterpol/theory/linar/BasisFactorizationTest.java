@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * Check the LU factorization of the revised simplex against a dense basis matrix.
+ */
+@RunWith(JUnit4.class)
+public class BasisFactorizationTest {
+
+	/** The basis matrix indexed by constraint row and basis slot. */
+	private Rational[][] mBasis;
+	private final BasisFactorization mFactorization = new BasisFactorization();
+
+	private static Rational[][] toRational(final int[][] matrix) {
+		final Rational[][] result = new Rational[matrix.length][];
+		for (int i = 0; i < matrix.length; i++) {
+			result[i] = new Rational[matrix[i].length];
+			for (int j = 0; j < matrix[i].length; j++) {
+				result[i][j] = Rational.valueOf(matrix[i][j], 1);
+			}
+		}
+		return result;
+	}
+
+	private void factorize() {
+		final int size = mBasis.length;
+		final int[][] colRows = new int[size][];
+		final Rational[][] colValues = new Rational[size][];
+		for (int slot = 0; slot < size; slot++) {
+			final ArrayList<Integer> rows = new ArrayList<>();
+			for (int row = 0; row < size; row++) {
+				if (mBasis[row][slot].signum() != 0) {
+					rows.add(row);
+				}
+			}
+			colRows[slot] = new int[rows.size()];
+			colValues[slot] = new Rational[rows.size()];
+			for (int i = 0; i < rows.size(); i++) {
+				colRows[slot][i] = rows.get(i);
+				colValues[slot][i] = mBasis[rows.get(i)][slot];
+			}
+		}
+		mFactorization.factorize(size, colRows, colValues);
+	}
+
+	private static Rational[] column(final int... values) {
+		final Rational[] col = new Rational[values.length];
+		for (int i = 0; i < values.length; i++) {
+			col[i] = Rational.valueOf(values[i], 1);
+		}
+		return col;
+	}
+
+	/**
+	 * Check that ftran and btran compute the inverse of the current basis.
+	 */
+	private void checkInverse() {
+		final int size = mBasis.length;
+		for (int slot = 0; slot < size; slot++) {
+			// B * x = e_slot
+			final Rational[] unit = new Rational[size];
+			Arrays.fill(unit, Rational.ZERO);
+			unit[slot] = Rational.ONE;
+			final Rational[] x = mFactorization.solveU(mFactorization.transform(unit));
+			for (int row = 0; row < size; row++) {
+				Rational sum = Rational.ZERO;
+				for (int s = 0; s < size; s++) {
+					sum = sum.add(mBasis[row][s].mul(x[s]));
+				}
+				Assert.assertEquals(row == slot ? Rational.ONE : Rational.ZERO, sum);
+			}
+			// y * B = e_slot
+			final Rational[] y = mFactorization.btran(slot);
+			for (int s = 0; s < size; s++) {
+				Rational sum = Rational.ZERO;
+				for (int row = 0; row < size; row++) {
+					sum = sum.add(y[row].mul(mBasis[row][s]));
+				}
+				Assert.assertEquals(s == slot ? Rational.ONE : Rational.ZERO, sum);
+			}
+		}
+	}
+
+	private void replaceColumn(final int slot, final Rational[] col) {
+		for (int row = 0; row < mBasis.length; row++) {
+			mBasis[row][slot] = col[row];
+		}
+		mFactorization.replaceColumn(slot, mFactorization.transform(col.clone()));
+	}
+
+	@Test
+	public void testFactorize() {
+		mBasis = toRational(new int[][] { // NOCHECKSTYLE
+			{ 2, 0, 1, 0 }, // NOCHECKSTYLE
+			{ 0, 3, 0, -1 }, // NOCHECKSTYLE
+			{ 1, 1, 0, 0 }, // NOCHECKSTYLE
+			{ 0, 0, 4, 1 }, // NOCHECKSTYLE
+		});
+		factorize();
+		Assert.assertTrue(mFactorization.isValid());
+		checkInverse();
+	}
+
+	@Test
+	public void testUpdates() {
+		mBasis = toRational(new int[][] { // NOCHECKSTYLE
+			{ -1, 0, 0 }, // NOCHECKSTYLE
+			{ 0, -1, 0 }, // NOCHECKSTYLE
+			{ 0, 0, -1 }, // NOCHECKSTYLE
+		});
+		factorize();
+		replaceColumn(0, column(1, 2, 0)); // NOCHECKSTYLE
+		checkInverse();
+		replaceColumn(2, column(3, 0, 5)); // NOCHECKSTYLE
+		checkInverse();
+		replaceColumn(1, column(0, 1, -2)); // NOCHECKSTYLE
+		checkInverse();
+		replaceColumn(0, column(1, 1, 1)); // NOCHECKSTYLE
+		checkInverse();
+	}
+
+	@Test
+	public void testAppendRow() {
+		mBasis = toRational(new int[][] { // NOCHECKSTYLE
+			{ 2, 1 }, // NOCHECKSTYLE
+			{ 1, -1 }, // NOCHECKSTYLE
+		});
+		factorize();
+		replaceColumn(1, column(0, 3)); // NOCHECKSTYLE
+		mFactorization.appendRow(new int[] { 0, 1 }, column(1, 7), Rational.MONE); // NOCHECKSTYLE
+		final Rational[][] extended = new Rational[3][]; // NOCHECKSTYLE
+		extended[0] = new Rational[] { mBasis[0][0], mBasis[0][1], Rational.ZERO };
+		extended[1] = new Rational[] { mBasis[1][0], mBasis[1][1], Rational.ZERO };
+		extended[2] = column(1, 7, -1); // NOCHECKSTYLE
+		mBasis = extended;
+		checkInverse();
+	}
+}
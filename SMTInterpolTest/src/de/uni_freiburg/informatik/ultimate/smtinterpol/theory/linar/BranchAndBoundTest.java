@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Check the internal branch and bound search on small integer problems over two variables x and y between 0 and 10,
+ * whose search trees are known. The models and proofs are checked by the model-check-mode and proof-check-mode of
+ * SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class BranchAndBoundTest {
+
+	private SMTInterpol mSolver;
+	private Term mX;
+	private Term mY;
+
+	private void setup(final int nodeLimit) {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":produce-models", Boolean.TRUE);
+		mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		mSolver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+		mSolver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		mSolver.setOption(SolverOptions.BRANCH_AND_BOUND_NODES, nodeLimit);
+		mSolver.setLogic(Logics.QF_LIA);
+		final Sort intSort = mSolver.sort("Int");
+		mSolver.declareFun("x", Script.EMPTY_SORT_ARRAY, intSort);
+		mSolver.declareFun("y", Script.EMPTY_SORT_ARRAY, intSort);
+		mX = mSolver.term("x");
+		mY = mSolver.term("y");
+		for (final Term var : new Term[] { mX, mY }) {
+			mSolver.assertTerm(mSolver.term("<=", mSolver.numeral("0"), var, mSolver.numeral("10")));
+		}
+	}
+
+	/**
+	 * Assert {@code a x + b y >= c}.
+	 */
+	private void assertRow(final int a, final int b, final int c) {
+		final Term row = mSolver.term("+", term(a, mX), term(b, mY));
+		mSolver.assertTerm(mSolver.term(">=", row, number(c)));
+	}
+
+	private Term term(final int coeff, final Term var) {
+		return mSolver.term("*", number(coeff), var);
+	}
+
+	private Term number(final int value) {
+		final Term abs = mSolver.numeral(BigInteger.valueOf(Math.abs(value)));
+		return value < 0 ? mSolver.term("-", abs) : abs;
+	}
+
+	/**
+	 * Assert the triangle {@code 4 x + 5 y <= 6}, {@code 2 x >= 3 y}, {@code 3 x + 2 y >= 4}. It contains rational
+	 * points but no integer points.
+	 */
+	private void assertTriangle() {
+		assertRow(-4, -5, -6); // NOCHECKSTYLE
+		assertRow(2, -3, 0); // NOCHECKSTYLE
+		assertRow(6, 4, 8); // NOCHECKSTYLE
+	}
+
+	private long getNodes() {
+		for (final Object theory : (Object[]) mSolver.getInfo(":all-statistics")) {
+			final Object[] theoryStats = (Object[]) theory;
+			if (":LA".equals(theoryStats[0])) {
+				for (final Object[] stat : (Object[][]) theoryStats[1]) {
+					if ("BranchAndBoundNodes".equals(stat[0])) {
+						return ((Number) stat[1]).longValue();
+					}
+				}
+			}
+		}
+		throw new AssertionError("No statistic BranchAndBoundNodes");
+	}
+
+	/**
+	 * The root of the search is x = 5/2, y = 2. Its first child x <= 2 is integral.
+	 */
+	@Test
+	public void testSat() {
+		setup(100); // NOCHECKSTYLE
+		assertRow(-2, 7, 9); // NOCHECKSTYLE
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertEquals(2, getNodes());
+		mSolver.exit();
+	}
+
+	/**
+	 * The root of the search is x = 8/7, y = 2/7. Its child y <= 0 has the solution x = 3/2, and both children of it
+	 * as well as the child y >= 1 of the root are infeasible. The conflict is then explained by the cuts.
+	 */
+	@Test
+	public void testUnsat() {
+		setup(100); // NOCHECKSTYLE
+		assertTriangle();
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertEquals(5, getNodes()); // NOCHECKSTYLE
+		mSolver.exit();
+	}
+
+	@Test
+	public void testNodeLimit() {
+		setup(1);
+		assertTriangle();
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertEquals(1, getNodes());
+		mSolver.exit();
+	}
+
+	@Test
+	public void testDisabled() {
+		setup(0);
+		assertTriangle();
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		Assert.assertEquals(0, getNodes());
+		mSolver.exit();
+	}
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Annotation;
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.LeafNode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Check that the difference logic solver does not change the results for QF_IDL and QF_RDL. The models, proofs and
+ * interpolants are checked by the check modes of SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class DifferenceLogicTest {
+
+	private static final int VARS = 8;
+	private static final int CLAUSES = 16;
+	private static final int SCOPES = 2;
+	private static final String[] RELATIONS = { "<=", "<", ">=", ">" };
+
+	private static Term constant(final SMTInterpol solver, final int num, final int denom, final boolean isInt) {
+		final String abs = String.valueOf(Math.abs(num));
+		Term result = isInt ? solver.numeral(abs) : solver.decimal(abs);
+		if (denom != 1) {
+			result = solver.term("/", result, solver.decimal(String.valueOf(denom)));
+		}
+		return num < 0 ? solver.term("-", result) : result;
+	}
+
+	private static Term randomAtom(final SMTInterpol solver, final Term[] vars, final boolean isInt,
+			final Random rnd) {
+		final int x = rnd.nextInt(VARS);
+		final int y = (x + 1 + rnd.nextInt(VARS - 1)) % VARS;
+		final Term bound = constant(solver, rnd.nextInt(13) - 6, isInt ? 1 : 1 + rnd.nextInt(3), isInt); // NOCHECKSTYLE
+		final int kind = rnd.nextInt(10); // NOCHECKSTYLE
+		if (kind == 0) {
+			return solver.term(RELATIONS[rnd.nextInt(RELATIONS.length)], vars[x], bound);
+		} else if (kind == 1) {
+			return solver.term("=", solver.term("-", vars[x], vars[y]), bound);
+		} else {
+			return solver.term(RELATIONS[rnd.nextInt(RELATIONS.length)], solver.term("-", vars[x], vars[y]), bound);
+		}
+	}
+
+	private static void assertClauses(final SMTInterpol solver, final Term[] vars, final boolean isInt,
+			final Random rnd, final int count, final String prefix) {
+		for (int i = 0; i < count; i++) {
+			final Term[] lits = new Term[1 + rnd.nextInt(3)]; // NOCHECKSTYLE
+			for (int j = 0; j < lits.length; j++) {
+				final Term atom = randomAtom(solver, vars, isInt, rnd);
+				lits[j] = rnd.nextInt(3) == 0 ? solver.term("not", atom) : atom; // NOCHECKSTYLE
+			}
+			final Term clause = lits.length == 1 ? lits[0] : solver.term("or", lits);
+			solver.assertTerm(solver.annotate(clause, new Annotation(":named", prefix + i)));
+		}
+	}
+
+	private static long getStatistic(final SMTInterpol solver, final String theory, final String name) {
+		for (final Object theoryStats : (Object[]) solver.getInfo(":all-statistics")) {
+			final Object[] stats = (Object[]) theoryStats;
+			if (theory.equals(stats[0])) {
+				for (final Object[] stat : (Object[][]) stats[1]) {
+					if (name.equals(stat[0])) {
+						return ((Number) stat[1]).longValue();
+					}
+				}
+			}
+		}
+		return 0;
+	}
+
+	private static List<LBool> solve(final long seed, final Logics logic, final boolean differenceLogic,
+			final long[] dlStats) {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(":produce-models", Boolean.TRUE);
+		solver.setOption(":model-check-mode", Boolean.TRUE);
+		solver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+		solver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		solver.setOption(SolverOptions.INTERPOLANT_CHECK_MODE, Boolean.TRUE);
+		solver.setOption(SolverOptions.DIFFERENCE_LOGIC_SOLVER, differenceLogic);
+		solver.setLogic(logic);
+		final boolean isInt = logic == Logics.QF_IDL;
+		final Sort sort = solver.sort(isInt ? "Int" : "Real");
+		final Term[] vars = new Term[VARS];
+		for (int i = 0; i < VARS; i++) {
+			solver.declareFun("x" + i, Script.EMPTY_SORT_ARRAY, sort);
+			vars[i] = solver.term("x" + i);
+		}
+		final Random rnd = new Random(seed);
+		final List<LBool> results = new ArrayList<>();
+		assertClauses(solver, vars, isInt, rnd, CLAUSES / 2, "a");
+		assertClauses(solver, vars, isInt, rnd, CLAUSES / 2, "b");
+		results.add(checkAndInterpolate(solver, CLAUSES / 2));
+		for (int scope = 0; scope < SCOPES; scope++) {
+			solver.push(1);
+			assertClauses(solver, vars, isInt, rnd, CLAUSES / 4, "c" + scope + "_"); // NOCHECKSTYLE
+			results.add(solver.checkSat());
+			solver.pop(1);
+		}
+		dlStats[0] += getStatistic(solver, ":DL", "Conflicts");
+		dlStats[1] += getStatistic(solver, ":DL", "Propagations");
+		solver.exit();
+		return results;
+	}
+
+	private static LBool checkAndInterpolate(final SMTInterpol solver, final int count) {
+		final LBool result = solver.checkSat();
+		if (result == LBool.UNSAT) {
+			final Term[] partA = new Term[count];
+			final Term[] partB = new Term[count];
+			for (int i = 0; i < count; i++) {
+				partA[i] = solver.term("a" + i);
+				partB[i] = solver.term("b" + i);
+			}
+			final Term[] interpolants =
+					solver.getInterpolants(new Term[] { solver.term("and", partA), solver.term("and", partB) });
+			Assert.assertEquals(1, interpolants.length);
+		}
+		return result;
+	}
+
+	private static void checkSameResult(final Logics logic) {
+		final long[] offStats = new long[2];
+		final long[] onStats = new long[2];
+		for (long seed = 0; seed < 40; seed++) { // NOCHECKSTYLE
+			final List<LBool> expected = solve(seed, logic, false, offStats);
+			Assert.assertFalse(expected.contains(LBool.UNKNOWN));
+			Assert.assertEquals(expected, solve(seed, logic, true, onStats));
+		}
+		Assert.assertArrayEquals(new long[2], offStats);
+		Assert.assertTrue("The difference logic solver found no conflict", onStats[0] > 0);
+		Assert.assertTrue("The difference logic solver propagated nothing", onStats[1] > 0);
+	}
+
+	private static Literal difference(final LinArSolve la, final LinVar x, final LinVar y, final int bound) {
+		final MutableAffineTerm at = new MutableAffineTerm();
+		at.add(Rational.ONE, x).add(Rational.MONE, y).add(Rational.valueOf(-bound, 1));
+		return la.generateConstraint(at, false);
+	}
+
+	/**
+	 * Activate the edges of a fixed graph with the negative cycle x - y <= 1, y - z <= 1, z - x <= -3. The edge
+	 * x - y <= 1 implies the parallel edge x - y <= 2. The last edge closes the cycle; its conflict must contain the
+	 * three edges, and the Farkas coefficients must cancel all variables.
+	 */
+	@Test
+	public void testNegativeCycle() {
+		final DPLLEngine engine = new DPLLEngine(new Theory(Logics.QF_RDL), new DefaultLogger(), () -> false);
+		engine.setProofGeneration(true);
+		final LinArSolve la = new LinArSolve(engine);
+		final DifferenceLogicSolver dl = new DifferenceLogicSolver(engine);
+		final LinVar x = la.addVar(null, false, 0);
+		final LinVar y = la.addVar(null, false, 0);
+		final LinVar z = la.addVar(null, false, 0);
+		final Literal xy = difference(la, x, y, 1);
+		final Literal xyWeak = difference(la, x, y, 2);
+		final Literal yz = difference(la, y, z, 1);
+		final Literal zx = difference(la, z, x, -3); // NOCHECKSTYLE
+		for (final Literal lit : new Literal[] { xy, xyWeak, yz, zx }) {
+			dl.addAtom(lit);
+		}
+
+		Assert.assertNull(dl.setLiteral(xy));
+		Assert.assertSame(xyWeak, dl.getPropagatedLiteral());
+		Assert.assertNull(dl.getPropagatedLiteral());
+		checkFarkas(dl.getUnitClause(xyWeak), xyWeak, xy.negate());
+		Assert.assertNull(dl.setLiteral(yz));
+		checkFarkas(dl.setLiteral(zx), xy.negate(), yz.negate(), zx.negate());
+
+		// After backtracking the closing edge, a weaker edge does not close a cycle.
+		dl.backtrackLiteral(zx);
+		final Literal zxWeak = difference(la, z, x, -2);
+		dl.addAtom(zxWeak);
+		Assert.assertNull(dl.setLiteral(zxWeak));
+	}
+
+	/**
+	 * Check that a clause consists of the expected literals and that its Farkas coefficients cancel all variables.
+	 */
+	private static void checkFarkas(final Clause clause, final Literal... expected) {
+		Assert.assertNotNull(clause);
+		Assert.assertEquals(expected.length, clause.getSize());
+		for (final Literal lit : expected) {
+			Assert.assertTrue(clause.contains(lit));
+		}
+		final LAAnnotation annot = (LAAnnotation) ((LeafNode) clause.getProof()).getTheoryAnnotation();
+		final Map<LinVar, Rational> sum = new HashMap<>();
+		for (final Map.Entry<Literal, Rational> entry : annot.getCoefficients().entrySet()) {
+			final LinVar var = ((BoundConstraint) entry.getKey().getAtom()).getVar();
+			final Map<LinVar, BigInteger> linterm =
+					var.isInitiallyBasic() ? var.getLinTerm() : Collections.singletonMap(var, BigInteger.ONE);
+			for (final Map.Entry<LinVar, BigInteger> summand : linterm.entrySet()) {
+				sum.merge(summand.getKey(), entry.getValue().mul(summand.getValue()), Rational::add);
+			}
+		}
+		for (final Rational coeff : sum.values()) {
+			Assert.assertEquals(Rational.ZERO, coeff);
+		}
+	}
+
+	/**
+	 * Solve the negative cycle of {@link #testNegativeCycle()} with proof-check-mode. The conflict must be found by
+	 * the difference logic solver.
+	 */
+	@Test
+	public void testNegativeCycleProof() {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+		solver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		solver.setOption(SolverOptions.DIFFERENCE_LOGIC_SOLVER, Boolean.TRUE);
+		solver.setLogic(Logics.QF_RDL);
+		final Sort real = solver.sort("Real");
+		final Term[] x = new Term[3];
+		for (int i = 0; i < x.length; i++) {
+			solver.declareFun("x" + i, Script.EMPTY_SORT_ARRAY, real);
+			x[i] = solver.term("x" + i);
+		}
+		solver.assertTerm(solver.term("<=", diff(solver, x, 0, 1), constant(solver, 1, 1, false)));
+		solver.assertTerm(solver.term("<=", diff(solver, x, 1, 2), constant(solver, 1, 1, false)));
+		solver.assertTerm(solver.term("<=", diff(solver, x, 2, 0), constant(solver, -3, 1, false))); // NOCHECKSTYLE
+		Assert.assertSame(LBool.UNSAT, solver.checkSat());
+		solver.getProof();
+		Assert.assertEquals(1, getStatistic(solver, ":DL", "Conflicts"));
+		solver.exit();
+	}
+
+	private static Term diff(final SMTInterpol solver, final Term[] vars, final int x, final int y) {
+		return solver.term("-", vars[x], vars[y]);
+	}
+
+	/**
+	 * A problem where the deferred simplex accepted a model that violates a disequality. The random problems above do
+	 * not find this case.
+	 */
+	private static LBool solveDeferredDisequality(final boolean differenceLogic) {
+		final SMTInterpol solver = new SMTInterpol(new DefaultLogger());
+		solver.setOption(":produce-models", Boolean.TRUE);
+		solver.setOption(":model-check-mode", Boolean.TRUE);
+		solver.setOption(SolverOptions.DIFFERENCE_LOGIC_SOLVER, differenceLogic);
+		solver.setLogic(Logics.QF_RDL);
+		final Sort real = solver.sort("Real");
+		final Term[] x = new Term[6]; // NOCHECKSTYLE
+		for (int i = 0; i < x.length; i++) {
+			solver.declareFun("x" + i, Script.EMPTY_SORT_ARRAY, real);
+			x[i] = solver.term("x" + i);
+		}
+		solver.assertTerm(solver.term("or",
+				solver.term("not", solver.term("distinct", diff(solver, x, 3, 0), constant(solver, 4, 1, false))),
+				solver.term("not", solver.term("<=", diff(solver, x, 5, 2), constant(solver, -1, 1, false)))));
+		solver.assertTerm(solver.term("or",
+				solver.term("=", diff(solver, x, 3, 2), constant(solver, -2, 1, false)),
+				solver.term("not", solver.term("distinct", diff(solver, x, 4, 5), constant(solver, 4, 2, false)))));
+		solver.assertTerm(solver.term("or",
+				solver.term("not", solver.term("<=", x[2], constant(solver, 1, 4, false))),
+				solver.term("not", solver.term("distinct", diff(solver, x, 1, 3), constant(solver, -6, 1, false)))));
+		solver.assertTerm(solver.term(">", diff(solver, x, 4, 5), constant(solver, 3, 1, false)));
+		solver.assertTerm(solver.term(">", diff(solver, x, 5, 4), constant(solver, -5, 1, false)));
+		solver.assertTerm(solver.term(">=", diff(solver, x, 4, 0), constant(solver, 4, 1, false)));
+		solver.assertTerm(solver.term("<", x[5], constant(solver, -2, 2, false)));
+		solver.assertTerm(solver.term("or",
+				solver.term("<", diff(solver, x, 2, 1), constant(solver, -1, 1, false)),
+				solver.term("not", solver.term("<", diff(solver, x, 3, 4), constant(solver, 0, 2, false)))));
+		solver.assertTerm(solver.term("not", solver.term(">", x[0], constant(solver, -6, 1, false))));
+		solver.assertTerm(solver.term("or",
+				solver.term("<", diff(solver, x, 5, 0), constant(solver, -3, 2, false)),
+				solver.term("not", solver.term("=", diff(solver, x, 1, 4), constant(solver, -6, 1, false))),
+				solver.term("not", solver.term("<", diff(solver, x, 5, 4), constant(solver, 2, 1, false)))));
+		final LBool result = solver.checkSat();
+		solver.exit();
+		return result;
+	}
+
+	@Test
+	public void testDeferredDisequality() {
+		Assert.assertSame(LBool.UNSAT, solveDeferredDisequality(false));
+		Assert.assertSame(LBool.UNSAT, solveDeferredDisequality(true));
+	}
+
+	@Test
+	public void testIntegerDifferenceLogic() {
+		checkSameResult(Logics.QF_IDL);
+	}
+
+	@Test
+	public void testRealDifferenceLogic() {
+		checkSameResult(Logics.QF_RDL);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SolverOptions;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Check the floating point simplex on a fixed cyclic system of rows {@code x_i + 2 x_(i+1) + 3 x_(i+2) >= 20 + i}
+ * over variables between 0 and 10. All rows are violated by the initial values, so the floating point simplex runs in
+ * front of the exact pivoter. The models and proofs are checked by the model-check-mode and proof-check-mode of
+ * SMTInterpol.
+ */
+@RunWith(JUnit4.class)
+public class FloatSimplexTest {
+
+	private static final int VARS = 12;
+
+	private SMTInterpol mSolver;
+	private Term[] mVars;
+
+	private void setup(final int numRows, final boolean strict) {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":produce-models", Boolean.TRUE);
+		mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		mSolver.setOption(SolverOptions.PRODUCE_PROOFS, Boolean.TRUE);
+		mSolver.setOption(SolverOptions.PROOF_CHECK_MODE, Boolean.TRUE);
+		mSolver.setOption(SolverOptions.SIMPLEX_FLOAT_PREPASS, Boolean.TRUE);
+		mSolver.setLogic(Logics.QF_LRA);
+		final Sort real = mSolver.sort("Real");
+		mVars = new Term[VARS];
+		for (int i = 0; i < VARS; i++) {
+			mSolver.declareFun("x" + i, Script.EMPTY_SORT_ARRAY, real);
+			mVars[i] = mSolver.term("x" + i);
+			mSolver.assertTerm(mSolver.term("<=", mSolver.numeral("0"), mVars[i]));
+			mSolver.assertTerm(mSolver.term("<=", mVars[i], mSolver.numeral("10")));
+		}
+		for (int i = 0; i < numRows; i++) {
+			final Term row = mSolver.term("+", mVars[i], term(2, (i + 1) % VARS), term(3, (i + 2) % VARS)); // NOCHECKSTYLE
+			final Term bound = mSolver.numeral(BigInteger.valueOf(20 + i)); // NOCHECKSTYLE
+			mSolver.assertTerm(mSolver.term(strict ? ">" : ">=", row, bound));
+		}
+	}
+
+	private Term term(final int coeff, final int var) {
+		return mSolver.term("*", mSolver.numeral(BigInteger.valueOf(coeff)), mVars[var]);
+	}
+
+	private long getFloatPivots() {
+		for (final Object theory : (Object[]) mSolver.getInfo(":all-statistics")) {
+			final Object[] theoryStats = (Object[]) theory;
+			if (":LA".equals(theoryStats[0])) {
+				for (final Object[] stat : (Object[][]) theoryStats[1]) {
+					if ("PivotFloat".equals(stat[0])) {
+						return ((Number) stat[1]).longValue();
+					}
+				}
+			}
+		}
+		throw new AssertionError("No statistic PivotFloat");
+	}
+
+	@Test
+	public void testManyViolatedRows() {
+		setup(VARS, false);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getFloatPivots() > 0);
+		mSolver.exit();
+	}
+
+	@Test
+	public void testStrictBounds() {
+		setup(VARS, true);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getFloatPivots() > 0);
+		mSolver.exit();
+	}
+
+	/**
+	 * The rows imply that the sum of all variables is at least 51, which contradicts the additional bound.
+	 */
+	@Test
+	public void testUnsat() {
+		setup(VARS, false);
+		mSolver.assertTerm(mSolver.term("<=", mSolver.term("+", mVars), mSolver.numeral("50")));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.getProof();
+		Assert.assertTrue(getFloatPivots() > 0);
+		mSolver.exit();
+	}
+
+	/**
+	 * With a single violated row, the exact pivoter repairs it without building the floating point simplex.
+	 */
+	@Test
+	public void testFewViolatedRows() {
+		setup(1, false);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertEquals(0, getFloatPivots());
+		mSolver.exit();
+	}
+}
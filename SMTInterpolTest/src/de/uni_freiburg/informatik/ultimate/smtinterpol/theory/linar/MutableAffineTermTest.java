@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * Check the sorted array representation of affine terms against a tree map.
+ */
+@RunWith(JUnit4.class)
+public class MutableAffineTermTest {
+
+	private final LinVar[] mVars = new LinVar[10]; // NOCHECKSTYLE
+
+	public MutableAffineTermTest() {
+		for (int i = 0; i < mVars.length; i++) {
+			mVars[i] = new LinVar("x" + i, false, 0, i);
+		}
+	}
+
+	private static void addTo(final TreeMap<LinVar, Rational> map, final Rational c, final LinVar var) {
+		final Rational sum = map.getOrDefault(var, Rational.ZERO).add(c);
+		if (sum.equals(Rational.ZERO)) {
+			map.remove(var);
+		} else {
+			map.put(var, sum);
+		}
+	}
+
+	@Test
+	public void testRandomSums() {
+		final Random rnd = new Random(42); // NOCHECKSTYLE
+		for (int round = 0; round < 100; round++) { // NOCHECKSTYLE
+			final MutableAffineTerm first = new MutableAffineTerm();
+			final MutableAffineTerm second = new MutableAffineTerm();
+			final TreeMap<LinVar, Rational> expected = new TreeMap<>();
+			final TreeMap<LinVar, Rational> expectedSecond = new TreeMap<>();
+			for (int i = 0; i < 8; i++) { // NOCHECKSTYLE
+				final LinVar var = mVars[rnd.nextInt(mVars.length)];
+				final Rational c = Rational.valueOf(rnd.nextInt(5) - 2, 1); // NOCHECKSTYLE
+				first.add(c, var);
+				if (!c.equals(Rational.ZERO)) {
+					addTo(expected, c, var);
+				}
+				final LinVar var2 = mVars[rnd.nextInt(mVars.length)];
+				final Rational c2 = Rational.valueOf(rnd.nextInt(5) - 2, 1); // NOCHECKSTYLE
+				second.add(c2, var2);
+				if (!c2.equals(Rational.ZERO)) {
+					addTo(expectedSecond, c2, var2);
+				}
+			}
+			Assert.assertEquals(expected, first.getSummands());
+			final Rational factor = Rational.valueOf(rnd.nextInt(3) - 1, 2); // NOCHECKSTYLE
+			first.add(factor, second);
+			if (!factor.equals(Rational.ZERO)) {
+				for (final Map.Entry<LinVar, Rational> entry : expectedSecond.entrySet()) {
+					addTo(expected, factor.mul(entry.getValue()), entry.getKey());
+				}
+			}
+			Assert.assertEquals(expected, first.getSummands());
+			Assert.assertEquals(expected.isEmpty(), first.isConstant());
+		}
+	}
+
+	@Test
+	public void testLinTermKey() {
+		final MutableAffineTerm first = new MutableAffineTerm();
+		first.add(Rational.valueOf(3, 1), mVars[4]); // NOCHECKSTYLE
+		first.add(Rational.MONE, mVars[1]);
+		first.add(Rational.valueOf(2, 1), mVars[7]); // NOCHECKSTYLE
+		final MutableAffineTerm second = new MutableAffineTerm();
+		second.add(Rational.valueOf(2, 1), mVars[7]); // NOCHECKSTYLE
+		second.add(Rational.valueOf(3, 1), mVars[4]); // NOCHECKSTYLE
+		second.add(Rational.MONE, mVars[1]);
+		final LinTerm key = first.toLinTerm();
+		Assert.assertEquals(key, second.toLinTerm());
+		Assert.assertEquals(key.hashCode(), second.toLinTerm().hashCode());
+		final TreeMap<LinVar, BigInteger> map = new TreeMap<>();
+		map.put(mVars[1], BigInteger.ONE.negate());
+		map.put(mVars[4], BigInteger.valueOf(3)); // NOCHECKSTYLE
+		map.put(mVars[7], BigInteger.valueOf(2));
+		Assert.assertEquals(map, key);
+		Assert.assertEquals(map.hashCode(), key.hashCode());
+		second.add(Rational.ONE, mVars[1]);
+		Assert.assertNotEquals(key, second.toLinTerm());
+	}
+}
@@ -0,0 +1,51 @@
+(set-option :produce-models true)
+(set-option :model-check-mode true)
+(set-info :status sat)
+(set-logic QF_IDL)
+(declare-fun x0 () Int)
+(declare-fun x1 () Int)
+(declare-fun x2 () Int)
+(declare-fun x3 () Int)
+(declare-fun x4 () Int)
+(declare-fun x5 () Int)
+(declare-fun x6 () Int)
+(declare-fun x7 () Int)
+
+(assert (or (<= (- x5 x3) 6) (<= x2 (+ x4 (- 3)))))
+(assert (not (< (- x2 x7) 0)))
+(assert (or (< (- x3 x1) (- 3)) (>= (- x0 x2) (- 3)) (> x6 1)))
+(assert (or (< x3 (+ x4 4)) (not (<= (- x3 x4) (- 6))) (<= (- x7 x2) 4)))
+(assert (or (not (<= (- x1 x4) (- 2))) (<= x4 (+ x5 (- 3)))))
+(assert (or (> (- x2 x3) 4) (= (- x5 x1) (- 1)) (not (< x6 (- 4)))))
+(assert (< (- x4 x2) 6))
+(assert (or (> x1 (- 6)) (>= (- x5 x1) 2) (> (- x6 x2) 3)))
+(assert (or (<= (- x5 x0) (- 5)) (not (< (- x3 x1) 0)) (not (< (- x5 x6) (- 4)))))
+(assert (or (>= (- x0 x5) 2) (<= (- x1 x0) (- 5)) (< (- x5 x4) 3)))
+(assert (or (not (<= (- x0 x6) 2)) (>= x1 2)))
+(assert (or (> (- x5 x6) 3) (not (<= (- x3 x0) 5)) (<= (- x2 x5) (- 6))))
+(assert (or (< (- x3 x1) (- 3)) (not (= (- x7 x0) (- 5))) (< (- x5 x4) 5)))
+(assert (or (not (< (- x7 x4) (- 4))) (>= (- x4 x0) (- 3)) (> (- x4 x0) (- 6))))
+(assert (or (not (> x0 (+ x5 (- 1)))) (>= x4 3) (not (>= x6 (+ x7 0))) (< (- x1 x4) (- 6))))
+(assert (or (not (< (- x4 x7) (- 5))) (not (<= (- x5 x7) (- 1))) (not (>= (- x1 x2) (- 2))) (> (- x3 x1) (- 4))))
+(assert (< (- x7 x4) 1))
+(assert (or (not (<= x3 (+ x2 (- 5)))) (>= (- x0 x3) (- 5)) (not (> (- x3 x5) 3))))
+(assert (or (< (- x1 x7) (- 3)) (not (<= (- x4 x0) (- 4))) (>= x3 (+ x5 5)) (not (> x3 (- 2)))))
+(assert (or (< (- x0 x6) 0) (not (>= x4 (+ x2 0)))))
+(assert (not (> x0 (+ x5 2))))
+(assert (>= x5 (+ x3 (- 6))))
+(assert (= (- x6 x5) 5))
+(assert (or (> (- x2 x4) (- 5)) (> (- x7 x3) 2)))
+(assert (or (< (- x5 x1) (- 2)) (not (<= (- x5 x3) 4)) (not (>= (- x2 x7) (- 4)))))
+(assert (or (not (< (- x4 x0) 0)) (<= x1 (- 6))))
+(assert (or (>= (- x1 x6) 3) (<= x7 (+ x1 (- 6))) (< (- x1 x2) (- 1)) (>= (- x0 x1) 1)))
+(assert (or (> x7 (+ x2 (- 3))) (> x1 (+ x6 2)) (<= x6 (+ x7 3))))
+(assert (or (<= (- x3 x2) (- 4)) (not (>= x2 (+ x4 (- 1))))))
+(assert (or (>= (- x2 x5) 0) (not (<= (- x2 x5) 0))))
+(assert (or (not (< (- x6 x2) (- 6))) (< (- x2 x3) 0) (> (- x2 x6) (- 4)) (not (= (- x5 x2) (- 2)))))
+(assert (or (>= (- x4 x3) 2) (not (>= (- x6 x4) (- 3))) (not (>= (- x3 x6) 4)) (not (< (- x6 x0) 3))))
+(assert (or (>= (- x0 x1) 2) (not (>= (- x5 x2) 3)) (not (>= (- x1 x5) 3))))
+(assert (or (not (= (- x3 x6) 0)) (>= (- x6 x5) (- 5))))
+(assert (< (- x5 x3) (- 2)))
+(assert (or (> x0 (- 6)) (> (- x2 x4) 3) (not (>= (- x6 x3) 4))))
+(check-sat)
+(exit)